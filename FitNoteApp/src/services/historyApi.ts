@@ -15,11 +15,23 @@ export interface HistoryPayload {
   notes?: string;
 }
 
-export async function fetchHistory(): Promise<HistoryItem[]> {
-  const { data } = await apiClient.get<HistoryItem[]>('/api/history');
+export interface HistoryPage {
+  items: HistoryItem[];
+  nextCursor?: string | null;
+}
+
+export async function fetchHistoryPage(cursor?: string, limit?: number): Promise<HistoryPage> {
+  const { data } = await apiClient.get<HistoryPage>('/api/history', {
+    params: { cursor, limit },
+  });
   return data;
 }
 
+export async function fetchHistory(): Promise<HistoryItem[]> {
+  const { items } = await fetchHistoryPage();
+  return items;
+}
+
 export async function createHistory(payload: HistoryPayload): Promise<HistoryItem> {
   const { data } = await apiClient.post<HistoryItem>('/api/history', payload);
   return data;
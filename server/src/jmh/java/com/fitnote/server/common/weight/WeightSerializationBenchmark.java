@@ -0,0 +1,95 @@
+package com.fitnote.server.common.weight;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * 세트 2,000개 기록을 사용자 단위로 직렬화하는 비용
+ * bigDecimal은 세트마다 BigDecimal로 단위 변환과 반올림을 한 뒤 기본 직렬화를 하는 기준선입니다.
+ * fixedPoint는 Weight를 그대로 쓰고 변환/반올림을 WeightSerializer의 long 연산으로 합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WeightSerializationBenchmark {
+
+    private static final BigDecimal LB_PER_KG = new BigDecimal("2.20462262185");
+
+    @Param({"2000"})
+    private int sets;
+
+    @Param({"KG", "LB"})
+    private String unit;
+
+    @Param({"250"})
+    private int roundingStep;
+
+    private List<FixedSet> fixedSets;
+    private List<BigDecimal> kgWeights;
+    private List<Integer> reps;
+    private ObjectWriter fixedWriter;
+    private ObjectWriter decimalWriter;
+    private boolean pounds;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        fixedSets = new ArrayList<>(sets);
+        kgWeights = new ArrayList<>(sets);
+        reps = new ArrayList<>(sets);
+        for (int i = 0; i < sets; i++) {
+            int hundredths = 2000 + random.nextInt(180) * 125; // 20kg ~ 243.75kg, 1.25kg 단위
+            int count = 1 + random.nextInt(12);
+            fixedSets.add(new FixedSet(new Weight(hundredths), count));
+            kgWeights.add(BigDecimal.valueOf(hundredths, 2));
+            reps.add(count);
+        }
+        pounds = "LB".equals(unit);
+        ObjectMapper mapper = new ObjectMapper();
+        fixedWriter = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, FixedSet.class))
+                .withAttribute(WeightFormat.ATTRIBUTE, new WeightFormat(pounds, roundingStep));
+        decimalWriter = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, DecimalSet.class));
+    }
+
+    @Benchmark
+    public void fixedPoint() throws IOException {
+        fixedWriter.writeValue(OutputStream.nullOutputStream(), fixedSets);
+    }
+
+    @Benchmark
+    public void bigDecimal() throws IOException {
+        BigDecimal step = BigDecimal.valueOf(roundingStep, 2);
+        List<DecimalSet> converted = new ArrayList<>(sets);
+        for (int i = 0; i < sets; i++) {
+            BigDecimal display = pounds ? kgWeights.get(i).multiply(LB_PER_KG) : kgWeights.get(i);
+            BigDecimal rounded = display.divide(step, 0, RoundingMode.HALF_UP).multiply(step)
+                    .setScale(2, RoundingMode.HALF_UP);
+            converted.add(new DecimalSet(rounded, reps.get(i)));
+        }
+        decimalWriter.writeValue(OutputStream.nullOutputStream(), converted);
+    }
+
+    public record FixedSet(Weight weight, Integer reps) {
+    }
+
+    public record DecimalSet(BigDecimal weight, Integer reps) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.fitnote.server.config.ratelimit;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 요청 1건당 레이트 리미터 오버헤드 측정
+ * hotKey는 모든 스레드가 같은 버킷을 두고 CAS 경합하는 최악의 경우, spreadKeys는 사용자별로 분산된 일반적인 경우입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(8)
+public class TokenBucketRateLimiterBenchmark {
+
+    private static final int KEY_COUNT = 100_000;
+
+    private TokenBucketRateLimiter limiter;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        // 거절 경로가 아닌 허용 경로를 측정하도록 충분히 큰 용량을 줍니다.
+        limiter = new TokenBucketRateLimiter(Long.MAX_VALUE / 4, TimeUnit.SECONDS.toNanos(1), 64, 16_384);
+        keys = new String[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = "u:" + i;
+        }
+    }
+
+    @Benchmark
+    public long hotKey() {
+        return limiter.tryAcquire("u:1");
+    }
+
+    @Benchmark
+    public long spreadKeys() {
+        return limiter.tryAcquire(keys[ThreadLocalRandom.current().nextInt(KEY_COUNT)]);
+    }
+}
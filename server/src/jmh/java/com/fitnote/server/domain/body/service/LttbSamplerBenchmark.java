@@ -0,0 +1,107 @@
+package com.fitnote.server.domain.body.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 원본 100만 점을 300점으로 줄이는 비용
+ * bufferedLttb는 모든 점을 리스트로 모은 뒤 LTTB를 적용하는 기준선이며, 점 수만큼 메모리를 씁니다.
+ * streamingSampler는 DB 스트림처럼 점을 두 번 흘려 보내며 points 크기 배열만 씁니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LttbSamplerBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"300"})
+    private int points;
+
+    private long[] xs;
+    private double[] ys;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        xs = new long[size];
+        ys = new double[size];
+        long x = 1_500_000_000L;
+        double y = 75;
+        for (int i = 0; i < size; i++) {
+            x += 60 + random.nextInt(600);
+            y += random.nextGaussian() * 0.1;
+            xs[i] = x;
+            ys[i] = y;
+        }
+    }
+
+    @Benchmark
+    public List<LttbSampler.Point> streamingSampler() {
+        LttbSampler sampler = new LttbSampler(size, points, 0.1);
+        for (int i = 0; i < size; i++) {
+            sampler.observe(xs[i], ys[i]);
+        }
+        for (int i = 0; i < size; i++) {
+            sampler.accept(xs[i], ys[i]);
+        }
+        return sampler.finish();
+    }
+
+    @Benchmark
+    public List<LttbSampler.Point> bufferedLttb() {
+        List<LttbSampler.Point> all = new ArrayList<>();
+        double ewma = ys[0];
+        for (int i = 0; i < size; i++) {
+            ewma = 0.1 * ys[i] + 0.9 * ewma;
+            all.add(new LttbSampler.Point(xs[i], ys[i], ewma));
+        }
+
+        int n = all.size();
+        double every = (double) (n - 2) / (points - 2);
+        List<LttbSampler.Point> sampled = new ArrayList<>(points);
+        LttbSampler.Point a = all.get(0);
+        sampled.add(a);
+        for (int i = 0; i < points - 2; i++) {
+            int avgStart = (int) Math.floor((i + 1) * every) + 1;
+            int avgEnd = Math.min((int) Math.floor((i + 2) * every) + 1, n);
+            double cx = 0;
+            double cy = 0;
+            for (int k = avgStart; k < avgEnd; k++) {
+                cx += all.get(k).x();
+                cy += all.get(k).y();
+            }
+            cx /= Math.max(1, avgEnd - avgStart);
+            cy /= Math.max(1, avgEnd - avgStart);
+
+            int start = (int) Math.floor(i * every) + 1;
+            int end = (int) Math.floor((i + 1) * every) + 1;
+            double maxArea = -1;
+            LttbSampler.Point next = all.get(start);
+            for (int k = start; k < end; k++) {
+                LttbSampler.Point p = all.get(k);
+                double area = Math.abs((a.x() - cx) * (p.y() - a.y()) - (a.x() - p.x()) * (cy - a.y()));
+                if (area > maxArea) {
+                    maxArea = area;
+                    next = p;
+                }
+            }
+            sampled.add(next);
+            a = next;
+        }
+        sampled.add(all.get(n - 1));
+        return sampled;
+    }
+}
@@ -0,0 +1,83 @@
+package com.fitnote.server.domain.history.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fitnote.server.domain.history.dto.HistoryCreateRequest;
+import com.fitnote.server.domain.history.dto.HistoryCursor;
+import com.fitnote.server.domain.history.dto.HistoryResponse;
+
+/**
+ * 사용자 1명 기록 10k건 기준 첫 페이지/중간 커서 페이지 읽기 지연
+ * listSort*는 이전 구현(ArrayList 복사 후 매 요청 정렬)을 그대로 재현한 기준선입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HistoryStoreReadBenchmark {
+
+    private static final long USER_ID = 1L;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"10000"})
+    private int entries;
+
+    private InMemoryHistoryStore skipListStore;
+    private List<HistoryResponse> listStore;
+    private HistoryCursor middleCursor;
+
+    @Setup
+    public void setUp() {
+        skipListStore = new InMemoryHistoryStore();
+        listStore = new ArrayList<>();
+        LocalDateTime base = LocalDateTime.of(2020, 1, 1, 6, 0);
+        for (int i = 0; i < entries; i++) {
+            LocalDateTime startedAt = base.plusHours(ThreadLocalRandom.current().nextInt(entries * 24));
+            listStore.add(skipListStore.save(USER_ID, new HistoryCreateRequest("session " + i, startedAt, null, null)));
+        }
+        List<HistoryResponse> sorted = skipListStore.snapshot(USER_ID);
+        middleCursor = HistoryCursor.of(sorted.get(sorted.size() / 2));
+    }
+
+    @Benchmark
+    public List<HistoryResponse> listSortFirstPage() {
+        return listStore.stream()
+                .sorted(Comparator.comparing(HistoryResponse::startedAt).reversed())
+                .limit(PAGE_SIZE)
+                .toList();
+    }
+
+    @Benchmark
+    public List<HistoryResponse> listSortCursorPage() {
+        return listStore.stream()
+                .sorted(Comparator.comparing(HistoryResponse::startedAt).reversed()
+                        .thenComparing(Comparator.comparing(HistoryResponse::id).reversed()))
+                .filter(history -> history.startedAt().isBefore(middleCursor.startedAt())
+                        || (history.startedAt().isEqual(middleCursor.startedAt()) && history.id() < middleCursor.id()))
+                .limit(PAGE_SIZE)
+                .toList();
+    }
+
+    @Benchmark
+    public List<HistoryResponse> skipListFirstPage() {
+        return skipListStore.findPage(USER_ID, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<HistoryResponse> skipListCursorPage() {
+        return skipListStore.findPage(USER_ID, middleCursor, PAGE_SIZE);
+    }
+}
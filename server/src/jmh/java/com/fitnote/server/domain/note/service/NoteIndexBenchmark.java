@@ -0,0 +1,88 @@
+package com.fitnote.server.domain.note.service;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 메모 10만 건 색인에서의 검색 비용
+ * bm25Search는 역색인 조회이고, linearScan은 LIKE '%검색어%'처럼 모든 메모를 훑는 기준선입니다.
+ * prefixSearch는 한 글자 검색어로, 그 글자로 시작하는 토큰을 모두 합치는 가장 비싼 경로입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NoteIndexBenchmark {
+
+    private static final String[] WORDS = {
+            "오늘", "컨디션", "좋음", "나쁨", "어깨가", "아팠다", "허리", "무릎", "통증", "벤치", "스쿼트", "데드리프트",
+            "중량", "올림", "내림", "자세", "교정", "호흡", "수면", "부족", "피곤함", "PR", "달성", "워밍업", "충분히",
+            "스트레칭", "필요", "팔꿈치", "손목", "그립", "약함", "템포", "천천히", "세트", "휴식", "길게", "짧게"};
+
+    @Param({"100000"})
+    private int size;
+
+    private String[] notes;
+    private NoteIndex index;
+    private int[] phraseQuery;
+    private int[] singleCharQuery;
+    private String phrase;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        notes = new String[size];
+        index = new NoteIndex();
+        for (int i = 0; i < size; i++) {
+            StringBuilder note = new StringBuilder();
+            int words = 4 + random.nextInt(20);
+            for (int w = 0; w < words; w++) {
+                note.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+            }
+            notes[i] = note.toString();
+            index.add(i + 1, NoteTokenizer.analyze(notes[i]));
+        }
+        phrase = "어깨가 아팠다";
+        phraseQuery = NoteTokenizer.queryTerms(phrase);
+        singleCharQuery = NoteTokenizer.queryTerms("팔");
+    }
+
+    @Benchmark
+    public NoteIndex.Hits bm25Search() {
+        return index.search(phraseQuery, 20);
+    }
+
+    @Benchmark
+    public NoteIndex.Hits prefixSearch() {
+        return index.search(singleCharQuery, 20);
+    }
+
+    @Benchmark
+    public int linearScan() {
+        int matches = 0;
+        for (String note : notes) {
+            if (note.contains(phrase)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public NoteIndex buildIndex() {
+        NoteIndex built = new NoteIndex();
+        for (int i = 0; i < notes.length; i++) {
+            built.add(i + 1, NoteTokenizer.analyze(notes[i]));
+        }
+        return built;
+    }
+}
@@ -0,0 +1,96 @@
+package com.fitnote.server.domain.rollup.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fitnote.server.domain.exercise.MuscleGroup;
+import com.fitnote.server.domain.rollup.RollupPeriod;
+
+/**
+ * findWeeks가 캐시에 없는 52주를 계산할 때 스트림 행을 누적하고 주별 사본을 꺼내는 비용 (DB 조회 제외)
+ * primitiveCounts는 {@link MuscleWeekCounts}이며, boxedMaps는 주마다 EnumMap에 Integer로 더하는 기준선입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MuscleWeekCountsBenchmark {
+
+    private static final MuscleGroup[] MUSCLES = MuscleGroup.values();
+
+    @Param({"200000"})
+    private int rows;
+
+    @Param({"52"})
+    private int weeks;
+
+    private LocalDate firstWeek;
+    private LocalDateTime[] startedAt;
+    private int[] primaryOrdinals;
+    private int[] secondaryMasks;
+    private int[] sets;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        firstWeek = RollupPeriod.WEEK.startOf(LocalDate.of(2024, 1, 1));
+        startedAt = new LocalDateTime[rows];
+        primaryOrdinals = new int[rows];
+        secondaryMasks = new int[rows];
+        sets = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            startedAt[i] = firstWeek.plusDays(random.nextInt(weeks * 7)).atTime(18, 0);
+            primaryOrdinals[i] = random.nextInt(MUSCLES.length);
+            secondaryMasks[i] = random.nextInt(1 << MUSCLES.length);
+            sets[i] = 1 + random.nextInt(5);
+        }
+    }
+
+    @Benchmark
+    public int[][] primitiveCounts() {
+        MuscleWeekCounts counts = new MuscleWeekCounts(firstWeek, weeks);
+        for (int i = 0; i < rows; i++) {
+            counts.add(startedAt[i].toLocalDate(), primaryOrdinals[i], secondaryMasks[i], sets[i]);
+        }
+        int[][] result = new int[weeks][];
+        for (int w = 0; w < weeks; w++) {
+            result[w] = counts.week(w);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Map<LocalDate, Map<MuscleGroup, Integer>[]> boxedMaps() {
+        Map<LocalDate, Map<MuscleGroup, Integer>[]> counts = new HashMap<>();
+        for (int i = 0; i < rows; i++) {
+            LocalDate week = RollupPeriod.WEEK.startOf(startedAt[i].toLocalDate());
+            Map<MuscleGroup, Integer>[] byKind = counts.computeIfAbsent(week, key -> newCounts());
+            MuscleGroup primary = MUSCLES[primaryOrdinals[i]];
+            byKind[0].merge(primary, sets[i], Integer::sum);
+            for (MuscleGroup muscle : MUSCLES) {
+                if (muscle != primary && (secondaryMasks[i] & (1 << muscle.ordinal())) != 0) {
+                    byKind[1].merge(muscle, sets[i], Integer::sum);
+                }
+            }
+        }
+        return counts;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<MuscleGroup, Integer>[] newCounts() {
+        return new Map[] {new EnumMap<>(MuscleGroup.class), new EnumMap<>(MuscleGroup.class)};
+    }
+}
@@ -0,0 +1,480 @@
+package com.fitnote.server.common.bitmap;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Roaring 방식의 압축 int 집합. 순회는 부호 없는 값 순서입니다.
+ *
+ * 값의 상위 16비트로 컨테이너를 나누고, 컨테이너 안의 하위 16비트는 원소가 4096개 이하면 정렬된 char 배열,
+ * 넘으면 65536비트 비트맵으로 저장합니다. 어느 쪽이든 컨테이너 하나는 8KB를 넘지 않습니다.
+ * 스레드 안전하지 않으므로 사용하는 쪽에서 동기화합니다.
+ */
+public final class RoaringBitmap {
+
+    private char[] keys;
+    private Container[] containers;
+    private int size;
+
+    public RoaringBitmap() {
+        this(4);
+    }
+
+    private RoaringBitmap(int capacity) {
+        keys = new char[Math.max(1, capacity)];
+        containers = new Container[keys.length];
+    }
+
+    /**
+     * @return 새로 추가되었으면 true
+     */
+    public boolean add(int value) {
+        char high = (char) (value >>> 16);
+        int index = find(high);
+        if (index < 0) {
+            index = -index - 1;
+            insert(index, high, new ArrayContainer(4));
+        }
+        Container container = containers[index];
+        int before = container.cardinality();
+        containers[index] = container.add((char) value);
+        return containers[index].cardinality() != before;
+    }
+
+    /**
+     * @return 있던 값을 지웠으면 true
+     */
+    public boolean remove(int value) {
+        int index = find((char) (value >>> 16));
+        if (index < 0) {
+            return false;
+        }
+        Container container = containers[index];
+        int before = container.cardinality();
+        Container after = container.remove((char) value);
+        if (after.cardinality() == 0) {
+            delete(index);
+        } else {
+            containers[index] = after;
+        }
+        return after.cardinality() != before;
+    }
+
+    public boolean contains(int value) {
+        int index = find((char) (value >>> 16));
+        return index >= 0 && containers[index].contains((char) value);
+    }
+
+    public int cardinality() {
+        int total = 0;
+        for (int i = 0; i < size; i++) {
+            total += containers[i].cardinality();
+        }
+        return total;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void forEach(IntConsumer consumer) {
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << 16, consumer);
+        }
+    }
+
+    public int[] toArray() {
+        int[] values = new int[cardinality()];
+        int[] position = {0};
+        forEach(value -> values[position[0]++] = value);
+        return values;
+    }
+
+    public RoaringBitmap and(RoaringBitmap other) {
+        RoaringBitmap result = new RoaringBitmap(Math.min(size, other.size));
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                Container container = containers[i].and(other.containers[j]);
+                if (container.cardinality() > 0) {
+                    result.append(keys[i], container);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    public RoaringBitmap or(RoaringBitmap other) {
+        RoaringBitmap result = new RoaringBitmap(size + other.size);
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j == other.size || (i < size && keys[i] < other.keys[j])) {
+                result.append(keys[i], containers[i].copy());
+                i++;
+            } else if (i == size || keys[i] > other.keys[j]) {
+                result.append(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.append(keys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * this에는 있고 other에는 없는 값
+     */
+    public RoaringBitmap andNot(RoaringBitmap other) {
+        RoaringBitmap result = new RoaringBitmap(size);
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            while (j < other.size && other.keys[j] < keys[i]) {
+                j++;
+            }
+            Container container = j < other.size && other.keys[j] == keys[i]
+                    ? containers[i].andNot(other.containers[j])
+                    : containers[i].copy();
+            if (container.cardinality() > 0) {
+                result.append(keys[i], container);
+            }
+        }
+        return result;
+    }
+
+    public RoaringBitmap copy() {
+        RoaringBitmap result = new RoaringBitmap(size);
+        for (int i = 0; i < size; i++) {
+            result.append(keys[i], containers[i].copy());
+        }
+        return result;
+    }
+
+    /**
+     * 값이 속한 컨테이너가 비트맵 표현인지. 표현 전환을 확인하는 테스트용입니다.
+     */
+    boolean isBitmapContainer(int value) {
+        int index = find((char) (value >>> 16));
+        return index >= 0 && containers[index] instanceof BitmapContainer;
+    }
+
+    private int find(char high) {
+        return Arrays.binarySearch(keys, 0, size, high);
+    }
+
+    private void insert(int index, char high, Container container) {
+        ensureCapacity(size + 1);
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = high;
+        containers[index] = container;
+        size++;
+    }
+
+    private void delete(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        containers[--size] = null;
+    }
+
+    private void append(char high, Container container) {
+        ensureCapacity(size + 1);
+        keys[size] = high;
+        containers[size] = container;
+        size++;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > keys.length) {
+            int grown = Math.max(capacity, keys.length * 2);
+            keys = Arrays.copyOf(keys, grown);
+            containers = Arrays.copyOf(containers, grown);
+        }
+    }
+
+    /**
+     * 하위 16비트 집합. 변경 연산은 표현이 바뀔 수 있으므로 반환된 컨테이너를 사용해야 합니다.
+     */
+    private abstract static class Container {
+
+        abstract Container add(char value);
+
+        abstract Container remove(char value);
+
+        abstract boolean contains(char value);
+
+        abstract int cardinality();
+
+        abstract Container and(Container other);
+
+        abstract Container or(Container other);
+
+        abstract Container andNot(Container other);
+
+        abstract void forEach(int base, IntConsumer consumer);
+
+        abstract Container copy();
+    }
+
+    private static final class ArrayContainer extends Container {
+
+        static final int MAX_SIZE = 4096;
+
+        private char[] values;
+        private int size;
+
+        ArrayContainer(int capacity) {
+            values = new char[Math.max(1, capacity)];
+        }
+
+        @Override
+        Container add(char value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (size == MAX_SIZE) {
+                return BitmapContainer.from(this).add(value);
+            }
+            index = -index - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(MAX_SIZE, values.length * 2));
+            }
+            System.arraycopy(values, index, values, index + 1, size - index);
+            values[index] = value;
+            size++;
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, size - index - 1);
+                size--;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return size;
+        }
+
+        @Override
+        Container and(Container other) {
+            ArrayContainer result = new ArrayContainer(size);
+            for (int i = 0; i < size; i++) {
+                if (other.contains(values[i])) {
+                    result.values[result.size++] = values[i];
+                }
+            }
+            return result;
+        }
+
+        @Override
+        Container or(Container other) {
+            if (other instanceof BitmapContainer) {
+                return other.or(this);
+            }
+            ArrayContainer array = (ArrayContainer) other;
+            char[] merged = new char[size + array.size];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < size && j < array.size) {
+                if (values[i] < array.values[j]) {
+                    merged[count++] = values[i++];
+                } else if (values[i] > array.values[j]) {
+                    merged[count++] = array.values[j++];
+                } else {
+                    merged[count++] = values[i++];
+                    j++;
+                }
+            }
+            while (i < size) {
+                merged[count++] = values[i++];
+            }
+            while (j < array.size) {
+                merged[count++] = array.values[j++];
+            }
+            ArrayContainer result = new ArrayContainer(0);
+            result.values = merged;
+            result.size = count;
+            return count > MAX_SIZE ? BitmapContainer.from(result) : result;
+        }
+
+        @Override
+        Container andNot(Container other) {
+            ArrayContainer result = new ArrayContainer(size);
+            for (int i = 0; i < size; i++) {
+                if (!other.contains(values[i])) {
+                    result.values[result.size++] = values[i];
+                }
+            }
+            return result;
+        }
+
+        @Override
+        void forEach(int base, IntConsumer consumer) {
+            for (int i = 0; i < size; i++) {
+                consumer.accept(base | values[i]);
+            }
+        }
+
+        @Override
+        Container copy() {
+            ArrayContainer result = new ArrayContainer(0);
+            result.values = Arrays.copyOf(values, Math.max(1, size));
+            result.size = size;
+            return result;
+        }
+    }
+
+    private static final class BitmapContainer extends Container {
+
+        private final long[] words;
+        private int cardinality;
+
+        private BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        static BitmapContainer from(ArrayContainer array) {
+            long[] words = new long[1024];
+            for (int i = 0; i < array.size; i++) {
+                words[array.values[i] >>> 6] |= 1L << array.values[i];
+            }
+            return new BitmapContainer(words, array.size);
+        }
+
+        /**
+         * 원소가 4096개 이하로 줄면 배열 표현이 더 작으므로 바꿉니다.
+         */
+        private static Container of(long[] words) {
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+            if (cardinality > ArrayContainer.MAX_SIZE) {
+                return new BitmapContainer(words, cardinality);
+            }
+            ArrayContainer array = new ArrayContainer(cardinality);
+            for (int w = 0; w < words.length; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    array.values[array.size++] = (char) ((w << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return array;
+        }
+
+        @Override
+        Container add(char value) {
+            long bit = 1L << value;
+            if ((words[value >>> 6] & bit) == 0) {
+                words[value >>> 6] |= bit;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            long bit = 1L << value;
+            if ((words[value >>> 6] & bit) == 0) {
+                return this;
+            }
+            words[value >>> 6] &= ~bit;
+            cardinality--;
+            return cardinality > ArrayContainer.MAX_SIZE ? this : of(words);
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+            long[] otherWords = ((BitmapContainer) other).words;
+            long[] result = new long[words.length];
+            for (int i = 0; i < words.length; i++) {
+                result[i] = words[i] & otherWords[i];
+            }
+            return of(result);
+        }
+
+        @Override
+        Container or(Container other) {
+            long[] result = words.clone();
+            if (other instanceof ArrayContainer array) {
+                for (int i = 0; i < array.size; i++) {
+                    result[array.values[i] >>> 6] |= 1L << array.values[i];
+                }
+            } else {
+                long[] otherWords = ((BitmapContainer) other).words;
+                for (int i = 0; i < result.length; i++) {
+                    result[i] |= otherWords[i];
+                }
+            }
+            return of(result);
+        }
+
+        @Override
+        Container andNot(Container other) {
+            long[] result = words.clone();
+            if (other instanceof ArrayContainer array) {
+                for (int i = 0; i < array.size; i++) {
+                    result[array.values[i] >>> 6] &= ~(1L << array.values[i]);
+                }
+            } else {
+                long[] otherWords = ((BitmapContainer) other).words;
+                for (int i = 0; i < result.length; i++) {
+                    result[i] &= ~otherWords[i];
+                }
+            }
+            return of(result);
+        }
+
+        @Override
+        void forEach(int base, IntConsumer consumer) {
+            for (int w = 0; w < words.length; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    consumer.accept(base | (w << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+    }
+}
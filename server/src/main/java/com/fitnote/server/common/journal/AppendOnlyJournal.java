@@ -0,0 +1,292 @@
+package com.fitnote.server.common.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 세그먼트 파일로 나뉜 append-only 저널
+ *
+ * 레코드 형식: [int 길이][int CRC32][long seq][payload]. CRC는 seq와 payload를 덮으므로
+ * 기록 도중 프로세스가 죽어 잘린 마지막 레코드는 복구 시 감지되어 잘려 나갑니다.
+ * append는 큐에 넣기만 하고, 단일 writer 스레드가 쌓인 레코드를 한 번에 쓰고 fsync 한 뒤
+ * 배치 전체의 future를 완료합니다(group commit).
+ */
+public class AppendOnlyJournal implements AutoCloseable {
+
+    private static final int HEADER_BYTES = Integer.BYTES + Integer.BYTES + Long.BYTES;
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    private final Path directory;
+    private final String name;
+    private final int maxBatch;
+    private final BlockingQueue<Entry> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+
+    private long lastSeq;
+    private FileChannel channel;
+    private volatile boolean running = true;
+
+    private AppendOnlyJournal(Path directory, String name, int maxBatch, long lastSeq) throws IOException {
+        this.directory = directory;
+        this.name = name;
+        this.maxBatch = maxBatch;
+        this.lastSeq = lastSeq;
+        this.channel = openSegment(lastSeq + 1);
+        this.writer = new Thread(this::writeLoop, "journal-" + name);
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * 기존 세그먼트를 순서대로 읽어 afterSeq보다 큰 레코드를 replayer에 넘긴 뒤, 새 세그먼트에 이어 쓰는 저널을 엽니다.
+     * 마지막 세그먼트 끝의 불완전한 레코드는 잘라냅니다.
+     */
+    public static Recovery open(Path directory, String name, int maxBatch, long afterSeq, Consumer<byte[]> replayer)
+            throws IOException {
+        Files.createDirectories(directory);
+        List<Path> segments = segments(directory, name);
+        long lastSeq = afterSeq;
+        long replayed = 0;
+        for (int i = 0; i < segments.size(); i++) {
+            boolean lastSegment = i == segments.size() - 1;
+            ReadResult result = readSegment(segments.get(i), afterSeq, replayer);
+            if (result.validBytes() < Files.size(segments.get(i))) {
+                if (!lastSegment) {
+                    throw new IOException("Corrupted journal segment: " + segments.get(i));
+                }
+                try (FileChannel truncate = FileChannel.open(segments.get(i), StandardOpenOption.WRITE)) {
+                    truncate.truncate(result.validBytes());
+                    truncate.force(true);
+                }
+            }
+            lastSeq = Math.max(lastSeq, result.lastSeq());
+            replayed += result.replayed();
+        }
+        return new Recovery(new AppendOnlyJournal(directory, name, maxBatch, lastSeq), lastSeq, replayed);
+    }
+
+    /**
+     * 레코드를 큐에 넣고 fsync 완료 시 끝나는 future를 반환합니다.
+     * 호출 순서가 곧 저널 순서이므로, 같은 상태를 바꾸는 쓰기끼리는 호출자가 순서를 맞춰야 합니다.
+     */
+    public synchronized CompletableFuture<Long> append(byte[] payload) {
+        if (!running) {
+            throw new IllegalStateException("Journal is closed: " + name);
+        }
+        Entry entry = new Entry(++lastSeq, payload, new CompletableFuture<>());
+        queue.add(entry);
+        return entry.future();
+    }
+
+    /**
+     * 지금까지의 레코드를 닫고 이후 레코드는 새 세그먼트에 쓰도록 합니다.
+     * 반환 future는 전환이 끝나면 마지막 seq(이전 세그먼트까지 포함된 seq)로 완료됩니다.
+     */
+    public synchronized CompletableFuture<Long> roll() {
+        Entry marker = new Entry(lastSeq, null, new CompletableFuture<>());
+        queue.add(marker);
+        return marker.future();
+    }
+
+    /**
+     * upToSeq 이하 레코드만 담긴 닫힌 세그먼트를 삭제합니다. 스냅샷이 디스크에 확정된 뒤에만 호출해야 합니다.
+     */
+    public void deleteSegmentsThrough(long upToSeq) throws IOException {
+        List<Path> segments = segments(directory, name);
+        for (int i = 0; i + 1 < segments.size(); i++) {
+            long nextStart = startSeqOf(segments.get(i + 1));
+            if (nextStart <= upToSeq + 1) {
+                Files.deleteIfExists(segments.get(i));
+            }
+        }
+    }
+
+    public synchronized long lastSeq() {
+        return lastSeq;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeLoop() {
+        List<Entry> batch = new ArrayList<>(maxBatch);
+        List<Entry> pending = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatch - 1);
+
+                for (Entry entry : batch) {
+                    if (entry.payload() == null) {
+                        channel.force(false);
+                        complete(pending);
+                        channel.close();
+                        channel = openSegment(entry.seq() + 1);
+                        entry.future().complete(entry.seq());
+                    } else {
+                        write(entry);
+                        pending.add(entry);
+                    }
+                }
+                channel.force(false);
+                complete(pending);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(batch, pending, new IOException("Journal writer interrupted"));
+                return;
+            } catch (IOException | RuntimeException e) {
+                fail(batch, pending, e);
+            } finally {
+                batch.clear();
+                pending.clear();
+            }
+        }
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(Entry entry) throws IOException {
+        CRC32 crc = new CRC32();
+        ByteBuffer seqBytes = ByteBuffer.allocate(Long.BYTES).putLong(0, entry.seq());
+        crc.update(seqBytes);
+        crc.update(entry.payload());
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + entry.payload().length);
+        buffer.putInt(entry.payload().length)
+                .putInt((int) crc.getValue())
+                .putLong(entry.seq())
+                .put(entry.payload())
+                .flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void complete(List<Entry> entries) {
+        for (Entry entry : entries) {
+            entry.future().complete(entry.seq());
+        }
+        entries.clear();
+    }
+
+    private void fail(List<Entry> batch, List<Entry> pending, Exception cause) {
+        for (Entry entry : batch) {
+            entry.future().completeExceptionally(cause);
+        }
+        for (Entry entry : pending) {
+            entry.future().completeExceptionally(cause);
+        }
+    }
+
+    private FileChannel openSegment(long startSeq) throws IOException {
+        Path segment = directory.resolve(String.format("%s-%020d%s", name, startSeq, SEGMENT_SUFFIX));
+        return FileChannel.open(segment,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private static List<Path> segments(Path directory, String name) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> {
+                        String fileName = path.getFileName().toString();
+                        return fileName.startsWith(name + "-") && fileName.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long startSeqOf(Path segment) {
+        String fileName = segment.getFileName().toString();
+        int start = fileName.lastIndexOf('-') + 1;
+        return Long.parseLong(fileName.substring(start, fileName.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static ReadResult readSegment(Path segment, long afterSeq, Consumer<byte[]> replayer)
+            throws IOException {
+        long lastSeq = 0;
+        long replayed = 0;
+        long validBytes = 0;
+        try (FileChannel in = FileChannel.open(segment, StandardOpenOption.READ)) {
+            long size = in.size();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (validBytes + HEADER_BYTES <= size) {
+                header.clear();
+                readFully(in, header, validBytes);
+                header.flip();
+                int length = header.getInt();
+                int checksum = header.getInt();
+                long seq = header.getLong();
+                if (length < 0 || validBytes + HEADER_BYTES + length > size) {
+                    break;
+                }
+
+                ByteBuffer payload = ByteBuffer.allocate(length);
+                readFully(in, payload, validBytes + HEADER_BYTES);
+                CRC32 crc = new CRC32();
+                crc.update(ByteBuffer.allocate(Long.BYTES).putLong(0, seq));
+                crc.update(payload.array());
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+
+                if (seq > afterSeq) {
+                    replayer.accept(payload.array());
+                    replayed++;
+                }
+                lastSeq = seq;
+                validBytes += HEADER_BYTES + length;
+            }
+        }
+        return new ReadResult(lastSeq, replayed, validBytes);
+    }
+
+    private static void readFully(FileChannel in, ByteBuffer buffer, long position) throws IOException {
+        long offset = position;
+        while (buffer.hasRemaining()) {
+            int read = in.read(buffer, offset);
+            if (read < 0) {
+                throw new IOException("Unexpected end of journal");
+            }
+            offset += read;
+        }
+    }
+
+    public record Recovery(AppendOnlyJournal journal, long lastSeq, long replayed) {
+    }
+
+    private record Entry(long seq, byte[] payload, CompletableFuture<Long> future) {
+    }
+
+    private record ReadResult(long lastSeq, long replayed, long validBytes) {
+    }
+}
@@ -0,0 +1,152 @@
+package com.fitnote.server.common.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 메모리 상태 하나를 저널과 스냅샷으로 영속화합니다.
+ *
+ * 쓰기는 저널에 먼저 남기고 fsync가 끝난 뒤에 메모리에 적용하므로, 디스크에 없는 변경이 읽히지 않습니다.
+ * 같은 키(사용자)의 쓰기는 키의 stripe 락으로 준비부터 적용까지 직렬화되어 저널 순서가 곧 적용 순서이고,
+ * 다른 키의 쓰기는 서로 막지 않아 동시에 들어온 쓰기가 한 번의 fsync로 묶입니다.
+ * 스냅샷은 읽기/쓰기 락의 쓰기 쪽을 잡아 저널에 남았지만 아직 적용되지 않은 쓰기가 없을 때 상태를 직렬화하고
+ * 세그먼트를 전환해 seq 경계를 맞춥니다.
+ */
+public class JournaledState implements AutoCloseable {
+
+    private final String name;
+    private final Path snapshotFile;
+    private final AppendOnlyJournal journal;
+    private final Supplier<byte[]> snapshotEncoder;
+    private static final int STRIPES = 64;
+
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPES];
+    private final ReentrantReadWriteLock snapshotLock = new ReentrantReadWriteLock();
+    private final RecoveryStats recoveryStats;
+
+    private volatile long snapshotSeq;
+
+    private JournaledState(String name, Path snapshotFile, AppendOnlyJournal journal,
+            Supplier<byte[]> snapshotEncoder, long snapshotSeq, RecoveryStats recoveryStats) {
+        this.name = name;
+        this.snapshotFile = snapshotFile;
+        this.journal = journal;
+        this.snapshotEncoder = snapshotEncoder;
+        this.snapshotSeq = snapshotSeq;
+        this.recoveryStats = recoveryStats;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 스냅샷을 restorer로 복원하고 그 이후 저널 레코드를 replayer로 재적용한 뒤 쓰기를 받을 준비를 합니다.
+     */
+    public static JournaledState open(
+            Path directory,
+            String name,
+            int maxBatch,
+            Consumer<ByteBuffer> restorer,
+            Consumer<byte[]> replayer,
+            Supplier<byte[]> snapshotEncoder) throws IOException {
+        long startedAt = System.nanoTime();
+        Path snapshotFile = directory.resolve(name + ".snapshot");
+
+        Optional<SnapshotFile.Snapshot> snapshot = SnapshotFile.read(snapshotFile);
+        long snapshotSeq = snapshot.map(SnapshotFile.Snapshot::seq).orElse(0L);
+        snapshot.ifPresent(s -> restorer.accept(s.payload()));
+
+        AppendOnlyJournal.Recovery recovery =
+                AppendOnlyJournal.open(directory, name, maxBatch, snapshotSeq, replayer);
+        RecoveryStats stats = new RecoveryStats(
+                snapshotSeq, recovery.replayed(), recovery.lastSeq(), (System.nanoTime() - startedAt) / 1_000_000);
+        return new JournaledState(name, snapshotFile, recovery.journal(), snapshotEncoder, snapshotSeq, stats);
+    }
+
+    /**
+     * prepare로 변경을 검증해 만들고, encoder로 직렬화해 저널에 남겨 디스크에 확정된 뒤 apply로 메모리에 적용합니다.
+     * prepare는 상태를 바꾸지 않아야 하며, 예외를 던지면 아무것도 기록하지 않습니다.
+     * fsync가 실패하면 적용하지 않고 UncheckedIOException을 던집니다.
+     */
+    public <T> T write(long key, Supplier<T> prepare, Function<T, byte[]> encoder, Consumer<T> apply) {
+        ReentrantLock stripe = stripes[Long.hashCode(key * 0x9E3779B97F4A7C15L) & (STRIPES - 1)];
+        stripe.lock();
+        try {
+            T change = prepare.get();
+            snapshotLock.readLock().lock();
+            try {
+                await(journal.append(encoder.apply(change)));
+                apply.accept(change);
+            } finally {
+                snapshotLock.readLock().unlock();
+            }
+            return change;
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    /**
+     * 현재 상태를 스냅샷으로 남기고 스냅샷에 포함된 저널 세그먼트를 삭제합니다.
+     * 진행 중인 쓰기가 적용을 마치기를 기다렸다가 상태 직렬화 동안만 쓰기를 멈추며, 파일 기록은 락 밖에서 합니다.
+     */
+    public synchronized void snapshot() throws IOException {
+        byte[] state;
+        CompletableFuture<Long> rolled;
+        snapshotLock.writeLock().lock();
+        try {
+            if (journal.lastSeq() == snapshotSeq) {
+                return;
+            }
+            state = snapshotEncoder.get();
+            rolled = journal.roll();
+        } finally {
+            snapshotLock.writeLock().unlock();
+        }
+        long seq = await(rolled);
+        SnapshotFile.write(snapshotFile, seq, state);
+        journal.deleteSegmentsThrough(seq);
+        snapshotSeq = Math.max(snapshotSeq, seq);
+    }
+
+    public long pendingRecords() {
+        return journal.lastSeq() - snapshotSeq;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public RecoveryStats recoveryStats() {
+        return recoveryStats;
+    }
+
+    @Override
+    public void close() {
+        journal.close();
+    }
+
+    private static long await(CompletableFuture<Long> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw new UncheckedIOException(io);
+            }
+            throw e;
+        }
+    }
+
+    public record RecoveryStats(long snapshotSeq, long replayedRecords, long lastSeq, long elapsedMillis) {
+    }
+}
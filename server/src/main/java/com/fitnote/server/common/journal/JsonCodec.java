@@ -0,0 +1,46 @@
+package com.fitnote.server.common.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+
+/**
+ * 저널 레코드와 스냅샷을 JSON으로 직렬화합니다. 스냅샷은 매핑된 버퍼에서 복사 없이 읽습니다.
+ */
+public final class JsonCodec<T> {
+
+    private final ObjectMapper objectMapper;
+    private final Class<T> type;
+
+    public JsonCodec(ObjectMapper objectMapper, Class<T> type) {
+        this.objectMapper = objectMapper;
+        this.type = type;
+    }
+
+    public byte[] encode(T value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public T decode(byte[] bytes) {
+        try {
+            return objectMapper.readValue(bytes, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public T decode(ByteBuffer buffer) {
+        try {
+            return objectMapper.readValue(new ByteBufferBackedInputStream(buffer), type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
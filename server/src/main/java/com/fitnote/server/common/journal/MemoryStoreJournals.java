@@ -0,0 +1,89 @@
+package com.fitnote.server.common.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메모리 저장소용 저널을 열고 주기적으로 스냅샷을 남깁니다.
+ *
+ * memory-store.journal.enabled=false(기본값)이면 저널을 열지 않으며 저장소는 기존처럼 휘발성으로 동작합니다.
+ */
+@Component
+public class MemoryStoreJournals implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(MemoryStoreJournals.class);
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int maxBatch;
+    private final List<JournaledState> opened = new CopyOnWriteArrayList<>();
+
+    public MemoryStoreJournals(
+            @Value("${memory-store.journal.enabled:false}") boolean enabled,
+            @Value("${memory-store.journal.directory:./data/journal}") String directory,
+            @Value("${memory-store.journal.max-batch:256}") int maxBatch) {
+        this.enabled = enabled;
+        this.directory = Path.of(directory);
+        this.maxBatch = maxBatch;
+    }
+
+    /**
+     * 스냅샷과 저널을 재적용해 상태를 복원한 뒤 저널을 반환합니다. 비활성화 상태면 null을 반환합니다.
+     */
+    public JournaledState open(
+            String name,
+            Consumer<ByteBuffer> restorer,
+            Consumer<byte[]> replayer,
+            Supplier<byte[]> snapshotEncoder) {
+        if (!enabled) {
+            return null;
+        }
+        try {
+            JournaledState state = JournaledState.open(directory, name, maxBatch, restorer, replayer, snapshotEncoder);
+            JournaledState.RecoveryStats stats = state.recoveryStats();
+            logger.info("Recovered memory store '{}' in {} ms (snapshot seq={}, replayed={}, last seq={})",
+                    name, stats.elapsedMillis(), stats.snapshotSeq(), stats.replayedRecords(), stats.lastSeq());
+            opened.add(state);
+            return state;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to recover memory store '" + name + "'", e);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${memory-store.journal.snapshot-interval-ms:300000}",
+            fixedDelayString = "${memory-store.journal.snapshot-interval-ms:300000}")
+    public void snapshotAll() {
+        for (JournaledState state : opened) {
+            try {
+                state.snapshot();
+            } catch (IOException | UncheckedIOException e) {
+                logger.warn("Snapshot of memory store '{}' failed; journal is kept", state.name(), e);
+            }
+        }
+    }
+
+    /**
+     * 종료 시 스냅샷을 남겨 다음 기동의 재적용 구간을 줄입니다.
+     */
+    @Override
+    public void destroy() {
+        snapshotAll();
+        for (JournaledState state : opened) {
+            state.close();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.fitnote.server.common.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/**
+ * 저널 seq 시점의 전체 상태를 담는 스냅샷 파일
+ *
+ * 형식: [int MAGIC][long seq][int 길이][int CRC32][payload].
+ * 임시 파일에 쓰고 fsync 한 뒤 원자적으로 교체하므로, 기록 중 죽어도 이전 스냅샷이 남습니다.
+ * 읽을 때는 파일을 메모리 매핑해 복사 없이 payload 뷰를 넘깁니다.
+ */
+public final class SnapshotFile {
+
+    private static final int MAGIC = 0x464E5331; // "FNS1"
+    private static final int HEADER_BYTES = Integer.BYTES + Long.BYTES + Integer.BYTES + Integer.BYTES;
+
+    private SnapshotFile() {
+    }
+
+    public static void write(Path file, long seq, byte[] payload) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                .putInt(MAGIC)
+                .putLong(seq)
+                .putInt(payload.length)
+                .putInt((int) crc.getValue())
+                .flip();
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer body = ByteBuffer.wrap(payload);
+            while (header.hasRemaining()) {
+                out.write(header);
+            }
+            while (body.hasRemaining()) {
+                out.write(body);
+            }
+            out.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 스냅샷이 없으면 빈 값을, 손상되었으면 IOException을 반환합니다.
+     * 손상된 스냅샷을 건너뛰면 이미 삭제된 저널 세그먼트의 데이터를 잃으므로 조용히 무시하지 않습니다.
+     */
+    public static Optional<Snapshot> read(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (in.size() < HEADER_BYTES) {
+                throw new IOException("Truncated snapshot: " + file);
+            }
+            MappedByteBuffer mapped = in.map(FileChannel.MapMode.READ_ONLY, 0, in.size());
+            if (mapped.getInt() != MAGIC) {
+                throw new IOException("Unknown snapshot format: " + file);
+            }
+            long seq = mapped.getLong();
+            int length = mapped.getInt();
+            int checksum = mapped.getInt();
+            if (length < 0 || HEADER_BYTES + (long) length != in.size()) {
+                throw new IOException("Truncated snapshot: " + file);
+            }
+
+            ByteBuffer payload = mapped.slice(HEADER_BYTES, length).asReadOnlyBuffer();
+            CRC32 crc = new CRC32();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                throw new IOException("Snapshot checksum mismatch: " + file);
+            }
+            return Optional.of(new Snapshot(seq, payload));
+        }
+    }
+
+    /**
+     * payload는 매핑된 버퍼이므로 복원이 끝난 뒤에는 참조를 들고 있지 않아야 합니다.
+     */
+    public record Snapshot(long seq, ByteBuffer payload) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.fitnote.server.common.weight;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * 무게 고정소수점 값 (kg의 1/100)
+ *
+ * 저장 단위는 항상 kg이며, 사용자 단위(kg/lb) 변환과 반올림 단위는 JSON 경계에서 {@link WeightFormat}으로 적용합니다.
+ * 변환과 반올림은 long 연산뿐이라 BigDecimal처럼 값마다 중간 객체를 만들지 않습니다.
+ * DB 열과 JPQL 집계는 그대로 DECIMAL(6,2)/BigDecimal이며, 엔티티와 DTO 사이에서 of/toBigDecimal로 바꿉니다.
+ */
+@JsonSerialize(using = WeightSerializer.class)
+@JsonDeserialize(using = WeightDeserializer.class)
+public record Weight(int hundredths) {
+
+    /** DECIMAL(6,2) 열에 들어가는 최댓값 (9999.99kg) */
+    public static final int MAX_HUNDREDTHS = 999_999;
+
+    private static final long LB_PER_KG_NUMERATOR = 220_462_262_185L;   // 1kg = 2.20462262185lb
+    private static final long LB_PER_KG_DENOMINATOR = 100_000_000_000L;
+    private static final long KG_PER_LB_NUMERATOR = 45_359_237L;        // 1lb = 0.45359237kg (정의값)
+    private static final long KG_PER_LB_DENOMINATOR = 100_000_000L;
+    private static final BigDecimal LB_PER_KG = BigDecimal.valueOf(LB_PER_KG_NUMERATOR, 11);
+
+    public Weight {
+        if (hundredths < 0 || hundredths > MAX_HUNDREDTHS) {
+            throw new IllegalArgumentException("무게는 0 이상 9999.99kg 이하여야 합니다.");
+        }
+    }
+
+    public static Weight of(BigDecimal kg) {
+        return kg == null ? null : new Weight(kg.setScale(2, RoundingMode.HALF_UP).unscaledValue().intValueExact());
+    }
+
+    public static BigDecimal toBigDecimal(Weight weight) {
+        return weight == null ? null : BigDecimal.valueOf(weight.hundredths, 2);
+    }
+
+    /**
+     * kg 1/100 → lb 1/100 (반올림)
+     */
+    public static int kgToLb(int kgHundredths) {
+        return (int) ((kgHundredths * LB_PER_KG_NUMERATOR + LB_PER_KG_DENOMINATOR / 2) / LB_PER_KG_DENOMINATOR);
+    }
+
+    /**
+     * 집계 값(볼륨, e1RM)용 kg → lb. 소수 둘째 자리로 반올림합니다.
+     */
+    public static BigDecimal kgToLb(BigDecimal kg) {
+        return kg.multiply(LB_PER_KG).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 차트 점용 kg → lb. 소수 둘째 자리로 반올림합니다.
+     */
+    public static double kgToLb(double kg) {
+        return Math.round(kg * LB_PER_KG_NUMERATOR / LB_PER_KG_DENOMINATOR * 100) / 100.0;
+    }
+
+    /**
+     * lb 1/100 → kg 1/100 (반올림)
+     */
+    public static int lbToKg(int lbHundredths) {
+        return (int) ((lbHundredths * KG_PER_LB_NUMERATOR + KG_PER_LB_DENOMINATOR / 2) / KG_PER_LB_DENOMINATOR);
+    }
+
+    /**
+     * step(같은 단위의 1/100)의 가장 가까운 배수로 반올림합니다. step이 0 이하이면 그대로입니다.
+     */
+    public static int roundToStep(int hundredths, int step) {
+        if (step <= 0) {
+            return hundredths;
+        }
+        return (hundredths + step / 2) / step * step;
+    }
+}
@@ -0,0 +1,74 @@
+package com.fitnote.server.common.weight;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * 숫자(또는 숫자 문자열)를 파서의 문자 버퍼에서 바로 1/100 정수로 읽고 kg로 바꿉니다.
+ * 음수, 지수 표기, 소수 셋째 자리 이하 값은 요청 오류입니다. (끝의 0은 허용)
+ */
+public class WeightDeserializer extends StdDeserializer<Weight> {
+
+    private static final String INVALID = "무게는 0 이상, 소수 둘째 자리까지의 숫자여야 합니다.";
+
+    public WeightDeserializer() {
+        super(Weight.class);
+    }
+
+    @Override
+    public Weight deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NUMBER_FLOAT
+                && token != JsonToken.VALUE_STRING) {
+            return (Weight) ctxt.handleUnexpectedToken(Weight.class, p);
+        }
+        long display = parse(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+        int kg = display < 0 ? -1 : WeightFormat.of(ctxt).fromDisplay((int) display);
+        if (kg < 0 || kg > Weight.MAX_HUNDREDTHS) {
+            return ctxt.reportInputMismatch(this, INVALID);
+        }
+        return new Weight(kg);
+    }
+
+    /**
+     * @return 1/100 값, 형식이 맞지 않거나 너무 크면 -1
+     */
+    static long parse(char[] text, int offset, int length) {
+        long whole = 0;
+        int fraction = 0;
+        int fractionDigits = -1;
+        boolean digits = false;
+        for (int i = offset; i < offset + length; i++) {
+            char c = text[i];
+            if (c == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else if (c >= '0' && c <= '9') {
+                digits = true;
+                if (fractionDigits < 0) {
+                    whole = whole * 10 + (c - '0');
+                    if (whole > Weight.MAX_HUNDREDTHS) {
+                        return -1;
+                    }
+                } else if (fractionDigits < 2) {
+                    fraction = fraction * 10 + (c - '0');
+                    fractionDigits++;
+                } else if (c != '0') {
+                    return -1;
+                }
+            } else {
+                return -1;
+            }
+        }
+        if (!digits) {
+            return -1;
+        }
+        if (fractionDigits == 1) {
+            fraction *= 10;
+        }
+        return whole * 100 + fraction;
+    }
+}
@@ -0,0 +1,56 @@
+package com.fitnote.server.common.weight;
+
+import java.math.BigDecimal;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.DatabindContext;
+
+/**
+ * 한 사용자의 무게 표시 방식. 응답은 kg → 표시 단위 변환 후 roundingStep으로 반올림하고, 요청은 표시 단위 → kg로만 바꿉니다.
+ *
+ * HTTP 메시지 변환기가 ObjectWriter/ObjectReader 속성(ATTRIBUTE)으로 넘기며, 속성이 없으면(저널 등 내부 직렬화) kg 그대로입니다.
+ * 속성 값은 Supplier여도 되므로 무게를 실제로 쓰는 응답에서만 설정을 읽게 할 수 있습니다.
+ *
+ * @param roundingStep 표시 단위의 1/100 (250 = 2.5kg 또는 2.5lb), 0이면 kg는 반올림하지 않고 lb는 0.1lb 단위
+ */
+public record WeightFormat(boolean pounds, int roundingStep) {
+
+    public static final String ATTRIBUTE = WeightFormat.class.getName();
+    public static final WeightFormat KG = new WeightFormat(false, 0);
+
+    /** lb 입력은 kg 1/100로 저장하면서 최대 ±0.011lb 어긋나므로, 반올림 단위가 없으면 0.1lb로 맞춥니다. */
+    static final int LB_DEFAULT_STEP = 10;
+
+    public int toDisplay(int kgHundredths) {
+        if (!pounds) {
+            return Weight.roundToStep(kgHundredths, roundingStep);
+        }
+        return Weight.roundToStep(Weight.kgToLb(kgHundredths), roundingStep > 0 ? roundingStep : LB_DEFAULT_STEP);
+    }
+
+    public int fromDisplay(int displayHundredths) {
+        return pounds ? Weight.lbToKg(displayHundredths) : displayHundredths;
+    }
+
+    /**
+     * 세트 무게가 아닌 kg 값(볼륨, e1RM, 차트 점)의 표시 단위 변환. roundingStep은 적용하지 않습니다.
+     */
+    public BigDecimal toDisplayValue(BigDecimal kg) {
+        return pounds ? Weight.kgToLb(kg) : kg;
+    }
+
+    public double toDisplayValue(double kg) {
+        return pounds ? Weight.kgToLb(kg) : kg;
+    }
+
+    static WeightFormat of(DatabindContext context) {
+        Object attribute = context.getAttribute(ATTRIBUTE);
+        if (attribute instanceof WeightFormat format) {
+            return format;
+        }
+        if (attribute instanceof Supplier<?> supplier) {
+            return (WeightFormat) supplier.get();
+        }
+        return KG;
+    }
+}
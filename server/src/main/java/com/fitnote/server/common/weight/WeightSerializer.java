@@ -0,0 +1,51 @@
+package com.fitnote.server.common.weight;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * 표시 단위로 바꾼 값을 숫자로 바로 씁니다. 정수면 int로, 아니면 소수 둘째 자리까지(끝의 0 제외) 문자 버퍼에서 씁니다.
+ */
+public class WeightSerializer extends StdSerializer<Weight> {
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[16]);
+
+    public WeightSerializer() {
+        super(Weight.class);
+    }
+
+    @Override
+    public void serialize(Weight value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        int display = WeightFormat.of(provider).toDisplay(value.hundredths());
+        if (display % 100 == 0) {
+            gen.writeNumber(display / 100);
+            return;
+        }
+        char[] buffer = BUFFER.get();
+        int length = write(display, buffer);
+        gen.writeNumber(buffer, 0, length);
+    }
+
+    /**
+     * 0 이상인 1/100 값을 "정수부.소수부" 문자로 씁니다. 소수부는 끝의 0을 뺍니다.
+     */
+    static int write(int hundredths, char[] buffer) {
+        int whole = hundredths / 100;
+        int fraction = hundredths % 100;
+        int digits = whole < 10 ? 1 : whole < 100 ? 2 : whole < 1000 ? 3 : whole < 10000 ? 4 : whole < 100000 ? 5 : 6;
+        for (int i = digits - 1; i >= 0; i--) {
+            buffer[i] = (char) ('0' + whole % 10);
+            whole /= 10;
+        }
+        int length = digits;
+        buffer[length++] = '.';
+        buffer[length++] = (char) ('0' + fraction / 10);
+        if (fraction % 10 != 0) {
+            buffer[length++] = (char) ('0' + fraction % 10);
+        }
+        return length;
+    }
+}
@@ -0,0 +1,24 @@
+package com.fitnote.server.common.weight;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * JPQL 집계로 만든 kg 값(BigDecimal)을 표시 단위로 바꿔 씁니다.
+ * {@link Weight} 범위를 넘을 수 있는 볼륨, e1RM 필드에 {@code @JsonSerialize(using = WeightValueSerializer.class)}로 붙입니다.
+ */
+public class WeightValueSerializer extends StdSerializer<BigDecimal> {
+
+    public WeightValueSerializer() {
+        super(BigDecimal.class);
+    }
+
+    @Override
+    public void serialize(BigDecimal value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeNumber(WeightFormat.of(provider).toDisplayValue(value));
+    }
+}
@@ -6,6 +6,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -14,7 +17,10 @@ import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.fitnote.server.common.dto.ErrorResponse;
+import com.fitnote.server.common.weight.Weight;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
@@ -48,7 +54,38 @@ public class GlobalExceptionHandler {
         logger.warn("ResponseStatusException: {} - {} at {}",
                 ex.getStatusCode(), ex.getReason(), path);
 
-        return new ResponseEntity<>(errorResponse, ex.getStatusCode());
+        return new ResponseEntity<>(errorResponse, ex.getHeaders(), ex.getStatusCode());
+    }
+
+    /**
+     * 로그인 인증 실패 처리
+     * DaoAuthenticationProvider는 사용자 조회 중(타이밍 공격 방지용 해시 포함)의 예외를
+     * InternalAuthenticationServiceException으로 감싸므로, 원인이 ResponseStatusException이면
+     * (예: 해시 풀 포화의 503 + Retry-After) 원인의 상태로 돌려줍니다.
+     */
+    @ExceptionHandler(AuthenticationException.class)
+    public ResponseEntity<ErrorResponse> handleAuthenticationException(
+            AuthenticationException ex,
+            WebRequest request) {
+
+        if (ex instanceof InternalAuthenticationServiceException) {
+            if (ex.getCause() instanceof ResponseStatusException cause) {
+                return handleResponseStatusException(cause, request);
+            }
+            return handleGenericException(ex, request);
+        }
+
+        String path = ((ServletWebRequest) request).getRequest().getRequestURI();
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.UNAUTHORIZED.value(),
+                HttpStatus.UNAUTHORIZED.getReasonPhrase(),
+                "이메일 또는 비밀번호가 올바르지 않습니다.",
+                path);
+
+        logger.warn("Authentication failed at {}: {}", path, ex.getMessage());
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.UNAUTHORIZED);
     }
 
     /**
@@ -113,6 +150,41 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * 읽을 수 없는 요청 본문 처리 (JSON 문법, 타입 불일치, 무게 형식 오류)
+     * 무게 형식 오류만 필드 메시지를 붙이고, 나머지는 내부 타입 이름이 드러나지 않도록 공통 메시지만 돌려줍니다.
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorResponse> handleHttpMessageNotReadableException(
+            HttpMessageNotReadableException ex,
+            WebRequest request) {
+
+        String path = ((ServletWebRequest) request).getRequest().getRequestURI();
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                "요청 본문을 읽을 수 없습니다.",
+                path);
+
+        if (ex.getMostSpecificCause() instanceof MismatchedInputException mismatch
+                && mismatch.getTargetType() == Weight.class) {
+            StringBuilder field = new StringBuilder();
+            for (JsonMappingException.Reference reference : mismatch.getPath()) {
+                if (reference.getFieldName() != null) {
+                    field.append(field.length() > 0 ? "." : "").append(reference.getFieldName());
+                } else {
+                    field.append('[').append(reference.getIndex()).append(']');
+                }
+            }
+            errorResponse.addValidationError(field.toString(), mismatch.getOriginalMessage());
+        }
+
+        logger.warn("Unreadable request body at {}: {}", path, ex.getMostSpecificCause().getMessage());
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
     /**
      * IllegalArgumentException 처리 (잘못된 인자)
      */
@@ -0,0 +1,13 @@
+package com.fitnote.server.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+/**
+ * BaseTimeEntity의 createdAt/updatedAt 채우기 활성화
+ * 종목 사전 ETag(ExerciseCatalogVersion)는 max(updatedAt)으로 수정을 감지하므로 이 설정이 없으면 수정이 ETag에 드러나지 않습니다.
+ */
+@Configuration
+@EnableJpaAuditing
+public class JpaAuditingConfig {
+}
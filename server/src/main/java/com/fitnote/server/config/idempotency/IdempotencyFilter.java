@@ -0,0 +1,299 @@
+package com.fitnote.server.config.idempotency;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fitnote.server.common.dto.ErrorResponse;
+import com.fitnote.server.config.security.user.UserPrincipal;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Idempotency-Key 헤더가 있는 생성 요청을 한 번만 실행하는 필터
+ * 같은 사용자가 같은 키로 다시 보내면 저장된 응답을 그대로 돌려주고, 처리 중이면 스레드를 붙잡지 않고 바로 409를 돌려줍니다.
+ * 키의 주인을 사용자 id로 구분하므로 JwtAuthenticationFilter 뒤에 등록합니다.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    static final String KEY_HEADER = "Idempotency-Key";
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyFilter.class);
+
+    private static final int MAX_KEY_LENGTH = 128;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final boolean enabled;
+    private final List<String> paths;
+    private final long maxBodyBytes;
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+
+    public IdempotencyFilter(IdempotencyProperties properties, IdempotencyStore store, ObjectMapper objectMapper) {
+        this.enabled = properties.isEnabled();
+        this.paths = List.copyOf(properties.getPaths());
+        this.maxBodyBytes = properties.getMaxBodySize().toBytes();
+        this.store = store;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || !"POST".equals(request.getMethod()) || request.getHeader(KEY_HEADER) == null) {
+            return true;
+        }
+        String path = request.getRequestURI();
+        return paths.stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        Long userId = currentUserId();
+        if (userId == null) {
+            // 인증 실패 응답은 뒤의 보안 필터가 만든다.
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String key = request.getHeader(KEY_HEADER);
+        if (!isValidKey(key)) {
+            reject(request, response, HttpStatus.BAD_REQUEST,
+                    "Idempotency-Key는 공백 없는 ASCII 문자 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+            return;
+        }
+
+        byte[] body = readBody(request);
+        if (body == null) {
+            reject(request, response, HttpStatus.CONTENT_TOO_LARGE,
+                    "Idempotency-Key 요청의 본문은 " + maxBodyBytes + "바이트 이하여야 합니다.");
+            return;
+        }
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request, body);
+        String fingerprint = fingerprint(request.getMethod(), request.getRequestURI(), body);
+        while (true) {
+            IdempotencyStore.Claim claim = store.claim(userId, key, fingerprint);
+            if (claim == null) {
+                rejectInProgress(request, response);
+                return;
+            }
+            if (claim.owner()) {
+                execute(cachedRequest, response, filterChain, claim.entry());
+                return;
+            }
+            if (!claim.entry().fingerprint().equals(fingerprint)) {
+                reject(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+                        "같은 Idempotency-Key가 다른 요청에 이미 사용되었습니다.");
+                return;
+            }
+
+            // 기다리면 요청 스레드가 먼저 온 요청의 처리 시간만큼 묶이므로, 클라이언트가 Retry-After 뒤에 다시 보내게 한다.
+            if (claim.entry().pending()) {
+                rejectInProgress(request, response);
+                return;
+            }
+            IdempotencyStore.StoredResponse stored = claim.entry().response();
+            if (stored != null) {
+                replay(response, stored);
+                return;
+            }
+            // 먼저 온 요청이 실패해 선점을 풀었으므로 이 요청이 다시 선점을 시도한다.
+        }
+    }
+
+    /**
+     * 5xx와 429는 다시 시도해야 결과가 달라질 수 있으므로 저장하지 않고 선점을 풉니다.
+     */
+    private void execute(
+            CachedBodyRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain,
+            IdempotencyStore.Entry entry) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, wrapper);
+            int status = wrapper.getStatus();
+            if (status < 500 && status != HttpStatus.TOO_MANY_REQUESTS.value()) {
+                store.complete(entry, new IdempotencyStore.StoredResponse(
+                        status, wrapper.getContentType(), wrapper.getContentAsByteArray()));
+                completed = true;
+            }
+        } finally {
+            if (!completed) {
+                store.release(entry);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void replay(HttpServletResponse response, IdempotencyStore.StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getId();
+        }
+        return null;
+    }
+
+    private void rejectInProgress(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        logger.debug("Idempotent request still in progress at {} {}", request.getMethod(), request.getRequestURI());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        reject(request, response, HttpStatus.CONFLICT, "같은 Idempotency-Key의 요청이 아직 처리 중입니다.");
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, HttpStatus status, String message)
+            throws IOException {
+        ErrorResponse errorResponse = new ErrorResponse(
+                status.value(),
+                status.getReasonPhrase(),
+                message,
+                request.getRequestURI());
+
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    /**
+     * Content-Length로 먼저 거르고, 길이를 모르는 청크 본문은 한도보다 1바이트 더 읽어 넘는지 확인합니다.
+     * 한도를 넘으면 null을 반환합니다.
+     */
+    private byte[] readBody(HttpServletRequest request) throws IOException {
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            return null;
+        }
+        byte[] body = request.getInputStream().readNBytes((int) Math.min(maxBodyBytes + 1, Integer.MAX_VALUE));
+        return body.length > maxBodyBytes ? null : body;
+    }
+
+    private static boolean isValidKey(String key) {
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c < 0x21 || c > 0x7e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 같은 키로 다른 요청을 보낸 실수를 가려내기 위한 메서드/경로/본문의 SHA-256
+     */
+    static String fingerprint(String method, String path, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(method.getBytes(StandardCharsets.US_ASCII));
+            digest.update((byte) ' ');
+            digest.update(path.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            return HexFormat.of().formatHex(digest.digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 지문 계산에 본문을 먼저 읽으므로, 컨트롤러가 같은 본문을 다시 읽을 수 있게 보관해 둡니다.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /**
+                 * 본문은 이미 메모리에 있으므로 바로 읽을 수 있다고 알립니다.
+                 */
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.fitnote.server.config.idempotency;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Idempotency-Key 설정 (idempotency.*)
+ * paths에 일치하는 POST 요청 중 Idempotency-Key 헤더가 있는 요청만 중복을 걸러냅니다.
+ */
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyProperties {
+
+    private boolean enabled = true;
+    private List<String> paths = new ArrayList<>(List.of("/api/history", "/api/routines"));
+    private Duration ttl = Duration.ofHours(24);
+    private int maxEntries = 10000;
+    private DataSize maxBodySize = DataSize.ofKilobytes(256);
+    private Duration claimTimeout = Duration.ofMinutes(1);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    public void setPaths(List<String> paths) {
+        this.paths = paths;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public DataSize getMaxBodySize() {
+        return maxBodySize;
+    }
+
+    public void setMaxBodySize(DataSize maxBodySize) {
+        this.maxBodySize = maxBodySize;
+    }
+
+    public Duration getClaimTimeout() {
+        return claimTimeout;
+    }
+
+    public void setClaimTimeout(Duration claimTimeout) {
+        this.claimTimeout = claimTimeout;
+    }
+}
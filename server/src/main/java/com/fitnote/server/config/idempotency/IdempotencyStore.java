@@ -0,0 +1,217 @@
+package com.fitnote.server.config.idempotency;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fitnote.server.domain.idempotency.IdempotencyRecord;
+import com.fitnote.server.domain.idempotency.repository.IdempotencyRecordRepository;
+
+/**
+ * 사용자별 Idempotency-Key → 응답 저장소
+ *
+ * 메모리에는 최대 max-entries개를 TTL 동안 두며, 같은 키의 동시 요청은 먼저 온 요청의 결과를 기다립니다.
+ * 선점과 응답은 idempotency_records 테이블에도 남겨 재시작 뒤나 다른 인스턴스로 온 재시도도 걸러냅니다.
+ */
+@Component
+public class IdempotencyStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final IdempotencyRecordRepository repository;
+    private final Duration ttl;
+    private final Duration claimTimeout;
+    private final int maxEntries;
+
+    public IdempotencyStore(IdempotencyRecordRepository repository, IdempotencyProperties properties) {
+        this.repository = repository;
+        this.ttl = properties.getTtl();
+        this.claimTimeout = properties.getClaimTimeout();
+        this.maxEntries = properties.getMaxEntries();
+    }
+
+    /**
+     * 키를 처음 선점하면 owner인 Claim을, 이미 처리 중이거나 끝난 키면 기존 항목을 반환합니다.
+     * 다른 인스턴스가 아직 처리 중이면 기다릴 수 없으므로 null을 반환합니다.
+     */
+    Claim claim(Long userId, String key, String fingerprint) {
+        String cacheKey = userId + ":" + key;
+        while (true) {
+            long now = System.currentTimeMillis();
+            Entry existing = entries.get(cacheKey);
+            if (existing != null) {
+                if (!existing.isExpired(now)) {
+                    return new Claim(existing, false);
+                }
+                entries.remove(cacheKey, existing);
+                continue;
+            }
+
+            if (entries.size() >= maxEntries) {
+                evict();
+            }
+            Entry entry = new Entry(cacheKey, fingerprint, now + ttl.toMillis());
+            if (entries.putIfAbsent(cacheKey, entry) != null) {
+                continue;
+            }
+            try {
+                return claimRecord(userId, key, entry);
+            } catch (RuntimeException e) {
+                abandon(entry);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 응답을 기록하고 기다리던 요청을 깨웁니다. 테이블 기록이 실패해도 이 인스턴스에서는 계속 걸러냅니다.
+     */
+    void complete(Entry entry, StoredResponse response) {
+        try {
+            repository.complete(entry.recordId, response.status(), response.contentType(), response.body());
+        } catch (RuntimeException e) {
+            logger.warn("Failed to persist idempotent response for record {}; kept in memory only",
+                    entry.recordId, e);
+        }
+        entry.result.complete(response);
+    }
+
+    /**
+     * 처리하지 못한 요청의 선점을 풀어 같은 키로 다시 시도할 수 있게 합니다.
+     */
+    void release(Entry entry) {
+        try {
+            repository.deleteById(entry.recordId);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to release idempotency record {}; it expires after the claim timeout",
+                    entry.recordId, e);
+        }
+        abandon(entry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${idempotency.purge-interval-ms:60000}",
+            fixedDelayString = "${idempotency.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.result.isDone() && entry.isExpired(now));
+        int deleted = repository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            logger.debug("Deleted {} expired idempotency records", deleted);
+        }
+    }
+
+    private Claim claimRecord(Long userId, String key, Entry entry) {
+        LocalDateTime now = LocalDateTime.now();
+        IdempotencyRecord record = repository.findByUserIdAndIdempotencyKey(userId, key).orElse(null);
+        if (record != null && record.getExpiresAt().isAfter(now)) {
+            if (record.getStatus() != null) {
+                // 재시작 전이나 다른 인스턴스가 남긴 응답
+                entry.fingerprint = record.getFingerprint();
+                entry.expiresAtMillis = System.currentTimeMillis()
+                        + Duration.between(now, record.getExpiresAt()).toMillis();
+                entry.result.complete(new StoredResponse(
+                        record.getStatus(), record.getContentType(), record.getBody()));
+                return new Claim(entry, false);
+            }
+            if (record.getClaimedAt().plus(claimTimeout).isAfter(now)) {
+                abandon(entry);
+                return null;
+            }
+        }
+        if (record != null) {
+            // 만료됐거나, 선점한 인스턴스가 응답을 남기지 못하고 사라진 행
+            repository.deleteById(record.getId());
+        }
+
+        try {
+            entry.recordId = repository.saveAndFlush(IdempotencyRecord.builder()
+                    .userId(userId)
+                    .idempotencyKey(key)
+                    .fingerprint(entry.fingerprint)
+                    .claimedAt(now)
+                    .expiresAt(now.plus(ttl))
+                    .build()).getId();
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 방금 같은 키를 선점했다.
+            abandon(entry);
+            return null;
+        }
+        return new Claim(entry, true);
+    }
+
+    private void abandon(Entry entry) {
+        entries.remove(entry.cacheKey, entry);
+        entry.result.complete(null);
+    }
+
+    /**
+     * 처리 중인 항목은 기다리는 요청이 있을 수 있으므로 끝난 항목만 버립니다. 버린 응답은 테이블에서 다시 읽습니다.
+     */
+    private void evict() {
+        int target = maxEntries - Math.max(1, maxEntries / 10);
+        Iterator<Entry> it = entries.values().iterator();
+        while (entries.size() > target && it.hasNext()) {
+            if (it.next().result.isDone()) {
+                it.remove();
+            }
+        }
+    }
+
+    record Claim(Entry entry, boolean owner) {
+    }
+
+    record StoredResponse(int status, String contentType, byte[] body) {
+
+        StoredResponse {
+            body = body == null ? new byte[0] : body;
+        }
+    }
+
+    static final class Entry {
+
+        private final String cacheKey;
+        private final CompletableFuture<StoredResponse> result = new CompletableFuture<>();
+        private volatile String fingerprint;
+        private volatile long expiresAtMillis;
+        private volatile Long recordId;
+
+        private Entry(String cacheKey, String fingerprint, long expiresAtMillis) {
+            this.cacheKey = cacheKey;
+            this.fingerprint = fingerprint;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        String fingerprint() {
+            return fingerprint;
+        }
+
+        /**
+         * 먼저 온 요청이 아직 응답을 저장하지도, 선점을 풀지도 않았는지
+         */
+        boolean pending() {
+            return !result.isDone();
+        }
+
+        /**
+         * 끝난 요청의 응답을 반환합니다. 아직 처리 중이거나 실패해 선점을 풀었으면 null을 반환합니다.
+         */
+        StoredResponse response() {
+            return result.isCompletedExceptionally() ? null : result.getNow(null);
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAtMillis <= now;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.fitnote.server.config.jackson;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 기본 JSON 변환기를 무게 단위를 아는 변환기로 바꿉니다. (Boot의 기본 변환기는 이 빈이 있으면 만들어지지 않습니다)
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(
+            ObjectMapper objectMapper, WeightFormatResolver weightFormatResolver) {
+        return new WeightFormatMessageConverter(objectMapper, weightFormatResolver);
+    }
+}
@@ -0,0 +1,37 @@
+package com.fitnote.server.config.jackson;
+
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fitnote.server.common.weight.WeightFormat;
+
+/**
+ * HTTP 요청/응답 본문에만 사용자 무게 표시 방식을 Jackson 속성으로 붙입니다.
+ * 같은 ObjectMapper를 쓰는 저널 직렬화에는 속성이 없으므로 항상 kg로 남습니다.
+ */
+public class WeightFormatMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final WeightFormatResolver weightFormatResolver;
+
+    public WeightFormatMessageConverter(ObjectMapper objectMapper, WeightFormatResolver weightFormatResolver) {
+        super(objectMapper);
+        this.weightFormatResolver = weightFormatResolver;
+    }
+
+    @Override
+    protected ObjectWriter customizeWriter(ObjectWriter writer, @Nullable MimeType mimeType, JavaType javaType) {
+        return super.customizeWriter(writer, mimeType, javaType)
+                .withAttribute(WeightFormat.ATTRIBUTE, weightFormatResolver.current());
+    }
+
+    @Override
+    protected ObjectReader customizeReader(ObjectReader reader, JavaType javaType) {
+        return super.customizeReader(reader, javaType)
+                .withAttribute(WeightFormat.ATTRIBUTE, weightFormatResolver.current());
+    }
+}
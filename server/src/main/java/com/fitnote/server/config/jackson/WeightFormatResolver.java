@@ -0,0 +1,37 @@
+package com.fitnote.server.config.jackson;
+
+import java.util.function.Supplier;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import com.fitnote.server.common.weight.WeightFormat;
+import com.fitnote.server.config.security.user.UserPrincipal;
+import com.fitnote.server.domain.settings.service.UserContextService;
+
+/**
+ * 현재 요청 사용자의 무게 표시 방식
+ */
+@Component
+public class WeightFormatResolver {
+
+    private final UserContextService userContextService;
+
+    public WeightFormatResolver(UserContextService userContextService) {
+        this.userContextService = userContextService;
+    }
+
+    /**
+     * 인증된 요청이면 무게를 읽거나 쓸 때 UserContext에서 꺼내는 Supplier를, 아니면 kg 그대로를 돌려줍니다.
+     * 무게가 없는 응답은 UserContext를 적재하지 않습니다.
+     */
+    public Supplier<WeightFormat> current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserPrincipal principal)) {
+            return () -> WeightFormat.KG;
+        }
+        Long userId = principal.getId();
+        return () -> userContextService.get(userId).weightFormat();
+    }
+}
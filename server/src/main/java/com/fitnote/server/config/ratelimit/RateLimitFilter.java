@@ -0,0 +1,145 @@
+package com.fitnote.server.config.ratelimit;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fitnote.server.common.dto.ErrorResponse;
+import com.fitnote.server.config.security.user.UserPrincipal;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 경로 패턴별 토큰 버킷 레이트 리밋 필터
+ * /api/auth/** 는 IP 기준, 그 외에는 인증된 사용자 id 기준으로 제한하므로 JwtAuthenticationFilter 뒤에 등록합니다.
+ *
+ * IP는 request.getRemoteAddr()이므로 리버스 프록시나 로드밸런서 뒤에서는 모든 클라이언트가 프록시 주소 하나의
+ * 버킷을 공유하게 됩니다. 이때는 server.forward-headers-strategy=native(또는 framework)로 신뢰할 수 있는
+ * 프록시의 X-Forwarded-For를 remoteAddr에 반영해야 합니다.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<CompiledRule> rules;
+    private final boolean enabled;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper) {
+        this.enabled = properties.isEnabled();
+        this.objectMapper = objectMapper;
+        this.rules = properties.getRules().stream()
+                .map(rule -> new CompiledRule(
+                        rule.getPattern(),
+                        rule.getMethods().stream()
+                                .map(method -> method.toUpperCase(Locale.ROOT))
+                                .collect(Collectors.toUnmodifiableSet()),
+                        rule.getKey(),
+                        new TokenBucketRateLimiter(
+                                rule.getCapacity(),
+                                rule.getRefillPeriod().toNanos(),
+                                properties.getStripes(),
+                                properties.getMaxKeysPerStripe())))
+                .toList();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        CompiledRule rule = enabled ? findRule(request) : null;
+        if (rule != null) {
+            long waitNanos = rule.limiter().tryAcquire(resolveKey(rule, request));
+            if (waitNanos > 0) {
+                reject(request, response, waitNanos);
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * 다시 요청하지 않는 키의 버킷이 상한에 닿을 때까지 쌓이지 않도록 가득 찬 버킷을 정리합니다.
+     */
+    @Scheduled(
+            initialDelayString = "${rate-limit.evict-interval-ms:60000}",
+            fixedDelayString = "${rate-limit.evict-interval-ms:60000}")
+    public void evictIdle() {
+        for (CompiledRule rule : rules) {
+            rule.limiter().evictIdle();
+        }
+    }
+
+    private CompiledRule findRule(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        String method = request.getMethod();
+        for (CompiledRule rule : rules) {
+            if ((rule.methods().isEmpty() || rule.methods().contains(method))
+                    && pathMatcher.match(rule.pattern(), path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private String resolveKey(CompiledRule rule, HttpServletRequest request) {
+        if (rule.keyType() == RateLimitProperties.KeyType.USER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+                return "u:" + principal.getId();
+            }
+        }
+        // 인증되지 않은 요청은 사용자 기준 규칙이라도 IP로 제한합니다. (프록시 뒤라면 클래스 설명 참고)
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos)
+            throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase(),
+                "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.",
+                request.getRequestURI());
+
+        logger.debug("Rate limit exceeded at {} {} from {}",
+                request.getMethod(), request.getRequestURI(), request.getRemoteAddr());
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    private record CompiledRule(
+            String pattern,
+            Set<String> methods,
+            RateLimitProperties.KeyType keyType,
+            TokenBucketRateLimiter limiter) {
+    }
+}
@@ -0,0 +1,125 @@
+package com.fitnote.server.config.ratelimit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 레이트 리밋 설정 (rate-limit.*)
+ * rules는 선언 순서대로 검사하며 처음 일치한 규칙 하나만 적용합니다.
+ */
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private int stripes = 64;
+    private int maxKeysPerStripe = 16384;
+    private List<Rule> rules = new ArrayList<>(List.of(
+            new Rule("/api/auth/**", List.of(), KeyType.IP, 10, Duration.ofMinutes(1)),
+            new Rule("/api/**", List.of("POST", "PUT", "PATCH", "DELETE"), KeyType.USER, 60, Duration.ofMinutes(1))));
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getStripes() {
+        return stripes;
+    }
+
+    public void setStripes(int stripes) {
+        this.stripes = stripes;
+    }
+
+    public int getMaxKeysPerStripe() {
+        return maxKeysPerStripe;
+    }
+
+    public void setMaxKeysPerStripe(int maxKeysPerStripe) {
+        this.maxKeysPerStripe = maxKeysPerStripe;
+    }
+
+    public List<Rule> getRules() {
+        return rules;
+    }
+
+    public void setRules(List<Rule> rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * 버킷 키 기준: 클라이언트 IP 또는 인증된 사용자 id
+     * IP는 remoteAddr이므로 프록시 뒤에서는 server.forward-headers-strategy를 설정해야 클라이언트별로 나뉩니다.
+     */
+    public enum KeyType {
+        IP, USER
+    }
+
+    /**
+     * 경로 패턴별 제한: refillPeriod 동안 capacity개의 요청을 허용하며, 최대 capacity개까지 몰아서 쓸 수 있습니다.
+     */
+    public static class Rule {
+
+        private String pattern;
+        private List<String> methods = new ArrayList<>();
+        private KeyType key = KeyType.USER;
+        private long capacity;
+        private Duration refillPeriod = Duration.ofMinutes(1);
+
+        public Rule() {
+        }
+
+        public Rule(String pattern, List<String> methods, KeyType key, long capacity, Duration refillPeriod) {
+            this.pattern = pattern;
+            this.methods = new ArrayList<>(methods);
+            this.key = key;
+            this.capacity = capacity;
+            this.refillPeriod = refillPeriod;
+        }
+
+        public String getPattern() {
+            return pattern;
+        }
+
+        public void setPattern(String pattern) {
+            this.pattern = pattern;
+        }
+
+        public List<String> getMethods() {
+            return methods;
+        }
+
+        public void setMethods(List<String> methods) {
+            this.methods = methods;
+        }
+
+        public KeyType getKey() {
+            return key;
+        }
+
+        public void setKey(KeyType key) {
+            this.key = key;
+        }
+
+        public long getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(long capacity) {
+            this.capacity = capacity;
+        }
+
+        public Duration getRefillPeriod() {
+            return refillPeriod;
+        }
+
+        public void setRefillPeriod(Duration refillPeriod) {
+            this.refillPeriod = refillPeriod;
+        }
+    }
+}
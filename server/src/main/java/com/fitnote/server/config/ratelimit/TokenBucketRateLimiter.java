@@ -0,0 +1,131 @@
+package com.fitnote.server.config.ratelimit;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 락 없이 동작하는 토큰 버킷 레이트 리미터
+ *
+ * 버킷 상태는 GCRA(Generic Cell Rate Algorithm) 방식으로 "이론적 도착 시각(TAT)" long 하나로 표현되어
+ * CAS 한 번으로 갱신됩니다. 키는 해시로 나눈 여러 stripe(ConcurrentHashMap)에 분산되며,
+ * TAT가 현재 시각 이전인 버킷은 가득 찬 상태와 동일하므로 동작 변화 없이 제거할 수 있습니다.
+ * 유휴 버킷은 {@link #evictIdle()}를 주기적으로 호출해 정리합니다.
+ */
+public class TokenBucketRateLimiter {
+
+    /** 한 번도 사용하지 않은(가득 찬) 버킷의 TAT */
+    private static final long FULL = Long.MIN_VALUE;
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final ConcurrentHashMap<String, AtomicLong>[] stripes;
+    private final int stripeMask;
+    private final int maxKeysPerStripe;
+    private final LongSupplier nanoClock;
+
+    public TokenBucketRateLimiter(long capacity, long refillPeriodNanos, int stripeCount, int maxKeysPerStripe) {
+        this(capacity, refillPeriodNanos, stripeCount, maxKeysPerStripe, System::nanoTime);
+    }
+
+    @SuppressWarnings("unchecked")
+    TokenBucketRateLimiter(
+            long capacity,
+            long refillPeriodNanos,
+            int stripeCount,
+            int maxKeysPerStripe,
+            LongSupplier nanoClock) {
+        if (capacity <= 0 || refillPeriodNanos <= 0) {
+            throw new IllegalArgumentException("capacity와 refillPeriod는 0보다 커야 합니다.");
+        }
+        int stripesPowerOfTwo = stripeCount <= 1 ? 1 : Integer.highestOneBit((stripeCount - 1) << 1);
+        this.emissionIntervalNanos = Math.max(1, refillPeriodNanos / capacity);
+        this.burstToleranceNanos = emissionIntervalNanos * capacity;
+        this.stripes = new ConcurrentHashMap[stripesPowerOfTwo];
+        for (int i = 0; i < stripesPowerOfTwo; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+        this.stripeMask = stripesPowerOfTwo - 1;
+        this.maxKeysPerStripe = maxKeysPerStripe;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 토큰 하나를 소비합니다.
+     *
+     * @return 허용되면 0, 거절되면 다음 토큰까지 기다려야 하는 나노초
+     */
+    public long tryAcquire(String key) {
+        ConcurrentHashMap<String, AtomicLong> stripe = stripeOf(key);
+        AtomicLong bucket = stripe.get(key);
+        if (bucket == null) {
+            if (stripe.size() >= maxKeysPerStripe) {
+                evict(stripe);
+            }
+            bucket = stripe.computeIfAbsent(key, k -> new AtomicLong(FULL));
+        }
+
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long tat = bucket.get();
+            long newTat = Math.max(tat, now) + emissionIntervalNanos;
+            long excess = newTat - now - burstToleranceNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                return 0L;
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    /**
+     * 모든 stripe에서 가득 찬(유휴) 버킷을 제거합니다.
+     */
+    public void evictIdle() {
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            long now = nanoClock.getAsLong();
+            stripe.values().removeIf(bucket -> bucket.get() <= now);
+        }
+    }
+
+    int stripeCount() {
+        return stripes.length;
+    }
+
+    /**
+     * 유휴 버킷을 먼저 지우고, 그래도 상한을 넘으면 가득 찬 상태에 가장 가까운(TAT가 이른) 버킷부터 버립니다.
+     * 버려진 키는 다음 요청에서 가득 찬 버킷으로 다시 시작하므로 결과는 더 관대해질 뿐이며,
+     * 많이 소진한 키는 남기므로 제한 중인 클라이언트가 풀려나지 않습니다.
+     */
+    private void evict(ConcurrentHashMap<String, AtomicLong> stripe) {
+        long now = nanoClock.getAsLong();
+        stripe.values().removeIf(bucket -> bucket.get() <= now);
+
+        int target = maxKeysPerStripe - Math.max(1, maxKeysPerStripe / 10);
+        if (stripe.size() <= target) {
+            return;
+        }
+        long[] tats = stripe.values().stream().mapToLong(AtomicLong::get).toArray();
+        if (tats.length <= target) {
+            return;
+        }
+        Arrays.sort(tats);
+        long threshold = tats[tats.length - target - 1];
+        stripe.values().removeIf(bucket -> bucket.get() <= threshold);
+    }
+
+    private ConcurrentHashMap<String, AtomicLong> stripeOf(String key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & stripeMask];
+    }
+}
@@ -2,6 +2,7 @@ package com.fitnote.server.config.security;
 
 import java.util.Arrays;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -9,7 +10,6 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -17,8 +17,13 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.fitnote.server.config.idempotency.IdempotencyFilter;
+import com.fitnote.server.config.ratelimit.RateLimitFilter;
 import com.fitnote.server.config.security.jwt.JwtAuthenticationEntryPoint;
 import com.fitnote.server.config.security.jwt.JwtAuthenticationFilter;
+import com.fitnote.server.config.security.password.BoundedPasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  *
@@ -29,12 +34,18 @@ import com.fitnote.server.config.security.jwt.JwtAuthenticationFilter;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final IdempotencyFilter idempotencyFilter;
     private final JwtAuthenticationEntryPoint authenticationEntryPoint;
 
     public SecurityConfig(
             JwtAuthenticationFilter jwtAuthenticationFilter,
+            RateLimitFilter rateLimitFilter,
+            IdempotencyFilter idempotencyFilter,
             JwtAuthenticationEntryPoint authenticationEntryPoint) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.rateLimitFilter = rateLimitFilter;
+        this.idempotencyFilter = idempotencyFilter;
         this.authenticationEntryPoint = authenticationEntryPoint;
     }
 
@@ -55,7 +66,9 @@ public class SecurityConfig {
                         .permitAll()
                         .anyRequest()
                         .authenticated())
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
+                .addFilterAfter(idempotencyFilter, RateLimitFilter.class);
         return http.build();
     }
 
@@ -87,9 +100,29 @@ public class SecurityConfig {
         return source;
     }
 
+    /**
+     * BCrypt는 의도적으로 느리므로 Tomcat 요청 스레드가 아닌 전용 풀에서 실행합니다.
+     * target-hash-ms가 설정되면 기동 시 해당 CPU 시간에 맞춰 work factor를 보정하며,
+     * 기존 사용자의 해시는 다음 로그인 때 새 work factor로 재해시됩니다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password.bcrypt-strength:10}") int strength,
+            @Value("${security.password.target-hash-ms:0}") long targetHashMs,
+            @Value("${security.password.pool-size:0}") int poolSize,
+            @Value("${security.password.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password.queue-timeout-ms:1000}") long queueTimeoutMs,
+            @Value("${security.password.retry-after-seconds:2}") long retryAfterSeconds,
+            MeterRegistry meterRegistry) {
+        int resolvedStrength = targetHashMs > 0 ? BoundedPasswordEncoder.calibrateStrength(targetHashMs) : strength;
+        int resolvedPoolSize = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(
+                resolvedStrength,
+                resolvedPoolSize,
+                queueCapacity,
+                queueTimeoutMs,
+                retryAfterSeconds,
+                meterRegistry);
     }
 
     @Bean
@@ -5,14 +5,16 @@ import java.io.IOException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.fitnote.server.config.security.user.CustomUserDetailsService;
+import com.fitnote.server.config.security.user.UserPrincipal;
+import com.fitnote.server.config.security.user.UserPrincipalCache;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,13 +24,16 @@ import jakarta.servlet.http.HttpServletResponse;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final CustomUserDetailsService userDetailsService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final RevokedTokenRegistry revokedTokenRegistry;
     
     public JwtAuthenticationFilter(
             JwtTokenProvider jwtTokenProvider,
-            CustomUserDetailsService userDetailsService) {
+            UserPrincipalCache userPrincipalCache,
+            RevokedTokenRegistry revokedTokenRegistry) {
         this.jwtTokenProvider = jwtTokenProvider;
-        this.userDetailsService = userDetailsService;
+        this.userPrincipalCache = userPrincipalCache;
+        this.revokedTokenRegistry = revokedTokenRegistry;
     }
     
     @Override
@@ -38,22 +43,50 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             FilterChain filterChain) throws ServletException, IOException {
 
         String jwt = resolveToken(request);
-        if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-            String username = jwtTokenProvider.getUsername(jwt);
+        JwtValidationResult result = jwtTokenProvider.parseAndValidate(jwt);
+        if (result.isValid() && isUsableAccessToken(result.claims())) {
+            String username = result.claims().getSubject();
             if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails, null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                UserPrincipal principal = resolvePrincipal(result.claims(), username);
+                if (principal != null) {
+                    UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(
+                                    principal, null, principal.getAuthorities());
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
             }
         }
 
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 리프레시 토큰으로는 API를 호출할 수 없고, 폐기된 family의 토큰은 만료 전이라도 거절합니다.
+     */
+    private boolean isUsableAccessToken(Claims claims) {
+        if (jwtTokenProvider.getTokenType(claims) != JwtTokenType.ACCESS) {
+            return false;
+        }
+        Long familyId = jwtTokenProvider.getFamilyId(claims);
+        return familyId == null || !revokedTokenRegistry.isRevoked(familyId);
+    }
+
+    /**
+     * uid claim이 있으면 토큰만으로 인증 주체를 만들고, 없는 이전 토큰만 캐시(필요 시 DB)를 거칩니다.
+     */
+    private UserPrincipal resolvePrincipal(Claims claims, String username) {
+        Long userId = jwtTokenProvider.getUserId(claims);
+        if (userId != null) {
+            return UserPrincipal.of(userId, username);
+        }
+        try {
+            return userPrincipalCache.get(username);
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+    }
+
     private String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader(HttpHeaders.AUTHORIZATION);
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -7,29 +7,45 @@ import java.util.Date;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.fitnote.server.config.security.user.UserPrincipal;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
 
 @Component
 public class JwtTokenProvider {
     
     private static final String TOKEN_TYPE_CLAIM = "token_type";
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String FAMILY_ID_CLAIM = "fid";
 
     private final Key signingKey;
+    private final JwtParser jwtParser;
+    private final VerifiedClaimsCache claimsCache;
     private final long accessTokenValidityMs;
     private final long refreshTokenValidityMs;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-validity-ms:3600000}") long accessTokenValidityMs,
-            @Value("${jwt.refresh-token-validity-ms:604800000}") long refreshTokenValidityMs) {
+            @Value("${jwt.refresh-token-validity-ms:604800000}") long refreshTokenValidityMs,
+            @Value("${jwt.claims-cache.max-entries:10000}") int claimsCacheMaxEntries) {
         this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        // 빌드된 JwtParser는 불변이므로 모든 요청 스레드가 공유합니다.
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        this.claimsCache = new VerifiedClaimsCache(claimsCacheMaxEntries);
         this.accessTokenValidityMs = accessTokenValidityMs;
         this.refreshTokenValidityMs = refreshTokenValidityMs;
     }
@@ -38,27 +54,68 @@ public class JwtTokenProvider {
         return generateToken(userDetails, accessTokenValidityMs, JwtTokenType.ACCESS);
     }
 
+    public String generateAccessToken(UserDetails userDetails, long familyId) {
+        return generateToken(userDetails, accessTokenValidityMs, JwtTokenType.ACCESS, familyId, null);
+    }
+
     public String generateRefreshToken(UserDetails userDetails) {
         return generateToken(userDetails, refreshTokenValidityMs, JwtTokenType.REFRESH);
     }
 
+    public String generateRefreshToken(UserDetails userDetails, long familyId, String jti) {
+        return generateToken(userDetails, refreshTokenValidityMs, JwtTokenType.REFRESH, familyId, jti);
+    }
 
-    
-    public boolean validateToken(String token) {
+    /**
+     * 토큰을 한 번만 파싱/서명 검증하고 claims 또는 실패 사유를 반환합니다.
+     * 검증된 claims는 토큰 만료 시각까지 캐시되어 같은 토큰의 반복 요청은 HMAC 계산을 건너뜁니다.
+     */
+    public JwtValidationResult parseAndValidate(String token) {
+        if (!StringUtils.hasText(token)) {
+            return JwtValidationResult.invalid(JwtValidationFailure.EMPTY);
+        }
         try {
-            getClaims(token);
-            return true;
+            return JwtValidationResult.valid(getClaims(token));
         } catch (ExpiredJwtException e) {
-            return false;
-        } catch (UnsupportedJwtException | MalformedJwtException | IllegalArgumentException | SecurityException ex) {
-            return false;
+            return JwtValidationResult.invalid(JwtValidationFailure.EXPIRED);
+        } catch (UnsupportedJwtException e) {
+            return JwtValidationResult.invalid(JwtValidationFailure.UNSUPPORTED);
+        } catch (SecurityException e) {
+            return JwtValidationResult.invalid(JwtValidationFailure.INVALID_SIGNATURE);
+        } catch (JwtException | IllegalArgumentException e) {
+            return JwtValidationResult.invalid(JwtValidationFailure.MALFORMED);
         }
     }
+    
+    public boolean validateToken(String token) {
+        return parseAndValidate(token).isValid();
+    }
 
     public String getUsername(String token) {
         return getClaims(token).getSubject();
     }
 
+    /**
+     * generateToken이 넣어둔 사용자 id claim을 읽습니다. 이전 버전에서 발급된 토큰이면 null입니다.
+     */
+    public Long getUserId(Claims claims) {
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        return userId != null ? userId.longValue() : null;
+    }
+
+    public JwtTokenType getTokenType(Claims claims) {
+        String tokenType = claims.get(TOKEN_TYPE_CLAIM, String.class);
+        return tokenType != null ? JwtTokenType.valueOf(tokenType) : null;
+    }
+
+    /**
+     * 로그인 단위 토큰 family id. family가 폐기되면 그 family의 액세스/리프레시 토큰이 모두 거절됩니다.
+     */
+    public Long getFamilyId(Claims claims) {
+        Number familyId = claims.get(FAMILY_ID_CLAIM, Number.class);
+        return familyId != null ? familyId.longValue() : null;
+    }
+
     public Long getAccessTokenValidityMs() {
         return accessTokenValidityMs;
     }
@@ -68,22 +125,47 @@ public class JwtTokenProvider {
     }
 
     public Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(signingKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        long now = System.currentTimeMillis();
+        String cacheKey = claimsCache.keyOf(token);
+        Claims cached = claimsCache.get(cacheKey, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        claimsCache.put(cacheKey, claims, now);
+        return claims;
     }
 
     public String generateToken(UserDetails userDetails, long validityMs, JwtTokenType tokenType) {
+        return generateToken(userDetails, validityMs, tokenType, null, null);
+    }
+
+    public String generateToken(
+            UserDetails userDetails,
+            long validityMs,
+            JwtTokenType tokenType,
+            Long familyId,
+            String jti) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + validityMs);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(now)
                 .setExpiration(expiry)
-                .claim(TOKEN_TYPE_CLAIM, tokenType.name())
+                .claim(TOKEN_TYPE_CLAIM, tokenType.name());
+        // 필터가 DB 조회 없이 UserPrincipal을 만들 수 있도록 사용자 id를 함께 담습니다.
+        if (userDetails instanceof UserPrincipal principal && principal.getId() != null) {
+            builder.claim(USER_ID_CLAIM, principal.getId());
+        }
+        if (familyId != null) {
+            builder.claim(FAMILY_ID_CLAIM, familyId);
+        }
+        if (jti != null) {
+            builder.setId(jti);
+        }
+        return builder
                 .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
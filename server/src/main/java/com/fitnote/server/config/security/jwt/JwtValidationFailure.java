@@ -0,0 +1,12 @@
+package com.fitnote.server.config.security.jwt;
+
+/**
+ * 토큰 검증 실패 사유
+ */
+public enum JwtValidationFailure {
+    EMPTY,
+    EXPIRED,
+    MALFORMED,
+    UNSUPPORTED,
+    INVALID_SIGNATURE
+}
@@ -0,0 +1,22 @@
+package com.fitnote.server.config.security.jwt;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * 토큰 파싱/검증 결과
+ * 성공 시 claims, 실패 시 failure 중 하나만 채워집니다.
+ */
+public record JwtValidationResult(Claims claims, JwtValidationFailure failure) {
+
+    public static JwtValidationResult valid(Claims claims) {
+        return new JwtValidationResult(claims, null);
+    }
+
+    public static JwtValidationResult invalid(JwtValidationFailure failure) {
+        return new JwtValidationResult(null, failure);
+    }
+
+    public boolean isValid() {
+        return failure == null;
+    }
+}
@@ -0,0 +1,88 @@
+package com.fitnote.server.config.security.jwt;
+
+import java.util.Arrays;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 폐기된 토큰 family id 집합
+ *
+ * 정렬된 long 배열과 family별 만료 시각 배열을 불변 스냅샷으로 들고 있어
+ * JwtAuthenticationFilter는 락이나 DB 조회 없이 이진 탐색만으로 폐기 여부를 확인합니다.
+ * 폐기는 드물게 일어나므로 변경 시 배열을 복사해 새 스냅샷으로 교체하며,
+ * 만료 시각이 지난 family는 더 이상 유효한 토큰이 없으므로 변경/prune 때 함께 제거됩니다.
+ */
+@Component
+public class RevokedTokenRegistry {
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public boolean isRevoked(long familyId) {
+        Snapshot current = snapshot;
+        int index = Arrays.binarySearch(current.familyIds, familyId);
+        return index >= 0 && current.expiresAtMillis[index] > System.currentTimeMillis();
+    }
+
+    public synchronized void revoke(long familyId, long expiresAtMillis) {
+        merge(new long[] {familyId}, new long[] {expiresAtMillis}, System.currentTimeMillis());
+    }
+
+    /**
+     * DB에서 읽은 폐기 목록을 합칩니다. 폐기는 되돌릴 수 없으므로 기존 항목을 지우지 않고 합집합을 만듭니다.
+     */
+    public synchronized void revokeAll(long[] familyIds, long[] expiresAtMillis) {
+        merge(familyIds, expiresAtMillis, System.currentTimeMillis());
+    }
+
+    public synchronized void prune(long nowMillis) {
+        merge(new long[0], new long[0], nowMillis);
+    }
+
+    public int size() {
+        return snapshot.familyIds.length;
+    }
+
+    private void merge(long[] addedIds, long[] addedExpiries, long nowMillis) {
+        Snapshot current = snapshot;
+
+        long[][] added = new long[addedIds.length][];
+        for (int i = 0; i < addedIds.length; i++) {
+            added[i] = new long[] {addedIds[i], addedExpiries[i]};
+        }
+        Arrays.sort(added, (a, b) -> Long.compare(a[0], b[0]));
+
+        int capacity = current.familyIds.length + added.length;
+        long[] ids = new long[capacity];
+        long[] expiries = new long[capacity];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < current.familyIds.length || j < added.length) {
+            long id;
+            long expiresAt;
+            if (j >= added.length || (i < current.familyIds.length && current.familyIds[i] < added[j][0])) {
+                id = current.familyIds[i];
+                expiresAt = current.expiresAtMillis[i++];
+            } else {
+                id = added[j][0];
+                expiresAt = added[j++][1];
+            }
+            if (expiresAt <= nowMillis) {
+                continue;
+            }
+            if (size > 0 && ids[size - 1] == id) {
+                expiries[size - 1] = Math.max(expiries[size - 1], expiresAt);
+            } else {
+                ids[size] = id;
+                expiries[size] = expiresAt;
+                size++;
+            }
+        }
+
+        snapshot = new Snapshot(Arrays.copyOf(ids, size), Arrays.copyOf(expiries, size));
+    }
+
+    private record Snapshot(long[] familyIds, long[] expiresAtMillis) {
+        static final Snapshot EMPTY = new Snapshot(new long[0], new long[0]);
+    }
+}
@@ -0,0 +1,94 @@
+package com.fitnote.server.config.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+/**
+ * 서명 검증이 끝난 토큰의 claims 캐시
+ * 원본 토큰 대신 SHA-256 다이제스트를 키로 사용하며, 엔트리는 토큰의 exp 이후에는 절대 반환되지 않습니다.
+ * jjwt의 Claims는 변경 가능한 Map이므로 수정할 수 없는 사본을 저장하고, 조회할 때마다 새 Claims로 복사해 돌려줍니다.
+ * 호출한 쪽이 받은 Claims를 바꿔도 다른 요청이 보는 값은 바뀌지 않습니다.
+ */
+class VerifiedClaimsCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    VerifiedClaimsCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    String keyOf(String token) {
+        MessageDigest digest = SHA_256.get();
+        byte[] hash = digest.digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getEncoder().encodeToString(hash);
+    }
+
+    Claims get(String key, long nowMillis) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMillis() <= nowMillis) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return Jwts.claims(entry.claims());
+    }
+
+    void put(String key, Claims claims, long nowMillis) {
+        if (maxEntries <= 0 || claims.getExpiration() == null) {
+            return;
+        }
+        long expiresAtMillis = claims.getExpiration().getTime();
+        if (expiresAtMillis <= nowMillis) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            evict(nowMillis);
+        }
+        entries.put(key, new Entry(Collections.unmodifiableMap(new LinkedHashMap<>(claims)), expiresAtMillis));
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * 만료된 엔트리를 먼저 정리하고, 그래도 가득 차 있으면 해시 순서대로 10%를 비웁니다.
+     */
+    private void evict(long nowMillis) {
+        entries.values().removeIf(entry -> entry.expiresAtMillis() <= nowMillis);
+        int target = maxEntries - Math.max(1, maxEntries / 10);
+        Iterator<String> it = entries.keySet().iterator();
+        while (entries.size() > target && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private record Entry(Map<String, Object> claims, long expiresAtMillis) {
+    }
+}
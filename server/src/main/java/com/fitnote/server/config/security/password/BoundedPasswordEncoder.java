@@ -0,0 +1,197 @@
+package com.fitnote.server.config.security.password;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * BCrypt 해시/검증을 전용 고정 크기 풀에서 실행하는 PasswordEncoder
+ * 요청 스레드는 결과를 기다리기만 하며, 큐가 가득 차거나 대기 시간이 초과되면 503으로 실패합니다.
+ *
+ * PasswordEncoder는 동기 API이므로 요청 스레드가 해시를 기다리는 것 자체는 피할 수 없습니다.
+ * 대신 앞선 작업 수와 최근 해시 시간으로 예상 대기가 queueTimeoutMs를 넘으면 큐에 넣지 않고 바로 거절해,
+ * 어차피 시간 초과로 끝날 요청이 요청 스레드를 붙잡고 있지 않게 합니다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(BoundedPasswordEncoder.class);
+
+    private static final int MIN_STRENGTH = 10;
+    private static final int MAX_STRENGTH = 16;
+
+    private final BCryptPasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final int poolSize;
+    private final long queueTimeoutMs;
+    private final long retryAfterSeconds;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    /** 최근 해시 1회 시간의 지수 이동 평균 (기동 직후에는 0이므로 큐가 찰 때까지 받아들입니다) */
+    private volatile long averageHashNanos;
+
+    public BoundedPasswordEncoder(
+            int strength,
+            int poolSize,
+            int queueCapacity,
+            long queueTimeoutMs,
+            long retryAfterSeconds,
+            MeterRegistry meterRegistry) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.poolSize = poolSize;
+        this.queueTimeoutMs = queueTimeoutMs;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("auth.password.hash.queue", executor, e -> e.getQueue().size())
+                .description("비밀번호 해시 대기 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 비밀번호 해시 작업 수")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("auth.password.hash")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.hash")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.hash.rejected")
+                .description("풀 포화로 거절된 비밀번호 해시 요청 수")
+                .register(meterRegistry);
+
+        logger.info("Password hashing pool started: strength={}, poolSize={}, queueCapacity={}",
+                strength, poolSize, queueCapacity);
+    }
+
+    /**
+     * 현재 장비에서 해시 1회가 targetMillis에 가장 가깝도록 BCrypt work factor를 고릅니다.
+     * 비용은 strength가 1 오를 때마다 두 배가 되므로 기준 strength 한 번만 측정합니다.
+     */
+    public static int calibrateStrength(long targetMillis) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(MIN_STRENGTH);
+        probe.encode("calibration-warmup");
+        long started = System.nanoTime();
+        probe.encode("calibration-probe");
+        double baseMillis = Math.max(1.0, (System.nanoTime() - started) / 1_000_000.0);
+
+        int extra = (int) Math.floor(Math.log(targetMillis / baseMillis) / Math.log(2));
+        int strength = Math.max(MIN_STRENGTH, Math.min(MAX_STRENGTH, MIN_STRENGTH + extra));
+        logger.info("BCrypt strength calibrated: target={}ms, base({})={}ms -> strength={}",
+                targetMillis, MIN_STRENGTH, Math.round(baseMillis), strength);
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * 저장된 해시의 work factor가 현재 설정보다 낮으면 true를 반환합니다.
+     * DaoAuthenticationProvider가 로그인 성공 시 이를 보고 UserDetailsPasswordService로 재해시합니다.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        if (expectedWaitMillis() > queueTimeoutMs) {
+            rejectedCounter.increment();
+            throw new PasswordHashingBusyException(retryAfterSeconds);
+        }
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long started = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    recordHashTime(System.nanoTime() - started);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new PasswordHashingBusyException(retryAfterSeconds);
+        }
+
+        try {
+            return future.get(queueTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new PasswordHashingBusyException(retryAfterSeconds);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException(retryAfterSeconds);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해시 작업이 실패했습니다.", cause);
+        }
+    }
+
+    /**
+     * 앞에 쌓인 작업이 poolSize개씩 끝나기를 기다린 뒤 자기 해시까지 마치는 데 걸릴 예상 시간
+     * 큐가 비어 있으면 0을 반환해, 평균이 한때 튀었더라도 한가한 풀은 항상 받아들이고 평균을 다시 잽니다.
+     */
+    private long expectedWaitMillis() {
+        int queued = executor.getQueue().size();
+        if (queued == 0) {
+            return 0L;
+        }
+        long rounds = queued / poolSize + 1L;
+        return TimeUnit.NANOSECONDS.toMillis(averageHashNanos * rounds);
+    }
+
+    /**
+     * 동시에 갱신되면 한쪽 값이 빠질 수 있지만 추정치이므로 락을 두지 않습니다.
+     */
+    private void recordHashTime(long nanos) {
+        long average = averageHashNanos;
+        averageHashNanos = average == 0 ? nanos : average + (nanos - average) / 8;
+    }
+}
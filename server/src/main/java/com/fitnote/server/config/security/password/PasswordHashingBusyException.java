@@ -0,0 +1,25 @@
+package com.fitnote.server.config.security.password;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 비밀번호 해시 작업 풀이 포화 상태일 때 던지는 예외 (503 + Retry-After)
+ */
+public class PasswordHashingBusyException extends ResponseStatusException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordHashingBusyException(long retryAfterSeconds) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 잠시 후 다시 시도해 주세요.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        return headers;
+    }
+}
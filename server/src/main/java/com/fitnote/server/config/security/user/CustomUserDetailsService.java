@@ -1,16 +1,18 @@
 package com.fitnote.server.config.security.user;
 
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fitnote.server.domain.auth.User;
 import com.fitnote.server.domain.auth.repository.UserRepository;
 
 @Component
 @Transactional(readOnly = true)
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
     
@@ -25,4 +27,18 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .map(UserPrincipal::from)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
     }
+
+    /**
+     * 로그인 성공 시 저장된 해시의 work factor가 낮으면 DaoAuthenticationProvider가 호출합니다.
+     * 사용자는 아무것도 하지 않아도 다음 로그인부터 새 work factor로 검증됩니다.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository
+                .findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + userDetails.getUsername()));
+        user.setPasswordHash(newPassword);
+        return UserPrincipal.from(user);
+    }
 }
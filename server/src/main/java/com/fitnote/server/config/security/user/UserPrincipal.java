@@ -25,6 +25,13 @@ public class UserPrincipal implements UserDetails {
         return new UserPrincipal(user.getId(), user.getEmail(), user.getPasswordHash());
     }
 
+    /**
+     * 토큰 claims 등 비밀번호가 필요 없는 경로에서 사용하는 인증 주체를 만듭니다.
+     */
+    public static UserPrincipal of(Long id, String email) {
+        return new UserPrincipal(id, email, null);
+    }
+
     public Long getId() {
         return id;
     }
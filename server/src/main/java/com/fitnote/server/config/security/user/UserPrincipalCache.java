@@ -0,0 +1,59 @@
+package com.fitnote.server.config.security.user;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import com.fitnote.server.domain.auth.repository.UserRepository;
+
+/**
+ * 이메일 → 인증 주체 캐시
+ * uid claim이 없는 이전 토큰처럼 DB 조회가 필요한 경우에만 사용합니다.
+ * 주체는 id와 이메일만 담으므로 비밀번호나 설정 변경과는 무관하고, 지금은 둘을 바꾸는 경로가 없어 무효화하지 않습니다.
+ * 이메일 변경이나 탈퇴를 추가할 때 그 경로에서 해당 이메일을 지우는 메서드를 함께 추가해야 합니다.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final Map<String, UserPrincipal> principals = new ConcurrentHashMap<>();
+    private final UserRepository userRepository;
+    private final int maxEntries;
+
+    public UserPrincipalCache(
+            UserRepository userRepository,
+            @Value("${security.principal-cache.max-entries:10000}") int maxEntries) {
+        this.userRepository = userRepository;
+        this.maxEntries = maxEntries;
+    }
+
+    public UserPrincipal get(String email) {
+        UserPrincipal cached = principals.get(email);
+        if (cached != null) {
+            return cached;
+        }
+
+        UserPrincipal principal = userRepository
+                .findByEmail(email)
+                .map(user -> UserPrincipal.of(user.getId(), user.getEmail()))
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+
+        if (principals.size() >= maxEntries) {
+            evict();
+        }
+        principals.put(email, principal);
+        return principal;
+    }
+
+    private void evict() {
+        int target = maxEntries - Math.max(1, maxEntries / 10);
+        Iterator<String> it = principals.keySet().iterator();
+        while (principals.size() > target && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+}
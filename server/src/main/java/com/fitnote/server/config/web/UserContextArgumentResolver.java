@@ -0,0 +1,47 @@
+package com.fitnote.server.config.web;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fitnote.server.config.security.user.UserPrincipal;
+import com.fitnote.server.domain.settings.UserContext;
+import com.fitnote.server.domain.settings.service.UserContextService;
+
+/**
+ * 컨트롤러 파라미터의 UserContext를 인증된 사용자의 캐시된 스냅샷으로 채웁니다.
+ */
+@Component
+public class UserContextArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final UserContextService userContextService;
+
+    public UserContextArgumentResolver(UserContextService userContextService) {
+        this.userContextService = userContextService;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return UserContext.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public UserContext resolveArgument(
+            MethodParameter parameter,
+            ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest,
+            WebDataBinderFactory binderFactory) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserPrincipal principal)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "인증이 필요합니다.");
+        }
+        return userContextService.get(principal.getId());
+    }
+}
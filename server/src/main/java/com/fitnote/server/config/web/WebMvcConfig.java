@@ -0,0 +1,22 @@
+package com.fitnote.server.config.web;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final UserContextArgumentResolver userContextArgumentResolver;
+
+    public WebMvcConfig(UserContextArgumentResolver userContextArgumentResolver) {
+        this.userContextArgumentResolver = userContextArgumentResolver;
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(userContextArgumentResolver);
+    }
+}
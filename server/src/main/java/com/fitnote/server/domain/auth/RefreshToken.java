@@ -0,0 +1,55 @@
+package com.fitnote.server.domain.auth;
+
+import java.time.LocalDateTime;
+
+import com.fitnote.server.domain.common.BaseTimeEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 발급된 리프레시 토큰
+ * 같은 로그인에서 회전(rotation)된 토큰들은 familyId를 공유하며, 한 번 사용된 토큰이 다시 오면 family 전체를 폐기합니다.
+ */
+@Entity
+@Table(name = "refresh_tokens",
+        indexes = {
+            @Index(name = "idx_rt_jti", columnList = "jti", unique = true),
+            @Index(name = "idx_rt_family", columnList = "familyId"),
+            @Index(name = "idx_rt_expires", columnList = "expiresAt")
+        })
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class RefreshToken extends BaseTimeEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 36)
+    private String jti;
+
+    @Column(nullable = false)
+    private Long familyId;
+
+    @ManyToOne(fetch = FetchType.LAZY) @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    private LocalDateTime usedAt;       // 회전되어 새 토큰으로 교체된 시각
+
+    private LocalDateTime revokedAt;    // 로그아웃/재사용 탐지로 폐기된 시각
+}
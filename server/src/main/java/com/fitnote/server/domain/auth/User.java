@@ -5,6 +5,8 @@
 
 package com.fitnote.server.domain.auth;
 
+import java.time.LocalDateTime;
+
 import com.fitnote.server.domain.common.BaseTimeEntity;
 
 import jakarta.persistence.*;
@@ -12,7 +14,8 @@ import lombok.*;
 
 @Entity
 @Table(name = "users", indexes = {
-        @Index(name = "idx_users_email", columnList = "email", unique = true)
+        @Index(name = "idx_users_email", columnList = "email", unique = true),
+        @Index(name = "idx_users_settings_updated_at", columnList = "settingsUpdatedAt")
 })
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class User extends BaseTimeEntity {
@@ -35,4 +38,7 @@ public class User extends BaseTimeEntity {
 
     @Column(length = 64)
     private String timezone = "Asia/Seoul";
+
+    private Long settingsVersion;              // 단위/시간대/설정 변경마다 1 증가 (UserContext 캐시 무효화)
+    private LocalDateTime settingsUpdatedAt;   // 다른 인스턴스가 바뀐 사용자만 찾도록 함께 기록
 }
@@ -38,6 +38,6 @@ public class UserSettings extends BaseTimeEntity {
     private User user;
 
     private Integer defaultRestSec;      // 기본 휴식(초)
-    private Integer roundingStep;        // 예: 2.5 kg
+    private Integer roundingStep;        // 표시 단위의 1/100 (250 = 2.5 kg/lb)
     private Boolean showWarmup;          // 워밍업 세트 표시 여부
 }
\ No newline at end of file
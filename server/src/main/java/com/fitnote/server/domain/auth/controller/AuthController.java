@@ -42,5 +42,11 @@ public class AuthController {
         JwtResponse response = authService.refreshAccessToken(request.refreshToken());
         return ResponseEntity.ok(response);
     }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequest request) {
+        authService.logout(request.refreshToken());
+        return ResponseEntity.noContent().build();
+    }
     
 }
@@ -0,0 +1,9 @@
+package com.fitnote.server.domain.auth.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 폐기된 토큰 family와 그 family에서 마지막으로 발급된 토큰의 만료 시각
+ */
+public record RevokedFamily(Long familyId, LocalDateTime expiresAt) {
+}
@@ -0,0 +1,11 @@
+package com.fitnote.server.domain.auth.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰 family가 폐기되었음을 알립니다. 쓰기 트랜잭션 안에서 발행됩니다.
+ *
+ * @param expiresAt family에서 가장 늦게 만료되는 토큰의 만료 시각
+ */
+public record RefreshFamilyRevokedEvent(long familyId, LocalDateTime expiresAt) {
+}
@@ -0,0 +1,41 @@
+package com.fitnote.server.domain.auth.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.fitnote.server.domain.auth.RefreshToken;
+import com.fitnote.server.domain.auth.dto.RevokedFamily;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    Optional<RefreshToken> findByJti(String jti);
+
+    /**
+     * 아직 사용/폐기되지 않은 토큰만 사용 처리합니다. 동시에 같은 토큰으로 갱신하면 한 요청만 1을 받습니다.
+     */
+    @Modifying
+    @Query("update RefreshToken t set t.usedAt = :now "
+            + "where t.jti = :jti and t.usedAt is null and t.revokedAt is null and t.expiresAt > :now")
+    int markUsed(@Param("jti") String jti, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update RefreshToken t set t.revokedAt = :now where t.familyId = :familyId and t.revokedAt is null")
+    int revokeFamily(@Param("familyId") Long familyId, @Param("now") LocalDateTime now);
+
+    @Query("select max(t.expiresAt) from RefreshToken t where t.familyId = :familyId")
+    LocalDateTime findFamilyExpiresAt(@Param("familyId") Long familyId);
+
+    @Query("select new com.fitnote.server.domain.auth.dto.RevokedFamily(t.familyId, max(t.expiresAt)) "
+            + "from RefreshToken t where t.revokedAt is not null and t.expiresAt > :now group by t.familyId")
+    List<RevokedFamily> findRevokedFamilies(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,12 +1,41 @@
 package com.fitnote.server.domain.auth.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.fitnote.server.domain.auth.User;
+import com.fitnote.server.domain.settings.dto.SettingsVersionRow;
+import com.fitnote.server.domain.settings.dto.UserContextRow;
+
+import jakarta.persistence.LockModeType;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    /**
+     * 사용자 단위 집계를 갱신할 때 같은 사용자의 동시 쓰기를 직렬화하기 위한 행 잠금
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u from User u where u.id = :id")
+    Optional<User> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("select new com.fitnote.server.domain.settings.dto.UserContextRow("
+            + "u.id, u.unitSystem, u.timezone, u.settingsVersion, s.defaultRestSec, s.roundingStep, s.showWarmup) "
+            + "from User u left join UserSettings s on s.user = u where u.id = :id")
+    Optional<UserContextRow> findContextRow(@Param("id") Long id);
+
+    @Query("select new com.fitnote.server.domain.settings.dto.SettingsVersionRow(u.id, u.settingsVersion) "
+            + "from User u where u.settingsUpdatedAt >= :since")
+    List<SettingsVersionRow> findSettingsChangedSince(@Param("since") LocalDateTime since);
+
+    @Query("select u.id from User u where u.id > :afterId order by u.id asc")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+}
@@ -0,0 +1,8 @@
+package com.fitnote.server.domain.auth.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.fitnote.server.domain.auth.UserSettings;
+
+public interface UserSettingsRepository extends JpaRepository<UserSettings, Long> {
+}
@@ -5,8 +5,13 @@
 
 package com.fitnote.server.domain.auth.service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -14,10 +19,11 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.fitnote.server.config.security.jwt.JwtTokenProvider;
+import com.fitnote.server.config.security.jwt.JwtTokenType;
+import com.fitnote.server.config.security.jwt.JwtValidationResult;
 import com.fitnote.server.config.security.user.UserPrincipal;
 import com.fitnote.server.domain.auth.UnitSystem;
 import com.fitnote.server.domain.auth.User;
@@ -25,6 +31,9 @@ import com.fitnote.server.domain.auth.dto.JwtResponse;
 import com.fitnote.server.domain.auth.dto.LoginRequest;
 import com.fitnote.server.domain.auth.dto.RegisterRequest;
 import com.fitnote.server.domain.auth.repository.UserRepository;
+import com.fitnote.server.domain.auth.service.RefreshTokenService.RotationResult;
+
+import io.jsonwebtoken.Claims;
 
 /**
  *
@@ -36,19 +45,25 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
 
     public AuthService(
             AuthenticationManager authenticationManager,
             UserRepository userRepository,
             PasswordEncoder passwordEncoder,
-            JwtTokenProvider jwtTokenProvider) {
+            JwtTokenProvider jwtTokenProvider,
+            RefreshTokenService refreshTokenService) {
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.refreshTokenService = refreshTokenService;
     }
 
-    @Transactional
+    /**
+     * 비밀번호 해시는 해시 전용 풀에서 수 십 ms가 걸리므로 트랜잭션(커넥션)을 잡지 않은 상태에서 계산합니다.
+     * 중복 이메일 경쟁은 users.email 유니크 제약으로 최종 판정합니다.
+     */
     public void register(RegisterRequest request) {
         if (userRepository.existsByEmail(request.email())) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 사용 중인 이메일입니다.");
@@ -62,51 +77,95 @@ public class AuthService {
                 .timezone(request.timezone() != null ? request.timezone() : "Asia/Seoul")
                 .build();
 
-        userRepository.save(user);
+        try {
+            userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 사용 중인 이메일입니다.");
+        }
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 사용자 조회와 재해시는 각각 CustomUserDetailsService의 트랜잭션에서 처리되므로
+     * 비밀번호 검증을 기다리는 동안 커넥션을 점유하지 않도록 여기서는 트랜잭션을 열지 않습니다.
+     */
     public JwtResponse login(LoginRequest request) {
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(request.email(), request.password()));
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
         UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
-        String accessToken = jwtTokenProvider.generateAccessToken(principal);
-        String refreshToken = jwtTokenProvider.generateRefreshToken(principal);
-
-        long accessExpiresInSeconds = 
-                Duration.ofMillis(jwtTokenProvider.getAccessTokenValidityMs()).toSeconds();
-        long refreshExpiresInSeconds = 
-                Duration.ofMillis(jwtTokenProvider.getRefreshTokenValidityMs()).toSeconds();
-
-        return new JwtResponse(accessToken, accessExpiresInSeconds, refreshToken, refreshExpiresInSeconds);
+        return issueTokens(principal, refreshTokenService.newFamilyId());
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 리프레시 토큰은 한 번만 사용할 수 있으며, 사용할 때마다 같은 family의 새 토큰으로 교체됩니다.
+     * 회전 도입 전에 발급된(jti/fid 없는) 토큰은 한 번만 받아 새 family의 토큰으로 바꿔 줍니다.
+     */
     public JwtResponse refreshAccessToken(String refreshToken) {
-        boolean isValid = jwtTokenProvider.validateToken(refreshToken);
-        if (!isValid) {
+        JwtValidationResult result = jwtTokenProvider.parseAndValidate(refreshToken);
+        if (!result.isValid() || jwtTokenProvider.getTokenType(result.claims()) != JwtTokenType.REFRESH) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 리프레시 토큰입니다.");
         }
-        String email = jwtTokenProvider.getUsername(refreshToken);
-        User user = userRepository.findByEmail(email)
+
+        Claims claims = result.claims();
+        User user = userRepository.findByEmail(claims.getSubject())
             .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "사용자를 찾을 수 없습니다."));
-        
-        UserPrincipal principal = UserPrincipal.from(user);
-        String newAccessToken = jwtTokenProvider.generateAccessToken(principal);
-        String newRefreshToken = jwtTokenProvider.generateRefreshToken(principal);
+
+        Long familyId = jwtTokenProvider.getFamilyId(claims);
+        RotationResult rotation;
+        if (claims.getId() != null && familyId != null) {
+            rotation = refreshTokenService.consume(claims.getId());
+        } else {
+            familyId = refreshTokenService.newFamilyId();
+            rotation = consumeLegacy(refreshToken, familyId, user.getId(), claims);
+        }
+        if (rotation != RotationResult.ROTATED) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 리프레시 토큰입니다.");
+        }
+
+        return issueTokens(UserPrincipal.from(user), familyId);
+    }
+
+    /**
+     * 리프레시 토큰의 family를 폐기합니다. 이미 만료되었거나 잘못된 토큰이면 폐기할 것이 없으므로 무시합니다.
+     */
+    public void logout(String refreshToken) {
+        JwtValidationResult result = jwtTokenProvider.parseAndValidate(refreshToken);
+        if (!result.isValid() || jwtTokenProvider.getTokenType(result.claims()) != JwtTokenType.REFRESH) {
+            return;
+        }
+        Long familyId = jwtTokenProvider.getFamilyId(result.claims());
+        if (familyId != null) {
+            refreshTokenService.revokeFamily(familyId);
+        }
+    }
+
+    private RotationResult consumeLegacy(String refreshToken, long familyId, Long userId, Claims claims) {
+        String jti = UUID.nameUUIDFromBytes(refreshToken.getBytes(StandardCharsets.UTF_8)).toString();
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault());
+        try {
+            return refreshTokenService.consumeLegacy(jti, familyId, userId, expiresAt);
+        } catch (DataIntegrityViolationException e) {
+            return RotationResult.REVOKED;
+        }
+    }
+
+    private JwtResponse issueTokens(UserPrincipal principal, long familyId) {
+        String jti = UUID.randomUUID().toString();
+        String accessToken = jwtTokenProvider.generateAccessToken(principal, familyId);
+        String refreshToken = jwtTokenProvider.generateRefreshToken(principal, familyId, jti);
+        refreshTokenService.store(
+                jti,
+                familyId,
+                principal.getId(),
+                LocalDateTime.now().plus(Duration.ofMillis(jwtTokenProvider.getRefreshTokenValidityMs())));
 
         long accessExpiresInSeconds =
                 Duration.ofMillis(jwtTokenProvider.getAccessTokenValidityMs()).toSeconds();
         long refreshExpiresInSeconds =
                 Duration.ofMillis(jwtTokenProvider.getRefreshTokenValidityMs()).toSeconds();
 
-        return new JwtResponse(
-                newAccessToken,
-                accessExpiresInSeconds,
-                newRefreshToken,
-                refreshExpiresInSeconds);
+        return new JwtResponse(accessToken, accessExpiresInSeconds, refreshToken, refreshExpiresInSeconds);
     }
 
 }
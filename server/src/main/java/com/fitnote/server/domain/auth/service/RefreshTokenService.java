@@ -0,0 +1,159 @@
+package com.fitnote.server.domain.auth.service;
+
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fitnote.server.config.security.jwt.RevokedTokenRegistry;
+import com.fitnote.server.domain.auth.RefreshToken;
+import com.fitnote.server.domain.auth.dto.RevokedFamily;
+import com.fitnote.server.domain.auth.event.RefreshFamilyRevokedEvent;
+import com.fitnote.server.domain.auth.repository.RefreshTokenRepository;
+import com.fitnote.server.domain.auth.repository.UserRepository;
+
+/**
+ * 리프레시 토큰 저장/회전/폐기
+ * 폐기된 family는 커밋 후 RevokedTokenRegistry에도 반영해 액세스 토큰 검증 경로에서 DB 조회 없이 거절합니다.
+ * (롤백된 폐기가 메모리에만 남지 않도록 트랜잭션 안에서는 이벤트만 발행합니다)
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private final SecureRandom random = new SecureRandom();
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final RevokedTokenRegistry revokedTokenRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            UserRepository userRepository,
+            RevokedTokenRegistry revokedTokenRegistry,
+            ApplicationEventPublisher eventPublisher) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.revokedTokenRegistry = revokedTokenRegistry;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 로그인마다 새 토큰 family를 시작합니다.
+     */
+    public long newFamilyId() {
+        return random.nextLong() & Long.MAX_VALUE;
+    }
+
+    @Transactional
+    public void store(String jti, long familyId, Long userId, LocalDateTime expiresAt) {
+        refreshTokenRepository.save(RefreshToken.builder()
+                .jti(jti)
+                .familyId(familyId)
+                .user(userRepository.getReferenceById(userId))
+                .expiresAt(expiresAt)
+                .build());
+    }
+
+    /**
+     * 리프레시 토큰을 한 번 사용 처리합니다.
+     * 이미 사용된 토큰이 다시 제출되면 탈취로 보고 같은 family를 모두 폐기합니다.
+     */
+    @Transactional
+    public RotationResult consume(String jti) {
+        LocalDateTime now = LocalDateTime.now();
+        if (refreshTokenRepository.markUsed(jti, now) == 1) {
+            return RotationResult.ROTATED;
+        }
+
+        RefreshToken token = refreshTokenRepository.findByJti(jti).orElse(null);
+        if (token == null) {
+            return RotationResult.UNKNOWN;
+        }
+        if (token.getRevokedAt() != null || !token.getExpiresAt().isAfter(now)) {
+            return RotationResult.REVOKED;
+        }
+
+        logger.warn("Refresh token reuse detected: family={}, user={}", token.getFamilyId(), token.getUser().getId());
+        revokeFamily(token.getFamilyId());
+        return RotationResult.REUSED;
+    }
+
+    /**
+     * jti/fid가 없는 이전 형식 토큰을 한 번만 받아 새 family로 옮깁니다.
+     * 토큰 본문으로 만든 jti를 사용된 상태로 저장하므로 같은 토큰을 다시 내면 거절됩니다.
+     * 동시에 같은 토큰이 오면 jti 유니크 제약으로 한쪽이 DataIntegrityViolationException을 받습니다.
+     */
+    @Transactional
+    public RotationResult consumeLegacy(String jti, long familyId, Long userId, LocalDateTime expiresAt) {
+        if (refreshTokenRepository.findByJti(jti).isPresent()) {
+            return RotationResult.REVOKED;
+        }
+        refreshTokenRepository.saveAndFlush(RefreshToken.builder()
+                .jti(jti)
+                .familyId(familyId)
+                .user(userRepository.getReferenceById(userId))
+                .expiresAt(expiresAt)
+                .usedAt(LocalDateTime.now())
+                .build());
+        return RotationResult.ROTATED;
+    }
+
+    @Transactional
+    public void revokeFamily(long familyId) {
+        refreshTokenRepository.revokeFamily(familyId, LocalDateTime.now());
+        LocalDateTime expiresAt = refreshTokenRepository.findFamilyExpiresAt(familyId);
+        if (expiresAt != null) {
+            eventPublisher.publishEvent(new RefreshFamilyRevokedEvent(familyId, expiresAt));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFamilyRevoked(RefreshFamilyRevokedEvent event) {
+        revokedTokenRegistry.revoke(event.familyId(), toEpochMillis(event.expiresAt()));
+    }
+
+    /**
+     * 다른 인스턴스에서 폐기된 family를 가져오고, 만료된 family와 토큰 행을 정리합니다.
+     */
+    @Scheduled(
+            initialDelayString = "${jwt.revocation.initial-delay-ms:0}",
+            fixedDelayString = "${jwt.revocation.sync-interval-ms:30000}")
+    @Transactional
+    public void synchronizeRevocations() {
+        LocalDateTime now = LocalDateTime.now();
+        List<RevokedFamily> families = refreshTokenRepository.findRevokedFamilies(now);
+
+        long[] familyIds = new long[families.size()];
+        long[] expiresAtMillis = new long[families.size()];
+        for (int i = 0; i < families.size(); i++) {
+            familyIds[i] = families.get(i).familyId();
+            expiresAtMillis[i] = toEpochMillis(families.get(i).expiresAt());
+        }
+        revokedTokenRegistry.revokeAll(familyIds, expiresAtMillis);
+        revokedTokenRegistry.prune(System.currentTimeMillis());
+
+        int deleted = refreshTokenRepository.deleteExpired(now);
+        if (deleted > 0) {
+            logger.debug("Deleted {} expired refresh tokens", deleted);
+        }
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    public enum RotationResult {
+        ROTATED, REUSED, REVOKED, UNKNOWN
+    }
+}
@@ -0,0 +1,35 @@
+package com.fitnote.server.domain.body;
+
+/**
+ * 차트로 그릴 수 있는 값. TOP_SET_*은 종목(exerciseId)별로 운동 기록 하나당 최고 세트 한 점입니다.
+ * 신체 지표의 순서(ordinal)는 열 캐시의 열 번호로 쓰이므로 앞쪽에 둡니다.
+ */
+public enum SeriesField {
+    WEIGHT(true, true),
+    BODY_FAT_PCT(true, false),
+    NECK(true, false),
+    CHEST(true, false),
+    WAIST(true, false),
+    HIP(true, false),
+    TOP_SET_WEIGHT(false, true),
+    TOP_SET_E1RM(false, true);
+
+    private final boolean bodyMetric;
+    private final boolean weight;
+
+    SeriesField(boolean bodyMetric, boolean weight) {
+        this.bodyMetric = bodyMetric;
+        this.weight = weight;
+    }
+
+    public boolean isBodyMetric() {
+        return bodyMetric;
+    }
+
+    /**
+     * kg로 저장된 값이라 응답에서 사용자 단위로 바꿔야 하는지
+     */
+    public boolean isWeight() {
+        return weight;
+    }
+}
@@ -0,0 +1,75 @@
+package com.fitnote.server.domain.body.controller;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fitnote.server.config.security.user.UserPrincipal;
+import com.fitnote.server.domain.body.SeriesField;
+import com.fitnote.server.domain.body.dto.BodyMetricCreateRequest;
+import com.fitnote.server.domain.body.dto.BodyMetricResponse;
+import com.fitnote.server.domain.body.dto.MetricSeriesResponse;
+import com.fitnote.server.domain.body.service.BodyMetricService;
+import com.fitnote.server.domain.body.service.MetricSeriesService;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/metrics")
+public class BodyMetricController {
+
+    private final BodyMetricService bodyMetricService;
+    private final MetricSeriesService metricSeriesService;
+
+    public BodyMetricController(BodyMetricService bodyMetricService, MetricSeriesService metricSeriesService) {
+        this.bodyMetricService = bodyMetricService;
+        this.metricSeriesService = metricSeriesService;
+    }
+
+    @PostMapping
+    public ResponseEntity<BodyMetricResponse> createMetric(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @Valid @RequestBody BodyMetricCreateRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(bodyMetricService.create(principal.getId(), request));
+    }
+
+    @DeleteMapping("/{metricId}")
+    public ResponseEntity<Void> deleteMetric(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable Long metricId) {
+        bodyMetricService.delete(principal.getId(), metricId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 차트용 시계열. 신체 지표(WEIGHT 등) 또는 종목별 최고 세트(TOP_SET_*, exerciseId 필요)를
+     * points개 이하로 줄여 반환합니다. smoothing(0~1)을 주면 EWMA 값을 함께 반환합니다.
+     */
+    @GetMapping("/series")
+    public ResponseEntity<MetricSeriesResponse> getSeries(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam("field") SeriesField field,
+            @RequestParam(name = "exerciseId", required = false) Long exerciseId,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(name = "points", defaultValue = "300") int points,
+            @RequestParam(name = "smoothing", required = false) Double smoothing) {
+        if (from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회 시작일이 종료일보다 늦습니다.");
+        }
+        return ResponseEntity.ok(metricSeriesService.findSeries(
+                principal.getId(), field, exerciseId, from, to, points, smoothing));
+    }
+}
@@ -0,0 +1,27 @@
+package com.fitnote.server.domain.body.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.fitnote.server.common.weight.Weight;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 측정값은 모두 선택이지만 하나 이상 있어야 합니다. (서비스에서 검증)
+ * 체중은 사용자 단위(kg/lb)로 받아 kg로 바뀝니다.
+ */
+public record BodyMetricCreateRequest(
+        @NotNull LocalDateTime measuredAt,
+        Weight weight,
+        @DecimalMin("0") @DecimalMax("100") @Digits(integer = 3, fraction = 2) BigDecimal bodyFatPct,
+        @DecimalMin("0") @Digits(integer = 4, fraction = 2) BigDecimal neck,
+        @DecimalMin("0") @Digits(integer = 4, fraction = 2) BigDecimal chest,
+        @DecimalMin("0") @Digits(integer = 4, fraction = 2) BigDecimal waist,
+        @DecimalMin("0") @Digits(integer = 4, fraction = 2) BigDecimal hip,
+        @Size(max = 255) String notes) {
+}
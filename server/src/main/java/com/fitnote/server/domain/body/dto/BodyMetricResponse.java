@@ -0,0 +1,18 @@
+package com.fitnote.server.domain.body.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.fitnote.server.common.weight.Weight;
+
+public record BodyMetricResponse(
+        Long id,
+        LocalDateTime measuredAt,
+        Weight weight,
+        BigDecimal bodyFatPct,
+        BigDecimal neck,
+        BigDecimal chest,
+        BigDecimal waist,
+        BigDecimal hip,
+        String notes) {
+}
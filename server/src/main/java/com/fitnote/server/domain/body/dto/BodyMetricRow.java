@@ -0,0 +1,15 @@
+package com.fitnote.server.domain.body.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record BodyMetricRow(
+        Long id,
+        LocalDateTime measuredAt,
+        BigDecimal weight,
+        BigDecimal bodyFatPct,
+        BigDecimal neck,
+        BigDecimal chest,
+        BigDecimal waist,
+        BigDecimal hip) {
+}
@@ -0,0 +1,15 @@
+package com.fitnote.server.domain.body.dto;
+
+import java.util.List;
+
+import com.fitnote.server.domain.body.SeriesField;
+
+/**
+ * totalPoints는 다운샘플링 전 원본 점 수입니다.
+ */
+public record MetricSeriesResponse(
+        SeriesField field,
+        Long exerciseId,
+        long totalPoints,
+        List<SeriesPoint> points) {
+}
@@ -0,0 +1,12 @@
+package com.fitnote.server.domain.body.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * smoothed는 smoothing을 요청했을 때만 채워집니다.
+ */
+public record SeriesPoint(
+        LocalDateTime at,
+        double value,
+        Double smoothed) {
+}
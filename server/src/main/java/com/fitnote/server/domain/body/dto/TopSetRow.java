@@ -0,0 +1,13 @@
+package com.fitnote.server.domain.body.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 운동 기록 하나에서 한 종목의 최고 중량과 최고 추정 1RM(Epley)
+ */
+public record TopSetRow(
+        LocalDateTime startedAt,
+        BigDecimal maxWeight,
+        BigDecimal bestE1rm) {
+}
@@ -0,0 +1,19 @@
+package com.fitnote.server.domain.body.event;
+
+import com.fitnote.server.domain.body.dto.BodyMetricRow;
+
+/**
+ * 한 사용자의 신체 지표가 추가되거나(added) 삭제되었음(added == null)을 알립니다. 쓰기 트랜잭션 안에서 발행됩니다.
+ */
+public record BodyMetricChangedEvent(
+        Long userId,
+        BodyMetricRow added) {
+
+    public static BodyMetricChangedEvent added(Long userId, BodyMetricRow row) {
+        return new BodyMetricChangedEvent(userId, row);
+    }
+
+    public static BodyMetricChangedEvent removed(Long userId) {
+        return new BodyMetricChangedEvent(userId, null);
+    }
+}
@@ -0,0 +1,31 @@
+package com.fitnote.server.domain.body.repository;
+
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.fitnote.server.domain.body.BodyMetric;
+import com.fitnote.server.domain.body.dto.BodyMetricRow;
+
+import jakarta.persistence.QueryHint;
+
+public interface BodyMetricRepository extends JpaRepository<BodyMetric, Long> {
+
+    /**
+     * 사용자의 전체 지표를 idx_body_user_time 순서(시간순)로 흘려 읽습니다. 호출자는 트랜잭션 안에서 스트림을 닫아야 합니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.fitnote.server.domain.body.dto.BodyMetricRow("
+            + "b.id, b.measuredAt, b.weight, b.bodyFatPct, b.neck, b.chest, b.waist, b.hip) "
+            + "from BodyMetric b where b.user.id = :userId order by b.measuredAt asc")
+    Stream<BodyMetricRow> streamByUser(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("delete from BodyMetric b where b.id = :id and b.user.id = :userId")
+    int deleteOwned(@Param("userId") Long userId, @Param("id") Long id);
+}
@@ -0,0 +1,121 @@
+package com.fitnote.server.domain.body.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fitnote.server.domain.body.dto.BodyMetricRow;
+import com.fitnote.server.domain.body.event.BodyMetricChangedEvent;
+import com.fitnote.server.domain.body.repository.BodyMetricRepository;
+
+/**
+ * 사용자별 신체 지표 열 캐시 (read-through)
+ *
+ * 처음 조회할 때 사용자의 전체 지표를 한 번 흘려 읽어 {@link BodyMetricColumns}로 만들고,
+ * 이후 추가는 커밋 후 배열 끝에 붙이며 삭제는 다음 조회에서 다시 읽도록 버립니다.
+ * 로딩이 읽은 행의 커밋 이벤트가 로딩 뒤에 도착할 수 있으므로 추가는 id로 중복을 거릅니다.
+ * 전체 크기가 metrics.cache.max-bytes를 넘으면 가장 오래 조회하지 않은 사용자부터 90%까지 비웁니다.
+ */
+@Component
+public class BodyMetricCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(BodyMetricCache.class);
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final AtomicLong clock = new AtomicLong();
+    private final BodyMetricRepository bodyMetricRepository;
+    private final long maxBytes;
+
+    public BodyMetricCache(
+            BodyMetricRepository bodyMetricRepository,
+            @Value("${metrics.cache.max-bytes:67108864}") long maxBytes) {
+        this.bodyMetricRepository = bodyMetricRepository;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * 없으면 DB에서 읽어 채웁니다. 로딩이 스트림 조회이므로 트랜잭션 안에서 호출해야 합니다.
+     */
+    BodyMetricColumns get(Long userId) {
+        Entry entry = entries.computeIfAbsent(userId, this::load);
+        entry.lastAccess = clock.incrementAndGet();
+        if (totalBytes.get() > maxBytes) {
+            evict(userId);
+        }
+        return entry.columns;
+    }
+
+    public long totalBytes() {
+        return totalBytes.get();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onChanged(BodyMetricChangedEvent event) {
+        if (event.added() == null) {
+            Entry removed = entries.remove(event.userId());
+            if (removed != null) {
+                totalBytes.addAndGet(-removed.accountedBytes);
+            }
+            return;
+        }
+        entries.computeIfPresent(event.userId(), (userId, entry) -> {
+            if (entry.columns.add(event.added())) {
+                account(entry);
+            }
+            return entry;
+        });
+    }
+
+    private Entry load(Long userId) {
+        Entry entry = new Entry();
+        try (Stream<BodyMetricRow> rows = bodyMetricRepository.streamByUser(userId)) {
+            rows.forEach(entry.columns::add);
+        }
+        account(entry);
+        return entry;
+    }
+
+    private void account(Entry entry) {
+        long bytes = entry.columns.bytes();
+        totalBytes.addAndGet(bytes - entry.accountedBytes);
+        entry.accountedBytes = bytes;
+    }
+
+    private synchronized void evict(Long keep) {
+        long target = maxBytes - maxBytes / 10;
+        if (totalBytes.get() <= target) {
+            return;
+        }
+        List<Map.Entry<Long, Entry>> candidates = new ArrayList<>(entries.entrySet());
+        candidates.sort(Comparator.comparingLong(candidate -> candidate.getValue().lastAccess));
+        int evicted = 0;
+        for (Map.Entry<Long, Entry> candidate : candidates) {
+            if (totalBytes.get() <= target) {
+                break;
+            }
+            if (!candidate.getKey().equals(keep) && entries.remove(candidate.getKey(), candidate.getValue())) {
+                totalBytes.addAndGet(-candidate.getValue().accountedBytes);
+                evicted++;
+            }
+        }
+        logger.debug("Evicted {} body metric series, {} bytes cached", evicted, totalBytes.get());
+    }
+
+    private static final class Entry {
+        private final BodyMetricColumns columns = new BodyMetricColumns();
+        private volatile long lastAccess;
+        private long accountedBytes;
+    }
+}
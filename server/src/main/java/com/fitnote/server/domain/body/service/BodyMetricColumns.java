@@ -0,0 +1,148 @@
+package com.fitnote.server.domain.body.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import com.fitnote.server.domain.body.SeriesField;
+import com.fitnote.server.domain.body.dto.BodyMetricRow;
+
+/**
+ * 한 사용자의 신체 지표를 열 단위 원시 배열로 담습니다.
+ *
+ * 시각은 epoch 초(long), 값은 0.01 단위 고정소수점(int)이며 값이 없으면 {@link #MISSING}입니다.
+ * 한 점에 id와 시각 8 + 8, 값 4 * 6을 더해 40바이트로, 엔티티 한 건(BigDecimal 6개, LocalDateTime 포함)의 1/8 수준입니다.
+ * 행은 시각순으로 유지되므로 범위 조회는 이진 탐색 두 번과 배열 순회뿐이며 객체를 만들지 않습니다.
+ */
+final class BodyMetricColumns {
+
+    static final int MISSING = Integer.MIN_VALUE;
+
+    private static final int COLUMNS = 6;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private long[] times = new long[INITIAL_CAPACITY];
+    private final int[][] values = new int[COLUMNS][INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * 같은 시각의 기존 행 뒤에 넣습니다. 대부분 마지막 행보다 늦으므로 끝에 붙습니다.
+     * 로딩이 이미 읽은 행이 커밋 후 이벤트로 다시 오면 같은 시각의 행들 중 id로 찾아 무시합니다.
+     *
+     * @return 새로 넣었으면 true
+     */
+    synchronized boolean add(BodyMetricRow row) {
+        long time = epochSecond(row);
+        int at = upperBound(time);
+        for (int i = at - 1; i >= 0 && times[i] == time; i--) {
+            if (ids[i] == row.id()) {
+                return false;
+            }
+        }
+        if (size == times.length) {
+            int capacity = size + (size >> 1);
+            ids = Arrays.copyOf(ids, capacity);
+            times = Arrays.copyOf(times, capacity);
+            for (int c = 0; c < COLUMNS; c++) {
+                values[c] = Arrays.copyOf(values[c], capacity);
+            }
+        }
+        if (at < size) {
+            System.arraycopy(ids, at, ids, at + 1, size - at);
+            System.arraycopy(times, at, times, at + 1, size - at);
+            for (int c = 0; c < COLUMNS; c++) {
+                System.arraycopy(values[c], at, values[c], at + 1, size - at);
+            }
+        }
+        ids[at] = row.id();
+        times[at] = time;
+        values[SeriesField.WEIGHT.ordinal()][at] = fixedPoint(row.weight());
+        values[SeriesField.BODY_FAT_PCT.ordinal()][at] = fixedPoint(row.bodyFatPct());
+        values[SeriesField.NECK.ordinal()][at] = fixedPoint(row.neck());
+        values[SeriesField.CHEST.ordinal()][at] = fixedPoint(row.chest());
+        values[SeriesField.WAIST.ordinal()][at] = fixedPoint(row.waist());
+        values[SeriesField.HIP.ordinal()][at] = fixedPoint(row.hip());
+        size++;
+        return true;
+    }
+
+    /**
+     * [from, to) 안에서 값이 있는 점 수
+     */
+    synchronized long count(SeriesField field, long from, long to) {
+        int[] column = values[field.ordinal()];
+        long count = 0;
+        for (int i = lowerBound(from), end = lowerBound(to); i < end; i++) {
+            if (column[i] != MISSING) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * [from, to) 안에서 값이 있는 점을 시각순으로 넘깁니다. 콜백은 잠금 안에서 호출되므로 짧아야 합니다.
+     */
+    synchronized void forEach(SeriesField field, long from, long to, PointConsumer consumer) {
+        int[] column = values[field.ordinal()];
+        for (int i = lowerBound(from), end = lowerBound(to); i < end; i++) {
+            if (column[i] != MISSING) {
+                consumer.accept(times[i], column[i] / 100.0);
+            }
+        }
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 배열 용량 기준 대략적인 힙 사용량
+     */
+    synchronized long bytes() {
+        return 64L + (long) times.length * (2 * Long.BYTES + COLUMNS * Integer.BYTES);
+    }
+
+    private int lowerBound(long time) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (times[mid] < time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int upperBound(long time) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (times[mid] <= time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    static long epochSecond(BodyMetricRow row) {
+        return row.measuredAt().toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static int fixedPoint(BigDecimal value) {
+        return value == null ? MISSING : value.setScale(2, RoundingMode.HALF_UP).unscaledValue().intValueExact();
+    }
+
+    @FunctionalInterface
+    interface PointConsumer {
+        void accept(long x, double y);
+    }
+}
@@ -0,0 +1,68 @@
+package com.fitnote.server.domain.body.service;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fitnote.server.common.weight.Weight;
+import com.fitnote.server.domain.auth.repository.UserRepository;
+import com.fitnote.server.domain.body.BodyMetric;
+import com.fitnote.server.domain.body.dto.BodyMetricCreateRequest;
+import com.fitnote.server.domain.body.dto.BodyMetricResponse;
+import com.fitnote.server.domain.body.dto.BodyMetricRow;
+import com.fitnote.server.domain.body.event.BodyMetricChangedEvent;
+import com.fitnote.server.domain.body.repository.BodyMetricRepository;
+
+@Service
+public class BodyMetricService {
+
+    private final BodyMetricRepository bodyMetricRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public BodyMetricService(
+            BodyMetricRepository bodyMetricRepository,
+            UserRepository userRepository,
+            ApplicationEventPublisher eventPublisher) {
+        this.bodyMetricRepository = bodyMetricRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional
+    public BodyMetricResponse create(Long userId, BodyMetricCreateRequest request) {
+        if (request.weight() == null && request.bodyFatPct() == null && request.neck() == null
+                && request.chest() == null && request.waist() == null && request.hip() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "측정값을 하나 이상 입력해야 합니다.");
+        }
+
+        BodyMetric metric = bodyMetricRepository.save(BodyMetric.builder()
+                .user(userRepository.getReferenceById(userId))
+                .measuredAt(request.measuredAt())
+                .weight(Weight.toBigDecimal(request.weight()))
+                .bodyFatPct(request.bodyFatPct())
+                .neck(request.neck())
+                .chest(request.chest())
+                .waist(request.waist())
+                .hip(request.hip())
+                .notes(request.notes())
+                .build());
+
+        eventPublisher.publishEvent(BodyMetricChangedEvent.added(userId, new BodyMetricRow(
+                metric.getId(), metric.getMeasuredAt(), metric.getWeight(), metric.getBodyFatPct(),
+                metric.getNeck(), metric.getChest(), metric.getWaist(), metric.getHip())));
+        return new BodyMetricResponse(
+                metric.getId(), metric.getMeasuredAt(), Weight.of(metric.getWeight()), metric.getBodyFatPct(),
+                metric.getNeck(), metric.getChest(), metric.getWaist(), metric.getHip(), metric.getNotes());
+    }
+
+    @Transactional
+    public void delete(Long userId, Long metricId) {
+        if (bodyMetricRepository.deleteOwned(userId, metricId) == 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "신체 지표를 찾을 수 없습니다.");
+        }
+        eventPublisher.publishEvent(BodyMetricChangedEvent.removed(userId));
+    }
+}
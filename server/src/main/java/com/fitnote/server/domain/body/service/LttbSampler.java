@@ -0,0 +1,166 @@
+package com.fitnote.server.domain.body.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Largest-Triangle-Three-Buckets 다운샘플러. 시간순 행을 두 번 흘려 보내며 메모리는 목표 점 수에만 비례합니다.
+ *
+ * 1차(observe)에서는 버킷별 평균만 모으고, 2차(accept)에서 이전에 고른 점 A와 다음 버킷 평균 C로
+ * 삼각형 넓이가 가장 큰 점을 버킷마다 하나씩 고릅니다. 첫 점과 마지막 점은 항상 남습니다.
+ * 전체 행 수가 목표 이하이면 1차 없이 2차에서 모든 점을 그대로 내보냅니다.
+ * smoothing(0 < a <= 1)을 주면 2차에서 모든 원본 행에 EWMA를 함께 계산해 고른 점에 붙입니다.
+ */
+public final class LttbSampler {
+
+    private final long count;
+    private final int threshold;
+    private final double alpha;
+    private final long interior;
+    private final int buckets;
+    private final double[] averageX;
+    private final double[] averageY;
+    private final int[] bucketSizes;
+    private final List<Point> points;
+
+    private long observed;
+    private double lastX;
+    private double lastY;
+
+    private long accepted;
+    private double ax;
+    private double ay;
+    private int bucket = -1;
+    private double bestArea;
+    private Point best;
+    private double ewma;
+
+    /**
+     * @param count     두 번의 흐름에서 각각 들어올 행 수
+     * @param threshold 남길 점 수 (3 이상)
+     * @param smoothing EWMA 계수, 없으면 null
+     */
+    public LttbSampler(long count, int threshold, Double smoothing) {
+        if (threshold < 3) {
+            throw new IllegalArgumentException("threshold must be >= 3");
+        }
+        this.count = count;
+        this.threshold = threshold;
+        this.alpha = smoothing == null ? Double.NaN : smoothing;
+        this.points = new ArrayList<>((int) Math.min(count, threshold));
+        if (needsAveragePass()) {
+            this.interior = count - 2;
+            this.buckets = threshold - 2;
+            this.averageX = new double[buckets];
+            this.averageY = new double[buckets];
+            this.bucketSizes = new int[buckets];
+        } else {
+            this.interior = 0;
+            this.buckets = 0;
+            this.averageX = null;
+            this.averageY = null;
+            this.bucketSizes = null;
+        }
+    }
+
+    public boolean needsAveragePass() {
+        return count > threshold;
+    }
+
+    /**
+     * 1차 흐름. 가운데 행은 버킷 평균에 더하고 마지막 행은 따로 기억합니다.
+     */
+    public void observe(long x, double y) {
+        long index = observed++;
+        if (index == 0 || index >= count) {
+            return;
+        }
+        if (index == count - 1) {
+            lastX = x;
+            lastY = y;
+            return;
+        }
+        int b = bucketOf(index);
+        averageX[b] += x;
+        averageY[b] += y;
+        bucketSizes[b]++;
+    }
+
+    /**
+     * 2차 흐름.
+     */
+    public void accept(long x, double y) {
+        long index = accepted++;
+        if (index >= count) {
+            return;
+        }
+        double smoothed = Double.NaN;
+        if (!Double.isNaN(alpha)) {
+            ewma = index == 0 ? y : alpha * y + (1 - alpha) * ewma;
+            smoothed = ewma;
+        }
+        if (!needsAveragePass() || index == 0) {
+            points.add(new Point(x, y, smoothed));
+            ax = x;
+            ay = y;
+            return;
+        }
+        if (index == count - 1) {
+            flushBucket();
+            points.add(new Point(x, y, smoothed));
+            return;
+        }
+
+        int b = bucketOf(index);
+        if (b != bucket) {
+            flushBucket();
+            bucket = b;
+        }
+        double cx;
+        double cy;
+        if (b + 1 < buckets && bucketSizes[b + 1] > 0) {
+            cx = averageX[b + 1] / bucketSizes[b + 1];
+            cy = averageY[b + 1] / bucketSizes[b + 1];
+        } else {
+            cx = lastX;
+            cy = lastY;
+        }
+        // 상수배(1/2)는 비교에 영향이 없으므로 생략합니다.
+        double area = Math.abs((ax - cx) * (y - ay) - (ax - x) * (cy - ay));
+        if (best == null || area > bestArea) {
+            bestArea = area;
+            best = new Point(x, y, smoothed);
+        }
+    }
+
+    /**
+     * 고른 점을 시간순으로 반환합니다. 2차 흐름이 기대보다 짧게 끝났어도 마지막 버킷의 후보를 포함합니다.
+     */
+    public List<Point> finish() {
+        flushBucket();
+        return points;
+    }
+
+    private void flushBucket() {
+        if (best != null) {
+            points.add(best);
+            ax = best.x();
+            ay = best.y();
+            best = null;
+        }
+    }
+
+    /**
+     * 가운데 행 interior개를 buckets개로 나눕니다. 버킷 i는 행 floor(i * interior / buckets) + 1 부터
+     * floor((i + 1) * interior / buckets) 까지이며, 부동소수점 오차가 없도록 정수로 계산합니다.
+     */
+    private int bucketOf(long index) {
+        return (int) ((index * buckets + interior - 1) / interior - 1);
+    }
+
+    /**
+     * smoothed는 EWMA를 요청하지 않았으면 NaN입니다.
+     */
+    public record Point(long x, double y, double smoothed) {
+    }
+}
@@ -0,0 +1,106 @@
+package com.fitnote.server.domain.body.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fitnote.server.common.weight.WeightFormat;
+import com.fitnote.server.domain.body.SeriesField;
+import com.fitnote.server.domain.body.dto.MetricSeriesResponse;
+import com.fitnote.server.domain.body.dto.SeriesPoint;
+import com.fitnote.server.domain.body.dto.TopSetRow;
+import com.fitnote.server.domain.settings.service.UserContextService;
+import com.fitnote.server.domain.workout.repository.WorkoutSetRepository;
+
+@Service
+public class MetricSeriesService {
+
+    private final BodyMetricCache bodyMetricCache;
+    private final WorkoutSetRepository workoutSetRepository;
+    private final UserContextService userContextService;
+    private final int maxPoints;
+
+    public MetricSeriesService(
+            BodyMetricCache bodyMetricCache,
+            WorkoutSetRepository workoutSetRepository,
+            UserContextService userContextService,
+            @Value("${metrics.series.max-points:2000}") int maxPoints) {
+        this.bodyMetricCache = bodyMetricCache;
+        this.workoutSetRepository = workoutSetRepository;
+        this.userContextService = userContextService;
+        this.maxPoints = maxPoints;
+    }
+
+    /**
+     * 기간 안의 값을 LTTB로 points개 이하로 줄입니다.
+     *
+     * 점 수를 센 뒤 범위를 두 번 훑으므로(버킷 평균, 점 선택) 기간이 길어도 추가 메모리는 points에만 비례합니다.
+     * 원본이 points개 이하이면 한 번만 읽고 그대로 반환합니다.
+     * 신체 지표는 {@link BodyMetricCache}의 원시 배열을, 최고 세트는 인덱스 범위를 같은 읽기 전용 트랜잭션에서 흘려 읽습니다.
+     * 무게 값은 kg로 샘플링한 뒤 고른 점만 사용자 단위로 바꿉니다.
+     */
+    @Transactional(readOnly = true)
+    public MetricSeriesResponse findSeries(
+            Long userId, SeriesField field, Long exerciseId,
+            LocalDate from, LocalDate to, int points, Double smoothing) {
+        if (points < 3 || points > maxPoints) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "points는 3 이상 " + maxPoints + " 이하여야 합니다.");
+        }
+        if (smoothing != null && !(smoothing > 0 && smoothing <= 1)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "smoothing은 0보다 크고 1 이하여야 합니다.");
+        }
+        if (field.isBodyMetric() == (exerciseId != null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    field.isBodyMetric() ? "신체 지표에는 exerciseId를 지정할 수 없습니다." : "exerciseId가 필요합니다.");
+        }
+
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        BodyMetricColumns columns = field.isBodyMetric() ? bodyMetricCache.get(userId) : null;
+        long count = columns != null
+                ? columns.count(field, start.toEpochSecond(ZoneOffset.UTC), end.toEpochSecond(ZoneOffset.UTC))
+                : workoutSetRepository.countTopSets(userId, exerciseId, start, end);
+        if (count == 0) {
+            return new MetricSeriesResponse(field, exerciseId, 0, List.of());
+        }
+
+        LttbSampler sampler = new LttbSampler(count, points, smoothing);
+        if (sampler.needsAveragePass()) {
+            read(columns, userId, field, exerciseId, start, end, sampler::observe);
+        }
+        read(columns, userId, field, exerciseId, start, end, sampler::accept);
+
+        WeightFormat format = field.isWeight() ? userContextService.get(userId).weightFormat() : WeightFormat.KG;
+        List<LttbSampler.Point> sampled = sampler.finish();
+        List<SeriesPoint> result = new ArrayList<>(sampled.size());
+        for (LttbSampler.Point point : sampled) {
+            result.add(new SeriesPoint(
+                    LocalDateTime.ofEpochSecond(point.x(), 0, ZoneOffset.UTC),
+                    format.toDisplayValue(point.y()),
+                    Double.isNaN(point.smoothed()) ? null : format.toDisplayValue(point.smoothed())));
+        }
+        return new MetricSeriesResponse(field, exerciseId, count, result);
+    }
+
+    private void read(BodyMetricColumns columns, Long userId, SeriesField field, Long exerciseId,
+            LocalDateTime start, LocalDateTime end, BodyMetricColumns.PointConsumer consumer) {
+        if (columns != null) {
+            columns.forEach(field, start.toEpochSecond(ZoneOffset.UTC), end.toEpochSecond(ZoneOffset.UTC), consumer);
+            return;
+        }
+        try (Stream<TopSetRow> rows = workoutSetRepository.streamTopSets(userId, exerciseId, start, end)) {
+            rows.forEach(row -> consumer.accept(
+                    row.startedAt().toEpochSecond(ZoneOffset.UTC),
+                    (field == SeriesField.TOP_SET_WEIGHT ? row.maxWeight() : row.bestE1rm()).doubleValue()));
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.fitnote.server.domain.calendar.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fitnote.server.config.security.user.UserPrincipal;
+import com.fitnote.server.domain.calendar.dto.CalendarResponse;
+import com.fitnote.server.domain.calendar.service.CalendarService;
+
+@RestController
+@RequestMapping("/api/calendar")
+public class CalendarController {
+
+    private final CalendarService calendarService;
+
+    public CalendarController(CalendarService calendarService) {
+        this.calendarService = calendarService;
+    }
+
+    /**
+     * 한 해의 활동 히트맵과 연속 기록. year가 없으면 사용자 시간대의 올해입니다.
+     */
+    @GetMapping
+    public ResponseEntity<CalendarResponse> getCalendar(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(name = "year", required = false) Integer year) {
+        return ResponseEntity.ok(calendarService.findYear(principal.getId(), year));
+    }
+}
@@ -0,0 +1,18 @@
+package com.fitnote.server.domain.calendar.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fitnote.server.common.weight.WeightValueSerializer;
+
+/**
+ * 히트맵의 하루. level은 그 해 훈련일 볼륨의 사분위로 매긴 1~4 단계입니다. (볼륨이 없는 날은 1)
+ * volume은 응답에서 사용자 단위로 바뀝니다.
+ */
+public record CalendarDay(
+        LocalDate date,
+        int sessions,
+        @JsonSerialize(using = WeightValueSerializer.class) BigDecimal volume,
+        int level) {
+}
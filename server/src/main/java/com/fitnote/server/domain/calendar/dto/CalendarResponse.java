@@ -0,0 +1,17 @@
+package com.fitnote.server.domain.calendar.dto;
+
+import java.util.List;
+
+/**
+ * 한 해의 활동 히트맵. days에는 운동한 날만 날짜순으로 담깁니다.
+ * 날짜는 사용자 시간대 기준이며, 연속 기록은 해와 관계없이 계산합니다.
+ */
+public record CalendarResponse(
+        int year,
+        String timezone,
+        int trainedDays,
+        int sessions,
+        int currentStreak,
+        int longestStreak,
+        List<CalendarDay> days) {
+}
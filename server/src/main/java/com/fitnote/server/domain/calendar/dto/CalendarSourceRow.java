@@ -0,0 +1,10 @@
+package com.fitnote.server.domain.calendar.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 달력 재구성용 기록 한 건. volume은 워밍업을 뺀 세트의 무게 × 횟수 합이며 세트가 없으면 null입니다.
+ */
+public record CalendarSourceRow(Long workoutId, LocalDateTime startedAt, BigDecimal volume) {
+}
@@ -0,0 +1,176 @@
+package com.fitnote.server.domain.calendar.service;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 한 사용자의 날짜별 운동 활동 (사용자 시간대 기준)
+ *
+ * 해마다 운동한 날의 비트셋(long 6개)과 날짜별 세션 수, 볼륨(0.01kg 단위) 배열을 둡니다.
+ * 연속 기록은 비트셋을 워드 단위로 훑어 계산하므로 기록 수와 관계없이 해마다 워드 몇 개만 봅니다.
+ */
+final class ActivityCalendar {
+
+    private final ZoneId zone;
+    private final TreeMap<Integer, YearActivity> years = new TreeMap<>();
+
+    ActivityCalendar(ZoneId zone) {
+        this.zone = zone;
+    }
+
+    ZoneId zone() {
+        return zone;
+    }
+
+    /**
+     * 세션 수는 0 아래로 내려가지 않으며, 1 이상이면 운동한 날로 표시합니다.
+     */
+    synchronized void addSession(LocalDate day, int delta) {
+        YearActivity year = year(day.getYear());
+        int index = day.getDayOfYear() - 1;
+        int sessions = Math.max(0, year.sessions[index] + delta);
+        year.sessions[index] = (short) Math.min(sessions, Short.MAX_VALUE);
+        if (sessions > 0) {
+            year.trained[index >>> 6] |= 1L << index;
+        } else {
+            year.trained[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    synchronized void addVolume(LocalDate day, long centiKg) {
+        if (centiKg != 0) {
+            year(day.getYear()).volume[day.getDayOfYear() - 1] += centiKg;
+        }
+    }
+
+    /**
+     * 한 해의 배열 사본과 today 기준 연속 기록
+     */
+    synchronized Summary summary(int year, LocalDate today) {
+        YearActivity activity = years.get(year);
+        int length = Year.of(year).length();
+        short[] sessions = activity != null ? activity.sessions.clone() : new short[length];
+        long[] volume = activity != null ? activity.volume.clone() : new long[length];
+        return new Summary(sessions, volume, currentStreak(today), longestStreak());
+    }
+
+    /**
+     * today에 운동했으면 today부터, 아니면 어제부터 거꾸로 이어진 날 수
+     */
+    private int currentStreak(LocalDate today) {
+        LocalDate start = isTrained(today) ? today : today.minusDays(1);
+        int year = start.getYear();
+        int index = start.getDayOfYear() - 1;
+        int streak = 0;
+        while (true) {
+            YearActivity activity = years.get(year);
+            if (activity == null) {
+                return streak;
+            }
+            int ones = onesDownFrom(activity.trained, index);
+            streak += ones;
+            if (ones <= index) {
+                return streak;
+            }
+            year--;
+            index = Year.of(year).length() - 1;
+        }
+    }
+
+    private int longestStreak() {
+        int longest = 0;
+        int run = 0;
+        int previousYear = Integer.MIN_VALUE;
+        for (Map.Entry<Integer, YearActivity> entry : years.entrySet()) {
+            if (entry.getKey() != previousYear + 1) {
+                run = 0;
+            }
+            previousYear = entry.getKey();
+            long[] trained = entry.getValue().trained;
+            int length = entry.getValue().sessions.length;
+            for (int w = 0; w < trained.length; w++) {
+                int wordBits = Math.min(64, length - w * 64);
+                int pos = 0;
+                while (pos < wordBits) {
+                    long rest = trained[w] >>> pos;
+                    if ((rest & 1L) == 0) {
+                        run = 0;
+                        pos += Long.numberOfTrailingZeros(rest);
+                    } else {
+                        int ones = Long.numberOfTrailingZeros(~rest);
+                        run += ones;
+                        longest = Math.max(longest, run);
+                        pos += ones;
+                    }
+                }
+            }
+        }
+        return longest;
+    }
+
+    private boolean isTrained(LocalDate day) {
+        YearActivity activity = years.get(day.getYear());
+        int index = day.getDayOfYear() - 1;
+        return activity != null && (activity.trained[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * index부터 0 쪽으로 연속해서 켜진 비트 수
+     */
+    private static int onesDownFrom(long[] bits, int index) {
+        int count = 0;
+        int w = index >>> 6;
+        int b = index & 63;
+        while (w >= 0) {
+            int ones = Long.numberOfLeadingZeros(~(bits[w] << (63 - b)));
+            count += ones;
+            if (ones < b + 1) {
+                return count;
+            }
+            w--;
+            b = 63;
+        }
+        return count;
+    }
+
+    private YearActivity year(int year) {
+        return years.computeIfAbsent(year, y -> new YearActivity(Year.of(y).length()));
+    }
+
+    private static final class YearActivity {
+
+        private final long[] trained = new long[6];
+        private final short[] sessions;
+        private final long[] volume;
+
+        private YearActivity(int length) {
+            this.sessions = new short[length];
+            this.volume = new long[length];
+        }
+    }
+
+    record Summary(short[] sessions, long[] volume, int currentStreak, int longestStreak) {
+
+        /**
+         * 볼륨 사분위 경계 (운동했고 볼륨이 있는 날 기준). 그런 날이 없으면 빈 배열입니다.
+         */
+        long[] quartiles() {
+            long[] values = new long[volume.length];
+            int count = 0;
+            for (int i = 0; i < volume.length; i++) {
+                if (sessions[i] > 0 && volume[i] > 0) {
+                    values[count++] = volume[i];
+                }
+            }
+            if (count == 0) {
+                return new long[0];
+            }
+            Arrays.sort(values, 0, count);
+            return new long[] {values[count / 4], values[count / 2], values[count * 3 / 4]};
+        }
+    }
+}
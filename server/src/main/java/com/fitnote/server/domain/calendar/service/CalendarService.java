@@ -0,0 +1,179 @@
+package com.fitnote.server.domain.calendar.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fitnote.server.domain.calendar.dto.CalendarDay;
+import com.fitnote.server.domain.calendar.dto.CalendarResponse;
+import com.fitnote.server.domain.calendar.dto.CalendarSourceRow;
+import com.fitnote.server.domain.settings.service.UserContextService;
+import com.fitnote.server.domain.workout.event.SetFact;
+import com.fitnote.server.domain.workout.event.WorkoutChangedEvent;
+import com.fitnote.server.domain.workout.event.WorkoutSetsChangedEvent;
+import com.fitnote.server.domain.workout.repository.WorkoutRepository;
+
+/**
+ * 활동 달력 (히트맵, 연속 기록)
+ *
+ * 사용자별 {@link ActivityCalendar}는 처음 조회할 때 기록별 (시작 시각, 볼륨) 한 번의 쿼리로 만들고,
+ * 이후에는 커밋된 기록 생성/이동/삭제와 세트 변경만 반영하므로 조회는 DB를 거치지 않습니다.
+ * 기록 시각은 서버 시간대로 저장되어 있으므로 사용자 시간대(UserContext.zone)로 옮긴 날짜에 쌓습니다.
+ * 시간대가 바뀌면 다음 조회에서 UserContext와 달라진 달력을 버리고 다시 만듭니다.
+ */
+@Service
+public class CalendarService {
+
+    private final Map<Long, ActivityCalendar> calendars = new ConcurrentHashMap<>();
+    private final WorkoutRepository workoutRepository;
+    private final UserContextService userContextService;
+    private final int maxEntries;
+
+    public CalendarService(
+            WorkoutRepository workoutRepository,
+            UserContextService userContextService,
+            @Value("${calendar.cache.max-entries:10000}") int maxEntries) {
+        this.workoutRepository = workoutRepository;
+        this.userContextService = userContextService;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @param year null이면 사용자 시간대의 올해
+     */
+    public CalendarResponse findYear(Long userId, Integer year) {
+        ActivityCalendar calendar = calendar(userId);
+        LocalDate today = LocalDate.now(calendar.zone());
+        int target = year != null ? year : today.getYear();
+        ActivityCalendar.Summary summary = calendar.summary(target, today);
+
+        long[] quartiles = summary.quartiles();
+        List<CalendarDay> days = new ArrayList<>();
+        int sessions = 0;
+        for (int i = 0; i < summary.sessions().length; i++) {
+            int count = summary.sessions()[i];
+            if (count == 0) {
+                continue;
+            }
+            long volume = summary.volume()[i];
+            sessions += count;
+            days.add(new CalendarDay(
+                    LocalDate.ofYearDay(target, i + 1), count, BigDecimal.valueOf(volume, 2), level(volume, quartiles)));
+        }
+        return new CalendarResponse(target, calendar.zone().getId(), days.size(), sessions,
+                summary.currentStreak(), summary.longestStreak(), days);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onWorkoutChanged(WorkoutChangedEvent event) {
+        calendars.computeIfPresent(event.userId(), (userId, calendar) -> {
+            if (!event.isCreated()) {
+                calendar.addSession(day(event.previousStartedAt(), calendar.zone()), -1);
+            }
+            if (!event.isDeleted()) {
+                calendar.addSession(day(event.startedAt(), calendar.zone()), 1);
+            }
+            return calendar;
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSetsChanged(WorkoutSetsChangedEvent event) {
+        calendars.computeIfPresent(event.userId(), (userId, calendar) -> {
+            for (SetFact removed : event.removed()) {
+                if (!removed.warmup()) {
+                    calendar.addVolume(day(removed.startedAt(), calendar.zone()), -volume(removed));
+                }
+            }
+            for (SetFact added : event.added()) {
+                if (!added.warmup()) {
+                    calendar.addVolume(day(added.startedAt(), calendar.zone()), volume(added));
+                }
+            }
+            return calendar;
+        });
+    }
+
+    public void invalidate(Long userId) {
+        calendars.remove(userId);
+    }
+
+    /**
+     * 다른 인스턴스에서 시간대가 바뀐 경우도 UserContext의 시간대와 달라지므로 여기서 다시 만듭니다.
+     */
+    private ActivityCalendar calendar(Long userId) {
+        ZoneId zone = userContextService.get(userId).zone();
+        ActivityCalendar calendar = calendars.get(userId);
+        if (calendar != null) {
+            if (calendar.zone().equals(zone)) {
+                return calendar;
+            }
+            calendars.remove(userId, calendar);
+        }
+        if (calendars.size() >= maxEntries) {
+            evict();
+        }
+        return calendars.computeIfAbsent(userId, id -> load(id, zone));
+    }
+
+    private ActivityCalendar load(Long userId, ZoneId zone) {
+        ActivityCalendar calendar = new ActivityCalendar(zone);
+        for (CalendarSourceRow row : workoutRepository.findCalendarRows(userId)) {
+            LocalDate day = day(row.startedAt(), calendar.zone());
+            calendar.addSession(day, 1);
+            if (row.volume() != null) {
+                calendar.addVolume(day, toCenti(row.volume()));
+            }
+        }
+        return calendar;
+    }
+
+    private void evict() {
+        int target = maxEntries - Math.max(1, maxEntries / 10);
+        Iterator<Long> it = calendars.keySet().iterator();
+        while (calendars.size() > target && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static LocalDate day(LocalDateTime startedAt, ZoneId zone) {
+        return startedAt.atZone(ZoneId.systemDefault()).withZoneSameInstant(zone).toLocalDate();
+    }
+
+    /**
+     * 집계와 같은 무게 × 횟수 볼륨 (0.01kg 단위). 무게나 횟수가 없는 세트는 0입니다.
+     */
+    private static long volume(SetFact fact) {
+        if (fact.weight() == null || fact.reps() == null) {
+            return 0L;
+        }
+        return toCenti(fact.weight()) * fact.reps();
+    }
+
+    private static long toCenti(BigDecimal value) {
+        return value.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValue();
+    }
+
+    private static int level(long volume, long[] quartiles) {
+        if (volume <= 0 || quartiles.length == 0 || volume <= quartiles[0]) {
+            return 1;
+        }
+        if (volume <= quartiles[1]) {
+            return 2;
+        }
+        return volume <= quartiles[2] ? 3 : 4;
+    }
+}
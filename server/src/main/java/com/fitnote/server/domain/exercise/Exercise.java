@@ -5,7 +5,8 @@
 
 package com.fitnote.server.domain.exercise;
 
-import java.util.List;
+import java.util.EnumSet;
+import java.util.Set;
 
 import com.fitnote.server.domain.auth.User;
 import com.fitnote.server.domain.common.BaseTimeEntity;
@@ -23,6 +24,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
@@ -45,7 +47,8 @@ import lombok.Setter;
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Exercise extends BaseTimeEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "exercises_seq")
+    @SequenceGenerator(name = "exercises_seq", allocationSize = 50)
     private Long id;
 
     /** null 이면 글로벌(공용 사전), not null 이면 사용자의 커스텀 종목 */
@@ -60,13 +63,14 @@ public class Exercise extends BaseTimeEntity {
     @Column(nullable = false, length = 20)
     private MuscleGroup primaryMuscle;
 
-    /** 보조 근육군 목록: 별도 테이블로 매핑 */
+    /** 보조 근육군 집합: 별도 테이블로 매핑. 목록 조회는 ExerciseRepository의 일괄 조회를 사용합니다. */
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(name = "exercise_secondary_muscles",
         joinColumns = @JoinColumn(name = "exercise_id"))
     @Column(name = "muscle", nullable = false, length = 20)
     @Enumerated(EnumType.STRING)
-    private List<MuscleGroup> secondaryMuscles;
+    @Builder.Default
+    private Set<MuscleGroup> secondaryMuscles = EnumSet.noneOf(MuscleGroup.class);
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 20)
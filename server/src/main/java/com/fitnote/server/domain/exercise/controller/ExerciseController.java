@@ -0,0 +1,78 @@
+package com.fitnote.server.domain.exercise.controller;
+
+import java.util.List;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.fitnote.server.config.security.user.UserPrincipal;
+import com.fitnote.server.domain.exercise.Equipment;
+import com.fitnote.server.domain.exercise.MuscleGroup;
+import com.fitnote.server.domain.exercise.dto.ExerciseCatalogItem;
+import com.fitnote.server.domain.exercise.dto.ExerciseCatalogVersion;
+import com.fitnote.server.domain.exercise.dto.ExerciseCreateRequest;
+import com.fitnote.server.domain.exercise.dto.ExerciseSearchResult;
+import com.fitnote.server.domain.exercise.service.ExerciseCatalogService;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/exercises")
+public class ExerciseController {
+
+    private final ExerciseCatalogService exerciseCatalogService;
+
+    public ExerciseController(ExerciseCatalogService exerciseCatalogService) {
+        this.exerciseCatalogService = exerciseCatalogService;
+    }
+
+    /**
+     * 글로벌 사전과 본인 커스텀 종목 전체. If-None-Match가 현재 ETag와 같으면 목록을 읽지 않고 304를 반환합니다.
+     * 커스텀 버전은 한 번만 읽어 ETag 확인과 목록에 같이 넘기므로 200 응답도 쿼리는 최대 3번입니다.
+     */
+    @GetMapping
+    public ResponseEntity<List<ExerciseCatalogItem>> getCatalog(
+            @AuthenticationPrincipal UserPrincipal principal,
+            WebRequest webRequest) {
+        ExerciseCatalogVersion customVersion = exerciseCatalogService.customVersion(principal.getId());
+        String etag = exerciseCatalogService.catalogTag(customVersion);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        ExerciseCatalogService.Catalog catalog = exerciseCatalogService.catalog(principal.getId(), customVersion);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(catalog.etag())
+                .body(catalog.exercises());
+    }
+
+    /**
+     * 자동완성 검색. q는 이름 일부 또는 초성("ㅂㅊㅍ")입니다.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<ExerciseSearchResult>> search(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam("q") String query,
+            @RequestParam(name = "muscle", required = false) MuscleGroup muscle,
+            @RequestParam(name = "equipment", required = false) Equipment equipment,
+            @RequestParam(name = "limit", defaultValue = "20") int limit) {
+        return ResponseEntity.ok(exerciseCatalogService.search(principal.getId(), query, muscle, equipment, limit));
+    }
+
+    @PostMapping
+    public ResponseEntity<ExerciseSearchResult> createCustom(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @Valid @RequestBody ExerciseCreateRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(exerciseCatalogService.createCustom(principal.getId(), request));
+    }
+}
@@ -0,0 +1,20 @@
+package com.fitnote.server.domain.exercise.dto;
+
+import java.util.Set;
+
+import com.fitnote.server.domain.exercise.Equipment;
+import com.fitnote.server.domain.exercise.MetricType;
+import com.fitnote.server.domain.exercise.MuscleGroup;
+
+/**
+ * 종목 사전 항목. secondaryMuscles는 MuscleGroup 순서의 EnumSet입니다.
+ */
+public record ExerciseCatalogItem(
+        Long id,
+        String name,
+        MuscleGroup primaryMuscle,
+        Set<MuscleGroup> secondaryMuscles,
+        Equipment equipment,
+        MetricType metricType,
+        boolean custom) {
+}
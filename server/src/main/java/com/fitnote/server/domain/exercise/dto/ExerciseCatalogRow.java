@@ -0,0 +1,13 @@
+package com.fitnote.server.domain.exercise.dto;
+
+import com.fitnote.server.domain.exercise.Equipment;
+import com.fitnote.server.domain.exercise.MetricType;
+import com.fitnote.server.domain.exercise.MuscleGroup;
+
+public record ExerciseCatalogRow(
+        Long id,
+        String name,
+        MuscleGroup primaryMuscle,
+        Equipment equipment,
+        MetricType metricType) {
+}
@@ -0,0 +1,24 @@
+package com.fitnote.server.domain.exercise.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 글로벌 종목 사전의 변경 감지용 값. 추가/삭제는 count와 maxId로, 수정은 lastModified로 드러납니다.
+ */
+public record ExerciseCatalogVersion(
+        long count,
+        Long maxId,
+        LocalDateTime lastModified) {
+
+    /**
+     * ETag 조각. 버전이 같으면 같은 문자열입니다.
+     */
+    public String tag() {
+        if (count == 0) {
+            return "0";
+        }
+        long modified = lastModified == null ? 0 : lastModified.toInstant(ZoneOffset.UTC).toEpochMilli();
+        return Long.toString(count, 36) + "-" + Long.toString(maxId, 36) + "-" + Long.toString(modified, 36);
+    }
+}
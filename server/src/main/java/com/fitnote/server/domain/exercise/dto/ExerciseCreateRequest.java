@@ -0,0 +1,22 @@
+package com.fitnote.server.domain.exercise.dto;
+
+import java.util.List;
+
+import com.fitnote.server.domain.exercise.Equipment;
+import com.fitnote.server.domain.exercise.MetricType;
+import com.fitnote.server.domain.exercise.MuscleGroup;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 사용자 커스텀 종목
+ */
+public record ExerciseCreateRequest(
+        @NotBlank @Size(max = 120) String name,
+        @NotNull MuscleGroup primaryMuscle,
+        @Size(max = 7) List<@NotNull MuscleGroup> secondaryMuscles,
+        @NotNull Equipment equipment,
+        @NotNull MetricType metricType) {
+}
@@ -0,0 +1,8 @@
+package com.fitnote.server.domain.exercise.dto;
+
+import com.fitnote.server.domain.exercise.MetricType;
+
+public record ExerciseMetricType(
+        Long id,
+        MetricType metricType) {
+}
@@ -0,0 +1,8 @@
+package com.fitnote.server.domain.exercise.dto;
+
+import com.fitnote.server.domain.exercise.MuscleGroup;
+
+public record ExerciseMuscleRow(
+        Long exerciseId,
+        MuscleGroup muscle) {
+}
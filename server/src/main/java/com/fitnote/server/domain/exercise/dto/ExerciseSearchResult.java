@@ -0,0 +1,17 @@
+package com.fitnote.server.domain.exercise.dto;
+
+import com.fitnote.server.domain.exercise.Equipment;
+import com.fitnote.server.domain.exercise.MetricType;
+import com.fitnote.server.domain.exercise.MuscleGroup;
+
+/**
+ * custom은 요청한 사용자의 커스텀 종목이면 true입니다.
+ */
+public record ExerciseSearchResult(
+        Long id,
+        String name,
+        MuscleGroup primaryMuscle,
+        Equipment equipment,
+        MetricType metricType,
+        boolean custom) {
+}
@@ -0,0 +1,16 @@
+package com.fitnote.server.domain.exercise.dto;
+
+import java.util.List;
+
+import com.fitnote.server.domain.exercise.Equipment;
+import com.fitnote.server.domain.exercise.MetricType;
+import com.fitnote.server.domain.exercise.MuscleGroup;
+
+public record ExerciseSummary(
+        Long id,
+        String name,
+        MuscleGroup primaryMuscle,
+        List<MuscleGroup> secondaryMuscles,
+        Equipment equipment,
+        MetricType metricType) {
+}
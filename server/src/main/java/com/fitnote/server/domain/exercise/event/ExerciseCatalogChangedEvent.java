@@ -0,0 +1,8 @@
+package com.fitnote.server.domain.exercise.event;
+
+/**
+ * 종목 사전이 바뀌었음을 알립니다. ownerId가 null이면 글로벌 사전, 아니면 그 사용자의 커스텀 종목입니다.
+ * 쓰기 트랜잭션 안에서 발행됩니다.
+ */
+public record ExerciseCatalogChangedEvent(Long ownerId) {
+}
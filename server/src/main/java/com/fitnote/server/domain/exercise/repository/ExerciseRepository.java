@@ -0,0 +1,68 @@
+package com.fitnote.server.domain.exercise.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.fitnote.server.domain.exercise.Exercise;
+import com.fitnote.server.domain.exercise.dto.ExerciseCatalogRow;
+import com.fitnote.server.domain.exercise.dto.ExerciseCatalogVersion;
+import com.fitnote.server.domain.exercise.dto.ExerciseMetricType;
+import com.fitnote.server.domain.exercise.dto.ExerciseMuscleRow;
+
+public interface ExerciseRepository extends JpaRepository<Exercise, Long> {
+
+    /**
+     * 사용자가 쓸 수 있는 종목(글로벌 또는 본인 커스텀)만 골라 메트릭 타입과 함께 반환합니다.
+     */
+    @Query("select new com.fitnote.server.domain.exercise.dto.ExerciseMetricType(e.id, e.metricType) "
+            + "from Exercise e where e.id in :ids and (e.owner is null or e.owner.id = :userId)")
+    List<ExerciseMetricType> findVisibleMetricTypes(
+            @Param("userId") Long userId,
+            @Param("ids") Collection<Long> ids);
+
+    @Query("select new com.fitnote.server.domain.exercise.dto.ExerciseMuscleRow(e.id, m) "
+            + "from Exercise e join e.secondaryMuscles m where e.id in :ids")
+    List<ExerciseMuscleRow> findSecondaryMuscles(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 사용자가 기간 안에 기록한 종목들의 보조 근육군
+     */
+    @Query("select distinct new com.fitnote.server.domain.exercise.dto.ExerciseMuscleRow(e.id, m) "
+            + "from WorkoutExercise we join we.workout w join we.exercise e join e.secondaryMuscles m "
+            + "where w.user.id = :userId and w.startedAt >= :from and w.startedAt < :to")
+    List<ExerciseMuscleRow> findSecondaryMusclesUsedBy(
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    @Query("select new com.fitnote.server.domain.exercise.dto.ExerciseCatalogRow("
+            + "e.id, e.name, e.primaryMuscle, e.equipment, e.metricType) "
+            + "from Exercise e where e.owner is null order by e.id")
+    List<ExerciseCatalogRow> findGlobalCatalogRows();
+
+    @Query("select new com.fitnote.server.domain.exercise.dto.ExerciseCatalogRow("
+            + "e.id, e.name, e.primaryMuscle, e.equipment, e.metricType) "
+            + "from Exercise e where e.owner.id = :userId order by e.id")
+    List<ExerciseCatalogRow> findCustomCatalogRows(@Param("userId") Long userId);
+
+    @Query("select new com.fitnote.server.domain.exercise.dto.ExerciseCatalogVersion("
+            + "count(e), max(e.id), max(e.updatedAt)) from Exercise e where e.owner is null")
+    ExerciseCatalogVersion findGlobalCatalogVersion();
+
+    @Query("select new com.fitnote.server.domain.exercise.dto.ExerciseCatalogVersion("
+            + "count(e), max(e.id), max(e.updatedAt)) from Exercise e where e.owner.id = :userId")
+    ExerciseCatalogVersion findCustomCatalogVersion(@Param("userId") Long userId);
+
+    @Query("select new com.fitnote.server.domain.exercise.dto.ExerciseMuscleRow(e.id, m) "
+            + "from Exercise e join e.secondaryMuscles m where e.owner is null")
+    List<ExerciseMuscleRow> findGlobalSecondaryMuscles();
+
+    @Query("select new com.fitnote.server.domain.exercise.dto.ExerciseMuscleRow(e.id, m) "
+            + "from Exercise e join e.secondaryMuscles m where e.owner.id = :userId")
+    List<ExerciseMuscleRow> findCustomSecondaryMuscles(@Param("userId") Long userId);
+}
@@ -0,0 +1,138 @@
+package com.fitnote.server.domain.exercise.service;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fitnote.server.domain.exercise.Equipment;
+import com.fitnote.server.domain.exercise.MuscleGroup;
+import com.fitnote.server.domain.exercise.dto.ExerciseCatalogRow;
+import com.fitnote.server.domain.exercise.dto.ExerciseSearchResult;
+
+/**
+ * 종목 이름 검색 인덱스. 만든 뒤에는 바뀌지 않으므로 잠금 없이 여러 스레드가 읽습니다.
+ *
+ * 이름을 초성으로 투영한 문자열("ㅂㅊㅍㄹㅅ")의 1-gram/2-gram 역색인을 둡니다.
+ * 검색어도 같은 방식으로 투영하면 일치하는 이름은 반드시 검색어의 모든 n-gram을 가지므로,
+ * 가장 짧은 posting 목록만 후보로 삼고 {@link HangulText#indexOf}로 확인합니다.
+ */
+final class ExerciseCatalogIndex {
+
+    static final ExerciseCatalogIndex EMPTY = new ExerciseCatalogIndex(List.of(), false);
+
+    /** 앞에서 일치할수록, 이름이 짧을수록 먼저 */
+    static final Comparator<Match> RANKING = Comparator.comparingInt(Match::position)
+            .thenComparingInt(Match::length)
+            .thenComparing(match -> match.result().name())
+            .thenComparing(match -> match.result().id());
+
+    private static final int[] NO_POSTINGS = new int[0];
+
+    private final ExerciseSearchResult[] entries;
+    private final char[][] names;
+    private final char[][] projected;
+    private final Map<Integer, int[]> postings;
+
+    ExerciseCatalogIndex(List<ExerciseCatalogRow> rows, boolean custom) {
+        int size = rows.size();
+        entries = new ExerciseSearchResult[size];
+        names = new char[size][];
+        projected = new char[size][];
+        Map<Integer, PostingBuilder> builders = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            ExerciseCatalogRow row = rows.get(i);
+            entries[i] = new ExerciseSearchResult(
+                    row.id(), row.name(), row.primaryMuscle(), row.equipment(), row.metricType(), custom);
+            names[i] = HangulText.normalize(row.name());
+            projected[i] = HangulText.project(names[i]);
+            char[] grams = projected[i];
+            for (int p = 0; p < grams.length; p++) {
+                builders.computeIfAbsent(unigram(grams[p]), key -> new PostingBuilder()).add(i);
+                if (p + 1 < grams.length) {
+                    builders.computeIfAbsent(bigram(grams[p], grams[p + 1]), key -> new PostingBuilder()).add(i);
+                }
+            }
+        }
+        postings = new HashMap<>(builders.size() * 2);
+        builders.forEach((key, builder) -> postings.put(key, builder.toArray()));
+    }
+
+    int size() {
+        return entries.length;
+    }
+
+    /**
+     * 일치하는 종목을 out에 더합니다. 정렬과 개수 제한은 호출자가 합니다.
+     *
+     * @param query     {@link HangulText#normalize}한 검색어
+     * @param muscle    주 근육군 필터, 없으면 null
+     * @param equipment 장비 필터, 없으면 null
+     */
+    void search(char[] query, MuscleGroup muscle, Equipment equipment, List<Match> out) {
+        int[] candidates = candidates(query);
+        for (int i : candidates) {
+            ExerciseSearchResult entry = entries[i];
+            if ((muscle != null && entry.primaryMuscle() != muscle)
+                    || (equipment != null && entry.equipment() != equipment)) {
+                continue;
+            }
+            int position = HangulText.indexOf(names[i], projected[i], query);
+            if (position >= 0) {
+                out.add(new Match(entry, position, names[i].length));
+            }
+        }
+    }
+
+    private int[] candidates(char[] query) {
+        if (query.length == 0) {
+            return NO_POSTINGS;
+        }
+        if (query.length == 1) {
+            return postings.getOrDefault(unigram(HangulText.project(query[0])), NO_POSTINGS);
+        }
+        int[] shortest = null;
+        for (int p = 0; p + 1 < query.length; p++) {
+            int[] list = postings.get(bigram(HangulText.project(query[p]), HangulText.project(query[p + 1])));
+            if (list == null) {
+                return NO_POSTINGS;
+            }
+            if (shortest == null || list.length < shortest.length) {
+                shortest = list;
+            }
+        }
+        return shortest;
+    }
+
+    private static int unigram(char c) {
+        return c;
+    }
+
+    private static int bigram(char first, char second) {
+        // first는 0이 아니므로 1-gram(0xFFFF 이하)과 겹치지 않습니다.
+        return (first << 16) | second;
+    }
+
+    record Match(ExerciseSearchResult result, int position, int length) {
+    }
+
+    private static final class PostingBuilder {
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int id) {
+            if (size > 0 && ids[size - 1] == id) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.fitnote.server.domain.exercise.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fitnote.server.domain.auth.repository.UserRepository;
+import com.fitnote.server.domain.exercise.Equipment;
+import com.fitnote.server.domain.exercise.Exercise;
+import com.fitnote.server.domain.exercise.MuscleGroup;
+import com.fitnote.server.domain.exercise.dto.ExerciseCatalogItem;
+import com.fitnote.server.domain.exercise.dto.ExerciseCatalogRow;
+import com.fitnote.server.domain.exercise.dto.ExerciseCatalogVersion;
+import com.fitnote.server.domain.exercise.dto.ExerciseCreateRequest;
+import com.fitnote.server.domain.exercise.dto.ExerciseMuscleRow;
+import com.fitnote.server.domain.exercise.dto.ExerciseSearchResult;
+import com.fitnote.server.domain.exercise.event.ExerciseCatalogChangedEvent;
+import com.fitnote.server.domain.exercise.repository.ExerciseRepository;
+
+/**
+ * 종목 사전 목록과 자동완성 검색
+ *
+ * 글로벌 사전은 불변 인덱스 하나를 AtomicReference로 통째로 바꿔 끼우므로 검색은 잠금 없이 진행됩니다.
+ * 다른 인스턴스나 DB에서 직접 바뀐 경우에 대비해 사전 버전을 주기적으로 확인합니다.
+ * 사용자 커스텀 종목은 처음 검색할 때 읽어 따로 인덱싱하고, 바뀌면 버렸다가 다시 읽습니다.
+ */
+@Service
+public class ExerciseCatalogService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExerciseCatalogService.class);
+
+    private final AtomicReference<GlobalCatalog> global = new AtomicReference<>();
+    private final Map<Long, ExerciseCatalogIndex> customs = new ConcurrentHashMap<>();
+    private final ExerciseRepository exerciseRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxCustomEntries;
+    private final int maxResults;
+
+    public ExerciseCatalogService(
+            ExerciseRepository exerciseRepository,
+            UserRepository userRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${catalog.custom-cache.max-entries:10000}") int maxCustomEntries,
+            @Value("${catalog.search.max-results:50}") int maxResults) {
+        this.exerciseRepository = exerciseRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.maxCustomEntries = maxCustomEntries;
+        this.maxResults = maxResults;
+    }
+
+    /**
+     * 이름의 접두/부분 일치와 초성 검색("ㅂㅊㅍ" → "벤치프레스")을 지원합니다.
+     * 글로벌과 본인 커스텀 종목을 함께 순위(앞에서 일치, 짧은 이름 순)대로 반환합니다.
+     */
+    public List<ExerciseSearchResult> search(
+            Long userId, String query, MuscleGroup muscle, Equipment equipment, int limit) {
+        if (limit < 1 || limit > maxResults) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit은 1 이상 " + maxResults + " 이하여야 합니다.");
+        }
+        char[] normalized = HangulText.normalize(query);
+        if (normalized.length == 0) {
+            return List.of();
+        }
+
+        List<ExerciseCatalogIndex.Match> matches = new ArrayList<>();
+        global().index().search(normalized, muscle, equipment, matches);
+        custom(userId).search(normalized, muscle, equipment, matches);
+        matches.sort(ExerciseCatalogIndex.RANKING);
+
+        int size = Math.min(limit, matches.size());
+        List<ExerciseSearchResult> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            results.add(matches.get(i).result());
+        }
+        return results;
+    }
+
+    /**
+     * 사용자 커스텀 종목 버전. ETag 확인과 목록 응답이 이 값 하나를 같이 씁니다.
+     */
+    public ExerciseCatalogVersion customVersion(Long userId) {
+        return exerciseRepository.findCustomCatalogVersion(userId);
+    }
+
+    /**
+     * 글로벌 사전 버전(메모리)과 커스텀 종목 버전으로 만든 강한 ETag. 쿼리를 더 하지 않습니다.
+     */
+    public String catalogTag(ExerciseCatalogVersion customVersion) {
+        return tag(global().version(), customVersion);
+    }
+
+    /**
+     * 글로벌 사전(메모리)과 본인 커스텀 종목을 합친 전체 목록.
+     * 커스텀 버전은 호출한 쪽에서 이미 읽었으므로, 커스텀 종목이 있으면 쿼리 2번(커스텀 종목, 커스텀 보조 근육군), 없으면 0번입니다.
+     */
+    @Transactional(readOnly = true)
+    public Catalog catalog(Long userId, ExerciseCatalogVersion customVersion) {
+        GlobalCatalog globalCatalog = global();
+        List<ExerciseCatalogItem> exercises = new ArrayList<>(globalCatalog.items());
+        if (customVersion.count() > 0) {
+            exercises.addAll(items(
+                    exerciseRepository.findCustomCatalogRows(userId),
+                    exerciseRepository.findCustomSecondaryMuscles(userId),
+                    true));
+        }
+        return new Catalog(tag(globalCatalog.version(), customVersion), exercises);
+    }
+
+    @Transactional
+    public ExerciseSearchResult createCustom(Long userId, ExerciseCreateRequest request) {
+        Exercise exercise = Exercise.builder()
+                .owner(userRepository.getReferenceById(userId))
+                .name(request.name().strip())
+                .primaryMuscle(request.primaryMuscle())
+                .secondaryMuscles(request.secondaryMuscles() == null || request.secondaryMuscles().isEmpty()
+                        ? EnumSet.noneOf(MuscleGroup.class) : EnumSet.copyOf(request.secondaryMuscles()))
+                .equipment(request.equipment())
+                .metricType(request.metricType())
+                .isPublic(Boolean.FALSE)
+                .build();
+        try {
+            exerciseRepository.saveAndFlush(exercise);
+        } catch (DataIntegrityViolationException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 같은 이름의 종목이 있습니다.");
+        }
+
+        eventPublisher.publishEvent(new ExerciseCatalogChangedEvent(userId));
+        return new ExerciseSearchResult(exercise.getId(), exercise.getName(), exercise.getPrimaryMuscle(),
+                exercise.getEquipment(), exercise.getMetricType(), true);
+    }
+
+    @Scheduled(
+            initialDelayString = "${catalog.refresh-interval-ms:60000}",
+            fixedDelayString = "${catalog.refresh-interval-ms:60000}")
+    public void refreshIfChanged() {
+        GlobalCatalog current = global.get();
+        if (current != null && current.version().equals(exerciseRepository.findGlobalCatalogVersion())) {
+            return;
+        }
+        reload();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCatalogChanged(ExerciseCatalogChangedEvent event) {
+        if (event.ownerId() == null) {
+            reload();
+        } else {
+            customs.remove(event.ownerId());
+        }
+    }
+
+    GlobalCatalog global() {
+        GlobalCatalog current = global.get();
+        return current != null ? current : reload();
+    }
+
+    /**
+     * 버전을 먼저 읽으므로, 읽는 사이에 바뀌면 다음 확인에서 한 번 더 다시 만들 뿐 변경을 놓치지 않습니다.
+     */
+    private synchronized GlobalCatalog reload() {
+        long started = System.nanoTime();
+        ExerciseCatalogVersion version = exerciseRepository.findGlobalCatalogVersion();
+        List<ExerciseCatalogRow> rows = exerciseRepository.findGlobalCatalogRows();
+        List<ExerciseCatalogItem> items = items(rows, exerciseRepository.findGlobalSecondaryMuscles(), false);
+        GlobalCatalog catalog = new GlobalCatalog(version, new ExerciseCatalogIndex(rows, false), items);
+        global.set(catalog);
+        logger.info("Exercise catalog indexed: {} exercises in {} ms",
+                rows.size(), (System.nanoTime() - started) / 1_000_000);
+        return catalog;
+    }
+
+    private ExerciseCatalogIndex custom(Long userId) {
+        ExerciseCatalogIndex cached = customs.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        if (customs.size() >= maxCustomEntries) {
+            evictCustoms();
+        }
+        return customs.computeIfAbsent(userId, id -> {
+            List<ExerciseCatalogRow> rows = exerciseRepository.findCustomCatalogRows(id);
+            return rows.isEmpty() ? ExerciseCatalogIndex.EMPTY : new ExerciseCatalogIndex(rows, true);
+        });
+    }
+
+    private void evictCustoms() {
+        int target = maxCustomEntries - Math.max(1, maxCustomEntries / 10);
+        Iterator<Long> it = customs.keySet().iterator();
+        while (customs.size() > target && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static List<ExerciseCatalogItem> items(
+            List<ExerciseCatalogRow> rows, List<ExerciseMuscleRow> muscles, boolean custom) {
+        Map<Long, Set<MuscleGroup>> secondary = new HashMap<>();
+        for (ExerciseMuscleRow muscle : muscles) {
+            secondary.computeIfAbsent(muscle.exerciseId(), id -> EnumSet.noneOf(MuscleGroup.class)).add(muscle.muscle());
+        }
+        List<ExerciseCatalogItem> items = new ArrayList<>(rows.size());
+        for (ExerciseCatalogRow row : rows) {
+            Set<MuscleGroup> muscleSet = secondary.get(row.id());
+            items.add(new ExerciseCatalogItem(
+                    row.id(),
+                    row.name(),
+                    row.primaryMuscle(),
+                    muscleSet == null ? Set.of() : Collections.unmodifiableSet(muscleSet),
+                    row.equipment(),
+                    row.metricType(),
+                    custom));
+        }
+        return List.copyOf(items);
+    }
+
+    private static String tag(ExerciseCatalogVersion global, ExerciseCatalogVersion custom) {
+        return "\"" + global.tag() + "." + custom.tag() + "\"";
+    }
+
+    record GlobalCatalog(ExerciseCatalogVersion version, ExerciseCatalogIndex index, List<ExerciseCatalogItem> items) {
+    }
+
+    public record Catalog(String etag, List<ExerciseCatalogItem> exercises) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.fitnote.server.domain.exercise.service;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 종목 이름 검색용 정규화. 공백을 지우고 소문자로 바꾼 뒤, 한글 음절은 초성으로 투영할 수 있습니다.
+ */
+final class HangulText {
+
+    private static final char SYLLABLE_FIRST = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+    private static final char[] CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+
+    private HangulText() {
+    }
+
+    static char[] normalize(String text) {
+        String lower = text.toLowerCase(Locale.ROOT);
+        char[] buffer = new char[lower.length()];
+        int length = 0;
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                buffer[length++] = c;
+            }
+        }
+        return length == buffer.length ? buffer : Arrays.copyOf(buffer, length);
+    }
+
+    /**
+     * 한글 음절은 초성으로, 나머지 글자는 그대로 둡니다. ("벤치프레스" → "ㅂㅊㅍㄹㅅ")
+     */
+    static char[] project(char[] normalized) {
+        char[] projected = new char[normalized.length];
+        for (int i = 0; i < normalized.length; i++) {
+            projected[i] = project(normalized[i]);
+        }
+        return projected;
+    }
+
+    static char project(char c) {
+        return c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST ? CHOSEONG[(c - SYLLABLE_FIRST) / SYLLABLES_PER_CHOSEONG] : c;
+    }
+
+    static boolean isChoseong(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    /**
+     * query가 처음 일치하는 위치, 없으면 -1. 검색어의 자음(ㄱ~ㅎ)은 이름 글자의 초성과 비교합니다.
+     * ("ㅂㅊㅍ", "벤ㅊ", "벤치프" 모두 "벤치프레스"의 0번 위치와 일치)
+     */
+    static int indexOf(char[] name, char[] projectedName, char[] query) {
+        outer:
+        for (int start = 0; start + query.length <= name.length; start++) {
+            for (int i = 0; i < query.length; i++) {
+                char q = query[i];
+                if (q != name[start + i] && !(isChoseong(q) && q == projectedName[start + i])) {
+                    continue outer;
+                }
+            }
+            return start;
+        }
+        return -1;
+    }
+}
@@ -1,7 +1,5 @@
 package com.fitnote.server.domain.history.controller;
 
-import java.util.List;
-
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -9,10 +7,12 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.fitnote.server.config.security.user.UserPrincipal;
 import com.fitnote.server.domain.history.dto.HistoryCreateRequest;
+import com.fitnote.server.domain.history.dto.HistoryPageResponse;
 import com.fitnote.server.domain.history.dto.HistoryResponse;
 import com.fitnote.server.domain.history.service.HistoryService;
 
@@ -29,9 +29,11 @@ public class HistoryController {
     }
 
     @GetMapping
-    public ResponseEntity<List<HistoryResponse>> getHistory(
-            @AuthenticationPrincipal UserPrincipal principal) {
-        List<HistoryResponse> history = historyService.findByUser(principal.getId());
+    public ResponseEntity<HistoryPageResponse> getHistory(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", defaultValue = "20") int limit) {
+        HistoryPageResponse history = historyService.findByUser(principal.getId(), cursor, limit);
         return ResponseEntity.ok(history);
     }
 
@@ -0,0 +1,39 @@
+package com.fitnote.server.domain.history.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 기록 목록 keyset 커서: 마지막으로 반환한 항목의 (startedAt, id)
+ * 클라이언트에는 불투명한 base64url 문자열로 전달합니다.
+ */
+public record HistoryCursor(LocalDateTime startedAt, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static HistoryCursor of(HistoryResponse last) {
+        return new HistoryCursor(last.startedAt(), last.id());
+    }
+
+    public static HistoryCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            return new HistoryCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+    }
+
+    public String encode() {
+        String raw = startedAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
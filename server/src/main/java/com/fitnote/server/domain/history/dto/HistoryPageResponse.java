@@ -0,0 +1,11 @@
+package com.fitnote.server.domain.history.dto;
+
+import java.util.List;
+
+/**
+ * 기록 목록 한 페이지. nextCursor가 null이면 마지막 페이지입니다.
+ */
+public record HistoryPageResponse(
+        List<HistoryResponse> items,
+        String nextCursor) {
+}
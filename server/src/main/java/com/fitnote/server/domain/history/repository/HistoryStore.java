@@ -0,0 +1,21 @@
+package com.fitnote.server.domain.history.repository;
+
+import java.util.List;
+
+import com.fitnote.server.domain.history.dto.HistoryCreateRequest;
+import com.fitnote.server.domain.history.dto.HistoryCursor;
+import com.fitnote.server.domain.history.dto.HistoryResponse;
+
+/**
+ * 운동 기록 저장소
+ * history.store=jpa(기본)는 workouts 테이블, history.store=memory는 프로세스 메모리에 저장합니다.
+ */
+public interface HistoryStore {
+
+    /**
+     * (startedAt desc, id desc) 순서로 cursor 다음 항목을 최대 limit개 반환합니다. cursor가 null이면 처음부터 읽습니다.
+     */
+    List<HistoryResponse> findPage(Long userId, HistoryCursor cursor, int limit);
+
+    HistoryResponse save(Long userId, HistoryCreateRequest request);
+}
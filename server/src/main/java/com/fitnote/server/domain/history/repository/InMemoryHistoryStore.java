@@ -0,0 +1,155 @@
+package com.fitnote.server.domain.history.repository;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fitnote.server.common.journal.JournaledState;
+import com.fitnote.server.common.journal.JsonCodec;
+import com.fitnote.server.common.journal.MemoryStoreJournals;
+import com.fitnote.server.domain.history.dto.HistoryCreateRequest;
+import com.fitnote.server.domain.history.dto.HistoryCursor;
+import com.fitnote.server.domain.history.dto.HistoryResponse;
+
+/**
+ * 메모리 기반 기록 저장소
+ *
+ * 사용자별로 (startedAt desc, id desc) 순서의 ConcurrentSkipListMap을 유지하므로
+ * 여러 기기에서 동시에 추가해도 락 없이 삽입되고, 커서 조회는 정렬 없이 O(log n + limit)에 끝납니다.
+ * 순회는 weakly consistent하지만 커서가 키 자체이므로 페이지 사이에 중복/누락이 생기지 않습니다.
+ * 저널이 켜져 있으면 추가는 디스크에 확정된 뒤 메모리에 반영되고, 기동 시 스냅샷과 저널로 복원됩니다.
+ */
+@Repository
+@ConditionalOnProperty(name = "history.store", havingValue = "memory")
+public class InMemoryHistoryStore implements HistoryStore {
+
+    private final AtomicLong idGenerator = new AtomicLong(1L);
+    private final Map<Long, ConcurrentSkipListMap<HistoryKey, HistoryResponse>> storage = new ConcurrentHashMap<>();
+    private final JournaledState journal; // null이면 휘발성
+    private final JsonCodec<JournalEntry> entryCodec;
+    private final JsonCodec<Snapshot> snapshotCodec;
+
+    public InMemoryHistoryStore() {
+        this.journal = null;
+        this.entryCodec = null;
+        this.snapshotCodec = null;
+    }
+
+    @Autowired
+    public InMemoryHistoryStore(MemoryStoreJournals journals, ObjectMapper objectMapper) {
+        this.entryCodec = new JsonCodec<>(objectMapper, JournalEntry.class);
+        this.snapshotCodec = new JsonCodec<>(objectMapper, Snapshot.class);
+        this.journal = journals.open("history", this::restore, this::replay, this::encodeSnapshot);
+    }
+
+    @Override
+    public List<HistoryResponse> findPage(Long userId, HistoryCursor cursor, int limit) {
+        ConcurrentSkipListMap<HistoryKey, HistoryResponse> userHistory = storage.get(userId);
+        if (userHistory == null) {
+            return List.of();
+        }
+
+        NavigableMap<HistoryKey, HistoryResponse> view = cursor == null
+                ? userHistory
+                : userHistory.tailMap(new HistoryKey(cursor.startedAt(), cursor.id()), false);
+
+        List<HistoryResponse> page = new ArrayList<>(Math.min(limit, 64));
+        Iterator<HistoryResponse> it = view.values().iterator();
+        while (page.size() < limit && it.hasNext()) {
+            page.add(it.next());
+        }
+        return page;
+    }
+
+    @Override
+    public HistoryResponse save(Long userId, HistoryCreateRequest request) {
+        if (journal == null) {
+            return insert(userId, newHistory(request));
+        }
+        return journal.write(userId,
+                () -> newHistory(request),
+                response -> entryCodec.encode(new JournalEntry(userId, response)),
+                response -> insert(userId, response));
+    }
+
+    private HistoryResponse newHistory(HistoryCreateRequest request) {
+        return new HistoryResponse(
+                idGenerator.getAndIncrement(),
+                request.title(),
+                request.startedAt() != null ? request.startedAt() : LocalDateTime.now(),
+                request.endedAt(),
+                request.notes());
+    }
+
+    private HistoryResponse insert(Long userId, HistoryResponse response) {
+        storage.computeIfAbsent(userId, key -> new ConcurrentSkipListMap<>())
+                .put(HistoryKey.of(response), response);
+        return response;
+    }
+
+    private void replay(byte[] payload) {
+        JournalEntry entry = entryCodec.decode(payload);
+        insert(entry.userId(), entry.history());
+        idGenerator.accumulateAndGet(entry.history().id() + 1, Math::max);
+    }
+
+    private void restore(ByteBuffer payload) {
+        Snapshot snapshot = snapshotCodec.decode(payload);
+        for (JournalEntry entry : snapshot.entries()) {
+            insert(entry.userId(), entry.history());
+        }
+        idGenerator.set(snapshot.nextId());
+    }
+
+    /**
+     * 저널의 스냅샷 락 안에서 호출되므로 저널에 남은 쓰기가 모두 반영된 일관된 상태를 직렬화합니다.
+     */
+    private byte[] encodeSnapshot() {
+        List<JournalEntry> entries = new ArrayList<>();
+        storage.forEach((userId, userHistory) ->
+                userHistory.values().forEach(history -> entries.add(new JournalEntry(userId, history))));
+        return snapshotCodec.encode(new Snapshot(idGenerator.get(), entries));
+    }
+
+    /**
+     * 사용자 기록 전체의 불변 복사본 (최신순)
+     */
+    public List<HistoryResponse> snapshot(Long userId) {
+        ConcurrentSkipListMap<HistoryKey, HistoryResponse> userHistory = storage.get(userId);
+        return userHistory == null ? List.of() : List.copyOf(userHistory.values());
+    }
+
+    record JournalEntry(long userId, HistoryResponse history) {
+    }
+
+    record Snapshot(long nextId, List<JournalEntry> entries) {
+    }
+
+    /**
+     * 최신순 정렬 키: startedAt 내림차순, 같은 시각이면 id 내림차순
+     */
+    record HistoryKey(LocalDateTime startedAt, long id) implements Comparable<HistoryKey> {
+
+        static HistoryKey of(HistoryResponse history) {
+            return new HistoryKey(history.startedAt(), history.id());
+        }
+
+        @Override
+        public int compareTo(HistoryKey other) {
+            int compare = other.startedAt.compareTo(startedAt);
+            return compare != 0 ? compare : Long.compare(other.id, id);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.fitnote.server.domain.history.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fitnote.server.domain.auth.repository.UserRepository;
+import com.fitnote.server.domain.history.dto.HistoryCreateRequest;
+import com.fitnote.server.domain.history.dto.HistoryCursor;
+import com.fitnote.server.domain.history.dto.HistoryResponse;
+import com.fitnote.server.domain.workout.Workout;
+import com.fitnote.server.domain.workout.event.WorkoutChangedEvent;
+import com.fitnote.server.domain.workout.repository.WorkoutRepository;
+
+@Repository
+@ConditionalOnProperty(name = "history.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaHistoryStore implements HistoryStore {
+
+    private final WorkoutRepository workoutRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public JpaHistoryStore(
+            WorkoutRepository workoutRepository,
+            UserRepository userRepository,
+            ApplicationEventPublisher eventPublisher) {
+        this.workoutRepository = workoutRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<HistoryResponse> findPage(Long userId, HistoryCursor cursor, int limit) {
+        PageRequest page = PageRequest.ofSize(limit);
+        if (cursor == null) {
+            return workoutRepository.findHistoryPage(userId, page);
+        }
+        return workoutRepository.findHistoryPageAfter(userId, cursor.startedAt(), cursor.id(), page);
+    }
+
+    @Override
+    @Transactional
+    public HistoryResponse save(Long userId, HistoryCreateRequest request) {
+        Workout workout = workoutRepository.save(Workout.builder()
+                .user(userRepository.getReferenceById(userId))
+                .title(request.title())
+                .startedAt(request.startedAt() != null ? request.startedAt() : LocalDateTime.now())
+                .endedAt(request.endedAt())
+                .notes(request.notes())
+                .build());
+        eventPublisher.publishEvent(WorkoutChangedEvent.created(userId, workout.getId(), workout.getStartedAt(),
+                workout.getNotes() != null ? List.of(workout.getNotes()) : List.of()));
+
+        return new HistoryResponse(
+                workout.getId(),
+                workout.getTitle(),
+                workout.getStartedAt(),
+                workout.getEndedAt(),
+                workout.getNotes());
+    }
+}
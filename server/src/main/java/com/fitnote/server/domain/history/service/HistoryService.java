@@ -1,39 +1,42 @@
 package com.fitnote.server.domain.history.service;
 
-import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicLong;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.fitnote.server.domain.history.dto.HistoryCreateRequest;
+import com.fitnote.server.domain.history.dto.HistoryCursor;
+import com.fitnote.server.domain.history.dto.HistoryPageResponse;
 import com.fitnote.server.domain.history.dto.HistoryResponse;
+import com.fitnote.server.domain.history.repository.HistoryStore;
 
 @Service
 public class HistoryService {
 
-    private final AtomicLong idGenerator = new AtomicLong(1L);
-    private final Map<Long, List<HistoryResponse>> storage = new ConcurrentHashMap<>();
+    private final HistoryStore historyStore;
+    private final int maxPageSize;
 
-    public List<HistoryResponse> findByUser(Long userId) {
-        return storage.getOrDefault(userId, List.of()).stream()
-                .sorted(Comparator.comparing(HistoryResponse::startedAt).reversed())
-                .toList();
+    public HistoryService(
+            HistoryStore historyStore,
+            @Value("${history.max-page-size:100}") int maxPageSize) {
+        this.historyStore = historyStore;
+        this.maxPageSize = maxPageSize;
+    }
+
+    public HistoryPageResponse findByUser(Long userId, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, maxPageSize));
+        HistoryCursor after = cursor != null && !cursor.isBlank() ? HistoryCursor.decode(cursor) : null;
+
+        List<HistoryResponse> items = historyStore.findPage(userId, after, pageSize);
+        // 꽉 찬 페이지일 때만 다음 커서를 준다. 한 행을 더 읽어 확인하지 않으므로 마지막 요청은 빈 페이지일 수 있다.
+        String nextCursor = items.size() == pageSize
+                ? HistoryCursor.of(items.get(items.size() - 1)).encode()
+                : null;
+        return new HistoryPageResponse(items, nextCursor);
     }
 
     public HistoryResponse addHistory(Long userId, HistoryCreateRequest request) {
-        HistoryResponse response = new HistoryResponse(
-                idGenerator.getAndIncrement(),
-                request.title(),
-                request.startedAt() != null ? request.startedAt() : LocalDateTime.now(),
-                request.endedAt(),
-                request.notes());
-
-        storage.computeIfAbsent(userId, key -> new ArrayList<>()).add(response);
-        return response;
+        return historyStore.save(userId, request);
     }
 }
@@ -0,0 +1,56 @@
+package com.fitnote.server.domain.idempotency;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Idempotency-Key로 처리한 요청의 응답. status가 null이면 아직 처리 중인 요청이 키를 선점한 상태입니다.
+ */
+@Entity
+@Table(name = "idempotency_records",
+        uniqueConstraints = @UniqueConstraint(name = "uq_idempotency_key",
+                columnNames = {"user_id", "idempotencyKey"}),
+        indexes = @Index(name = "idx_idempotency_expires", columnList = "expiresAt"))
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class IdempotencyRecord {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 128)
+    private String idempotencyKey;
+
+    @Column(nullable = false, length = 64)
+    private String fingerprint;         // 메서드/경로/본문의 SHA-256 (같은 키의 다른 요청 구분)
+
+    private Integer status;
+
+    @Column(length = 100)
+    private String contentType;
+
+    @Lob
+    private byte[] body;
+
+    @Column(nullable = false)
+    private LocalDateTime claimedAt;    // 선점한 인스턴스가 죽었는지 판단하는 기준
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,32 @@
+package com.fitnote.server.domain.idempotency.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fitnote.server.domain.idempotency.IdempotencyRecord;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+    Optional<IdempotencyRecord> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
+    @Transactional
+    @Modifying
+    @Query("update IdempotencyRecord r set r.status = :status, r.contentType = :contentType, r.body = :body "
+            + "where r.id = :id")
+    int complete(
+            @Param("id") Long id,
+            @Param("status") int status,
+            @Param("contentType") String contentType,
+            @Param("body") byte[] body);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,36 @@
+package com.fitnote.server.domain.note.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fitnote.server.config.security.user.UserPrincipal;
+import com.fitnote.server.domain.note.dto.NoteSearchHit;
+import com.fitnote.server.domain.note.service.NoteSearchService;
+
+@RestController
+@RequestMapping("/api/notes")
+public class NoteSearchController {
+
+    private final NoteSearchService noteSearchService;
+
+    public NoteSearchController(NoteSearchService noteSearchService) {
+        this.noteSearchService = noteSearchService;
+    }
+
+    /**
+     * 운동 기록/종목 메모에서 검색어와 가까운 기록을 점수순으로 찾습니다. 예: ?q=어깨 통증
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<NoteSearchHit>> search(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam("q") String query,
+            @RequestParam(name = "limit", defaultValue = "20") int limit) {
+        return ResponseEntity.ok(noteSearchService.search(principal.getId(), query, limit));
+    }
+}
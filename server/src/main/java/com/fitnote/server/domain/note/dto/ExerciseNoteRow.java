@@ -0,0 +1,6 @@
+package com.fitnote.server.domain.note.dto;
+
+public record ExerciseNoteRow(
+        Long workoutId,
+        String notes) {
+}
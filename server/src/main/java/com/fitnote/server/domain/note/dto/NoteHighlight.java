@@ -0,0 +1,9 @@
+package com.fitnote.server.domain.note.dto;
+
+/**
+ * 미리보기 안에서 검색어와 일치한 구간 [start, end)
+ */
+public record NoteHighlight(
+        int start,
+        int end) {
+}
@@ -0,0 +1,15 @@
+package com.fitnote.server.domain.note.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 한 사용자 운동 기록의 변경 감지용 값. 생성/삭제는 count와 maxId로, 수정은 lastModified로 드러납니다.
+ * 종목 메모는 workout_exercises에만 있으므로 그 행 수와 최종 수정 시각도 함께 봅니다.
+ */
+public record NoteIndexVersion(
+        long count,
+        Long maxId,
+        LocalDateTime lastModified,
+        long exerciseCount,
+        LocalDateTime exerciseLastModified) {
+}
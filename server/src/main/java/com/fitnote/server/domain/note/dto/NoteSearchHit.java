@@ -0,0 +1,16 @@
+package com.fitnote.server.domain.note.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 메모 검색 결과 한 건. score는 BM25 점수이며 결과는 점수 내림차순입니다.
+ */
+public record NoteSearchHit(
+        Long workoutId,
+        String title,
+        LocalDateTime startedAt,
+        double score,
+        String snippet,
+        List<NoteHighlight> highlights) {
+}
@@ -0,0 +1,10 @@
+package com.fitnote.server.domain.note.dto;
+
+import java.time.LocalDateTime;
+
+public record WorkoutNoteRow(
+        Long workoutId,
+        String title,
+        LocalDateTime startedAt,
+        String notes) {
+}
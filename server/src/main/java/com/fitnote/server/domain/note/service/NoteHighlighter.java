@@ -0,0 +1,87 @@
+package com.fitnote.server.domain.note.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.fitnote.server.domain.note.dto.NoteHighlight;
+
+/**
+ * 검색 결과 미리보기. 검색어 토큰이 가장 많이 들어가는 구간을 잘라 일치 위치를 함께 돌려줍니다.
+ * 하이라이트는 HTML 대신 미리보기 안의 [start, end) 위치로 주므로 클라이언트가 그대로 이스케이프해 그리면 됩니다.
+ */
+final class NoteHighlighter {
+
+    private static final int LEADING_CONTEXT = 12;
+
+    private NoteHighlighter() {
+    }
+
+    /**
+     * @param queryTerms NoteTokenizer.queryTerms 결과 (오름차순)
+     */
+    static Snippet snippet(String text, int[] queryTerms, int maxChars) {
+        boolean[] matched = new boolean[text.length()];
+        for (int i = 0; i < text.length(); i++) {
+            char c = NoteTokenizer.fold(text.charAt(i));
+            if (!NoteTokenizer.isTokenChar(c)) {
+                continue;
+            }
+            if (Arrays.binarySearch(queryTerms, NoteTokenizer.unigram(c)) >= 0) {
+                matched[i] = true;
+            }
+            if (i + 1 < text.length()) {
+                char next = NoteTokenizer.fold(text.charAt(i + 1));
+                if (NoteTokenizer.isTokenChar(next)
+                        && Arrays.binarySearch(queryTerms, NoteTokenizer.bigram(c, next)) >= 0) {
+                    matched[i] = true;
+                    matched[i + 1] = true;
+                }
+            }
+        }
+
+        int start = bestWindow(matched, maxChars);
+        int end = Math.min(text.length(), start + maxChars);
+        List<NoteHighlight> highlights = new ArrayList<>();
+        for (int i = start; i < end; i++) {
+            if (matched[i] && (i == start || !matched[i - 1])) {
+                int j = i;
+                while (j < end && matched[j]) {
+                    j++;
+                }
+                highlights.add(new NoteHighlight(i - start, j - start));
+            }
+        }
+        return new Snippet(text.substring(start, end).replace('\n', ' '), highlights);
+    }
+
+    /**
+     * 일치 글자 수가 가장 많은 maxChars 구간의 시작. 첫 일치 앞에 약간의 문맥을 남깁니다.
+     */
+    private static int bestWindow(boolean[] matched, int maxChars) {
+        if (matched.length <= maxChars) {
+            return 0;
+        }
+        int[] prefix = new int[matched.length + 1];
+        for (int i = 0; i < matched.length; i++) {
+            prefix[i + 1] = prefix[i] + (matched[i] ? 1 : 0);
+        }
+        int best = 0;
+        int bestCount = -1;
+        for (int i = 0; i < matched.length; i++) {
+            if (!matched[i] || (i > 0 && matched[i - 1])) {
+                continue;
+            }
+            int start = Math.max(0, Math.min(i - LEADING_CONTEXT, matched.length - maxChars));
+            int count = prefix[Math.min(matched.length, start + maxChars)] - prefix[start];
+            if (count > bestCount) {
+                best = start;
+                bestCount = count;
+            }
+        }
+        return best;
+    }
+
+    record Snippet(String text, List<NoteHighlight> highlights) {
+    }
+}
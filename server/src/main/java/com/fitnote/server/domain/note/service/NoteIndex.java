@@ -0,0 +1,419 @@
+package com.fitnote.server.domain.note.service;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 한 사용자의 메모 역색인 (토큰 → 문서 순번, 빈도)
+ *
+ * 문서(운동 기록)는 추가 순서대로 순번을 받으므로 posting은 항상 순번 오름차순으로 뒤에 붙습니다.
+ * 삭제는 비트셋에 표시만 하고 순위 계산에서 건너뛰며, 삭제된 문서가 1/4을 넘으면 한 번에 압축합니다.
+ * BM25의 문서 수/평균 길이에는 압축 전까지 삭제된 문서도 포함됩니다. (Lucene의 maxDoc 기준과 같음)
+ * 토큰 테이블은 int 키 open addressing이라 토큰마다 객체를 만들지 않습니다. 스레드 안전하게 동기화되어 있습니다.
+ */
+final class NoteIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int MIN_COMPACT_DELETES = 64;
+
+    private long[] workoutIds = new long[16];
+    private int[] lengths = new int[16];
+    private int docCount;
+    private long totalLength;
+    private final BitSet deleted = new BitSet();
+    private int deletedCount;
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+
+    private int[] termKeys = new int[64];
+    private int[][] postingDocs = new int[64][];
+    private int[][] postingFreqs = new int[64][];
+    private int[] postingSizes = new int[64];
+    private int termCount;
+
+    /**
+     * 같은 기록이 이미 있으면 바꿉니다. 토큰이 없는 문서는 색인하지 않습니다.
+     */
+    synchronized void add(long workoutId, NoteTokenizer.Analyzed analyzed) {
+        remove(workoutId);
+        if (analyzed.length() == 0) {
+            return;
+        }
+        if (docCount == workoutIds.length) {
+            workoutIds = Arrays.copyOf(workoutIds, docCount * 2);
+            lengths = Arrays.copyOf(lengths, docCount * 2);
+        }
+        int doc = docCount++;
+        workoutIds[doc] = workoutId;
+        lengths[doc] = analyzed.length();
+        totalLength += analyzed.length();
+        ordinals.put(workoutId, doc);
+
+        int[] terms = analyzed.terms();
+        int[] freqs = analyzed.freqs();
+        for (int i = 0; i < terms.length; i++) {
+            append(slotFor(terms[i]), doc, freqs[i]);
+        }
+    }
+
+    synchronized boolean remove(long workoutId) {
+        Integer doc = ordinals.remove(workoutId);
+        if (doc == null) {
+            return false;
+        }
+        deleted.set(doc);
+        deletedCount++;
+        if (deletedCount >= MIN_COMPACT_DELETES && deletedCount * 4 > docCount) {
+            compact();
+        }
+        return true;
+    }
+
+    synchronized int size() {
+        return docCount - deletedCount;
+    }
+
+    /**
+     * BM25 점수 상위 limit개. 한 글자 검색어는 그 글자로 시작하는 모든 토큰을 하나의 토큰처럼 취급합니다.
+     * 점수가 같으면 최근 기록(id가 큰 쪽)이 앞입니다.
+     */
+    synchronized Hits search(int[] queryTerms, int limit) {
+        if (docCount == deletedCount || queryTerms.length == 0) {
+            return Hits.EMPTY;
+        }
+        double averageLength = (double) totalLength / docCount;
+        double[] scores = new double[docCount];
+        int[] touched = new int[docCount];
+        int touchedCount = 0;
+        int[] prefixFreqs = null;
+
+        for (int term : queryTerms) {
+            int[] docs;
+            int[] freqs;
+            int size;
+            if (NoteTokenizer.isUnigram(term)) {
+                if (prefixFreqs == null) {
+                    prefixFreqs = new int[docCount];
+                } else {
+                    Arrays.fill(prefixFreqs, 0);
+                }
+                size = collectPrefix(NoteTokenizer.first(term), prefixFreqs);
+                docs = null;
+                freqs = prefixFreqs;
+            } else {
+                int slot = find(term);
+                if (slot < 0) {
+                    continue;
+                }
+                docs = postingDocs[slot];
+                freqs = postingFreqs[slot];
+                size = postingSizes[slot];
+            }
+            if (size == 0) {
+                continue;
+            }
+
+            double idf = Math.log(1 + (docCount - size + 0.5) / (size + 0.5));
+            int limitIndex = docs == null ? docCount : size;
+            for (int i = 0; i < limitIndex; i++) {
+                int doc = docs == null ? i : docs[i];
+                int freq = freqs[i];
+                if (freq == 0 || deleted.get(doc)) {
+                    continue;
+                }
+                if (scores[doc] == 0) {
+                    touched[touchedCount++] = doc;
+                }
+                double norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+                scores[doc] += idf * freq * (K1 + 1) / (freq + norm);
+            }
+        }
+
+        TopK top = new TopK(Math.min(limit, touchedCount));
+        for (int i = 0; i < touchedCount; i++) {
+            int doc = touched[i];
+            top.offer(scores[doc], workoutIds[doc]);
+        }
+        return top.hits();
+    }
+
+    /**
+     * 살아 있는 문서만 순번을 다시 매겨 기록합니다. 읽는 쪽은 {@link #read(ByteBuffer)}입니다.
+     * 형식: [int 문서 수]([long workoutId][int 길이])* [int 토큰 수]([int 토큰][int posting 수]([int 순번][int 빈도])*)*
+     */
+    synchronized void write(DataOutputStream out) throws IOException {
+        int[] remap = new int[docCount];
+        int live = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            remap[doc] = deleted.get(doc) ? -1 : live++;
+        }
+        out.writeInt(live);
+        for (int doc = 0; doc < docCount; doc++) {
+            if (remap[doc] >= 0) {
+                out.writeLong(workoutIds[doc]);
+                out.writeInt(lengths[doc]);
+            }
+        }
+
+        int terms = 0;
+        for (int slot = 0; slot < termKeys.length; slot++) {
+            if (termKeys[slot] != 0 && liveCount(slot) > 0) {
+                terms++;
+            }
+        }
+        out.writeInt(terms);
+        for (int slot = 0; slot < termKeys.length; slot++) {
+            int count = termKeys[slot] != 0 ? liveCount(slot) : 0;
+            if (count == 0) {
+                continue;
+            }
+            out.writeInt(termKeys[slot]);
+            out.writeInt(count);
+            for (int i = 0; i < postingSizes[slot]; i++) {
+                int doc = postingDocs[slot][i];
+                if (remap[doc] >= 0) {
+                    out.writeInt(remap[doc]);
+                    out.writeInt(postingFreqs[slot][i]);
+                }
+            }
+        }
+    }
+
+    static NoteIndex read(ByteBuffer in) {
+        NoteIndex index = new NoteIndex();
+        int docs = in.getInt();
+        index.workoutIds = new long[Math.max(16, docs)];
+        index.lengths = new int[index.workoutIds.length];
+        for (int doc = 0; doc < docs; doc++) {
+            index.workoutIds[doc] = in.getLong();
+            index.lengths[doc] = in.getInt();
+            index.totalLength += index.lengths[doc];
+            index.ordinals.put(index.workoutIds[doc], doc);
+        }
+        index.docCount = docs;
+
+        int terms = in.getInt();
+        for (int t = 0; t < terms; t++) {
+            int slot = index.slotFor(in.getInt());
+            int count = in.getInt();
+            index.postingDocs[slot] = new int[count];
+            index.postingFreqs[slot] = new int[count];
+            for (int i = 0; i < count; i++) {
+                index.postingDocs[slot][i] = in.getInt();
+                index.postingFreqs[slot][i] = in.getInt();
+            }
+            index.postingSizes[slot] = count;
+        }
+        return index;
+    }
+
+    private int collectPrefix(char first, int[] freqs) {
+        int size = 0;
+        for (int slot = 0; slot < termKeys.length; slot++) {
+            if (termKeys[slot] == 0 || NoteTokenizer.first(termKeys[slot]) != first) {
+                continue;
+            }
+            for (int i = 0; i < postingSizes[slot]; i++) {
+                int doc = postingDocs[slot][i];
+                if (freqs[doc] == 0) {
+                    size++;
+                }
+                freqs[doc] += postingFreqs[slot][i];
+            }
+        }
+        return size;
+    }
+
+    private int liveCount(int slot) {
+        int count = 0;
+        for (int i = 0; i < postingSizes[slot]; i++) {
+            if (!deleted.get(postingDocs[slot][i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 삭제된 문서를 posting과 문서 배열에서 빼고 순번을 앞으로 당깁니다. 비어 버린 토큰은 테이블에서 지웁니다.
+     */
+    private void compact() {
+        int[] remap = new int[docCount];
+        int live = 0;
+        totalLength = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (deleted.get(doc)) {
+                remap[doc] = -1;
+                continue;
+            }
+            remap[doc] = live;
+            workoutIds[live] = workoutIds[doc];
+            lengths[live] = lengths[doc];
+            totalLength += lengths[doc];
+            ordinals.put(workoutIds[live], live);
+            live++;
+        }
+
+        int[] oldKeys = termKeys;
+        int[][] oldDocs = postingDocs;
+        int[][] oldFreqs = postingFreqs;
+        int[] oldSizes = postingSizes;
+        resetTerms(oldKeys.length);
+        for (int old = 0; old < oldKeys.length; old++) {
+            if (oldKeys[old] == 0) {
+                continue;
+            }
+            int count = 0;
+            for (int i = 0; i < oldSizes[old]; i++) {
+                int doc = remap[oldDocs[old][i]];
+                if (doc >= 0) {
+                    oldDocs[old][count] = doc;
+                    oldFreqs[old][count] = oldFreqs[old][i];
+                    count++;
+                }
+            }
+            if (count > 0) {
+                int slot = slotFor(oldKeys[old]);
+                postingDocs[slot] = oldDocs[old];
+                postingFreqs[slot] = oldFreqs[old];
+                postingSizes[slot] = count;
+            }
+        }
+
+        docCount = live;
+        deleted.clear();
+        deletedCount = 0;
+    }
+
+    private void append(int slot, int doc, int freq) {
+        int size = postingSizes[slot];
+        if (postingDocs[slot] == null) {
+            postingDocs[slot] = new int[2];
+            postingFreqs[slot] = new int[2];
+        } else if (size == postingDocs[slot].length) {
+            postingDocs[slot] = Arrays.copyOf(postingDocs[slot], size * 2);
+            postingFreqs[slot] = Arrays.copyOf(postingFreqs[slot], size * 2);
+        }
+        postingDocs[slot][size] = doc;
+        postingFreqs[slot][size] = freq;
+        postingSizes[slot] = size + 1;
+    }
+
+    private int find(int term) {
+        int mask = termKeys.length - 1;
+        for (int slot = hash(term) & mask; ; slot = (slot + 1) & mask) {
+            if (termKeys[slot] == term) {
+                return slot;
+            }
+            if (termKeys[slot] == 0) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * 토큰은 항상 0이 아니므로(첫 글자가 글자/숫자) 0을 빈 칸 표시로 씁니다.
+     */
+    private int slotFor(int term) {
+        if ((termCount + 1) * 2 > termKeys.length) {
+            rehash(termKeys.length * 2);
+        }
+        int mask = termKeys.length - 1;
+        int slot = hash(term) & mask;
+        while (termKeys[slot] != 0) {
+            if (termKeys[slot] == term) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        termKeys[slot] = term;
+        termCount++;
+        return slot;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = termKeys;
+        int[][] oldDocs = postingDocs;
+        int[][] oldFreqs = postingFreqs;
+        int[] oldSizes = postingSizes;
+        resetTerms(capacity);
+        for (int old = 0; old < oldKeys.length; old++) {
+            if (oldKeys[old] != 0) {
+                int slot = slotFor(oldKeys[old]);
+                postingDocs[slot] = oldDocs[old];
+                postingFreqs[slot] = oldFreqs[old];
+                postingSizes[slot] = oldSizes[old];
+            }
+        }
+    }
+
+    private void resetTerms(int capacity) {
+        termKeys = new int[capacity];
+        postingDocs = new int[capacity][];
+        postingFreqs = new int[capacity][];
+        postingSizes = new int[capacity];
+        termCount = 0;
+    }
+
+    private static int hash(int term) {
+        int h = term * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * @param workoutIds 점수 내림차순
+     */
+    record Hits(long[] workoutIds, double[] scores) {
+
+        static final Hits EMPTY = new Hits(new long[0], new double[0]);
+    }
+
+    /**
+     * 점수 상위 limit개를 내림차순으로 유지합니다. limit은 한 페이지 크기라 작으므로 삽입 정렬을 씁니다.
+     */
+    private static final class TopK {
+
+        private final double[] scores;
+        private final long[] ids;
+        private int size;
+
+        TopK(int limit) {
+            scores = new double[limit];
+            ids = new long[limit];
+        }
+
+        void offer(double score, long id) {
+            if (scores.length == 0) {
+                return;
+            }
+            if (size == scores.length) {
+                if (!before(score, id, scores[size - 1], ids[size - 1])) {
+                    return;
+                }
+                size--;
+            }
+            int position = size;
+            while (position > 0 && before(score, id, scores[position - 1], ids[position - 1])) {
+                scores[position] = scores[position - 1];
+                ids[position] = ids[position - 1];
+                position--;
+            }
+            scores[position] = score;
+            ids[position] = id;
+            size++;
+        }
+
+        Hits hits() {
+            return new Hits(Arrays.copyOf(ids, size), Arrays.copyOf(scores, size));
+        }
+
+        private static boolean before(double score, long id, double otherScore, long otherId) {
+            return score > otherScore || (score == otherScore && id > otherId);
+        }
+    }
+}
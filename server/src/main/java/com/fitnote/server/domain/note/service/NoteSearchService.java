@@ -0,0 +1,400 @@
+package com.fitnote.server.domain.note.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fitnote.server.common.journal.JournaledState;
+import com.fitnote.server.common.journal.MemoryStoreJournals;
+import com.fitnote.server.domain.note.dto.ExerciseNoteRow;
+import com.fitnote.server.domain.note.dto.NoteIndexVersion;
+import com.fitnote.server.domain.note.dto.NoteSearchHit;
+import com.fitnote.server.domain.note.dto.WorkoutNoteRow;
+import com.fitnote.server.domain.workout.event.WorkoutChangedEvent;
+import com.fitnote.server.domain.workout.repository.WorkoutRepository;
+
+/**
+ * 운동 기록/종목 메모 전문 검색
+ *
+ * 사용자별 역색인은 처음 검색할 때 메모 원문으로 만들고, 이후에는 커밋된 기록 생성/수정/삭제만 반영합니다.
+ * 저널이 켜져 있으면 적재한 색인과 이후의 변경을 각각 그 시점의 기록 버전과 함께 저널과 스냅샷으로 남기므로,
+ * 재시작 후에도 다시 만들지 않고 이어 씁니다.
+ * 복원한 색인은 첫 검색에서 현재 버전과 비교해 다르면 버리므로, 서버가 내려가 있던 동안이나 다른 인스턴스에서 바뀐 기록,
+ * 커밋 후 이벤트를 반영하기 전에 멈춘 경우도 대부분 놓치지 않습니다. 다만 같은 사용자의 두 커밋이 겹친 순간에 멈추면
+ * 나중 커밋이 앞선 변경의 버전에 섞여 들어갈 수 있으며, 그 기록은 다음 수정이나 무효화 때까지 검색에서 빠질 수 있습니다.
+ * 색인은 점수와 id만 계산하고, 미리보기는 상위 결과의 메모만 DB에서 읽어 만듭니다.
+ *
+ * 저널 기록은 사용자 항목 락 밖에서만 합니다.
+ */
+@Service
+public class NoteSearchService {
+
+    private static final int SNAPSHOT_VERSION = 3;
+    // 1~3은 기록 버전이 없던 ADD/REMOVE/LOAD, 5는 종목 메모 버전이 없던 LOAD
+    private static final byte OP_DROP = 4;
+    private static final byte OP_LOAD = 6;
+    private static final byte OP_CHANGE = 7;
+
+    private final Map<Long, Entry> indexes = new ConcurrentHashMap<>();
+    private final WorkoutRepository workoutRepository;
+    private final JournaledState journal; // null이면 휘발성
+    private final int maxEntries;
+    private final int maxResults;
+    private final int maxQueryLength;
+    private final int snippetChars;
+
+    public NoteSearchService(
+            WorkoutRepository workoutRepository,
+            MemoryStoreJournals journals,
+            @Value("${notes.search.max-entries:10000}") int maxEntries,
+            @Value("${notes.search.max-results:50}") int maxResults,
+            @Value("${notes.search.max-query-length:100}") int maxQueryLength,
+            @Value("${notes.search.snippet-chars:80}") int snippetChars) {
+        this.workoutRepository = workoutRepository;
+        this.maxEntries = maxEntries;
+        this.maxResults = maxResults;
+        this.maxQueryLength = maxQueryLength;
+        this.snippetChars = snippetChars;
+        this.journal = journals.open("note-index", this::restore, this::replay, this::encodeSnapshot);
+    }
+
+    /**
+     * BM25 순으로 운동 기록을 찾고 검색어가 가장 많이 들어간 구간을 미리보기로 돌려줍니다.
+     * 쿼리는 미리보기용 2번이며, 색인이 메모리에 없을 때는 로딩 쿼리 3번이, 복원 후 첫 검색에서는 버전 확인 1번이 더해집니다.
+     */
+    @Transactional(readOnly = true)
+    public List<NoteSearchHit> search(Long userId, String query, int limit) {
+        if (query.length() > maxQueryLength) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "검색어는 " + maxQueryLength + "자까지 입력할 수 있습니다.");
+        }
+        int[] terms = NoteTokenizer.queryTerms(query);
+        if (terms.length == 0) {
+            return List.of();
+        }
+
+        NoteIndex.Hits hits = index(userId).search(terms, Math.max(1, Math.min(limit, maxResults)));
+        if (hits.workoutIds().length == 0) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(hits.workoutIds().length);
+        for (long workoutId : hits.workoutIds()) {
+            ids.add(workoutId);
+        }
+
+        Map<Long, WorkoutNoteRow> rows = new HashMap<>();
+        for (WorkoutNoteRow row : workoutRepository.findNoteRowsByIds(userId, ids)) {
+            rows.put(row.workoutId(), row);
+        }
+        Map<Long, List<String>> notes = new HashMap<>();
+        for (WorkoutNoteRow row : rows.values()) {
+            if (row.notes() != null) {
+                notes.computeIfAbsent(row.workoutId(), id -> new ArrayList<>()).add(row.notes());
+            }
+        }
+        for (ExerciseNoteRow row : workoutRepository.findExerciseNoteRowsByIds(userId, ids)) {
+            notes.computeIfAbsent(row.workoutId(), id -> new ArrayList<>()).add(row.notes());
+        }
+
+        List<NoteSearchHit> results = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            WorkoutNoteRow row = rows.get(ids.get(i));
+            if (row == null) {
+                continue; // 삭제가 아직 색인에 반영되지 않은 기록
+            }
+            NoteHighlighter.Snippet snippet = NoteHighlighter.snippet(
+                    join(notes.getOrDefault(row.workoutId(), List.of())), terms, snippetChars);
+            results.add(new NoteSearchHit(
+                    row.workoutId(), row.title(), row.startedAt(), hits.scores()[i],
+                    snippet.text(), snippet.highlights()));
+        }
+        return results;
+    }
+
+    /**
+     * 색인이 올라와 있는 사용자만 반영합니다. 적재 중인 사용자면 적재가 끝난 뒤에 반영됩니다.
+     * 저널이 켜져 있으면 반영 후의 기록 버전을 읽어 변경과 함께 락 밖에서 남깁니다.
+     * 아직 확인하지 않은 복원 색인은 그 사이의 변경을 모를 수 있으므로 고치지 않고 버립니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onWorkoutChanged(WorkoutChangedEvent event) {
+        Entry current = indexes.get(event.userId());
+        if (current != null && !current.verified) {
+            if (indexes.remove(event.userId(), current)) {
+                journaled(event.userId(), () -> dropRecord(event.userId()));
+            }
+            return;
+        }
+        String notes = event.isDeleted() ? "" : join(event.notes());
+        Entry entry = indexes.computeIfPresent(event.userId(), (userId, present) -> {
+            apply(present.index, event.workoutId(), notes);
+            return present;
+        });
+        if (entry == null || journal == null) {
+            return;
+        }
+        NoteIndexVersion version = workoutRepository.findNoteIndexVersion(event.userId());
+        entry.version = version;
+        journaled(event.userId(), () -> changeRecord(event.userId(), event.workoutId(), notes, version));
+    }
+
+    public void invalidate(Long userId) {
+        if (indexes.remove(userId) != null) {
+            journaled(userId, () -> dropRecord(userId));
+        }
+    }
+
+    private NoteIndex index(Long userId) {
+        Entry entry = indexes.get(userId);
+        if (entry != null && !entry.verified) {
+            if (entry.version.equals(workoutRepository.findNoteIndexVersion(userId))) {
+                entry.verified = true;
+            } else {
+                // 복원한 색인이 적재 이후의 변경을 모릅니다.
+                if (indexes.remove(userId, entry)) {
+                    journaled(userId, () -> dropRecord(userId));
+                }
+                entry = null;
+            }
+        }
+        if (entry != null) {
+            return entry.index;
+        }
+        if (indexes.size() >= maxEntries) {
+            evict();
+        }
+        Entry loaded = indexes.computeIfAbsent(userId, this::load);
+        // 적재 직후의 전체 상태를 남깁니다. 그 사이 반영된 변경은 뒤따르는 변경 레코드가 다시 반영합니다.
+        journaled(userId, () -> loadRecord(userId, loaded));
+        return loaded.index;
+    }
+
+    /**
+     * 버전을 먼저 읽으므로, 읽는 사이 커밋된 기록은 버전에 빠져 복원 후 버려질 뿐 색인에서 빠지지는 않습니다.
+     */
+    private Entry load(Long userId) {
+        NoteIndexVersion version = workoutRepository.findNoteIndexVersion(userId);
+        Map<Long, List<String>> notes = new LinkedHashMap<>();
+        for (WorkoutNoteRow row : workoutRepository.findNoteRows(userId)) {
+            notes.computeIfAbsent(row.workoutId(), id -> new ArrayList<>()).add(row.notes());
+        }
+        for (ExerciseNoteRow row : workoutRepository.findExerciseNoteRows(userId)) {
+            notes.computeIfAbsent(row.workoutId(), id -> new ArrayList<>()).add(row.notes());
+        }
+        NoteIndex index = new NoteIndex();
+        notes.forEach((workoutId, texts) -> index.add(workoutId, NoteTokenizer.analyze(join(texts))));
+        return new Entry(index, version, true);
+    }
+
+    /**
+     * 메모가 남은 기록은 바꾸고, 삭제되었거나 메모가 모두 지워진 기록은 뺍니다.
+     */
+    private static void apply(NoteIndex index, long workoutId, String notes) {
+        NoteTokenizer.Analyzed analyzed = notes.isEmpty() ? null : NoteTokenizer.analyze(notes);
+        if (analyzed != null && analyzed.length() > 0) {
+            index.add(workoutId, analyzed);
+        } else {
+            index.remove(workoutId);
+        }
+    }
+
+    private void evict() {
+        int target = maxEntries - Math.max(1, maxEntries / 10);
+        Iterator<Long> it = indexes.keySet().iterator();
+        while (indexes.size() > target && it.hasNext()) {
+            invalidate(it.next());
+        }
+    }
+
+    /**
+     * 색인은 DB에서 다시 만들 수 있는 캐시이므로 먼저 반영하고, 저널에는 복원용 레코드만 남깁니다.
+     */
+    private void journaled(Long userId, Supplier<byte[]> record) {
+        if (journal != null) {
+            journal.write(userId, record, bytes -> bytes, bytes -> { });
+        }
+    }
+
+    private void replay(byte[] payload) {
+        ByteBuffer in = ByteBuffer.wrap(payload);
+        byte op = in.get();
+        long userId = in.getLong();
+        switch (op) {
+            case OP_LOAD -> indexes.put(userId, Entry.read(in));
+            case OP_CHANGE -> replayChange(userId, in);
+            // 이전 형식의 레코드는 DB와 대조할 버전이 없으므로 색인을 버려 다시 만들게 합니다.
+            case OP_DROP, 1, 2, 3, 5 -> indexes.remove(userId);
+            default -> throw new IllegalStateException("Unknown note index record: " + op);
+        }
+    }
+
+    /**
+     * 적재 레코드 없이 남은 변경(버려진 색인)은 건너뜁니다.
+     */
+    private void replayChange(long userId, ByteBuffer in) {
+        long workoutId = in.getLong();
+        NoteIndexVersion version = readVersion(in);
+        byte[] notes = new byte[in.getInt()];
+        in.get(notes);
+        Entry entry = indexes.get(userId);
+        if (entry != null) {
+            apply(entry.index, workoutId, new String(notes, StandardCharsets.UTF_8));
+            entry.version = version;
+        }
+    }
+
+    private void restore(ByteBuffer payload) {
+        int version = payload.getInt();
+        if (version < SNAPSHOT_VERSION) {
+            return; // 기록(또는 종목 메모) 버전이 없던 스냅샷은 버리고 검색할 때 다시 만듭니다.
+        }
+        if (version != SNAPSHOT_VERSION) {
+            throw new IllegalStateException("Unsupported note index snapshot version: " + version);
+        }
+        int users = payload.getInt();
+        for (int i = 0; i < users; i++) {
+            long userId = payload.getLong();
+            indexes.put(userId, Entry.read(payload));
+        }
+    }
+
+    /**
+     * 저널의 스냅샷 락 안에서 호출되므로 모든 적재/제거/변경 기록이 멈춘 상태를 직렬화합니다.
+     * 버전은 색인을 고친 뒤에 바꾸므로, 기록 직전의 변경이 색인에만 들어가 있으면 버전이 달라 복원 후 다시 만들 뿐입니다.
+     */
+    private byte[] encodeSnapshot() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            List<Map.Entry<Long, Entry>> current = new ArrayList<>(indexes.entrySet());
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeInt(current.size());
+            for (Map.Entry<Long, Entry> entry : current) {
+                out.writeLong(entry.getKey());
+                entry.getValue().write(out);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] loadRecord(Long userId, Entry entry) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(OP_LOAD);
+            out.writeLong(userId);
+            entry.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] changeRecord(Long userId, Long workoutId, String notes, NoteIndexVersion version) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(OP_CHANGE);
+            out.writeLong(userId);
+            out.writeLong(workoutId);
+            writeVersion(out, version);
+            byte[] text = notes.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(text.length);
+            out.write(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] dropRecord(Long userId) {
+        return ByteBuffer.allocate(1 + Long.BYTES).put(OP_DROP).putLong(userId).array();
+    }
+
+    /**
+     * 색인과 미리보기가 같은 문자열을 보도록 메모를 한 문서로 잇습니다.
+     */
+    private static String join(List<String> notes) {
+        return String.join("\n", notes);
+    }
+
+    /**
+     * 형식: [long count][long maxId, 없으면 0][시각][long 종목 행 수][시각]
+     * 시각은 [long 초][int 나노, 없으면 -1]입니다.
+     */
+    private static void writeVersion(DataOutputStream out, NoteIndexVersion version) throws IOException {
+        out.writeLong(version.count());
+        out.writeLong(version.maxId() == null ? 0 : version.maxId());
+        writeTime(out, version.lastModified());
+        out.writeLong(version.exerciseCount());
+        writeTime(out, version.exerciseLastModified());
+    }
+
+    private static NoteIndexVersion readVersion(ByteBuffer in) {
+        long count = in.getLong();
+        long maxId = in.getLong();
+        LocalDateTime lastModified = readTime(in);
+        long exerciseCount = in.getLong();
+        return new NoteIndexVersion(count, count == 0 ? null : maxId, lastModified, exerciseCount, readTime(in));
+    }
+
+    private static void writeTime(DataOutputStream out, LocalDateTime time) throws IOException {
+        out.writeLong(time == null ? 0 : time.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(time == null ? -1 : time.getNano());
+    }
+
+    private static LocalDateTime readTime(ByteBuffer in) {
+        long seconds = in.getLong();
+        int nanos = in.getInt();
+        return nanos < 0 ? null : LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+
+    /**
+     * 색인과 그 색인이 반영한 기록 버전. 복원한 항목은 verified가 false이며 첫 검색에서 DB와 대조합니다.
+     */
+    private static final class Entry {
+
+        final NoteIndex index;
+        volatile NoteIndexVersion version; // 색인을 고친 뒤에 바꿉니다.
+        volatile boolean verified;
+
+        Entry(NoteIndex index, NoteIndexVersion version, boolean verified) {
+            this.index = index;
+            this.version = version;
+            this.verified = verified;
+        }
+
+        /**
+         * 형식: 버전 다음에 색인
+         */
+        void write(DataOutputStream out) throws IOException {
+            writeVersion(out, version);
+            index.write(out);
+        }
+
+        static Entry read(ByteBuffer in) {
+            NoteIndexVersion version = readVersion(in);
+            return new Entry(NoteIndex.read(in), version, false);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.fitnote.server.domain.note.service;
+
+import java.util.Arrays;
+
+/**
+ * 메모 검색용 bigram 토크나이저
+ *
+ * 글자/숫자가 이어진 구간마다 겹치는 두 글자(bigram)를 토큰으로 씁니다. ("어깨가 아픔" → 어깨, 깨가, 아픔)
+ * 형태소 분석 없이도 조사가 붙은 한국어 낱말과 부분 문자열이 찾아지며, 한 글자 구간은 한 글자(unigram) 토큰이 됩니다.
+ * 토큰은 두 글자를 int 하나로 묶은 값이므로 색인과 검색에서 문자열을 만들지 않습니다.
+ * 정규화(소문자, 전각 → 반각)는 글자 수를 바꾸지 않아 하이라이트 위치를 원문에 그대로 쓸 수 있습니다.
+ */
+final class NoteTokenizer {
+
+    private NoteTokenizer() {
+    }
+
+    static char fold(char c) {
+        if (c >= '！' && c <= '～') {
+            c = (char) (c - 0xFEE0);
+        }
+        return Character.toLowerCase(c);
+    }
+
+    static boolean isTokenChar(char c) {
+        return Character.isLetterOrDigit(c);
+    }
+
+    static int bigram(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    static int unigram(char c) {
+        return c << 16;
+    }
+
+    static boolean isUnigram(int term) {
+        return (char) term == 0;
+    }
+
+    static char first(int term) {
+        return (char) (term >>> 16);
+    }
+
+    /**
+     * 문서 하나의 토큰 빈도. terms는 오름차순이며 freqs는 같은 위치의 빈도, length는 전체 토큰 수입니다.
+     */
+    static Analyzed analyze(CharSequence text) {
+        int[] tokens = tokens(text);
+        if (tokens.length == 0) {
+            return new Analyzed(new int[0], new int[0], 0);
+        }
+        Arrays.sort(tokens);
+        int[] terms = new int[tokens.length];
+        int[] freqs = new int[tokens.length];
+        int count = 0;
+        for (int i = 0; i < tokens.length; i++) {
+            if (count > 0 && terms[count - 1] == tokens[i]) {
+                freqs[count - 1]++;
+            } else {
+                terms[count] = tokens[i];
+                freqs[count] = 1;
+                count++;
+            }
+        }
+        return new Analyzed(Arrays.copyOf(terms, count), Arrays.copyOf(freqs, count), tokens.length);
+    }
+
+    /**
+     * 검색어의 서로 다른 토큰 (오름차순)
+     */
+    static int[] queryTerms(CharSequence query) {
+        return analyze(query).terms();
+    }
+
+    private static int[] tokens(CharSequence text) {
+        int[] tokens = new int[Math.max(1, text.length())];
+        int count = 0;
+        int runStart = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? fold(text.charAt(i)) : ' ';
+            if (isTokenChar(c)) {
+                if (runStart < 0) {
+                    runStart = i;
+                } else {
+                    tokens[count++] = bigram(fold(text.charAt(i - 1)), c);
+                }
+            } else if (runStart >= 0) {
+                if (i - runStart == 1) {
+                    tokens[count++] = unigram(fold(text.charAt(runStart)));
+                }
+                runStart = -1;
+            }
+        }
+        return Arrays.copyOf(tokens, count);
+    }
+
+    record Analyzed(int[] terms, int[] freqs, int length) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.fitnote.server.domain.record;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public enum PersonalRecordType {
+    MAX_WEIGHT_AT_REPS,     // 같은 반복 수에서 가장 무거운 중량
+    MAX_REPS_AT_WEIGHT,     // 이 중량 이상에서 가장 많은 반복 수
+    BEST_E1RM,              // Epley 추정 1RM
+    LONGEST_DURATION,       // TIME, DISTANCE_TIME
+    LONGEST_DISTANCE;       // DISTANCE_TIME
+
+    private static final PersonalRecordType[] VALUES = values();
+
+    public int bit() {
+        return 1 << ordinal();
+    }
+
+    public static List<PersonalRecordType> fromBits(int bits) {
+        List<PersonalRecordType> types = new ArrayList<>(Integer.bitCount(bits));
+        for (PersonalRecordType type : VALUES) {
+            if ((bits & type.bit()) != 0) {
+                types.add(type);
+            }
+        }
+        return types;
+    }
+}
@@ -0,0 +1,11 @@
+package com.fitnote.server.domain.record.dto;
+
+import java.util.List;
+
+import com.fitnote.server.domain.record.PersonalRecordType;
+
+public record PersonalRecordHit(
+        Long setId,
+        Long exerciseId,
+        List<PersonalRecordType> types) {
+}
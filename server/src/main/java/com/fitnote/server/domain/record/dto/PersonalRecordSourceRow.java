@@ -0,0 +1,14 @@
+package com.fitnote.server.domain.record.dto;
+
+import java.math.BigDecimal;
+
+import com.fitnote.server.domain.exercise.MetricType;
+
+public record PersonalRecordSourceRow(
+        Long setId,
+        MetricType metricType,
+        BigDecimal weight,
+        Integer reps,
+        Integer durationSec,
+        Integer distanceM) {
+}
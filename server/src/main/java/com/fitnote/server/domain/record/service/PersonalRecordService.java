@@ -0,0 +1,144 @@
+package com.fitnote.server.domain.record.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fitnote.server.domain.exercise.MetricType;
+import com.fitnote.server.domain.record.dto.PersonalRecordSourceRow;
+import com.fitnote.server.domain.workout.event.SetFact;
+import com.fitnote.server.domain.workout.event.WorkoutSetsChangedEvent;
+import com.fitnote.server.domain.workout.repository.WorkoutSetRepository;
+
+/**
+ * 세트가 개인 기록인지 O(1)로 판정합니다.
+ *
+ * (사용자, 종목)별 기록표는 처음 필요할 때 원본 세트로 만들고, 이후에는 커밋된 변경만 반영합니다.
+ * 기록을 보유한 세트가 수정/삭제되면 그 기록표를 버리고 다음 조회에서 다시 만듭니다.
+ * 로딩은 computeIfAbsent 안에서 하므로, 로딩 중 커밋된 변경은 로딩이 끝난 뒤 반영되어 유실되지 않습니다.
+ */
+@Service
+public class PersonalRecordService {
+
+    private final Map<TableKey, PersonalRecordTable> tables = new ConcurrentHashMap<>();
+    private final WorkoutSetRepository workoutSetRepository;
+    private final int maxEntries;
+
+    public PersonalRecordService(
+            WorkoutSetRepository workoutSetRepository,
+            @Value("${records.cache.max-entries:50000}") int maxEntries) {
+        this.workoutSetRepository = workoutSetRepository;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 아직 저장하지 않은 세트들을 순서대로 판정합니다. 같은 요청의 앞선 세트도 비교 대상에 포함됩니다.
+     * 기록표는 복사본에서만 갱신하며, 실제 반영은 커밋 후 이벤트로 합니다.
+     *
+     * @return candidates와 같은 순서의 기록 비트마스크 (PersonalRecordType.fromBits)
+     */
+    public int[] detect(Long userId, List<SetFact> candidates) {
+        int[] hits = new int[candidates.size()];
+        Map<Long, PersonalRecordTable> working = new HashMap<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            SetFact fact = candidates.get(i);
+            if (fact.warmup()) {
+                continue;
+            }
+            PersonalRecordTable table = working.computeIfAbsent(
+                    fact.exerciseId(), exerciseId -> table(userId, exerciseId).copy());
+            Metrics metrics = Metrics.of(fact);
+            hits[i] = table.check(metrics.weight, metrics.reps, metrics.durationSec, metrics.distanceM);
+            table.add(0L, metrics.weight, metrics.reps, metrics.durationSec, metrics.distanceM);
+        }
+        return hits;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSetsChanged(WorkoutSetsChangedEvent event) {
+        for (SetFact removed : event.removed()) {
+            if (!removed.warmup()) {
+                tables.computeIfPresent(new TableKey(event.userId(), removed.exerciseId()),
+                        (key, table) -> table.isHeldBy(removed.setId()) ? null : table);
+            }
+        }
+        for (SetFact added : event.added()) {
+            if (!added.warmup()) {
+                Metrics metrics = Metrics.of(added);
+                tables.computeIfPresent(new TableKey(event.userId(), added.exerciseId()), (key, table) -> {
+                    table.add(added.setId(), metrics.weight, metrics.reps, metrics.durationSec, metrics.distanceM);
+                    return table;
+                });
+            }
+        }
+    }
+
+    public void invalidate(Long userId, Long exerciseId) {
+        tables.remove(new TableKey(userId, exerciseId));
+    }
+
+    private PersonalRecordTable table(Long userId, Long exerciseId) {
+        if (tables.size() >= maxEntries) {
+            evict();
+        }
+        return tables.computeIfAbsent(new TableKey(userId, exerciseId), key -> {
+            PersonalRecordTable table = new PersonalRecordTable();
+            for (PersonalRecordSourceRow row : workoutSetRepository.findRecordSources(userId, exerciseId)) {
+                Metrics metrics = Metrics.of(
+                        row.metricType(), row.weight(), row.reps(), row.durationSec(), row.distanceM());
+                table.add(row.setId(), metrics.weight, metrics.reps, metrics.durationSec, metrics.distanceM);
+            }
+            return table;
+        });
+    }
+
+    private void evict() {
+        int target = maxEntries - Math.max(1, maxEntries / 10);
+        Iterator<TableKey> it = tables.keySet().iterator();
+        while (tables.size() > target && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static int fixedPoint(BigDecimal weight) {
+        return weight == null ? 0 : weight.setScale(2, RoundingMode.HALF_UP).unscaledValue().intValueExact();
+    }
+
+    private static int nullToZero(Integer value) {
+        return value == null ? 0 : value;
+    }
+
+    /**
+     * 종목의 기록 방식에 해당하는 값만 남깁니다. (예: 중량 종목의 durationSec는 기록 대상이 아님)
+     * 맨몸 종목은 중량 없이 반복 수만, 시간과 거리는 TIME/DISTANCE_TIME 종목에서만 비교합니다.
+     */
+    private record Metrics(int weight, int reps, int durationSec, int distanceM) {
+
+        static Metrics of(SetFact fact) {
+            return of(fact.metricType(), fact.weight(), fact.reps(), fact.durationSec(), fact.distanceM());
+        }
+
+        static Metrics of(
+                MetricType type, BigDecimal weight, Integer reps, Integer durationSec, Integer distanceM) {
+            boolean timed = type == MetricType.TIME || type == MetricType.DISTANCE_TIME;
+            return new Metrics(
+                    type == MetricType.WEIGHT_REPS ? fixedPoint(weight) : 0,
+                    timed ? 0 : nullToZero(reps),
+                    timed ? nullToZero(durationSec) : 0,
+                    type == MetricType.DISTANCE_TIME ? nullToZero(distanceM) : 0);
+        }
+    }
+
+    private record TableKey(Long userId, Long exerciseId) {
+    }
+}
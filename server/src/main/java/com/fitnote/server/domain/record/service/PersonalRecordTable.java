@@ -0,0 +1,143 @@
+package com.fitnote.server.domain.record.service;
+
+import com.fitnote.server.domain.record.PersonalRecordType;
+
+/**
+ * (사용자, 종목) 하나의 개인 기록표. 모든 값은 원시 배열/정수이며 중량은 0.01 단위 고정소수점입니다.
+ *
+ * maxWeightAtReps[r]은 정확히 r회로 든 최고 중량, bestWeightAtLeastReps[r]은 r회 이상으로 든 최고 중량(접미 최댓값)입니다.
+ * 세트 (w, r)은 w > maxWeightAtReps[r]이면 "반복 수별 최고 중량", w > bestWeightAtLeastReps[r]이면
+ * "w 이상에서 r회는 처음"이므로 "중량별 최다 반복"입니다. 두 판정 모두 배열 조회 한 번으로 끝나고,
+ * 갱신도 접미 배열을 최대 MAX_REPS칸만 고칩니다. 중량이 없는 맨몸 세트는 중량 0 이상, 즉 전체 최다 반복과 비교합니다.
+ *
+ * 기록을 보유한 세트가 수정/삭제되면 두 번째 기록을 알 수 없으므로 표 전체를 다시 만들어야 합니다({@link #isHeldBy}).
+ */
+final class PersonalRecordTable {
+
+    /** 이 이상 반복은 같은 칸(MAX_REPS+)으로 모읍니다. */
+    static final int MAX_REPS = 50;
+
+    private final int[] maxWeightAtReps = new int[MAX_REPS + 1];
+    private final long[] maxWeightHolder = new long[MAX_REPS + 1];
+    private final int[] bestWeightAtLeastReps = new int[MAX_REPS + 2];
+    private int bestE1rm;
+    private long bestE1rmHolder;
+    private int maxReps;
+    private long maxRepsHolder;
+    private int longestDuration;
+    private long longestDurationHolder;
+    private int longestDistance;
+    private long longestDistanceHolder;
+    private boolean hasSets;
+
+    synchronized PersonalRecordTable copy() {
+        PersonalRecordTable copy = new PersonalRecordTable();
+        System.arraycopy(maxWeightAtReps, 0, copy.maxWeightAtReps, 0, maxWeightAtReps.length);
+        System.arraycopy(maxWeightHolder, 0, copy.maxWeightHolder, 0, maxWeightHolder.length);
+        System.arraycopy(bestWeightAtLeastReps, 0, copy.bestWeightAtLeastReps, 0, bestWeightAtLeastReps.length);
+        copy.bestE1rm = bestE1rm;
+        copy.bestE1rmHolder = bestE1rmHolder;
+        copy.maxReps = maxReps;
+        copy.maxRepsHolder = maxRepsHolder;
+        copy.longestDuration = longestDuration;
+        copy.longestDurationHolder = longestDurationHolder;
+        copy.longestDistance = longestDistance;
+        copy.longestDistanceHolder = longestDistanceHolder;
+        copy.hasSets = hasSets;
+        return copy;
+    }
+
+    /**
+     * 세트가 깨는 기록을 비트마스크({@link PersonalRecordType#bit()})로 반환합니다. 이전 기록이 하나도 없으면 0입니다.
+     * 값이 없으면(0 이하) 해당 항목은 판정하지 않습니다.
+     */
+    synchronized int check(int weight, int reps, int durationSec, int distanceM) {
+        if (!hasSets) {
+            return 0;
+        }
+        int hits = 0;
+        if (weight > 0 && reps > 0) {
+            int r = Math.min(reps, MAX_REPS);
+            if (weight > maxWeightAtReps[r]) {
+                hits |= PersonalRecordType.MAX_WEIGHT_AT_REPS.bit();
+            }
+            if (weight > bestWeightAtLeastReps[r]) {
+                hits |= PersonalRecordType.MAX_REPS_AT_WEIGHT.bit();
+            }
+            if (epley(weight, reps) > bestE1rm) {
+                hits |= PersonalRecordType.BEST_E1RM.bit();
+            }
+        } else if (reps > maxReps) {
+            hits |= PersonalRecordType.MAX_REPS_AT_WEIGHT.bit();
+        }
+        if (durationSec > longestDuration) {
+            hits |= PersonalRecordType.LONGEST_DURATION.bit();
+        }
+        if (distanceM > longestDistance) {
+            hits |= PersonalRecordType.LONGEST_DISTANCE.bit();
+        }
+        return hits;
+    }
+
+    /**
+     * 워밍업이 아닌 세트를 반영합니다. 모든 갱신이 최댓값 비교이므로 같은 세트를 다시 반영해도 결과가 같습니다.
+     */
+    synchronized void add(long setId, int weight, int reps, int durationSec, int distanceM) {
+        hasSets = true;
+        if (reps > maxReps) {
+            maxReps = reps;
+            maxRepsHolder = setId;
+        }
+        if (weight > 0 && reps > 0) {
+            int r = Math.min(reps, MAX_REPS);
+            if (weight > maxWeightAtReps[r]) {
+                maxWeightAtReps[r] = weight;
+                maxWeightHolder[r] = setId;
+                for (int i = r; i >= 1 && bestWeightAtLeastReps[i] < weight; i--) {
+                    bestWeightAtLeastReps[i] = weight;
+                }
+            }
+            int e1rm = epley(weight, reps);
+            if (e1rm > bestE1rm) {
+                bestE1rm = e1rm;
+                bestE1rmHolder = setId;
+            }
+        }
+        if (durationSec > longestDuration) {
+            longestDuration = durationSec;
+            longestDurationHolder = setId;
+        }
+        if (distanceM > longestDistance) {
+            longestDistance = distanceM;
+            longestDistanceHolder = setId;
+        }
+    }
+
+    synchronized boolean isHeldBy(long setId) {
+        if (setId == bestE1rmHolder || setId == maxRepsHolder
+                || setId == longestDurationHolder || setId == longestDistanceHolder) {
+            return true;
+        }
+        for (int r = 1; r <= MAX_REPS; r++) {
+            if (maxWeightHolder[r] == setId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    synchronized int maxWeightAtReps(int reps) {
+        return maxWeightAtReps[Math.min(reps, MAX_REPS)];
+    }
+
+    synchronized int bestE1rm() {
+        return bestE1rm;
+    }
+
+    /**
+     * OneRepMax.epley와 같은 값(소수 둘째 자리 HALF_UP)을 정수 연산으로 계산합니다.
+     */
+    static int epley(int weight, int reps) {
+        return reps == 1 ? weight : (int) (((long) weight * (30 + reps) + 15) / 30);
+    }
+}
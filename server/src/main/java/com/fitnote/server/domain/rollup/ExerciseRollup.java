@@ -0,0 +1,75 @@
+package com.fitnote.server.domain.rollup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.fitnote.server.domain.auth.User;
+import com.fitnote.server.domain.common.BaseTimeEntity;
+import com.fitnote.server.domain.exercise.Exercise;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * (사용자, 종목, 기간) 단위 집계. 워밍업 세트는 포함하지 않습니다.
+ */
+@Entity
+@Table(name = "exercise_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uq_rollup_key",
+                columnNames = {"user_id", "exercise_id", "period", "periodStart"}),
+        indexes = @Index(name = "idx_rollup_user_period", columnList = "user_id, period, periodStart"))
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class ExerciseRollup extends BaseTimeEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "exercise_rollups_seq")
+    @SequenceGenerator(name = "exercise_rollups_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY) @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY) @JoinColumn(name = "exercise_id", nullable = false)
+    private Exercise exercise;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 8)
+    private RollupPeriod period;
+
+    @Column(nullable = false)
+    private LocalDate periodStart;
+
+    @Column(nullable = false)
+    private Integer setCount;
+
+    @Column(nullable = false)
+    private Integer totalReps;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal totalVolume;     // Σ weight × reps
+
+    @Column(precision = 6, scale = 2)
+    private BigDecimal maxWeight;
+
+    @Column(precision = 7, scale = 2)
+    private BigDecimal bestEpley;       // weight × (1 + reps / 30)
+
+    @Column(precision = 7, scale = 2)
+    private BigDecimal bestBrzycki;     // weight × 36 / (37 - reps)
+}
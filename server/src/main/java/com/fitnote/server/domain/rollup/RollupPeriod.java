@@ -0,0 +1,18 @@
+package com.fitnote.server.domain.rollup;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+public enum RollupPeriod {
+    DAY,
+    WEEK;   // 월요일 시작
+
+    public LocalDate startOf(LocalDate date) {
+        return this == DAY ? date : date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    public LocalDate next(LocalDate start) {
+        return this == DAY ? start.plusDays(1) : start.plusWeeks(1);
+    }
+}
@@ -0,0 +1,80 @@
+package com.fitnote.server.domain.rollup.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fitnote.server.config.security.user.UserPrincipal;
+import com.fitnote.server.domain.rollup.RollupPeriod;
+import com.fitnote.server.domain.rollup.dto.ExerciseRollupResponse;
+import com.fitnote.server.domain.rollup.dto.MuscleWeekResponse;
+import com.fitnote.server.domain.rollup.dto.RollupTotalResponse;
+import com.fitnote.server.domain.rollup.service.MuscleVolumeService;
+import com.fitnote.server.domain.rollup.service.RollupService;
+
+@RestController
+@RequestMapping("/api/rollups")
+public class RollupController {
+
+    private final RollupService rollupService;
+    private final MuscleVolumeService muscleVolumeService;
+
+    public RollupController(RollupService rollupService, MuscleVolumeService muscleVolumeService) {
+        this.rollupService = rollupService;
+        this.muscleVolumeService = muscleVolumeService;
+    }
+
+    /**
+     * 종목별 일/주 집계. exerciseId가 없으면 모든 종목을 반환합니다.
+     */
+    @GetMapping
+    public ResponseEntity<List<ExerciseRollupResponse>> getRollups(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(name = "period", defaultValue = "WEEK") RollupPeriod period,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(name = "exerciseId", required = false) Long exerciseId) {
+        validateRange(from, to);
+        return ResponseEntity.ok(rollupService.findRollups(principal.getId(), period, from, to, exerciseId));
+    }
+
+    /**
+     * 기간별 전체 종목 합계 (세트 수, 반복 수, 볼륨)
+     */
+    @GetMapping("/totals")
+    public ResponseEntity<List<RollupTotalResponse>> getTotals(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(name = "period", defaultValue = "WEEK") RollupPeriod period,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        validateRange(from, to);
+        return ResponseEntity.ok(rollupService.findTotals(principal.getId(), period, from, to));
+    }
+
+    /**
+     * 주별 근육군 세트 수. 보조 근육은 설정된 비율만큼 더해집니다.
+     */
+    @GetMapping("/muscles")
+    public ResponseEntity<List<MuscleWeekResponse>> getMuscleWeeks(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        validateRange(from, to);
+        return ResponseEntity.ok(muscleVolumeService.findWeeks(principal.getId(), from, to));
+    }
+
+    private static void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "조회 시작일이 종료일보다 늦습니다.");
+        }
+    }
+}
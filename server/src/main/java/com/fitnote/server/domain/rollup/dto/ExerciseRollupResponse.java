@@ -0,0 +1,23 @@
+package com.fitnote.server.domain.rollup.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fitnote.server.common.weight.WeightValueSerializer;
+import com.fitnote.server.domain.rollup.RollupPeriod;
+
+/**
+ * 무게 값은 kg로 저장된 집계이며, 응답에서 사용자 단위로 바뀝니다.
+ */
+public record ExerciseRollupResponse(
+        Long exerciseId,
+        RollupPeriod period,
+        LocalDate periodStart,
+        Integer setCount,
+        Integer totalReps,
+        @JsonSerialize(using = WeightValueSerializer.class) BigDecimal totalVolume,
+        @JsonSerialize(using = WeightValueSerializer.class) BigDecimal maxWeight,
+        @JsonSerialize(using = WeightValueSerializer.class) BigDecimal bestEpley,
+        @JsonSerialize(using = WeightValueSerializer.class) BigDecimal bestBrzycki) {
+}
@@ -0,0 +1,11 @@
+package com.fitnote.server.domain.rollup.dto;
+
+import java.math.BigDecimal;
+
+import com.fitnote.server.domain.exercise.MuscleGroup;
+
+/**
+ * 한 주의 근육군별 세트 수. sets = primarySets + secondarySets × 보조 근육 반영 비율
+ */
+public record MuscleSetCount(MuscleGroup muscle, int primarySets, int secondarySets, BigDecimal sets) {
+}
@@ -0,0 +1,11 @@
+package com.fitnote.server.domain.rollup.dto;
+
+import java.time.LocalDateTime;
+
+import com.fitnote.server.domain.exercise.MuscleGroup;
+
+/**
+ * 근육군 집계 원본. 운동 기록의 종목 하나에서 워밍업을 뺀 세트 수입니다.
+ */
+public record MuscleSetRow(LocalDateTime startedAt, Long exerciseId, MuscleGroup primaryMuscle, Long sets) {
+}
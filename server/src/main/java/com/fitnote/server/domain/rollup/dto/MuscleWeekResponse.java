@@ -0,0 +1,10 @@
+package com.fitnote.server.domain.rollup.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 주(월요일 시작)별 근육군 세트 수. 세트가 있는 근육군만 enum 순서로 담깁니다.
+ */
+public record MuscleWeekResponse(LocalDate weekStart, List<MuscleSetCount> muscles) {
+}
@@ -0,0 +1,14 @@
+package com.fitnote.server.domain.rollup.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 재계산용 원본 세트 한 건 (워밍업 제외)
+ */
+public record RollupSourceRow(
+        Long exerciseId,
+        LocalDateTime startedAt,
+        BigDecimal weight,
+        Integer reps) {
+}
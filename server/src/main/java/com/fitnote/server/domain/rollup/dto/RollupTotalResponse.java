@@ -0,0 +1,17 @@
+package com.fitnote.server.domain.rollup.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fitnote.server.common.weight.WeightValueSerializer;
+
+/**
+ * 기간별 전체 종목 합계 (대시보드용), 볼륨은 응답에서 사용자 단위로 바뀝니다.
+ */
+public record RollupTotalResponse(
+        LocalDate periodStart,
+        Long totalSets,
+        Long totalReps,
+        @JsonSerialize(using = WeightValueSerializer.class) BigDecimal totalVolume) {
+}
@@ -0,0 +1,75 @@
+package com.fitnote.server.domain.rollup.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.fitnote.server.domain.rollup.ExerciseRollup;
+import com.fitnote.server.domain.rollup.RollupPeriod;
+import com.fitnote.server.domain.rollup.dto.ExerciseRollupResponse;
+import com.fitnote.server.domain.rollup.dto.RollupSourceRow;
+import com.fitnote.server.domain.rollup.dto.RollupTotalResponse;
+
+public interface ExerciseRollupRepository extends JpaRepository<ExerciseRollup, Long> {
+
+    @Query("select r from ExerciseRollup r where r.user.id = :userId "
+            + "and r.exercise.id in :exerciseIds and r.period = :period and r.periodStart = :periodStart")
+    List<ExerciseRollup> findBuckets(
+            @Param("userId") Long userId,
+            @Param("exerciseIds") Collection<Long> exerciseIds,
+            @Param("period") RollupPeriod period,
+            @Param("periodStart") LocalDate periodStart);
+
+    @Query("select r from ExerciseRollup r where r.user.id = :userId")
+    List<ExerciseRollup> findAllByUser(@Param("userId") Long userId);
+
+    @Query("select new com.fitnote.server.domain.rollup.dto.ExerciseRollupResponse("
+            + "r.exercise.id, r.period, r.periodStart, r.setCount, r.totalReps, r.totalVolume, "
+            + "r.maxWeight, r.bestEpley, r.bestBrzycki) "
+            + "from ExerciseRollup r where r.user.id = :userId and r.period = :period "
+            + "and r.periodStart >= :from and r.periodStart <= :to "
+            + "and (:exerciseId is null or r.exercise.id = :exerciseId) "
+            + "order by r.periodStart asc, r.exercise.id asc")
+    List<ExerciseRollupResponse> findResponses(
+            @Param("userId") Long userId,
+            @Param("period") RollupPeriod period,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("exerciseId") Long exerciseId);
+
+    @Query("select new com.fitnote.server.domain.rollup.dto.RollupTotalResponse("
+            + "r.periodStart, sum(r.setCount), sum(r.totalReps), sum(r.totalVolume)) "
+            + "from ExerciseRollup r where r.user.id = :userId and r.period = :period "
+            + "and r.periodStart >= :from and r.periodStart <= :to "
+            + "group by r.periodStart order by r.periodStart asc")
+    List<RollupTotalResponse> findTotals(
+            @Param("userId") Long userId,
+            @Param("period") RollupPeriod period,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to);
+
+    /**
+     * 한 (종목, 기간) 구간의 원본 세트. 수정/삭제 후 해당 구간만 다시 계산할 때 씁니다.
+     */
+    @Query("select new com.fitnote.server.domain.rollup.dto.RollupSourceRow("
+            + "we.exercise.id, w.startedAt, s.weight, s.reps) "
+            + "from WorkoutSet s join s.workoutExercise we join we.workout w "
+            + "where w.user.id = :userId and we.exercise.id = :exerciseId "
+            + "and w.startedAt >= :from and w.startedAt < :to and s.isWarmup = false")
+    List<RollupSourceRow> findSourceRows(
+            @Param("userId") Long userId,
+            @Param("exerciseId") Long exerciseId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    @Query("select new com.fitnote.server.domain.rollup.dto.RollupSourceRow("
+            + "we.exercise.id, w.startedAt, s.weight, s.reps) "
+            + "from WorkoutSet s join s.workoutExercise we join we.workout w "
+            + "where w.user.id = :userId and s.isWarmup = false")
+    List<RollupSourceRow> findAllSourceRows(@Param("userId") Long userId);
+}
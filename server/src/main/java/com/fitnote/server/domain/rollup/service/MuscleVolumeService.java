@@ -0,0 +1,259 @@
+package com.fitnote.server.domain.rollup.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fitnote.server.domain.exercise.dto.ExerciseMuscleRow;
+import com.fitnote.server.domain.exercise.repository.ExerciseRepository;
+import com.fitnote.server.domain.rollup.RollupPeriod;
+import com.fitnote.server.domain.rollup.dto.MuscleSetCount;
+import com.fitnote.server.domain.rollup.dto.MuscleSetRow;
+import com.fitnote.server.domain.rollup.dto.MuscleWeekResponse;
+import com.fitnote.server.domain.settings.service.UserContextService;
+import com.fitnote.server.domain.workout.event.SetFact;
+import com.fitnote.server.domain.workout.event.WorkoutSetsChangedEvent;
+import com.fitnote.server.domain.workout.repository.WorkoutSetRepository;
+
+/**
+ * 주별 근육군 세트 수 (주 근육은 1, 보조 근육은 rollup.muscles.secondary-fraction만큼)
+ *
+ * 캐시에 없는 주들은 한 번의 스트림 조회로 {@link MuscleWeekCounts}에 누적하고 사용자 × 주 단위로 캐시합니다.
+ * 캐시에는 주/보조 세트 수를 따로 두므로 반영 비율을 바꿔도 다시 계산하지 않습니다.
+ * 세트가 바뀌면 커밋 후 그 주만 버리며, 계산 중에 무효화가 있었으면 계산 결과를 캐시하지 않습니다.
+ * 사용자마다 최근에 조회한 주를 rollup.muscles.cache.max-weeks-per-user개까지만 둡니다.
+ * 주는 달력과 같이 사용자 시간대(UserContext.zone) 날짜로 나누며, 시간대가 바뀌면 그 사용자의 캐시를 새로 만듭니다.
+ */
+@Service
+public class MuscleVolumeService {
+
+    private final Map<Long, UserWeeks> cache = new ConcurrentHashMap<>();
+    private final WorkoutSetRepository workoutSetRepository;
+    private final ExerciseRepository exerciseRepository;
+    private final UserContextService userContextService;
+    private final BigDecimal secondaryFraction;
+    private final int maxWeeks;
+    private final int maxEntries;
+    private final int maxCachedWeeks;
+
+    public MuscleVolumeService(
+            WorkoutSetRepository workoutSetRepository,
+            ExerciseRepository exerciseRepository,
+            UserContextService userContextService,
+            @Value("${rollup.muscles.secondary-fraction:0.5}") BigDecimal secondaryFraction,
+            @Value("${rollup.muscles.max-weeks:104}") int maxWeeks,
+            @Value("${rollup.muscles.cache.max-entries:10000}") int maxEntries,
+            @Value("${rollup.muscles.cache.max-weeks-per-user:156}") int maxCachedWeeks) {
+        this.workoutSetRepository = workoutSetRepository;
+        this.exerciseRepository = exerciseRepository;
+        this.userContextService = userContextService;
+        this.secondaryFraction = secondaryFraction;
+        this.maxWeeks = maxWeeks;
+        this.maxEntries = maxEntries;
+        // 한 번에 계산한 구간이 자기 자신을 밀어내지 않도록 최대 조회 주 수보다 작게 두지 않습니다.
+        this.maxCachedWeeks = Math.max(maxWeeks, maxCachedWeeks);
+    }
+
+    /**
+     * from, to가 속한 주를 포함해 월요일 시작 주마다 한 항목을 돌려줍니다. (세트가 없는 주도 포함)
+     * 캐시에 없는 주가 있으면 그 구간만 쿼리 2번(보조 근육, 세트 수 스트림)으로 계산합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<MuscleWeekResponse> findWeeks(Long userId, LocalDate from, LocalDate to) {
+        LocalDate firstWeek = RollupPeriod.WEEK.startOf(from);
+        int weeks = (int) ChronoUnit.WEEKS.between(firstWeek, RollupPeriod.WEEK.startOf(to)) + 1;
+        if (weeks > maxWeeks) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "한 번에 조회할 수 있는 기간은 " + maxWeeks + "주까지입니다.");
+        }
+
+        UserWeeks entry = entry(userId);
+        long stamp = entry.stamp();
+        int[][] counts = entry.get(firstWeek, weeks);
+        int firstMissing = -1;
+        int lastMissing = -1;
+        for (int i = 0; i < weeks; i++) {
+            if (counts[i] == null) {
+                firstMissing = firstMissing < 0 ? i : firstMissing;
+                lastMissing = i;
+            }
+        }
+        if (firstMissing >= 0) {
+            MuscleWeekCounts computed = count(
+                    userId, entry.zone(), firstWeek.plusWeeks(firstMissing), lastMissing - firstMissing + 1);
+            for (int i = 0; i < computed.weeks(); i++) {
+                counts[firstMissing + i] = computed.week(i);
+            }
+            if (cache.get(userId) == entry) {
+                entry.putAll(stamp, computed);
+            }
+        }
+
+        List<MuscleWeekResponse> responses = new ArrayList<>(weeks);
+        for (int i = 0; i < weeks; i++) {
+            responses.add(toResponse(firstWeek.plusWeeks(i), counts[i]));
+        }
+        return responses;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSetsChanged(WorkoutSetsChangedEvent event) {
+        cache.computeIfPresent(event.userId(), (userId, entry) -> {
+            invalidate(entry, event.removed());
+            invalidate(entry, event.added());
+            return entry;
+        });
+    }
+
+    private static void invalidate(UserWeeks entry, List<SetFact> facts) {
+        for (SetFact fact : facts) {
+            if (!fact.warmup()) {
+                entry.invalidate(RollupPeriod.WEEK.startOf(day(fact.startedAt(), entry.zone())));
+            }
+        }
+    }
+
+    private MuscleWeekCounts count(Long userId, ZoneId zone, LocalDate firstWeek, int weeks) {
+        LocalDateTime from = serverTime(firstWeek, zone);
+        LocalDateTime to = serverTime(firstWeek.plusWeeks(weeks), zone);
+        Map<Long, Integer> secondaryMasks = new HashMap<>();
+        for (ExerciseMuscleRow row : exerciseRepository.findSecondaryMusclesUsedBy(userId, from, to)) {
+            secondaryMasks.merge(row.exerciseId(), MuscleWeekCounts.mask(row.muscle()), (a, b) -> a | b);
+        }
+
+        MuscleWeekCounts counts = new MuscleWeekCounts(firstWeek, weeks);
+        try (Stream<MuscleSetRow> rows = workoutSetRepository.streamMuscleSets(userId, from, to)) {
+            rows.forEach(row -> counts.add(
+                    day(row.startedAt(), zone),
+                    row.primaryMuscle().ordinal(),
+                    secondaryMasks.getOrDefault(row.exerciseId(), 0),
+                    row.sets().intValue()));
+        }
+        return counts;
+    }
+
+    private MuscleWeekResponse toResponse(LocalDate weekStart, int[] counts) {
+        int muscles = MuscleWeekCounts.MUSCLES.length;
+        List<MuscleSetCount> items = new ArrayList<>();
+        for (int m = 0; m < muscles; m++) {
+            int primary = counts[m];
+            int secondary = counts[muscles + m];
+            if (primary == 0 && secondary == 0) {
+                continue;
+            }
+            BigDecimal sets = BigDecimal.valueOf(primary)
+                    .add(secondaryFraction.multiply(BigDecimal.valueOf(secondary)))
+                    .setScale(2, RoundingMode.HALF_UP);
+            items.add(new MuscleSetCount(MuscleWeekCounts.MUSCLES[m], primary, secondary, sets));
+        }
+        return new MuscleWeekResponse(weekStart, items);
+    }
+
+    /**
+     * 다른 인스턴스에서 시간대가 바뀐 경우도 UserContext의 시간대와 달라지므로 여기서 다시 만듭니다.
+     */
+    private UserWeeks entry(Long userId) {
+        ZoneId zone = userContextService.get(userId).zone();
+        UserWeeks entry = cache.get(userId);
+        if (entry != null) {
+            if (entry.zone().equals(zone)) {
+                return entry;
+            }
+            cache.remove(userId, entry);
+        }
+        if (cache.size() >= maxEntries) {
+            evict();
+        }
+        return cache.computeIfAbsent(userId, id -> new UserWeeks(zone, maxCachedWeeks));
+    }
+
+    private void evict() {
+        int target = maxEntries - Math.max(1, maxEntries / 10);
+        Iterator<Long> it = cache.keySet().iterator();
+        while (cache.size() > target && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static LocalDate day(LocalDateTime startedAt, ZoneId zone) {
+        return startedAt.atZone(ZoneId.systemDefault()).withZoneSameInstant(zone).toLocalDate();
+    }
+
+    /**
+     * 사용자 시간대 날짜가 시작하는 순간의 서버 시간대 시각
+     */
+    private static LocalDateTime serverTime(LocalDate day, ZoneId zone) {
+        return day.atStartOfDay(zone).withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+
+    /**
+     * 한 사용자의 주별 세트 수. stamp는 무효화마다 올라가며, 계산을 시작할 때의 stamp와 다르면 결과를 버립니다.
+     * 주는 접근 순서로 두고 maxWeeks를 넘으면 가장 오래 조회하지 않은 주부터 버립니다.
+     */
+    private static final class UserWeeks {
+
+        private final ZoneId zone;
+        private final Map<LocalDate, int[]> weeks;
+        private long stamp;
+
+        UserWeeks(ZoneId zone, int maxWeeks) {
+            this.zone = zone;
+            this.weeks = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<LocalDate, int[]> eldest) {
+                    return size() > maxWeeks;
+                }
+            };
+        }
+
+        ZoneId zone() {
+            return zone;
+        }
+
+        synchronized long stamp() {
+            return stamp;
+        }
+
+        synchronized int[][] get(LocalDate firstWeek, int count) {
+            int[][] counts = new int[count][];
+            for (int i = 0; i < count; i++) {
+                counts[i] = weeks.get(firstWeek.plusWeeks(i));
+            }
+            return counts;
+        }
+
+        synchronized void putAll(long expectedStamp, MuscleWeekCounts computed) {
+            if (stamp != expectedStamp) {
+                return;
+            }
+            for (int i = 0; i < computed.weeks(); i++) {
+                weeks.put(computed.firstWeek().plusWeeks(i), computed.week(i));
+            }
+        }
+
+        synchronized void invalidate(LocalDate weekStart) {
+            weeks.remove(weekStart);
+            stamp++;
+        }
+    }
+}
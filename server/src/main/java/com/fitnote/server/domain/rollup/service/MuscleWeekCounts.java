@@ -0,0 +1,70 @@
+package com.fitnote.server.domain.rollup.service;
+
+import java.time.LocalDate;
+
+import com.fitnote.server.domain.exercise.MuscleGroup;
+
+/**
+ * 주 × 근육군 세트 수 누적기
+ *
+ * [주 * 근육군 수 + ordinal] 위치의 int 배열 두 개(주 근육, 보조 근육)에 바로 더하므로 행마다 객체나 맵을 만들지 않습니다.
+ * 보조 근육은 ordinal 비트마스크로 받으며, 주 근육과 겹치는 비트는 두 번 세지 않습니다.
+ */
+final class MuscleWeekCounts {
+
+    static final MuscleGroup[] MUSCLES = MuscleGroup.values();
+
+    private final LocalDate firstWeek;
+    private final long firstEpochDay;
+    private final int weeks;
+    private final int[] primary;
+    private final int[] secondary;
+
+    /**
+     * @param firstWeek 첫 주의 월요일
+     */
+    MuscleWeekCounts(LocalDate firstWeek, int weeks) {
+        this.firstWeek = firstWeek;
+        this.firstEpochDay = firstWeek.toEpochDay();
+        this.weeks = weeks;
+        this.primary = new int[weeks * MUSCLES.length];
+        this.secondary = new int[weeks * MUSCLES.length];
+    }
+
+    static int mask(MuscleGroup muscle) {
+        return 1 << muscle.ordinal();
+    }
+
+    /**
+     * 범위 밖의 날짜는 무시합니다.
+     */
+    void add(LocalDate day, int primaryOrdinal, int secondaryMask, int sets) {
+        long offset = day.toEpochDay() - firstEpochDay;
+        if (offset < 0 || offset >= weeks * 7L) {
+            return;
+        }
+        int base = (int) (offset / 7) * MUSCLES.length;
+        primary[base + primaryOrdinal] += sets;
+        for (int bits = secondaryMask & ~(1 << primaryOrdinal); bits != 0; bits &= bits - 1) {
+            secondary[base + Integer.numberOfTrailingZeros(bits)] += sets;
+        }
+    }
+
+    LocalDate firstWeek() {
+        return firstWeek;
+    }
+
+    int weeks() {
+        return weeks;
+    }
+
+    /**
+     * 한 주의 사본. 앞 절반은 주 근육, 뒤 절반은 보조 근육 세트 수입니다.
+     */
+    int[] week(int index) {
+        int[] counts = new int[MUSCLES.length * 2];
+        System.arraycopy(primary, index * MUSCLES.length, counts, 0, MUSCLES.length);
+        System.arraycopy(secondary, index * MUSCLES.length, counts, MUSCLES.length, MUSCLES.length);
+        return counts;
+    }
+}
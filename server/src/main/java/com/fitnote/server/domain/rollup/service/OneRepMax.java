@@ -0,0 +1,44 @@
+package com.fitnote.server.domain.rollup.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 추정 1RM 공식. 집계와 재계산이 같은 값을 내도록 소수 둘째 자리 HALF_UP으로 고정합니다.
+ */
+public final class OneRepMax {
+
+    private static final BigDecimal THIRTY = BigDecimal.valueOf(30);
+    private static final BigDecimal THIRTY_SIX = BigDecimal.valueOf(36);
+    private static final int BRZYCKI_MAX_REPS = 36;
+
+    private OneRepMax() {
+    }
+
+    /**
+     * weight × (30 + reps) / 30. 1회면 weight 그대로입니다. 계산할 수 없으면 null.
+     */
+    public static BigDecimal epley(BigDecimal weight, Integer reps) {
+        if (!applicable(weight, reps)) {
+            return null;
+        }
+        if (reps == 1) {
+            return weight.setScale(2, RoundingMode.HALF_UP);
+        }
+        return weight.multiply(BigDecimal.valueOf(30L + reps)).divide(THIRTY, 2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * weight × 36 / (37 - reps). 37회 이상에서는 정의되지 않으므로 null.
+     */
+    public static BigDecimal brzycki(BigDecimal weight, Integer reps) {
+        if (!applicable(weight, reps) || reps > BRZYCKI_MAX_REPS) {
+            return null;
+        }
+        return weight.multiply(THIRTY_SIX).divide(BigDecimal.valueOf(37L - reps), 2, RoundingMode.HALF_UP);
+    }
+
+    private static boolean applicable(BigDecimal weight, Integer reps) {
+        return weight != null && reps != null && reps >= 1 && weight.signum() > 0;
+    }
+}
@@ -0,0 +1,104 @@
+package com.fitnote.server.domain.rollup.service;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+import com.fitnote.server.domain.rollup.ExerciseRollup;
+
+/**
+ * 집계값 한 묶음. 쓰기 경로의 증분 반영과 전체 재계산이 모두 이 클래스를 거치므로 결과가 항상 같습니다.
+ */
+final class RollupAccumulator {
+
+    private int setCount;
+    private int totalReps;
+    private BigDecimal totalVolume = BigDecimal.ZERO.setScale(2);
+    private BigDecimal maxWeight;
+    private BigDecimal bestEpley;
+    private BigDecimal bestBrzycki;
+
+    static RollupAccumulator of(ExerciseRollup rollup) {
+        RollupAccumulator accumulator = new RollupAccumulator();
+        accumulator.setCount = rollup.getSetCount();
+        accumulator.totalReps = rollup.getTotalReps();
+        accumulator.totalVolume = rollup.getTotalVolume().setScale(2);
+        accumulator.maxWeight = scaled(rollup.getMaxWeight());
+        accumulator.bestEpley = scaled(rollup.getBestEpley());
+        accumulator.bestBrzycki = scaled(rollup.getBestBrzycki());
+        return accumulator;
+    }
+
+    /**
+     * 워밍업이 아닌 세트 하나를 더합니다.
+     */
+    void add(BigDecimal weight, Integer reps) {
+        setCount++;
+        if (reps != null) {
+            totalReps += reps;
+        }
+        if (weight != null) {
+            BigDecimal w = weight.setScale(2);
+            maxWeight = max(maxWeight, w);
+            if (reps != null) {
+                totalVolume = totalVolume.add(w.multiply(BigDecimal.valueOf(reps))).setScale(2);
+            }
+        }
+        bestEpley = max(bestEpley, OneRepMax.epley(weight, reps));
+        bestBrzycki = max(bestBrzycki, OneRepMax.brzycki(weight, reps));
+    }
+
+    boolean isEmpty() {
+        return setCount == 0;
+    }
+
+    void applyTo(ExerciseRollup rollup) {
+        rollup.setSetCount(setCount);
+        rollup.setTotalReps(totalReps);
+        rollup.setTotalVolume(totalVolume);
+        rollup.setMaxWeight(maxWeight);
+        rollup.setBestEpley(bestEpley);
+        rollup.setBestBrzycki(bestBrzycki);
+    }
+
+    boolean matches(ExerciseRollup rollup) {
+        return equals(of(rollup));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RollupAccumulator other)) {
+            return false;
+        }
+        return setCount == other.setCount
+                && totalReps == other.totalReps
+                && totalVolume.compareTo(other.totalVolume) == 0
+                && Objects.equals(maxWeight, other.maxWeight)
+                && Objects.equals(bestEpley, other.bestEpley)
+                && Objects.equals(bestBrzycki, other.bestBrzycki);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(setCount, totalReps, totalVolume, maxWeight, bestEpley, bestBrzycki);
+    }
+
+    @Override
+    public String toString() {
+        return "sets=" + setCount + ", reps=" + totalReps + ", volume=" + totalVolume
+                + ", maxWeight=" + maxWeight + ", epley=" + bestEpley + ", brzycki=" + bestBrzycki;
+    }
+
+    private static BigDecimal scaled(BigDecimal value) {
+        return value == null ? null : value.setScale(2);
+    }
+
+    private static BigDecimal max(BigDecimal current, BigDecimal candidate) {
+        if (candidate == null) {
+            return current;
+        }
+        return current == null || candidate.compareTo(current) > 0 ? candidate : current;
+    }
+}
@@ -0,0 +1,239 @@
+package com.fitnote.server.domain.rollup.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fitnote.server.domain.auth.User;
+import com.fitnote.server.domain.auth.repository.UserRepository;
+import com.fitnote.server.domain.exercise.repository.ExerciseRepository;
+import com.fitnote.server.domain.rollup.ExerciseRollup;
+import com.fitnote.server.domain.rollup.RollupPeriod;
+import com.fitnote.server.domain.rollup.dto.ExerciseRollupResponse;
+import com.fitnote.server.domain.rollup.dto.RollupSourceRow;
+import com.fitnote.server.domain.rollup.dto.RollupTotalResponse;
+import com.fitnote.server.domain.rollup.repository.ExerciseRollupRepository;
+import com.fitnote.server.domain.settings.event.UserSettingsChangedEvent;
+import com.fitnote.server.domain.settings.service.UserContextService;
+import com.fitnote.server.domain.workout.event.SetFact;
+import com.fitnote.server.domain.workout.event.WorkoutSetsChangedEvent;
+
+/**
+ * (사용자, 종목, 일/주) 집계를 세트 쓰기와 같은 트랜잭션에서 갱신합니다.
+ *
+ * 추가만 있는 경우(기록 저장)는 기존 집계에 증분으로 더하고, 수정/삭제가 섞이면 최댓값을 빼낼 수 없으므로
+ * 영향받은 구간만 원본 세트로 다시 계산합니다. 같은 사용자의 동시 쓰기는 users 행 잠금으로 직렬화합니다.
+ *
+ * 기록 시각은 서버 시간대로 저장되어 있으므로 달력과 같이 사용자 시간대로 옮긴 날짜에 쌓습니다.
+ * 시간대는 잠근 users 행에서 읽고, 시간대가 바뀌면 같은 트랜잭션에서 사용자의 집계를 모두 다시 나눕니다.
+ */
+@Service
+public class RollupService {
+
+    private final ExerciseRollupRepository rollupRepository;
+    private final UserRepository userRepository;
+    private final ExerciseRepository exerciseRepository;
+
+    public RollupService(
+            ExerciseRollupRepository rollupRepository,
+            UserRepository userRepository,
+            ExerciseRepository exerciseRepository) {
+        this.rollupRepository = rollupRepository;
+        this.userRepository = userRepository;
+        this.exerciseRepository = exerciseRepository;
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onSetsChanged(WorkoutSetsChangedEvent event) {
+        if (event.removed().isEmpty() && event.added().isEmpty()) {
+            return;
+        }
+        ZoneId zone = lockAndGetZone(event.userId());
+        if (event.removed().isEmpty()) {
+            applyAdded(event.userId(), event.added(), zone);
+        } else {
+            Set<BucketKey> buckets = new LinkedHashSet<>();
+            collectBuckets(event.removed(), zone, buckets);
+            collectBuckets(event.added(), zone, buckets);
+            for (BucketKey bucket : buckets) {
+                recompute(event.userId(), bucket, zone);
+            }
+        }
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onSettingsChanged(UserSettingsChangedEvent event) {
+        if (event.zoneChanged()) {
+            verify(event.userId(), true);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<ExerciseRollupResponse> findRollups(
+            Long userId, RollupPeriod period, LocalDate from, LocalDate to, Long exerciseId) {
+        return rollupRepository.findResponses(userId, period, period.startOf(from), to, exerciseId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<RollupTotalResponse> findTotals(Long userId, RollupPeriod period, LocalDate from, LocalDate to) {
+        return rollupRepository.findTotals(userId, period, period.startOf(from), to);
+    }
+
+    /**
+     * 사용자의 모든 집계를 원본 세트 전체로 다시 계산해 비교합니다. repair면 다른 행을 고칩니다.
+     *
+     * @return 일치하지 않은 집계 수
+     */
+    @Transactional
+    public int verify(Long userId, boolean repair) {
+        ZoneId zone = lockAndGetZone(userId);
+
+        Map<BucketKey, RollupAccumulator> expected = new HashMap<>();
+        for (RollupSourceRow row : rollupRepository.findAllSourceRows(userId)) {
+            LocalDate day = day(row.startedAt(), zone);
+            for (RollupPeriod period : RollupPeriod.values()) {
+                expected.computeIfAbsent(new BucketKey(row.exerciseId(), period, period.startOf(day)),
+                        key -> new RollupAccumulator()).add(row.weight(), row.reps());
+            }
+        }
+
+        int mismatches = 0;
+        for (ExerciseRollup rollup : rollupRepository.findAllByUser(userId)) {
+            BucketKey key = new BucketKey(rollup.getExercise().getId(), rollup.getPeriod(), rollup.getPeriodStart());
+            RollupAccumulator accumulator = expected.remove(key);
+            if (accumulator == null) {
+                mismatches++;
+                if (repair) {
+                    rollupRepository.delete(rollup);
+                }
+            } else if (!accumulator.matches(rollup)) {
+                mismatches++;
+                if (repair) {
+                    accumulator.applyTo(rollup);
+                }
+            }
+        }
+        mismatches += expected.size();
+        if (repair) {
+            expected.forEach((key, accumulator) -> rollupRepository.save(newRollup(userId, key, accumulator)));
+        }
+        return mismatches;
+    }
+
+    private ZoneId lockAndGetZone(Long userId) {
+        String timezone = userRepository.findByIdForUpdate(userId).map(User::getTimezone).orElse(null);
+        return UserContextService.zoneOf(timezone, userId);
+    }
+
+    private void applyAdded(Long userId, List<SetFact> added, ZoneId zone) {
+        Map<RollupPeriod, Map<LocalDate, List<SetFact>>> grouped = new HashMap<>();
+        for (SetFact fact : added) {
+            if (fact.warmup()) {
+                continue;
+            }
+            LocalDate day = day(fact.startedAt(), zone);
+            for (RollupPeriod period : RollupPeriod.values()) {
+                grouped.computeIfAbsent(period, p -> new HashMap<>())
+                        .computeIfAbsent(period.startOf(day), d -> new ArrayList<>())
+                        .add(fact);
+            }
+        }
+
+        grouped.forEach((period, byStart) -> byStart.forEach((periodStart, facts) -> {
+            Set<Long> exerciseIds = new LinkedHashSet<>();
+            facts.forEach(fact -> exerciseIds.add(fact.exerciseId()));
+
+            Map<Long, ExerciseRollup> existing = new HashMap<>();
+            for (ExerciseRollup rollup : rollupRepository.findBuckets(userId, exerciseIds, period, periodStart)) {
+                existing.put(rollup.getExercise().getId(), rollup);
+            }
+
+            Map<Long, RollupAccumulator> accumulators = new HashMap<>();
+            for (SetFact fact : facts) {
+                accumulators.computeIfAbsent(fact.exerciseId(), id -> {
+                    ExerciseRollup rollup = existing.get(id);
+                    return rollup != null ? RollupAccumulator.of(rollup) : new RollupAccumulator();
+                }).add(fact.weight(), fact.reps());
+            }
+
+            accumulators.forEach((exerciseId, accumulator) -> {
+                ExerciseRollup rollup = existing.get(exerciseId);
+                if (rollup != null) {
+                    accumulator.applyTo(rollup);
+                } else {
+                    rollupRepository.save(newRollup(userId, new BucketKey(exerciseId, period, periodStart), accumulator));
+                }
+            });
+        }));
+    }
+
+    private void recompute(Long userId, BucketKey bucket, ZoneId zone) {
+        RollupAccumulator accumulator = new RollupAccumulator();
+        List<RollupSourceRow> rows = rollupRepository.findSourceRows(
+                userId,
+                bucket.exerciseId(),
+                serverTime(bucket.periodStart(), zone),
+                serverTime(bucket.period().next(bucket.periodStart()), zone));
+        for (RollupSourceRow row : rows) {
+            accumulator.add(row.weight(), row.reps());
+        }
+
+        List<ExerciseRollup> existing = rollupRepository.findBuckets(
+                userId, List.of(bucket.exerciseId()), bucket.period(), bucket.periodStart());
+        if (accumulator.isEmpty()) {
+            rollupRepository.deleteAll(existing);
+        } else if (existing.isEmpty()) {
+            rollupRepository.save(newRollup(userId, bucket, accumulator));
+        } else {
+            accumulator.applyTo(existing.get(0));
+        }
+    }
+
+    private ExerciseRollup newRollup(Long userId, BucketKey key, RollupAccumulator accumulator) {
+        ExerciseRollup rollup = ExerciseRollup.builder()
+                .user(userRepository.getReferenceById(userId))
+                .exercise(exerciseRepository.getReferenceById(key.exerciseId()))
+                .period(key.period())
+                .periodStart(key.periodStart())
+                .build();
+        accumulator.applyTo(rollup);
+        return rollup;
+    }
+
+    private static void collectBuckets(Collection<SetFact> facts, ZoneId zone, Set<BucketKey> buckets) {
+        for (SetFact fact : facts) {
+            LocalDate day = day(fact.startedAt(), zone);
+            for (RollupPeriod period : RollupPeriod.values()) {
+                buckets.add(new BucketKey(fact.exerciseId(), period, period.startOf(day)));
+            }
+        }
+    }
+
+    private static LocalDate day(LocalDateTime startedAt, ZoneId zone) {
+        return startedAt.atZone(ZoneId.systemDefault()).withZoneSameInstant(zone).toLocalDate();
+    }
+
+    /**
+     * 사용자 시간대 날짜가 시작하는 순간의 서버 시간대 시각
+     */
+    private static LocalDateTime serverTime(LocalDate day, ZoneId zone) {
+        return day.atStartOfDay(zone).withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+
+    private record BucketKey(Long exerciseId, RollupPeriod period, LocalDate periodStart) {
+    }
+}
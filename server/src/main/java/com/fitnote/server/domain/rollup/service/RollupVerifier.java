@@ -0,0 +1,82 @@
+package com.fitnote.server.domain.rollup.service;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fitnote.server.domain.auth.repository.UserRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 집계가 전체 재계산 결과와 정확히 같은지 주기적으로 확인합니다.
+ * 사용자마다 별도 트랜잭션으로 검사하므로 검사 중에도 다른 사용자의 쓰기는 막지 않습니다.
+ */
+@Component
+public class RollupVerifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(RollupVerifier.class);
+    private static final int USER_PAGE_SIZE = 500;
+
+    private final RollupService rollupService;
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final boolean repair;
+    private final Counter mismatchCounter;
+
+    public RollupVerifier(
+            RollupService rollupService,
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${rollup.verify.enabled:true}") boolean enabled,
+            @Value("${rollup.verify.repair:true}") boolean repair) {
+        this.rollupService = rollupService;
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.repair = repair;
+        this.mismatchCounter = Counter.builder("rollup.verify.mismatches")
+                .description("Rollup rows that differed from a full recompute")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${rollup.verify.cron:0 30 4 * * *}")
+    public void verifyAll() {
+        if (!enabled) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        long users = 0;
+        long mismatches = 0;
+        Long afterId = 0L;
+        List<Long> userIds;
+        do {
+            userIds = userRepository.findIdsAfter(afterId, PageRequest.ofSize(USER_PAGE_SIZE));
+            for (Long userId : userIds) {
+                mismatches += verifyUser(userId);
+                users++;
+            }
+            if (!userIds.isEmpty()) {
+                afterId = userIds.get(userIds.size() - 1);
+            }
+        } while (userIds.size() == USER_PAGE_SIZE);
+
+        logger.info("Rollup verification finished: {} users, {} mismatches, {} ms",
+                users, mismatches, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    public int verifyUser(Long userId) {
+        int mismatches = rollupService.verify(userId, repair);
+        if (mismatches > 0) {
+            mismatchCounter.increment(mismatches);
+            logger.warn("Rollups of user {} differed from recompute in {} buckets{}",
+                    userId, mismatches, repair ? " (repaired)" : "");
+        }
+        return mismatches;
+    }
+}
@@ -1,24 +1,48 @@
 package com.fitnote.server.domain.routine.service;
 
+import java.nio.ByteBuffer;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fitnote.server.common.journal.JournaledState;
+import com.fitnote.server.common.journal.JsonCodec;
+import com.fitnote.server.common.journal.MemoryStoreJournals;
 import com.fitnote.server.domain.routine.dto.RoutineRequest;
 import com.fitnote.server.domain.routine.dto.RoutineResponse;
 
+/**
+ * 메모리 기반 루틴 저장소
+ *
+ * 저널이 켜져 있으면 생성/수정/삭제가 디스크에 확정된 뒤 메모리에 적용되고, 기동 시 스냅샷과 저널로 복원됩니다.
+ */
 @Service
 public class RoutineService {
 
+    private static final Logger logger = LoggerFactory.getLogger(RoutineService.class);
+
     private final AtomicLong idGenerator = new AtomicLong(1L);
     private final Map<Long, Map<Long, RoutineResponse>> storage = new ConcurrentHashMap<>();
+    private final JournaledState journal; // null이면 휘발성
+    private final JsonCodec<RoutineEvent> eventCodec;
+    private final JsonCodec<Snapshot> snapshotCodec;
+
+    public RoutineService(MemoryStoreJournals journals, ObjectMapper objectMapper) {
+        this.eventCodec = new JsonCodec<>(objectMapper, RoutineEvent.class);
+        this.snapshotCodec = new JsonCodec<>(objectMapper, Snapshot.class);
+        this.journal = journals.open("routines", this::restore, this::replay, this::encodeSnapshot);
+    }
 
     public List<RoutineResponse> findAllByUser(Long userId) {
         return storage.getOrDefault(userId, Map.of()).values().stream()
@@ -35,31 +59,92 @@ public class RoutineService {
     }
 
     public RoutineResponse create(Long userId, RoutineRequest request) {
-        RoutineResponse response = new RoutineResponse(
+        return journaled(EventType.CREATE, userId, () -> new RoutineResponse(
                 idGenerator.getAndIncrement(),
                 request.name(),
-                request.description());
-
-        storage.computeIfAbsent(userId, key -> new HashMap<>())
-                .put(response.id(), response);
-        return response;
+                request.description()));
     }
 
     public RoutineResponse update(Long userId, Long routineId, RoutineRequest request) {
-        Map<Long, RoutineResponse> userRoutines = storage.get(userId);
-        if (userRoutines == null || !userRoutines.containsKey(routineId)) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "루틴을 찾을 수 없습니다.");
+        return journaled(EventType.UPDATE, userId, () -> {
+            findById(userId, routineId);
+            return new RoutineResponse(routineId, request.name(), request.description());
+        });
+    }
+
+    public void delete(Long userId, Long routineId) {
+        journaled(EventType.DELETE, userId, () -> findById(userId, routineId));
+    }
+
+    /**
+     * prepare는 존재 여부만 확인하고 바뀔 값을 만들며, 메모리 반영은 저널이 디스크에 확정된 뒤에 합니다.
+     * 같은 사용자의 쓰기는 저널의 사용자별 락으로 직렬화되므로 확인과 반영 사이에 루틴이 사라지지 않습니다.
+     */
+    private RoutineResponse journaled(EventType type, Long userId, Supplier<RoutineResponse> prepare) {
+        if (journal == null) {
+            synchronized (storage.computeIfAbsent(userId, key -> new ConcurrentHashMap<>())) {
+                RoutineResponse routine = prepare.get();
+                apply(type, userId, routine);
+                return routine;
+            }
         }
+        return journal.write(userId, prepare,
+                routine -> eventCodec.encode(new RoutineEvent(type, userId, routine)),
+                routine -> apply(type, userId, routine));
+    }
 
-        RoutineResponse updated = new RoutineResponse(routineId, request.name(), request.description());
-        userRoutines.put(routineId, updated);
-        return updated;
+    private void apply(EventType type, Long userId, RoutineResponse routine) {
+        Map<Long, RoutineResponse> userRoutines = storage.computeIfAbsent(userId, key -> new ConcurrentHashMap<>());
+        switch (type) {
+            case CREATE, UPDATE -> userRoutines.put(routine.id(), routine);
+            case DELETE -> userRoutines.remove(routine.id());
+        }
     }
 
-    public void delete(Long userId, Long routineId) {
-        Map<Long, RoutineResponse> userRoutines = storage.get(userId);
-        if (userRoutines == null || userRoutines.remove(routineId) == null) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "루틴을 찾을 수 없습니다.");
+    /**
+     * 저널에 남은 수정/삭제의 대상이 없으면 (예: 스냅샷과 저널이 어긋난 경우) 기동을 막지 않고 건너뜁니다.
+     */
+    private void replay(byte[] payload) {
+        RoutineEvent event = eventCodec.decode(payload);
+        if (event.type() != EventType.CREATE
+                && !storage.getOrDefault(event.userId(), Map.of()).containsKey(event.routine().id())) {
+            logger.warn("Skipping journaled {} of missing routine {} for user {}",
+                    event.type(), event.routine().id(), event.userId());
+            return;
+        }
+        apply(event.type(), event.userId(), event.routine());
+        if (event.type() == EventType.CREATE) {
+            idGenerator.accumulateAndGet(event.routine().id() + 1, Math::max);
         }
     }
+
+    private void restore(ByteBuffer payload) {
+        Snapshot snapshot = snapshotCodec.decode(payload);
+        snapshot.routines().forEach((userId, routines) ->
+                routines.forEach(routine -> apply(EventType.CREATE, userId, routine)));
+        idGenerator.set(snapshot.nextId());
+    }
+
+    /**
+     * 저널의 스냅샷 락 안에서 호출되므로 저널에 남은 쓰기가 모두 반영된 일관된 상태를 직렬화합니다.
+     */
+    private byte[] encodeSnapshot() {
+        Map<Long, List<RoutineResponse>> routines = new HashMap<>();
+        storage.forEach((userId, userRoutines) -> {
+            if (!userRoutines.isEmpty()) {
+                routines.put(userId, List.copyOf(userRoutines.values()));
+            }
+        });
+        return snapshotCodec.encode(new Snapshot(idGenerator.get(), routines));
+    }
+
+    enum EventType {
+        CREATE, UPDATE, DELETE
+    }
+
+    record RoutineEvent(EventType type, long userId, RoutineResponse routine) {
+    }
+
+    record Snapshot(long nextId, Map<Long, List<RoutineResponse>> routines) {
+    }
 }
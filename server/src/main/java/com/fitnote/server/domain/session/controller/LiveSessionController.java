@@ -0,0 +1,108 @@
+package com.fitnote.server.domain.session.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fitnote.server.config.security.user.UserPrincipal;
+import com.fitnote.server.domain.session.dto.LiveSessionResponse;
+import com.fitnote.server.domain.session.dto.SessionExerciseRequest;
+import com.fitnote.server.domain.session.dto.SessionStartRequest;
+import com.fitnote.server.domain.session.service.LiveSessionService;
+import com.fitnote.server.domain.workout.dto.WorkoutDetailResponse;
+import com.fitnote.server.domain.workout.dto.WorkoutSetRequest;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/sessions")
+public class LiveSessionController {
+
+    private final LiveSessionService liveSessionService;
+
+    public LiveSessionController(LiveSessionService liveSessionService) {
+        this.liveSessionService = liveSessionService;
+    }
+
+    @PostMapping
+    public ResponseEntity<LiveSessionResponse> startSession(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @Valid @RequestBody SessionStartRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(liveSessionService.start(principal.getId(), request));
+    }
+
+    /**
+     * 다른 기기에서 진행 중인 세션을 이어받을 때 씁니다.
+     */
+    @GetMapping("/current")
+    public ResponseEntity<LiveSessionResponse> getCurrentSession(@AuthenticationPrincipal UserPrincipal principal) {
+        return ResponseEntity.ok(liveSessionService.current(principal.getId()));
+    }
+
+    /**
+     * state(세션 상태), rest(휴식 타이머 초 단위), finished, abandoned(세션이 버려짐) 이벤트를 보냅니다.
+     */
+    @GetMapping(path = "/{sessionId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable Long sessionId) {
+        return liveSessionService.subscribe(principal.getId(), sessionId);
+    }
+
+    @PostMapping("/{sessionId}/exercises")
+    public ResponseEntity<LiveSessionResponse> addExercise(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable Long sessionId,
+            @Valid @RequestBody SessionExerciseRequest request) {
+        return ResponseEntity.ok(liveSessionService.addExercise(principal.getId(), sessionId, request));
+    }
+
+    @PutMapping("/{sessionId}/exercises/{workoutExerciseId}/sets/{setIndex}")
+    public ResponseEntity<LiveSessionResponse> putSet(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable Long sessionId,
+            @PathVariable Long workoutExerciseId,
+            @PathVariable int setIndex,
+            @Valid @RequestBody WorkoutSetRequest request) {
+        return ResponseEntity.ok(liveSessionService.putSet(
+                principal.getId(), sessionId, workoutExerciseId, setIndex, request));
+    }
+
+    @DeleteMapping("/{sessionId}/exercises/{workoutExerciseId}/sets/{setIndex}")
+    public ResponseEntity<LiveSessionResponse> deleteSet(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable Long sessionId,
+            @PathVariable Long workoutExerciseId,
+            @PathVariable int setIndex) {
+        return ResponseEntity.ok(
+                liveSessionService.deleteSet(principal.getId(), sessionId, workoutExerciseId, setIndex));
+    }
+
+    @PostMapping("/{sessionId}/finish")
+    public ResponseEntity<WorkoutDetailResponse> finishSession(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable Long sessionId) {
+        return ResponseEntity.ok(liveSessionService.finish(principal.getId(), sessionId));
+    }
+
+    /**
+     * 저장하지 않은 변경을 버리고 세션을 끝냅니다.
+     */
+    @DeleteMapping("/{sessionId}")
+    public ResponseEntity<Void> abandonSession(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable Long sessionId) {
+        liveSessionService.abandon(principal.getId(), sessionId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.fitnote.server.domain.session.dto;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fitnote.server.domain.workout.dto.WorkoutSetDetail;
+
+/**
+ * 진행 중인 세션의 현재 상태. SSE state 이벤트와 같은 형식입니다.
+ *
+ * @param sessionId 세션이 기록되는 운동 기록 id
+ * @param restEndsAt 휴식 타이머가 끝나는 시각, 타이머가 없으면 null
+ * @param pendingChanges 아직 DB에 쓰지 않은 세트 변경 수
+ */
+public record LiveSessionResponse(
+        Long sessionId,
+        String title,
+        LocalDateTime startedAt,
+        List<Exercise> exercises,
+        Instant restEndsAt,
+        int pendingChanges) {
+
+    /**
+     * @param sets id가 null인 세트는 아직 저장되지 않았습니다.
+     */
+    public record Exercise(Long workoutExerciseId, Long exerciseId, String supersetGroup, List<WorkoutSetDetail> sets) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.fitnote.server.domain.session.dto;
+
+import java.time.Instant;
+
+/**
+ * SSE rest 이벤트. remainingSec가 0이면 휴식이 끝난 것입니다.
+ */
+public record RestTimerTick(Long sessionId, long remainingSec, Instant endsAt) {
+}
@@ -0,0 +1,9 @@
+package com.fitnote.server.domain.session.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record SessionExerciseRequest(
+        @NotNull Long exerciseId,
+        @Size(max = 32) String supersetGroup) {
+}
@@ -0,0 +1,6 @@
+package com.fitnote.server.domain.session.dto;
+
+import jakarta.validation.constraints.Size;
+
+public record SessionStartRequest(@Size(max = 120) String title) {
+}
@@ -0,0 +1,229 @@
+package com.fitnote.server.domain.session.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fitnote.server.domain.exercise.MetricType;
+import com.fitnote.server.domain.session.dto.LiveSessionResponse;
+import com.fitnote.server.domain.workout.dto.WorkoutExerciseRef;
+import com.fitnote.server.domain.workout.dto.WorkoutSetChange;
+import com.fitnote.server.domain.workout.dto.WorkoutSetDetail;
+import com.fitnote.server.domain.workout.dto.WorkoutSetRequest;
+
+/**
+ * 진행 중인 세션 하나의 메모리 상태
+ *
+ * 세트는 (종목, setIndex) 칸마다 마지막 값과 수정 횟수(version)만 두므로 저장 전 여러 번 고쳐도 변경은 하나입니다.
+ * drain은 저장된 version과 다른 칸만 꺼내고, complete는 꺼낸 version까지만 저장된 것으로 표시하므로
+ * 저장 중에 들어온 수정은 다음 저장에 남습니다. 저장은 flushLock으로 세션마다 한 번에 하나만 진행합니다.
+ * 상태 변경은 이 객체의 모니터로 직렬화합니다. 종료/폐기가 시작되면(close) 이후의 수정은 모니터 안에서 거절하므로
+ * 마지막 저장 뒤에 들어온 수정이 응답만 성공하고 사라지는 일이 없습니다.
+ */
+final class LiveSession {
+
+    final Long userId;
+    final Long workoutId;
+    final String title;
+    final LocalDateTime startedAt;
+    final ReentrantLock flushLock = new ReentrantLock();
+    final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    private final List<Exercise> exercises = new ArrayList<>();
+    private Instant restEndsAt;
+    private boolean closed;
+
+    LiveSession(Long userId, Long workoutId, String title, LocalDateTime startedAt) {
+        this.userId = userId;
+        this.workoutId = workoutId;
+        this.title = title;
+        this.startedAt = startedAt;
+    }
+
+    synchronized void addExercise(WorkoutExerciseRef ref, String supersetGroup) {
+        ensureOpen();
+        exercises.add(new Exercise(ref.workoutExerciseId(), ref.exerciseId(), ref.metricType(), supersetGroup));
+    }
+
+    synchronized MetricType metricType(Long workoutExerciseId) {
+        return exercise(workoutExerciseId).metricType;
+    }
+
+    synchronized void putSet(Long workoutExerciseId, int setIndex, WorkoutSetRequest values, Instant restEndsAt) {
+        ensureOpen();
+        Slot slot = exercise(workoutExerciseId).sets.computeIfAbsent(setIndex, index -> new Slot());
+        slot.values = values;
+        slot.removed = false;
+        slot.version++;
+        this.restEndsAt = restEndsAt;
+    }
+
+    /**
+     * 아직 저장되지 않았고 저장 중도 아닌 세트는 메모리에서만 지웁니다.
+     */
+    synchronized void removeSet(Long workoutExerciseId, int setIndex) {
+        ensureOpen();
+        Map<Integer, Slot> sets = exercise(workoutExerciseId).sets;
+        Slot slot = sets.get(setIndex);
+        if (slot == null || slot.removed) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "세트를 찾을 수 없습니다.");
+        }
+        if (slot.setId == null && !slot.inFlight) {
+            sets.remove(setIndex);
+            return;
+        }
+        slot.removed = true;
+        slot.values = null;
+        slot.version++;
+    }
+
+    synchronized List<Pending> drain() {
+        List<Pending> pending = new ArrayList<>();
+        for (Exercise exercise : exercises) {
+            for (Map.Entry<Integer, Slot> entry : exercise.sets.entrySet()) {
+                Slot slot = entry.getValue();
+                if (slot.version == slot.flushedVersion) {
+                    continue;
+                }
+                slot.inFlight = true;
+                pending.add(new Pending(slot, slot.version, new WorkoutSetChange(
+                        exercise.workoutExerciseId, slot.setId, entry.getKey(), slot.values)));
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * @param ids WorkoutService.applySetChanges 결과 (pending과 같은 순서)
+     */
+    synchronized void complete(List<Pending> pending, List<Long> ids) {
+        for (int i = 0; i < pending.size(); i++) {
+            Pending flushed = pending.get(i);
+            Slot slot = flushed.slot;
+            slot.inFlight = false;
+            slot.setId = flushed.change.request() == null ? null : ids.get(i);
+            slot.flushedVersion = flushed.version;
+        }
+        for (Exercise exercise : exercises) {
+            Iterator<Slot> it = exercise.sets.values().iterator();
+            while (it.hasNext()) {
+                Slot slot = it.next();
+                if (slot.removed && slot.version == slot.flushedVersion) {
+                    it.remove();
+                }
+            }
+        }
+    }
+
+    synchronized void fail(List<Pending> pending) {
+        for (Pending flushed : pending) {
+            flushed.slot.inFlight = false;
+        }
+    }
+
+    /**
+     * 더 이상 수정을 받지 않습니다. 이미 닫혀 있었으면 false를 반환합니다.
+     */
+    synchronized boolean close() {
+        if (closed) {
+            return false;
+        }
+        closed = true;
+        return true;
+    }
+
+    /**
+     * 종료 중 일시적인 저장 실패로 세션을 계속 쓰게 할 때만 다시 엽니다.
+     */
+    synchronized void reopen() {
+        closed = false;
+    }
+
+    synchronized void ensureOpen() {
+        if (closed) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 종료된 세션입니다.");
+        }
+    }
+
+    synchronized Instant restEndsAt() {
+        return restEndsAt;
+    }
+
+    synchronized void clearRest(Instant endsAt) {
+        if (endsAt.equals(restEndsAt)) {
+            restEndsAt = null;
+        }
+    }
+
+    synchronized LiveSessionResponse state() {
+        List<LiveSessionResponse.Exercise> result = new ArrayList<>(exercises.size());
+        int pendingChanges = 0;
+        for (Exercise exercise : exercises) {
+            List<WorkoutSetDetail> sets = new ArrayList<>();
+            for (Map.Entry<Integer, Slot> entry : exercise.sets.entrySet()) {
+                Slot slot = entry.getValue();
+                if (slot.version != slot.flushedVersion) {
+                    pendingChanges++;
+                }
+                if (!slot.removed) {
+                    sets.add(detail(slot.setId, entry.getKey(), slot.values));
+                }
+            }
+            result.add(new LiveSessionResponse.Exercise(
+                    exercise.workoutExerciseId, exercise.exerciseId, exercise.supersetGroup, sets));
+        }
+        return new LiveSessionResponse(workoutId, title, startedAt, result, restEndsAt, pendingChanges);
+    }
+
+    private Exercise exercise(Long workoutExerciseId) {
+        for (Exercise exercise : exercises) {
+            if (exercise.workoutExerciseId.equals(workoutExerciseId)) {
+                return exercise;
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.NOT_FOUND, "세션에 없는 종목입니다.");
+    }
+
+    private static WorkoutSetDetail detail(Long setId, int setIndex, WorkoutSetRequest values) {
+        return new WorkoutSetDetail(setId, setIndex, values.weight(), values.reps(), values.durationSec(),
+                values.distanceM(), values.rpe(), values.rir(), Boolean.TRUE.equals(values.isWarmup()),
+                values.restSec(), values.tempo(), values.note());
+    }
+
+    record Pending(Slot slot, int version, WorkoutSetChange change) {
+    }
+
+    private static final class Exercise {
+        final Long workoutExerciseId;
+        final Long exerciseId;
+        final MetricType metricType;
+        final String supersetGroup;
+        final Map<Integer, Slot> sets = new TreeMap<>();
+
+        Exercise(Long workoutExerciseId, Long exerciseId, MetricType metricType, String supersetGroup) {
+            this.workoutExerciseId = workoutExerciseId;
+            this.exerciseId = exerciseId;
+            this.metricType = metricType;
+            this.supersetGroup = supersetGroup;
+        }
+    }
+
+    static final class Slot {
+        Long setId;
+        WorkoutSetRequest values;
+        int version;
+        int flushedVersion;
+        boolean removed;
+        boolean inFlight;
+    }
+}
@@ -0,0 +1,354 @@
+package com.fitnote.server.domain.session.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fitnote.server.common.weight.WeightFormat;
+import com.fitnote.server.domain.session.dto.LiveSessionResponse;
+import com.fitnote.server.domain.session.dto.RestTimerTick;
+import com.fitnote.server.domain.session.dto.SessionExerciseRequest;
+import com.fitnote.server.domain.session.dto.SessionStartRequest;
+import com.fitnote.server.domain.settings.UserContext;
+import com.fitnote.server.domain.settings.service.UserContextService;
+import com.fitnote.server.domain.workout.dto.WorkoutCreateRequest;
+import com.fitnote.server.domain.workout.dto.WorkoutDetailResponse;
+import com.fitnote.server.domain.workout.dto.WorkoutSetRequest;
+import com.fitnote.server.domain.workout.event.WorkoutChangedEvent;
+import com.fitnote.server.domain.workout.service.WorkoutService;
+
+/**
+ * 실시간 운동 세션
+ *
+ * 세션을 시작하면 빈 운동 기록을 만들고, 세트 수정은 메모리의 {@link LiveSession}에만 반영합니다.
+ * 모인 변경은 주기적으로(그리고 종료 시) 세션마다 트랜잭션 한 번으로 저장하므로 세트마다 트랜잭션이 생기지 않습니다.
+ * 종목 추가는 드물고 세트가 가리킬 id가 필요하므로 바로 저장합니다.
+ *
+ * 상태 변경과 휴식 타이머는 사용자가 연 모든 기기의 SSE 스트림으로 보냅니다. 무게는 사용자 단위로 직렬화합니다.
+ * 종료가 시작되면 스트림을 닫고 남은 변경을 저장하며, 빈 소멸 시 한 번 더 저장합니다.
+ *
+ * 기록이 일반 API로 수정/삭제되었거나 변경이 다시 시도해도 저장될 수 없으면(4xx) 세션을 버리고 abandoned를 보냅니다.
+ */
+@Service
+public class LiveSessionService implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiveSessionService.class);
+    private static final int MAX_SETS_PER_EXERCISE = 100; // WorkoutExerciseRequest.sets와 같은 한도
+
+    private final Map<Long, LiveSession> sessions = new ConcurrentHashMap<>(); // userId → 세션 (사용자당 하나)
+    private final WorkoutService workoutService;
+    private final UserContextService userContextService;
+    private final ObjectMapper objectMapper;
+    private final long sseTimeoutMs;
+
+    public LiveSessionService(
+            WorkoutService workoutService,
+            UserContextService userContextService,
+            ObjectMapper objectMapper,
+            @Value("${sessions.sse-timeout-ms:1800000}") long sseTimeoutMs) {
+        this.workoutService = workoutService;
+        this.userContextService = userContextService;
+        this.objectMapper = objectMapper;
+        this.sseTimeoutMs = sseTimeoutMs;
+    }
+
+    /**
+     * 기록 생성 트랜잭션은 맵 밖에서 실행합니다. 동시에 시작한 다른 요청이 먼저 등록되면 방금 만든 빈 기록을 지웁니다.
+     */
+    public LiveSessionResponse start(Long userId, SessionStartRequest request) {
+        if (sessions.containsKey(userId)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 진행 중인 세션이 있습니다.");
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        Long workoutId = workoutService.create(userId, new WorkoutCreateRequest(
+                request.title(), startedAt, null, null, null, List.of())).id();
+        LiveSession session = new LiveSession(userId, workoutId, request.title(), startedAt);
+        if (sessions.putIfAbsent(userId, session) != null) {
+            workoutService.deleteWorkout(userId, workoutId);
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 진행 중인 세션이 있습니다.");
+        }
+        return session.state();
+    }
+
+    public LiveSessionResponse current(Long userId) {
+        LiveSession session = sessions.get(userId);
+        if (session == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "진행 중인 세션이 없습니다.");
+        }
+        return session.state();
+    }
+
+    public LiveSessionResponse addExercise(Long userId, Long sessionId, SessionExerciseRequest request) {
+        LiveSession session = session(userId, sessionId);
+        session.ensureOpen();
+        session.addExercise(
+                workoutService.addExercise(userId, sessionId, request.exerciseId(), request.supersetGroup()),
+                request.supersetGroup());
+        return publishState(session);
+    }
+
+    /**
+     * 세트를 기록(또는 수정)하고 휴식 타이머를 다시 시작합니다. 휴식 시간은 세트의 restSec, 없으면 사용자 기본값입니다.
+     */
+    public LiveSessionResponse putSet(
+            Long userId, Long sessionId, Long workoutExerciseId, int setIndex, WorkoutSetRequest request) {
+        if (setIndex < 0 || setIndex >= MAX_SETS_PER_EXERCISE) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "세트 번호는 0 이상 " + (MAX_SETS_PER_EXERCISE - 1) + " 이하여야 합니다.");
+        }
+        LiveSession session = session(userId, sessionId);
+        WorkoutService.validateMetrics(session.metricType(workoutExerciseId), request);
+        int restSec = request.restSec() != null ? request.restSec() : userContextService.get(userId).defaultRestSec();
+        session.putSet(workoutExerciseId, setIndex, request,
+                restSec > 0 ? Instant.now().plusSeconds(restSec) : null);
+        return publishState(session);
+    }
+
+    public LiveSessionResponse deleteSet(Long userId, Long sessionId, Long workoutExerciseId, int setIndex) {
+        LiveSession session = session(userId, sessionId);
+        session.removeSet(workoutExerciseId, setIndex);
+        return publishState(session);
+    }
+
+    /**
+     * 수정을 막은 뒤 남은 변경을 저장하고 종료 시각을 기록합니다.
+     * 일시적인 저장 실패면 세션을 다시 열어 재시도할 수 있게 하고, 기록이 사라지는 등 다시 해도 실패할 오류면 세션을 버립니다.
+     */
+    public WorkoutDetailResponse finish(Long userId, Long sessionId) {
+        LiveSession session = session(userId, sessionId);
+        session.flushLock.lock();
+        try {
+            if (!session.close()) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 종료된 세션입니다.");
+            }
+            try {
+                flush(session);
+                workoutService.finish(userId, sessionId, LocalDateTime.now());
+            } catch (ResponseStatusException e) {
+                if (!e.getStatusCode().is4xxClientError()) {
+                    session.reopen();
+                } else {
+                    discard(session, e);
+                }
+                throw e;
+            } catch (RuntimeException e) {
+                session.reopen();
+                throw e;
+            }
+            sessions.remove(userId, session);
+        } finally {
+            session.flushLock.unlock();
+        }
+        end(session, "finished");
+        return workoutService.findDetail(userId, sessionId);
+    }
+
+    /**
+     * 저장하지 않은 변경을 버리고 세션을 끝냅니다. 이미 저장된 세트는 일반 운동 기록으로 남습니다.
+     */
+    public void abandon(Long userId, Long sessionId) {
+        LiveSession session = session(userId, sessionId);
+        session.flushLock.lock();
+        try {
+            if (!session.close()) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 종료된 세션입니다.");
+            }
+            sessions.remove(userId, session);
+        } finally {
+            session.flushLock.unlock();
+        }
+        end(session, "abandoned");
+    }
+
+    /**
+     * 구독하면 현재 상태를 바로 한 번 보냅니다.
+     */
+    public SseEmitter subscribe(Long userId, Long sessionId) {
+        LiveSession session = session(userId, sessionId);
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        emitter.onCompletion(() -> session.emitters.remove(emitter));
+        emitter.onTimeout(() -> session.emitters.remove(emitter));
+        emitter.onError(error -> session.emitters.remove(emitter));
+        session.emitters.add(emitter);
+        send(session, "state", session.state());
+        return emitter;
+    }
+
+    @Scheduled(
+            initialDelayString = "${sessions.flush-interval-ms:3000}",
+            fixedDelayString = "${sessions.flush-interval-ms:3000}")
+    public void flushAll() {
+        for (LiveSession session : sessions.values()) {
+            if (!session.flushLock.tryLock()) {
+                continue; // 종료 중인 세션
+            }
+            try {
+                flush(session);
+            } catch (ResponseStatusException e) {
+                if (e.getStatusCode().is4xxClientError()) {
+                    discard(session, e);
+                } else {
+                    logger.warn("Flushing live session {} failed; changes are kept for the next flush",
+                            session.workoutId, e);
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Flushing live session {} failed; changes are kept for the next flush",
+                        session.workoutId, e);
+            } finally {
+                session.flushLock.unlock();
+            }
+        }
+    }
+
+    @Scheduled(fixedRateString = "${sessions.rest-tick-ms:1000}")
+    public void tickRestTimers() {
+        Instant now = Instant.now();
+        for (LiveSession session : sessions.values()) {
+            Instant endsAt = session.restEndsAt();
+            if (endsAt == null) {
+                continue;
+            }
+            long remainingMs = Duration.between(now, endsAt).toMillis();
+            long remainingSec = remainingMs <= 0 ? 0 : (remainingMs + 999) / 1000;
+            if (!session.emitters.isEmpty()) {
+                send(session, "rest", new RestTimerTick(session.workoutId, remainingSec, endsAt));
+            }
+            if (remainingSec == 0) {
+                session.clearRest(endsAt);
+            }
+        }
+    }
+
+    /**
+     * 세션의 기록이 일반 API로 수정/삭제되면 세션이 가진 종목/세트 id가 더 이상 맞지 않으므로 세션을 버립니다.
+     * 세션 자체의 저장은 이 이벤트를 내지 않습니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onWorkoutChanged(WorkoutChangedEvent event) {
+        if (event.isCreated()) {
+            return;
+        }
+        LiveSession session = sessions.get(event.userId());
+        if (session != null && session.workoutId.equals(event.workoutId()) && session.close()) {
+            logger.info("Live session {} was changed outside the session; discarding it", session.workoutId);
+            sessions.remove(session.userId, session);
+            end(session, "abandoned");
+        }
+    }
+
+    /**
+     * 종료 신호를 받으면 스트림을 먼저 닫아 graceful shutdown이 SSE 요청을 기다리지 않게 하고, 모인 변경을 저장합니다.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void onShutdown() {
+        for (LiveSession session : sessions.values()) {
+            for (SseEmitter emitter : session.emitters) {
+                emitter.complete();
+            }
+        }
+        flushAll();
+    }
+
+    /**
+     * 종료 대기 중에 처리된 요청의 변경까지 저장합니다.
+     */
+    @Override
+    public void destroy() {
+        flushAll();
+    }
+
+    private void flush(LiveSession session) {
+        List<LiveSession.Pending> pending = session.drain();
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Long> ids;
+        try {
+            ids = workoutService.applySetChanges(
+                    session.userId, session.workoutId, pending.stream().map(LiveSession.Pending::change).toList());
+        } catch (RuntimeException e) {
+            session.fail(pending);
+            throw e;
+        }
+        session.complete(pending, ids);
+        publishState(session);
+    }
+
+    /**
+     * 다시 시도해도 저장될 수 없는 세션을 버립니다. 저장하지 못한 변경은 잃지만 세션이 영영 남아 새 세션을 막지는 않습니다.
+     */
+    private void discard(LiveSession session, ResponseStatusException cause) {
+        session.close();
+        if (sessions.remove(session.userId, session)) {
+            logger.warn("Live session {} can no longer be saved ({}); discarding it",
+                    session.workoutId, cause.getReason());
+            end(session, "abandoned");
+        }
+    }
+
+    private void end(LiveSession session, String eventName) {
+        send(session, eventName, session.state());
+        for (SseEmitter emitter : session.emitters) {
+            emitter.complete();
+        }
+    }
+
+    private LiveSession session(Long userId, Long sessionId) {
+        LiveSession session = sessions.get(userId);
+        if (session == null || !session.workoutId.equals(sessionId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "진행 중인 세션이 아닙니다.");
+        }
+        return session;
+    }
+
+    private LiveSessionResponse publishState(LiveSession session) {
+        LiveSessionResponse state = session.state();
+        if (!session.emitters.isEmpty()) {
+            send(session, "state", state);
+        }
+        return state;
+    }
+
+    /**
+     * 요청 스레드가 아닌 곳(타이머, 저장)에서도 보내므로 무게 단위는 UserContext로 직접 정해 직렬화합니다.
+     */
+    private void send(LiveSession session, String name, Object data) {
+        String json;
+        try {
+            UserContext context = userContextService.get(session.userId);
+            json = objectMapper.writer()
+                    .withAttribute(WeightFormat.ATTRIBUTE, context.weightFormat())
+                    .writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize live session event", e);
+        }
+        for (SseEmitter emitter : session.emitters) {
+            try {
+                emitter.send(SseEmitter.event().name(name).data(json, MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException e) {
+                session.emitters.remove(emitter); // 끊긴 기기
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.fitnote.server.domain.settings;
+
+import java.time.ZoneId;
+
+import com.fitnote.server.common.weight.WeightFormat;
+import com.fitnote.server.domain.auth.UnitSystem;
+
+/**
+ * 한 사용자의 시간대/단위/설정 스냅샷 (불변)
+ * UserContextService가 사용자마다 한 번 읽어 두며, 컨트롤러는 파라미터로 바로 받을 수 있습니다.
+ * 설정이 없는 사용자는 기본값으로 채웁니다.
+ *
+ * @param roundingStep 표시 단위의 1/100, 0이면 반올림하지 않음
+ * @param version 설정 변경 스탬프 (User.settingsVersion)
+ */
+public record UserContext(
+        Long userId,
+        ZoneId zone,
+        UnitSystem unitSystem,
+        int defaultRestSec,
+        int roundingStep,
+        boolean showWarmup,
+        long version) {
+
+    public static final int DEFAULT_REST_SEC = 90;
+
+    public WeightFormat weightFormat() {
+        return new WeightFormat(unitSystem == UnitSystem.LB, roundingStep);
+    }
+}
@@ -0,0 +1,43 @@
+package com.fitnote.server.domain.settings.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fitnote.server.config.security.user.UserPrincipal;
+import com.fitnote.server.domain.settings.UserContext;
+import com.fitnote.server.domain.settings.dto.SettingsResponse;
+import com.fitnote.server.domain.settings.dto.SettingsUpdateRequest;
+import com.fitnote.server.domain.settings.service.SettingsService;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/settings")
+public class SettingsController {
+
+    private final SettingsService settingsService;
+
+    public SettingsController(SettingsService settingsService) {
+        this.settingsService = settingsService;
+    }
+
+    /**
+     * 캐시된 UserContext에서 바로 응답합니다.
+     */
+    @GetMapping
+    public ResponseEntity<SettingsResponse> getSettings(UserContext context) {
+        return ResponseEntity.ok(SettingsResponse.from(context));
+    }
+
+    @PutMapping
+    public ResponseEntity<SettingsResponse> updateSettings(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @Valid @RequestBody SettingsUpdateRequest request) {
+        return ResponseEntity.ok(settingsService.update(principal.getId(), request));
+    }
+}
@@ -0,0 +1,17 @@
+package com.fitnote.server.domain.settings.dto;
+
+import com.fitnote.server.domain.auth.UnitSystem;
+import com.fitnote.server.domain.settings.UserContext;
+
+public record SettingsResponse(
+        UnitSystem unitSystem,
+        String timezone,
+        int defaultRestSec,
+        int roundingStep,
+        boolean showWarmup) {
+
+    public static SettingsResponse from(UserContext context) {
+        return new SettingsResponse(context.unitSystem(), context.zone().getId(),
+                context.defaultRestSec(), context.roundingStep(), context.showWarmup());
+    }
+}
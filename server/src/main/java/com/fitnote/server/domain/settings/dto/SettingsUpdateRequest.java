@@ -0,0 +1,23 @@
+package com.fitnote.server.domain.settings.dto;
+
+import com.fitnote.server.domain.auth.UnitSystem;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 단위/시간대/표시 설정 변경. 모든 필드를 요청 값으로 바꾸며, 설정 값이 null이면 기본값으로 돌아갑니다.
+ *
+ * @param timezone IANA 시간대 ID (예: Asia/Seoul)
+ * @param roundingStep 표시 단위의 1/100 (250 = 2.5kg 또는 2.5lb), 0이면 반올림하지 않음 (lb는 0.1lb 단위)
+ */
+public record SettingsUpdateRequest(
+        @NotNull UnitSystem unitSystem,
+        @NotBlank @Size(max = 64) String timezone,
+        @Min(0) @Max(3600) Integer defaultRestSec,
+        @Min(0) @Max(10000) Integer roundingStep,
+        Boolean showWarmup) {
+}
@@ -0,0 +1,4 @@
+package com.fitnote.server.domain.settings.dto;
+
+public record SettingsVersionRow(Long userId, Long version) {
+}
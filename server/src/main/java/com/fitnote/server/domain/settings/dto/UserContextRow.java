@@ -0,0 +1,16 @@
+package com.fitnote.server.domain.settings.dto;
+
+import com.fitnote.server.domain.auth.UnitSystem;
+
+/**
+ * UserContext 적재용 (사용자 + 설정 한 번의 조회). 설정 행이 없으면 설정 값은 null입니다.
+ */
+public record UserContextRow(
+        Long userId,
+        UnitSystem unitSystem,
+        String timezone,
+        Long version,
+        Integer defaultRestSec,
+        Integer roundingStep,
+        Boolean showWarmup) {
+}
@@ -0,0 +1,9 @@
+package com.fitnote.server.domain.settings.event;
+
+/**
+ * 사용자의 단위/시간대/설정이 바뀌었음을 알립니다. 쓰기 트랜잭션 안에서 발행됩니다.
+ *
+ * @param zoneChanged 저장된 시간대가 바뀌었는지. 날짜 단위로 저장된 집계는 이때 다시 나눕니다.
+ */
+public record UserSettingsChangedEvent(Long userId, boolean zoneChanged) {
+}
@@ -0,0 +1,77 @@
+package com.fitnote.server.domain.settings.service;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fitnote.server.domain.auth.User;
+import com.fitnote.server.domain.auth.UserSettings;
+import com.fitnote.server.domain.auth.repository.UserRepository;
+import com.fitnote.server.domain.auth.repository.UserSettingsRepository;
+import com.fitnote.server.domain.settings.UserContext;
+import com.fitnote.server.domain.settings.dto.SettingsResponse;
+import com.fitnote.server.domain.settings.dto.SettingsUpdateRequest;
+import com.fitnote.server.domain.settings.event.UserSettingsChangedEvent;
+
+/**
+ * 단위/시간대/표시 설정 변경
+ * 변경마다 User.settingsVersion을 올리므로 모든 인스턴스의 UserContext 캐시가 새 값을 다시 읽습니다.
+ */
+@Service
+public class SettingsService {
+
+    private final UserRepository userRepository;
+    private final UserSettingsRepository userSettingsRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SettingsService(
+            UserRepository userRepository,
+            UserSettingsRepository userSettingsRepository,
+            ApplicationEventPublisher eventPublisher) {
+        this.userRepository = userRepository;
+        this.userSettingsRepository = userSettingsRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 같은 사용자의 동시 변경은 행 잠금으로 직렬화해 버전이 겹치지 않게 합니다.
+     */
+    @Transactional
+    public SettingsResponse update(Long userId, SettingsUpdateRequest request) {
+        ZoneId zone;
+        try {
+            zone = ZoneId.of(request.timezone());
+        } catch (DateTimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "알 수 없는 시간대입니다: " + request.timezone());
+        }
+
+        User user = userRepository.findByIdForUpdate(userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."));
+        boolean zoneChanged = !zone.getId().equals(user.getTimezone());
+        user.setUnitSystem(request.unitSystem());
+        user.setTimezone(zone.getId());
+        user.setSettingsVersion((user.getSettingsVersion() != null ? user.getSettingsVersion() : 0L) + 1);
+        user.setSettingsUpdatedAt(LocalDateTime.now());
+
+        UserSettings settings = userSettingsRepository.findById(userId)
+                .orElseGet(() -> UserSettings.builder().user(user).build());
+        settings.setDefaultRestSec(request.defaultRestSec());
+        settings.setRoundingStep(request.roundingStep());
+        settings.setShowWarmup(request.showWarmup());
+        userSettingsRepository.save(settings);
+
+        eventPublisher.publishEvent(new UserSettingsChangedEvent(userId, zoneChanged));
+        return new SettingsResponse(
+                request.unitSystem(),
+                zone.getId(),
+                request.defaultRestSec() != null ? request.defaultRestSec() : UserContext.DEFAULT_REST_SEC,
+                request.roundingStep() != null ? request.roundingStep() : 0,
+                !Boolean.FALSE.equals(request.showWarmup()));
+    }
+}
@@ -0,0 +1,134 @@
+package com.fitnote.server.domain.settings.service;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fitnote.server.domain.auth.UnitSystem;
+import com.fitnote.server.domain.auth.repository.UserRepository;
+import com.fitnote.server.domain.settings.UserContext;
+import com.fitnote.server.domain.settings.dto.SettingsVersionRow;
+import com.fitnote.server.domain.settings.dto.UserContextRow;
+import com.fitnote.server.domain.settings.event.UserSettingsChangedEvent;
+
+/**
+ * 사용자별 UserContext 캐시
+ *
+ * 처음 필요할 때 사용자와 설정을 한 번에 읽어 시간대를 파싱해 두고, 이후에는 DB를 거치지 않습니다.
+ * 이 인스턴스의 설정 변경은 커밋 후 바로 버리고, 다른 인스턴스의 변경은 User.settingsVersion을 주기적으로 확인해 버립니다.
+ * 확인은 마지막 확인 시각 이후 바뀐 사용자만 읽으며, 쓰기 지연과 서버 간 시계 차이만큼 구간을 겹쳐 읽습니다.
+ */
+@Service
+public class UserContextService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserContextService.class);
+
+    private final Map<Long, UserContext> contexts = new ConcurrentHashMap<>();
+    private final UserRepository userRepository;
+    private final int maxEntries;
+    private final long pollOverlapMs;
+    private volatile LocalDateTime lastPolledAt = LocalDateTime.now();
+
+    public UserContextService(
+            UserRepository userRepository,
+            @Value("${settings.context.max-entries:50000}") int maxEntries,
+            @Value("${settings.context.poll-overlap-ms:10000}") long pollOverlapMs) {
+        this.userRepository = userRepository;
+        this.maxEntries = maxEntries;
+        this.pollOverlapMs = pollOverlapMs;
+    }
+
+    public UserContext get(Long userId) {
+        UserContext context = contexts.get(userId);
+        if (context != null) {
+            return context;
+        }
+        if (contexts.size() >= maxEntries) {
+            evict();
+        }
+        return contexts.computeIfAbsent(userId, this::load);
+    }
+
+    public void invalidate(Long userId) {
+        contexts.remove(userId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSettingsChanged(UserSettingsChangedEvent event) {
+        invalidate(event.userId());
+    }
+
+    /**
+     * 다른 인스턴스에서 바뀐 설정을 찾아, 캐시에 더 낮은 버전이 있으면 버립니다. 캐시가 비어 있으면 조회하지 않습니다.
+     */
+    @Scheduled(
+            initialDelayString = "${settings.context.poll-interval-ms:5000}",
+            fixedDelayString = "${settings.context.poll-interval-ms:5000}")
+    public void pollChanges() {
+        LocalDateTime started = LocalDateTime.now();
+        if (!contexts.isEmpty()) {
+            int invalidated = 0;
+            for (SettingsVersionRow row
+                    : userRepository.findSettingsChangedSince(lastPolledAt.minusNanos(pollOverlapMs * 1_000_000))) {
+                UserContext cached = contexts.get(row.userId());
+                if (cached != null && cached.version() < row.version() && contexts.remove(row.userId(), cached)) {
+                    invalidated++;
+                }
+            }
+            if (invalidated > 0) {
+                logger.debug("Invalidated {} user contexts changed elsewhere", invalidated);
+            }
+        }
+        lastPolledAt = started;
+    }
+
+    private UserContext load(Long userId) {
+        UserContextRow row = userRepository.findContextRow(userId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."));
+        return new UserContext(
+                userId,
+                zoneOf(row.timezone(), userId),
+                row.unitSystem() != null ? row.unitSystem() : UnitSystem.KG,
+                row.defaultRestSec() != null ? row.defaultRestSec() : UserContext.DEFAULT_REST_SEC,
+                row.roundingStep() != null ? row.roundingStep() : 0,
+                !Boolean.FALSE.equals(row.showWarmup()),
+                row.version() != null ? row.version() : 0L);
+    }
+
+    /**
+     * 저장된 시간대 문자열을 해석합니다. 없거나 알 수 없으면 서버 시간대입니다.
+     */
+    public static ZoneId zoneOf(String timezone, Long userId) {
+        if (timezone == null) {
+            return ZoneId.systemDefault();
+        }
+        try {
+            return ZoneId.of(timezone);
+        } catch (DateTimeException e) {
+            logger.warn("Unknown timezone {} for user {}, using server timezone", timezone, userId);
+            return ZoneId.systemDefault();
+        }
+    }
+
+    private void evict() {
+        int target = maxEntries - Math.max(1, maxEntries / 10);
+        Iterator<Long> it = contexts.keySet().iterator();
+        while (contexts.size() > target && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+}
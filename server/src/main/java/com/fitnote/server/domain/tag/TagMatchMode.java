@@ -0,0 +1,19 @@
+package com.fitnote.server.domain.tag;
+
+import java.util.Locale;
+
+/**
+ * 여러 태그로 운동 기록을 거를 때의 조합 방식
+ * ALL: 모든 태그가 붙은 기록, ANY: 하나라도 붙은 기록, NONE: 어느 태그도 붙지 않은 기록
+ */
+public enum TagMatchMode {
+    ALL, ANY, NONE;
+
+    public static TagMatchMode parse(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("mode는 all, any, none 중 하나여야 합니다.", e);
+        }
+    }
+}
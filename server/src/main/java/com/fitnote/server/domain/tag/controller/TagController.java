@@ -0,0 +1,42 @@
+package com.fitnote.server.domain.tag.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fitnote.server.config.security.user.UserPrincipal;
+import com.fitnote.server.domain.tag.dto.TagCreateRequest;
+import com.fitnote.server.domain.tag.dto.TagResponse;
+import com.fitnote.server.domain.tag.service.TagService;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/tags")
+public class TagController {
+
+    private final TagService tagService;
+
+    public TagController(TagService tagService) {
+        this.tagService = tagService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<TagResponse>> getTags(@AuthenticationPrincipal UserPrincipal principal) {
+        return ResponseEntity.ok(tagService.findAll(principal.getId()));
+    }
+
+    @PostMapping
+    public ResponseEntity<TagResponse> createTag(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @Valid @RequestBody TagCreateRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(tagService.create(principal.getId(), request));
+    }
+}
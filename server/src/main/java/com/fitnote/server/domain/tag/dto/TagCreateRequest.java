@@ -0,0 +1,12 @@
+package com.fitnote.server.domain.tag.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 태그 이름은 목록 필터(?tags=a,b)에서 쉼표로 구분하므로 쉼표를 넣을 수 없습니다.
+ */
+public record TagCreateRequest(
+        @NotBlank @Size(max = 64) @Pattern(regexp = "[^,]*") String name) {
+}
@@ -0,0 +1,6 @@
+package com.fitnote.server.domain.tag.dto;
+
+public record TagResponse(
+        Long id,
+        String name) {
+}
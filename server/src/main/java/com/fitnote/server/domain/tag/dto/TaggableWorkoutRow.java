@@ -0,0 +1,11 @@
+package com.fitnote.server.domain.tag.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 태그 인덱스의 순번 테이블을 만드는 운동 기록 한 건
+ */
+public record TaggableWorkoutRow(
+        Long workoutId,
+        LocalDateTime startedAt) {
+}
@@ -0,0 +1,6 @@
+package com.fitnote.server.domain.tag.dto;
+
+public record WorkoutTagRow(
+        Long workoutId,
+        Long tagId) {
+}
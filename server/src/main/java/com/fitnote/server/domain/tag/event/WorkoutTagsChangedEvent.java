@@ -0,0 +1,11 @@
+package com.fitnote.server.domain.tag.event;
+
+/**
+ * 운동 기록에 태그가 붙었거나(attached) 떨어졌음을 알립니다. 실제로 행이 바뀐 경우에만 쓰기 트랜잭션 안에서 발행됩니다.
+ */
+public record WorkoutTagsChangedEvent(
+        Long userId,
+        Long workoutId,
+        Long tagId,
+        boolean attached) {
+}
@@ -0,0 +1,41 @@
+package com.fitnote.server.domain.tag.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.fitnote.server.domain.tag.Tag;
+import com.fitnote.server.domain.tag.dto.TagResponse;
+import com.fitnote.server.domain.tag.dto.TaggableWorkoutRow;
+import com.fitnote.server.domain.tag.dto.WorkoutTagRow;
+
+public interface TagRepository extends JpaRepository<Tag, Long> {
+
+    boolean existsByIdAndUserId(Long id, Long userId);
+
+    boolean existsByUserIdAndName(Long userId, String name);
+
+    @Query("select new com.fitnote.server.domain.tag.dto.TagResponse(t.id, t.name) "
+            + "from Tag t where t.user.id = :userId order by t.name asc")
+    List<TagResponse> findResponses(@Param("userId") Long userId);
+
+    /**
+     * uq_tag_user_name (user_id, name)로 이름을 id로 바꿉니다. 없는 이름은 결과에서 빠집니다.
+     */
+    @Query("select t.id from Tag t where t.user.id = :userId and t.name in :names")
+    List<Long> findIdsByNames(@Param("userId") Long userId, @Param("names") Collection<String> names);
+
+    /**
+     * 태그 인덱스 재구성용. 태그가 없는 기록도 NONE 조건의 대상이므로 사용자의 기록 전체를 읽습니다.
+     */
+    @Query("select new com.fitnote.server.domain.tag.dto.TaggableWorkoutRow(w.id, w.startedAt) "
+            + "from Workout w where w.user.id = :userId")
+    List<TaggableWorkoutRow> findTaggableWorkouts(@Param("userId") Long userId);
+
+    @Query("select new com.fitnote.server.domain.tag.dto.WorkoutTagRow(wt.id.workoutId, wt.id.tagId) "
+            + "from WorkoutTag wt join wt.workout w where w.user.id = :userId")
+    List<WorkoutTagRow> findWorkoutTags(@Param("userId") Long userId);
+}
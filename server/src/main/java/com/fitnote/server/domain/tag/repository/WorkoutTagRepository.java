@@ -0,0 +1,16 @@
+package com.fitnote.server.domain.tag.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.fitnote.server.domain.tag.WorkoutTag;
+import com.fitnote.server.domain.tag.WorkoutTagId;
+
+public interface WorkoutTagRepository extends JpaRepository<WorkoutTag, WorkoutTagId> {
+
+    @Modifying
+    @Query("delete from WorkoutTag wt where wt.id.workoutId = :workoutId and wt.id.tagId = :tagId")
+    int deleteByIds(@Param("workoutId") Long workoutId, @Param("tagId") Long tagId);
+}
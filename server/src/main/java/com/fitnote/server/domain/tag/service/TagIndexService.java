@@ -0,0 +1,185 @@
+package com.fitnote.server.domain.tag.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fitnote.server.domain.history.dto.HistoryCursor;
+import com.fitnote.server.domain.tag.TagMatchMode;
+import com.fitnote.server.domain.tag.dto.TaggableWorkoutRow;
+import com.fitnote.server.domain.tag.dto.WorkoutTagRow;
+import com.fitnote.server.domain.tag.event.WorkoutTagsChangedEvent;
+import com.fitnote.server.domain.tag.repository.TagRepository;
+import com.fitnote.server.domain.workout.dto.WorkoutDetailResponse;
+import com.fitnote.server.domain.workout.dto.WorkoutPageResponse;
+import com.fitnote.server.domain.workout.event.WorkoutChangedEvent;
+import com.fitnote.server.domain.workout.service.WorkoutService;
+
+/**
+ * 여러 태그의 AND/OR/NOT 조건으로 운동 기록을 거릅니다.
+ *
+ * 사용자별 비트맵 인덱스는 처음 필요할 때 workouts/workout_tags로 만들고, 이후에는 커밋된 변경만 반영합니다.
+ * 조건 연산과 페이지 선택은 메모리에서 끝내고, DB에서는 고른 페이지의 상세만 읽습니다.
+ * 인덱스는 언제든 테이블에서 다시 만들 수 있으므로 verify로 비교해 다르면 버립니다.
+ */
+@Service
+public class TagIndexService {
+
+    private final Map<Long, WorkoutTagIndex> indexes = new ConcurrentHashMap<>();
+    private final TagRepository tagRepository;
+    private final WorkoutService workoutService;
+    private final int maxEntries;
+    private final int maxPageSize;
+
+    public TagIndexService(
+            TagRepository tagRepository,
+            WorkoutService workoutService,
+            @Value("${tag-index.max-entries:10000}") int maxEntries,
+            @Value("${workout.max-detail-batch:50}") int maxPageSize) {
+        this.tagRepository = tagRepository;
+        this.workoutService = workoutService;
+        this.maxEntries = maxEntries;
+        this.maxPageSize = maxPageSize;
+    }
+
+    /**
+     * 태그 조건에 맞는 운동 기록을 최신순으로 한 페이지 조회합니다.
+     * 쿼리는 태그 이름 → id 한 번과 상세 조회(최대 3번)이며, 인덱스가 없을 때만 로딩 쿼리 2번이 더해집니다.
+     * 없는 태그 이름은 ALL이면 빈 결과, ANY/NONE이면 조건에서 빠집니다.
+     */
+    @Transactional(readOnly = true)
+    public WorkoutPageResponse findWorkouts(
+            Long userId, List<String> tagNames, TagMatchMode mode, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, maxPageSize));
+        HistoryCursor after = cursor != null && !cursor.isBlank() ? HistoryCursor.decode(cursor) : null;
+
+        Set<String> names = new LinkedHashSet<>();
+        for (String name : tagNames) {
+            if (!name.isBlank()) {
+                names.add(name.trim());
+            }
+        }
+        List<Long> found = names.isEmpty() ? List.of() : tagRepository.findIdsByNames(userId, names);
+        if (mode == TagMatchMode.ALL && found.size() < names.size()) {
+            return new WorkoutPageResponse(List.of(), null);
+        }
+        long[] tagIds = new long[found.size()];
+        for (int i = 0; i < tagIds.length; i++) {
+            tagIds[i] = found.get(i);
+        }
+
+        long[] page = index(userId).select(mode, tagIds,
+                after != null,
+                after != null ? toMicros(after.startedAt()) : 0L,
+                after != null ? after.id() : 0L,
+                pageSize);
+        List<Long> workoutIds = new ArrayList<>(page.length);
+        for (long workoutId : page) {
+            workoutIds.add(workoutId);
+        }
+
+        List<WorkoutDetailResponse> items = workoutService.findDetails(userId, workoutIds);
+        String nextCursor = page.length == pageSize && !items.isEmpty()
+                ? new HistoryCursor(items.get(items.size() - 1).startedAt(), items.get(items.size() - 1).id()).encode()
+                : null;
+        return new WorkoutPageResponse(items, nextCursor);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onWorkoutChanged(WorkoutChangedEvent event) {
+        indexes.computeIfPresent(event.userId(), (userId, index) -> {
+            if (event.isDeleted()) {
+                index.removeWorkout(event.workoutId());
+            } else if (event.isCreated()) {
+                index.addWorkout(event.workoutId(), toMicros(event.startedAt()));
+            } else {
+                index.moveWorkout(event.workoutId(), toMicros(event.startedAt()));
+            }
+            return index;
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTagsChanged(WorkoutTagsChangedEvent event) {
+        indexes.computeIfPresent(event.userId(), (userId, index) -> {
+            if (event.attached()) {
+                index.attach(event.workoutId(), event.tagId());
+            } else {
+                index.detach(event.workoutId(), event.tagId());
+            }
+            return index;
+        });
+    }
+
+    /**
+     * 메모리 인덱스를 테이블에서 새로 만든 인덱스와 비교합니다. 다르면 버리고 다음 조회에서 다시 만듭니다.
+     *
+     * @return 서로 다른 기록/태그 수 (인덱스가 메모리에 없으면 0)
+     */
+    @Transactional(readOnly = true)
+    public int verify(Long userId) {
+        WorkoutTagIndex current = indexes.get(userId);
+        if (current == null) {
+            return 0;
+        }
+        int differences = load(userId).snapshot().differences(current.snapshot());
+        if (differences > 0) {
+            indexes.remove(userId, current);
+        }
+        return differences;
+    }
+
+    public Set<Long> cachedUserIds() {
+        return Set.copyOf(indexes.keySet());
+    }
+
+    public void invalidate(Long userId) {
+        indexes.remove(userId);
+    }
+
+    private WorkoutTagIndex index(Long userId) {
+        if (indexes.size() >= maxEntries) {
+            evict();
+        }
+        return indexes.computeIfAbsent(userId, this::load);
+    }
+
+    private WorkoutTagIndex load(Long userId) {
+        WorkoutTagIndex index = new WorkoutTagIndex();
+        for (TaggableWorkoutRow row : tagRepository.findTaggableWorkouts(userId)) {
+            index.addWorkout(row.workoutId(), toMicros(row.startedAt()));
+        }
+        for (WorkoutTagRow row : tagRepository.findWorkoutTags(userId)) {
+            index.attach(row.workoutId(), row.tagId());
+        }
+        return index;
+    }
+
+    private void evict() {
+        int target = maxEntries - Math.max(1, maxEntries / 10);
+        Iterator<Long> it = indexes.keySet().iterator();
+        while (indexes.size() > target && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    /**
+     * DB(datetime(6))와 같은 마이크로초 단위로 맞춰, 요청 값과 저장된 값의 순서가 달라지지 않게 합니다.
+     */
+    private static long toMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+}
@@ -0,0 +1,56 @@
+package com.fitnote.server.domain.tag.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 메모리에 올라와 있는 태그 인덱스가 테이블에서 새로 만든 인덱스와 같은지 주기적으로 확인합니다.
+ * 다른 인덱스는 버려지고 다음 조회에서 다시 만들어집니다.
+ */
+@Component
+public class TagIndexVerifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(TagIndexVerifier.class);
+
+    private final TagIndexService tagIndexService;
+    private final boolean enabled;
+    private final Counter mismatchCounter;
+
+    public TagIndexVerifier(
+            TagIndexService tagIndexService,
+            MeterRegistry meterRegistry,
+            @Value("${tag-index.verify.enabled:true}") boolean enabled) {
+        this.tagIndexService = tagIndexService;
+        this.enabled = enabled;
+        this.mismatchCounter = Counter.builder("tag_index.verify.mismatches")
+                .description("Workouts or tags whose in-memory bitmap differed from the table")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${tag-index.verify.cron:0 45 4 * * *}")
+    public void verifyAll() {
+        if (!enabled) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        long users = 0;
+        long mismatches = 0;
+        for (Long userId : tagIndexService.cachedUserIds()) {
+            int differences = tagIndexService.verify(userId);
+            if (differences > 0) {
+                mismatchCounter.increment(differences);
+                logger.warn("Tag index of user {} differed from workout_tags in {} entries (dropped)", userId, differences);
+            }
+            mismatches += differences;
+            users++;
+        }
+        logger.info("Tag index verification finished: {} users, {} mismatches, {} ms",
+                users, mismatches, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+}
@@ -0,0 +1,111 @@
+package com.fitnote.server.domain.tag.service;
+
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fitnote.server.domain.auth.repository.UserRepository;
+import com.fitnote.server.domain.tag.Tag;
+import com.fitnote.server.domain.tag.WorkoutTag;
+import com.fitnote.server.domain.tag.WorkoutTagId;
+import com.fitnote.server.domain.tag.dto.TagCreateRequest;
+import com.fitnote.server.domain.tag.dto.TagResponse;
+import com.fitnote.server.domain.tag.event.WorkoutTagsChangedEvent;
+import com.fitnote.server.domain.tag.repository.TagRepository;
+import com.fitnote.server.domain.tag.repository.WorkoutTagRepository;
+import com.fitnote.server.domain.workout.repository.WorkoutRepository;
+
+/**
+ * 태그 생성과 운동 기록에 태그 붙이기/떼기. 실제로 바뀐 경우에만 WorkoutTagsChangedEvent를 발행합니다.
+ */
+@Service
+public class TagService {
+
+    private final TagRepository tagRepository;
+    private final WorkoutTagRepository workoutTagRepository;
+    private final WorkoutRepository workoutRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TagService(
+            TagRepository tagRepository,
+            WorkoutTagRepository workoutTagRepository,
+            WorkoutRepository workoutRepository,
+            UserRepository userRepository,
+            ApplicationEventPublisher eventPublisher) {
+        this.tagRepository = tagRepository;
+        this.workoutTagRepository = workoutTagRepository;
+        this.workoutRepository = workoutRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional(readOnly = true)
+    public List<TagResponse> findAll(Long userId) {
+        return tagRepository.findResponses(userId);
+    }
+
+    /**
+     * 같은 이름의 동시 생성은 uq_tag_user_name 유니크 제약으로 최종 판정합니다.
+     */
+    @Transactional
+    public TagResponse create(Long userId, TagCreateRequest request) {
+        String name = request.name().trim();
+        if (tagRepository.existsByUserIdAndName(userId, name)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 있는 태그입니다.");
+        }
+        Tag tag = Tag.builder()
+                .user(userRepository.getReferenceById(userId))
+                .name(name)
+                .build();
+        try {
+            tagRepository.saveAndFlush(tag);
+        } catch (DataIntegrityViolationException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 있는 태그입니다.");
+        }
+        return new TagResponse(tag.getId(), tag.getName());
+    }
+
+    /**
+     * 이미 붙어 있으면 아무것도 하지 않습니다.
+     */
+    @Transactional
+    public void attach(Long userId, Long workoutId, Long tagId) {
+        checkOwned(userId, workoutId, tagId);
+        WorkoutTagId id = new WorkoutTagId(workoutId, tagId);
+        if (workoutTagRepository.existsById(id)) {
+            return;
+        }
+        workoutTagRepository.save(WorkoutTag.builder()
+                .id(id)
+                .workout(workoutRepository.getReferenceById(workoutId))
+                .tag(tagRepository.getReferenceById(tagId))
+                .build());
+        eventPublisher.publishEvent(new WorkoutTagsChangedEvent(userId, workoutId, tagId, true));
+    }
+
+    /**
+     * 붙어 있지 않으면 아무것도 하지 않습니다.
+     */
+    @Transactional
+    public void detach(Long userId, Long workoutId, Long tagId) {
+        checkOwned(userId, workoutId, tagId);
+        if (workoutTagRepository.deleteByIds(workoutId, tagId) > 0) {
+            eventPublisher.publishEvent(new WorkoutTagsChangedEvent(userId, workoutId, tagId, false));
+        }
+    }
+
+    private void checkOwned(Long userId, Long workoutId, Long tagId) {
+        if (!workoutRepository.existsByIdAndUserId(workoutId, userId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "운동 기록을 찾을 수 없습니다.");
+        }
+        if (!tagRepository.existsByIdAndUserId(tagId, userId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "태그를 찾을 수 없습니다.");
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.fitnote.server.domain.tag.service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.fitnote.server.common.bitmap.RoaringBitmap;
+import com.fitnote.server.domain.tag.TagMatchMode;
+
+/**
+ * 한 사용자의 태그 → 운동 기록 비트맵 인덱스
+ *
+ * 운동 기록마다 0부터 시작하는 순번(ordinal)을 주고, 태그별로 붙은 기록의 순번을 RoaringBitmap에 담습니다.
+ * 순번의 (startedAt, id)는 기본형 배열에 두어 조건 연산 뒤 페이지를 고를 때 객체를 만들지 않습니다.
+ * 삭제된 기록의 순번은 재사용하므로 배열은 사용자 기록 수 이상으로 자라지 않습니다.
+ */
+final class WorkoutTagIndex {
+
+    private long[] workoutIds = new long[16];
+    private long[] startedAt = new long[16];
+    private int allocated;
+    private int[] free = new int[4];
+    private int freeCount;
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final RoaringBitmap live = new RoaringBitmap();
+    private final Map<Long, RoaringBitmap> byTag = new HashMap<>();
+
+    synchronized void addWorkout(long workoutId, long startedAtMicros) {
+        if (ordinals.containsKey(workoutId)) {
+            return;
+        }
+        int ordinal;
+        if (freeCount > 0) {
+            ordinal = free[--freeCount];
+        } else {
+            if (allocated == workoutIds.length) {
+                workoutIds = Arrays.copyOf(workoutIds, allocated * 2);
+                startedAt = Arrays.copyOf(startedAt, allocated * 2);
+            }
+            ordinal = allocated++;
+        }
+        workoutIds[ordinal] = workoutId;
+        startedAt[ordinal] = startedAtMicros;
+        ordinals.put(workoutId, ordinal);
+        live.add(ordinal);
+    }
+
+    /**
+     * 시작 시각만 바꿉니다. 붙은 태그와 순번은 그대로입니다.
+     */
+    synchronized void moveWorkout(long workoutId, long startedAtMicros) {
+        Integer ordinal = ordinals.get(workoutId);
+        if (ordinal != null) {
+            startedAt[ordinal] = startedAtMicros;
+        }
+    }
+
+    synchronized void removeWorkout(long workoutId) {
+        Integer ordinal = ordinals.remove(workoutId);
+        if (ordinal == null) {
+            return;
+        }
+        live.remove(ordinal);
+        byTag.values().removeIf(bitmap -> bitmap.remove(ordinal) && bitmap.isEmpty());
+        if (freeCount == free.length) {
+            free = Arrays.copyOf(free, freeCount * 2);
+        }
+        free[freeCount++] = ordinal;
+    }
+
+    /**
+     * 인덱스에 없는 기록은 무시합니다. (인덱스 로딩과 커밋이 엇갈린 경우이며 검증에서 다시 만듭니다)
+     */
+    synchronized void attach(long workoutId, long tagId) {
+        Integer ordinal = ordinals.get(workoutId);
+        if (ordinal != null) {
+            byTag.computeIfAbsent(tagId, id -> new RoaringBitmap()).add(ordinal);
+        }
+    }
+
+    synchronized void detach(long workoutId, long tagId) {
+        Integer ordinal = ordinals.get(workoutId);
+        RoaringBitmap bitmap = byTag.get(tagId);
+        if (ordinal != null && bitmap != null && bitmap.remove(ordinal) && bitmap.isEmpty()) {
+            byTag.remove(tagId);
+        }
+    }
+
+    /**
+     * 조건에 맞는 기록 중 (startedAt, id) 내림차순으로 커서 다음 limit개의 id를 고릅니다.
+     * 결과 집합을 한 번 훑으며 상위 limit개만 유지하므로 결과 전체를 정렬하거나 객체로 만들지 않습니다.
+     *
+     * @param hasCursor false면 afterStartedAt/afterId는 무시합니다
+     */
+    synchronized long[] select(TagMatchMode mode, long[] tagIds,
+                               boolean hasCursor, long afterStartedAt, long afterId, int limit) {
+        RoaringBitmap matched = match(mode, tagIds);
+        TopK top = new TopK(limit);
+        matched.forEach(ordinal -> {
+            long time = startedAt[ordinal];
+            long id = workoutIds[ordinal];
+            if (!hasCursor || time < afterStartedAt || (time == afterStartedAt && id < afterId)) {
+                top.offer(time, id);
+            }
+        });
+        return top.idsDescending();
+    }
+
+    synchronized Snapshot snapshot() {
+        Map<Long, Long> workouts = new HashMap<>(ordinals.size() * 2);
+        ordinals.forEach((workoutId, ordinal) -> workouts.put(workoutId, startedAt[ordinal]));
+        Map<Long, Set<Long>> tags = new HashMap<>(byTag.size() * 2);
+        byTag.forEach((tagId, bitmap) -> {
+            Set<Long> ids = new HashSet<>(bitmap.cardinality() * 2);
+            bitmap.forEach(ordinal -> ids.add(workoutIds[ordinal]));
+            tags.put(tagId, ids);
+        });
+        return new Snapshot(workouts, tags);
+    }
+
+    private RoaringBitmap match(TagMatchMode mode, long[] tagIds) {
+        if (mode == TagMatchMode.ALL) {
+            if (tagIds.length == 0) {
+                return live;
+            }
+            RoaringBitmap result = byTag.get(tagIds[0]);
+            for (int i = 1; i < tagIds.length && result != null && !result.isEmpty(); i++) {
+                RoaringBitmap next = byTag.get(tagIds[i]);
+                result = next == null ? null : result.and(next);
+            }
+            return result != null ? result : new RoaringBitmap();
+        }
+
+        RoaringBitmap union = new RoaringBitmap();
+        for (long tagId : tagIds) {
+            RoaringBitmap bitmap = byTag.get(tagId);
+            if (bitmap != null) {
+                union = union.or(bitmap);
+            }
+        }
+        return mode == TagMatchMode.ANY ? union : live.andNot(union);
+    }
+
+    /**
+     * 인덱스 내용을 순번과 무관한 형태로 꺼낸 것. 다시 만든 인덱스와 비교할 때 씁니다.
+     *
+     * @param workouts 기록 id → startedAt
+     * @param tags     태그 id → 기록 id 집합
+     */
+    record Snapshot(Map<Long, Long> workouts, Map<Long, Set<Long>> tags) {
+
+        /**
+         * 서로 다른 기록 수와 태그 수의 합. 0이면 같은 인덱스입니다.
+         */
+        int differences(Snapshot other) {
+            int count = 0;
+            Set<Long> workoutIds = new HashSet<>(workouts.keySet());
+            workoutIds.addAll(other.workouts.keySet());
+            for (Long workoutId : workoutIds) {
+                if (!Objects.equals(workouts.get(workoutId), other.workouts.get(workoutId))) {
+                    count++;
+                }
+            }
+            Set<Long> tagIds = new HashSet<>(tags.keySet());
+            tagIds.addAll(other.tags.keySet());
+            for (Long tagId : tagIds) {
+                if (!tags.getOrDefault(tagId, Set.of()).equals(other.tags.getOrDefault(tagId, Set.of()))) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    /**
+     * (startedAt, id)가 가장 큰 limit개를 내림차순으로 유지합니다. limit은 한 페이지 크기라 작으므로 삽입 정렬을 씁니다.
+     */
+    private static final class TopK {
+
+        private final long[] times;
+        private final long[] ids;
+        private int size;
+
+        TopK(int limit) {
+            times = new long[limit];
+            ids = new long[limit];
+        }
+
+        void offer(long time, long id) {
+            if (size == times.length) {
+                if (!after(time, id, times[size - 1], ids[size - 1])) {
+                    return;
+                }
+                size--;
+            }
+            int position = size;
+            while (position > 0 && after(time, id, times[position - 1], ids[position - 1])) {
+                times[position] = times[position - 1];
+                ids[position] = ids[position - 1];
+                position--;
+            }
+            times[position] = time;
+            ids[position] = id;
+            size++;
+        }
+
+        long[] idsDescending() {
+            return Arrays.copyOf(ids, size);
+        }
+
+        private static boolean after(long time, long id, long otherTime, long otherId) {
+            return time > otherTime || (time == otherTime && id > otherId);
+        }
+    }
+}
@@ -26,6 +26,7 @@ import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderBy;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -43,7 +44,9 @@ import lombok.Setter;
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Workout extends BaseTimeEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY는 JDBC insert 배치를 끄므로 풀링 시퀀스로 50개씩 미리 할당합니다 (MySQL에서는 workouts_seq 테이블로 에뮬레이션)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workouts_seq")
+    @SequenceGenerator(name = "workouts_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY) @JoinColumn(name = "user_id", nullable = false)
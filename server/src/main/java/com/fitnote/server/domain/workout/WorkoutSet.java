@@ -18,7 +18,8 @@ import com.fitnote.server.domain.common.BaseTimeEntity;
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class WorkoutSet extends BaseTimeEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sets_seq")
+    @SequenceGenerator(name = "sets_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY) @JoinColumn(name = "workout_exercise_id", nullable = false)
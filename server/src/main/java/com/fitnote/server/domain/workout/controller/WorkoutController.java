@@ -0,0 +1,141 @@
+package com.fitnote.server.domain.workout.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fitnote.server.config.security.user.UserPrincipal;
+import com.fitnote.server.domain.tag.TagMatchMode;
+import com.fitnote.server.domain.tag.service.TagIndexService;
+import com.fitnote.server.domain.tag.service.TagService;
+import com.fitnote.server.domain.workout.dto.WorkoutCreateRequest;
+import com.fitnote.server.domain.workout.dto.WorkoutCreateResponse;
+import com.fitnote.server.domain.workout.dto.WorkoutDetailResponse;
+import com.fitnote.server.domain.workout.dto.WorkoutPageResponse;
+import com.fitnote.server.domain.workout.dto.WorkoutSetDetail;
+import com.fitnote.server.domain.workout.dto.WorkoutSetRequest;
+import com.fitnote.server.domain.workout.dto.WorkoutUpdateRequest;
+import com.fitnote.server.domain.workout.service.WorkoutService;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/workouts")
+public class WorkoutController {
+
+    private final WorkoutService workoutService;
+    private final TagService tagService;
+    private final TagIndexService tagIndexService;
+
+    public WorkoutController(
+            WorkoutService workoutService,
+            TagService tagService,
+            TagIndexService tagIndexService) {
+        this.workoutService = workoutService;
+        this.tagService = tagService;
+        this.tagIndexService = tagIndexService;
+    }
+
+    @PostMapping
+    public ResponseEntity<WorkoutCreateResponse> createWorkout(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @Valid @RequestBody WorkoutCreateRequest request) {
+        WorkoutCreateResponse created = workoutService.create(principal.getId(), request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(created);
+    }
+
+    @GetMapping("/{workoutId}")
+    public ResponseEntity<WorkoutDetailResponse> getWorkout(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable Long workoutId) {
+        return ResponseEntity.ok(workoutService.findDetail(principal.getId(), workoutId));
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<WorkoutDetailResponse>> getWorkouts(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam("ids") List<Long> ids) {
+        return ResponseEntity.ok(workoutService.findDetails(principal.getId(), ids));
+    }
+
+    /**
+     * 태그 조건으로 거른 운동 기록 상세를 최신순으로 조회합니다. 예: ?tags=push,heavy&mode=all
+     * mode: all(모든 태그), any(하나라도), none(어느 태그도 없음)
+     */
+    @GetMapping(params = "tags")
+    public ResponseEntity<WorkoutPageResponse> getWorkoutsByTags(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam("tags") List<String> tags,
+            @RequestParam(name = "mode", defaultValue = "all") String mode,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "limit", defaultValue = "20") int limit) {
+        return ResponseEntity.ok(tagIndexService.findWorkouts(
+                principal.getId(), tags, TagMatchMode.parse(mode), cursor, limit));
+    }
+
+    /**
+     * 제목/시각/메모/장소를 바꿉니다. 종목과 세트는 세트 단위 API로 고칩니다.
+     */
+    @PutMapping("/{workoutId}")
+    public ResponseEntity<WorkoutDetailResponse> updateWorkout(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable Long workoutId,
+            @Valid @RequestBody WorkoutUpdateRequest request) {
+        return ResponseEntity.ok(workoutService.update(principal.getId(), workoutId, request));
+    }
+
+    @DeleteMapping("/{workoutId}")
+    public ResponseEntity<Void> deleteWorkout(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable Long workoutId) {
+        workoutService.deleteWorkout(principal.getId(), workoutId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PutMapping("/{workoutId}/tags/{tagId}")
+    public ResponseEntity<Void> attachTag(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable Long workoutId,
+            @PathVariable Long tagId) {
+        tagService.attach(principal.getId(), workoutId, tagId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/{workoutId}/tags/{tagId}")
+    public ResponseEntity<Void> detachTag(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable Long workoutId,
+            @PathVariable Long tagId) {
+        tagService.detach(principal.getId(), workoutId, tagId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PutMapping("/{workoutId}/sets/{setId}")
+    public ResponseEntity<WorkoutSetDetail> updateSet(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable Long workoutId,
+            @PathVariable Long setId,
+            @Valid @RequestBody WorkoutSetRequest request) {
+        return ResponseEntity.ok(workoutService.updateSet(principal.getId(), workoutId, setId, request));
+    }
+
+    @DeleteMapping("/{workoutId}/sets/{setId}")
+    public ResponseEntity<Void> deleteSet(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable Long workoutId,
+            @PathVariable Long setId) {
+        workoutService.deleteSet(principal.getId(), workoutId, setId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,17 @@
+package com.fitnote.server.domain.workout.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record WorkoutCreateRequest(
+        @Size(max = 120) String title,
+        @NotNull LocalDateTime startedAt,
+        LocalDateTime endedAt,
+        String notes,
+        @Size(max = 120) String location,
+        @NotNull @Size(max = 50) List<@Valid @NotNull WorkoutExerciseRequest> exercises) {
+}
@@ -0,0 +1,21 @@
+package com.fitnote.server.domain.workout.dto;
+
+import java.util.List;
+
+import com.fitnote.server.domain.record.dto.PersonalRecordHit;
+
+/**
+ * 생성된 id. exercises와 setIds는 요청과 같은 순서입니다.
+ * records는 이번 기록에서 깬 개인 기록이며, 세트 순서대로 앞선 세트도 비교 대상에 포함됩니다.
+ */
+public record WorkoutCreateResponse(
+        Long id,
+        List<CreatedExercise> exercises,
+        List<PersonalRecordHit> records) {
+
+    public record CreatedExercise(
+            Long id,
+            Long exerciseId,
+            List<Long> setIds) {
+    }
+}
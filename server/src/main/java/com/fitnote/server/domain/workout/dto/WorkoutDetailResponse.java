@@ -0,0 +1,18 @@
+package com.fitnote.server.domain.workout.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record WorkoutDetailResponse(
+        Long id,
+        String title,
+        LocalDateTime startedAt,
+        LocalDateTime endedAt,
+        String notes,
+        String location,
+        List<WorkoutExerciseDetail> exercises) {
+
+    public WorkoutDetailResponse {
+        exercises = List.copyOf(exercises);
+    }
+}
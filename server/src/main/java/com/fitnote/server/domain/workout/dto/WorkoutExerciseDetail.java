@@ -0,0 +1,18 @@
+package com.fitnote.server.domain.workout.dto;
+
+import java.util.List;
+
+import com.fitnote.server.domain.exercise.dto.ExerciseSummary;
+
+public record WorkoutExerciseDetail(
+        Long id,
+        Integer orderIndex,
+        String notes,
+        String supersetGroup,
+        ExerciseSummary exercise,
+        List<WorkoutSetDetail> sets) {
+
+    public WorkoutExerciseDetail {
+        sets = List.copyOf(sets);
+    }
+}
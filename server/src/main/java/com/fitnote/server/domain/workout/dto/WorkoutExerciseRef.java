@@ -0,0 +1,9 @@
+package com.fitnote.server.domain.workout.dto;
+
+import com.fitnote.server.domain.exercise.MetricType;
+
+/**
+ * 기록에 추가된 종목. 세트 검증에 쓰도록 종목의 기록 방식을 함께 돌려줍니다.
+ */
+public record WorkoutExerciseRef(Long workoutExerciseId, Long exerciseId, MetricType metricType) {
+}
@@ -0,0 +1,14 @@
+package com.fitnote.server.domain.workout.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record WorkoutExerciseRequest(
+        @NotNull Long exerciseId,
+        String notes,
+        @Size(max = 32) String supersetGroup,
+        @NotNull @Size(max = 100) List<@Valid @NotNull WorkoutSetRequest> sets) {
+}
@@ -0,0 +1,28 @@
+package com.fitnote.server.domain.workout.dto;
+
+import java.time.LocalDateTime;
+
+import com.fitnote.server.domain.exercise.Equipment;
+import com.fitnote.server.domain.exercise.MetricType;
+import com.fitnote.server.domain.exercise.MuscleGroup;
+
+/**
+ * 운동 기록 x 종목 left join 한 행. 종목이 없는 기록은 workoutExerciseId 이하가 null입니다.
+ */
+public record WorkoutExerciseRow(
+        Long workoutId,
+        String title,
+        LocalDateTime startedAt,
+        LocalDateTime endedAt,
+        String notes,
+        String location,
+        Long workoutExerciseId,
+        Integer orderIndex,
+        String exerciseNotes,
+        String supersetGroup,
+        Long exerciseId,
+        String exerciseName,
+        MuscleGroup primaryMuscle,
+        Equipment equipment,
+        MetricType metricType) {
+}
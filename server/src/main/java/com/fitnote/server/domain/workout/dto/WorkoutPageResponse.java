@@ -0,0 +1,11 @@
+package com.fitnote.server.domain.workout.dto;
+
+import java.util.List;
+
+/**
+ * 운동 기록 상세 한 페이지. nextCursor가 null이면 마지막 페이지입니다.
+ */
+public record WorkoutPageResponse(
+        List<WorkoutDetailResponse> items,
+        String nextCursor) {
+}
@@ -0,0 +1,8 @@
+package com.fitnote.server.domain.workout.dto;
+
+/**
+ * 실시간 기록(세션)에서 모아 둔 세트 변경 하나. 같은 세트의 여러 번 수정은 마지막 값 하나로 합쳐져 있습니다.
+ * setId가 null이면 새 세트, request가 null이면 삭제입니다.
+ */
+public record WorkoutSetChange(Long workoutExerciseId, Long setId, int setIndex, WorkoutSetRequest request) {
+}
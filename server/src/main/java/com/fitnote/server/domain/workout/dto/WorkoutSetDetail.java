@@ -0,0 +1,36 @@
+package com.fitnote.server.domain.workout.dto;
+
+import java.math.BigDecimal;
+
+import com.fitnote.server.common.weight.Weight;
+
+public record WorkoutSetDetail(
+        Long id,
+        Integer setIndex,
+        Weight weight,
+        Integer reps,
+        Integer durationSec,
+        Integer distanceM,
+        BigDecimal rpe,
+        Integer rir,
+        Boolean isWarmup,
+        Integer restSec,
+        String tempo,
+        String note) {
+
+    public static WorkoutSetDetail from(WorkoutSetRow row) {
+        return new WorkoutSetDetail(
+                row.id(),
+                row.setIndex(),
+                Weight.of(row.weight()),
+                row.reps(),
+                row.durationSec(),
+                row.distanceM(),
+                row.rpe(),
+                row.rir(),
+                row.isWarmup(),
+                row.restSec(),
+                row.tempo(),
+                row.note());
+    }
+}
@@ -0,0 +1,30 @@
+package com.fitnote.server.domain.workout.dto;
+
+import java.math.BigDecimal;
+
+import com.fitnote.server.common.weight.Weight;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 세트 하나. 어떤 메트릭이 필수인지는 종목의 MetricType에 따라 서비스에서 검증합니다.
+ * weight는 사용자 단위로 받아 kg로 바뀌며, 범위와 자릿수는 역직렬화에서 검증합니다.
+ */
+public record WorkoutSetRequest(
+        Weight weight,
+        @PositiveOrZero Integer reps,
+        @PositiveOrZero Integer durationSec,
+        @PositiveOrZero Integer distanceM,
+        @DecimalMin("0") @DecimalMax("10") @Digits(integer = 2, fraction = 1) BigDecimal rpe,
+        @Min(0) @Max(10) Integer rir,
+        Boolean isWarmup,
+        @PositiveOrZero Integer restSec,
+        @Size(max = 20) String tempo,
+        @Size(max = 255) String note) {
+}
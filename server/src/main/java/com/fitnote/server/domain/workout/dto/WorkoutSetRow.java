@@ -0,0 +1,19 @@
+package com.fitnote.server.domain.workout.dto;
+
+import java.math.BigDecimal;
+
+public record WorkoutSetRow(
+        Long workoutExerciseId,
+        Long id,
+        Integer setIndex,
+        BigDecimal weight,
+        Integer reps,
+        Integer durationSec,
+        Integer distanceM,
+        BigDecimal rpe,
+        Integer rir,
+        Boolean isWarmup,
+        Integer restSec,
+        String tempo,
+        String note) {
+}
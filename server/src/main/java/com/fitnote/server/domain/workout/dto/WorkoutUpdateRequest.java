@@ -0,0 +1,17 @@
+package com.fitnote.server.domain.workout.dto;
+
+import java.time.LocalDateTime;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 기록 머리 정보 수정. 종목과 세트는 그대로 두며, 모든 필드를 요청 값으로 바꿉니다.
+ */
+public record WorkoutUpdateRequest(
+        @Size(max = 120) String title,
+        @NotNull LocalDateTime startedAt,
+        LocalDateTime endedAt,
+        String notes,
+        @Size(max = 120) String location) {
+}
@@ -0,0 +1,30 @@
+package com.fitnote.server.domain.workout.event;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.fitnote.server.domain.exercise.MetricType;
+
+/**
+ * 집계와 기록 판정에 필요한 세트 한 건의 값. 변경 전/후 상태를 그대로 담으며 엔티티를 참조하지 않습니다.
+ */
+public record SetFact(
+        Long setId,
+        Long workoutId,
+        Long exerciseId,
+        MetricType metricType,
+        LocalDateTime startedAt,
+        BigDecimal weight,
+        Integer reps,
+        Integer durationSec,
+        Integer distanceM,
+        boolean warmup) {
+
+    /**
+     * 기록의 시작 시각이 옮겨진 같은 세트
+     */
+    public SetFact withStartedAt(LocalDateTime movedStartedAt) {
+        return new SetFact(setId, workoutId, exerciseId, metricType, movedStartedAt,
+                weight, reps, durationSec, distanceM, warmup);
+    }
+}
@@ -0,0 +1,44 @@
+package com.fitnote.server.domain.workout.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 운동 기록의 생성/수정/삭제를 알립니다. 쓰기 트랜잭션 안에서 발행됩니다.
+ * 생성은 previousStartedAt == null, 삭제는 startedAt == null이며, 수정은 둘 다 있습니다. (같으면 시각은 그대로)
+ * 세트 변경은 WorkoutSetsChangedEvent로 따로 알리며, 세트가 없는 기록도 이 이벤트는 발행됩니다.
+ *
+ * @param notes 생성/수정 후 기록의 메모. 기록 메모, 종목 메모 순서이며 null은 빠집니다.
+ */
+public record WorkoutChangedEvent(
+        Long userId,
+        Long workoutId,
+        LocalDateTime previousStartedAt,
+        LocalDateTime startedAt,
+        List<String> notes) {
+
+    public WorkoutChangedEvent {
+        notes = List.copyOf(notes);
+    }
+
+    public static WorkoutChangedEvent created(Long userId, Long workoutId, LocalDateTime startedAt, List<String> notes) {
+        return new WorkoutChangedEvent(userId, workoutId, null, startedAt, notes);
+    }
+
+    public static WorkoutChangedEvent updated(
+            Long userId, Long workoutId, LocalDateTime previousStartedAt, LocalDateTime startedAt, List<String> notes) {
+        return new WorkoutChangedEvent(userId, workoutId, previousStartedAt, startedAt, notes);
+    }
+
+    public static WorkoutChangedEvent deleted(Long userId, Long workoutId, LocalDateTime previousStartedAt) {
+        return new WorkoutChangedEvent(userId, workoutId, previousStartedAt, null, List.of());
+    }
+
+    public boolean isCreated() {
+        return previousStartedAt == null;
+    }
+
+    public boolean isDeleted() {
+        return startedAt == null;
+    }
+}
@@ -0,0 +1,28 @@
+package com.fitnote.server.domain.workout.event;
+
+import java.util.List;
+
+/**
+ * 한 사용자의 세트가 추가/수정/삭제되었음을 알립니다. 수정은 removed(이전 값)와 added(새 값)에 모두 들어갑니다.
+ *
+ * 쓰기 트랜잭션 안에서 발행됩니다. 같은 트랜잭션에서 DB를 갱신하는 리스너는 @EventListener를,
+ * 메모리 캐시처럼 커밋된 결과만 반영해야 하는 리스너는 @TransactionalEventListener를 사용합니다.
+ */
+public record WorkoutSetsChangedEvent(
+        Long userId,
+        List<SetFact> removed,
+        List<SetFact> added) {
+
+    public WorkoutSetsChangedEvent {
+        removed = List.copyOf(removed);
+        added = List.copyOf(added);
+    }
+
+    public static WorkoutSetsChangedEvent added(Long userId, List<SetFact> added) {
+        return new WorkoutSetsChangedEvent(userId, List.of(), added);
+    }
+
+    public static WorkoutSetsChangedEvent removed(Long userId, List<SetFact> removed) {
+        return new WorkoutSetsChangedEvent(userId, removed, List.of());
+    }
+}
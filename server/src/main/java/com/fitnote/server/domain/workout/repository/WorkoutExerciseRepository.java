@@ -0,0 +1,8 @@
+package com.fitnote.server.domain.workout.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.fitnote.server.domain.workout.WorkoutExercise;
+
+public interface WorkoutExerciseRepository extends JpaRepository<WorkoutExercise, Long> {
+}
@@ -0,0 +1,124 @@
+package com.fitnote.server.domain.workout.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.fitnote.server.domain.calendar.dto.CalendarSourceRow;
+import com.fitnote.server.domain.history.dto.HistoryResponse;
+import com.fitnote.server.domain.note.dto.ExerciseNoteRow;
+import com.fitnote.server.domain.note.dto.NoteIndexVersion;
+import com.fitnote.server.domain.note.dto.WorkoutNoteRow;
+import com.fitnote.server.domain.workout.Workout;
+import com.fitnote.server.domain.workout.dto.WorkoutExerciseRow;
+import com.fitnote.server.domain.workout.dto.WorkoutSetRow;
+
+public interface WorkoutRepository extends JpaRepository<Workout, Long> {
+
+    boolean existsByIdAndUserId(Long id, Long userId);
+
+    /**
+     * idx_workout_user_time (user_id, startedAt DESC) 순서 그대로 읽으며 LIMIT 이상은 스캔하지 않습니다.
+     */
+    @Query("select new com.fitnote.server.domain.history.dto.HistoryResponse("
+            + "w.id, w.title, w.startedAt, w.endedAt, w.notes) "
+            + "from Workout w where w.user.id = :userId "
+            + "order by w.startedAt desc, w.id desc")
+    List<HistoryResponse> findHistoryPage(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * (startedAt, id) keyset 커서 이후 페이지. OFFSET 없이 인덱스에서 바로 커서 위치로 이동합니다.
+     */
+    @Query("select new com.fitnote.server.domain.history.dto.HistoryResponse("
+            + "w.id, w.title, w.startedAt, w.endedAt, w.notes) "
+            + "from Workout w where w.user.id = :userId "
+            + "and (w.startedAt < :startedAt or (w.startedAt = :startedAt and w.id < :id)) "
+            + "order by w.startedAt desc, w.id desc")
+    List<HistoryResponse> findHistoryPageAfter(
+            @Param("userId") Long userId,
+            @Param("startedAt") LocalDateTime startedAt,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    /**
+     * 운동 기록과 종목, 종목 사전 정보를 한 번에 읽는 평평한 행. 사용자 소유가 아닌 id는 결과에서 빠집니다.
+     */
+    @Query("select new com.fitnote.server.domain.workout.dto.WorkoutExerciseRow("
+            + "w.id, w.title, w.startedAt, w.endedAt, w.notes, w.location, "
+            + "we.id, we.orderIndex, we.notes, we.supersetGroup, "
+            + "e.id, e.name, e.primaryMuscle, e.equipment, e.metricType) "
+            + "from Workout w left join w.exercises we left join we.exercise e "
+            + "where w.id in :ids and w.user.id = :userId "
+            + "order by w.startedAt desc, w.id desc, we.orderIndex asc")
+    List<WorkoutExerciseRow> findExerciseRows(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    @Query("select new com.fitnote.server.domain.workout.dto.WorkoutSetRow("
+            + "s.workoutExercise.id, s.id, s.setIndex, s.weight, s.reps, s.durationSec, s.distanceM, "
+            + "s.rpe, s.rir, s.isWarmup, s.restSec, s.tempo, s.note) "
+            + "from WorkoutSet s where s.workoutExercise.id in :workoutExerciseIds "
+            + "order by s.workoutExercise.id asc, s.setIndex asc")
+    List<WorkoutSetRow> findSetRows(@Param("workoutExerciseIds") Collection<Long> workoutExerciseIds);
+
+    /**
+     * 메모 색인 재구성용. 기록 메모와 종목 메모를 각각 한 번에 읽고, 종목 메모는 기록 안의 순서대로 정렬합니다.
+     */
+    @Query("select new com.fitnote.server.domain.note.dto.WorkoutNoteRow(w.id, w.title, w.startedAt, w.notes) "
+            + "from Workout w where w.user.id = :userId and w.notes is not null")
+    List<WorkoutNoteRow> findNoteRows(@Param("userId") Long userId);
+
+    @Query("select new com.fitnote.server.domain.note.dto.ExerciseNoteRow(w.id, we.notes) "
+            + "from WorkoutExercise we join we.workout w "
+            + "where w.user.id = :userId and we.notes is not null "
+            + "order by w.id asc, we.orderIndex asc")
+    List<ExerciseNoteRow> findExerciseNoteRows(@Param("userId") Long userId);
+
+    /**
+     * 저널에서 복원한 메모 색인이 그 사이의 변경을 놓쳤는지 확인하는 용도 (종목 메모 수정 포함, 쿼리 1번)
+     */
+    @Query("select new com.fitnote.server.domain.note.dto.NoteIndexVersion("
+            + "count(w), max(w.id), max(w.updatedAt), "
+            + "(select count(we) from WorkoutExercise we where we.workout.user.id = :userId), "
+            + "(select max(we.updatedAt) from WorkoutExercise we where we.workout.user.id = :userId)) "
+            + "from Workout w where w.user.id = :userId")
+    NoteIndexVersion findNoteIndexVersion(@Param("userId") Long userId);
+
+    /**
+     * 검색 결과 미리보기용. 메모가 없는 기록도 제목/시각을 위해 포함합니다.
+     */
+    @Query("select new com.fitnote.server.domain.note.dto.WorkoutNoteRow(w.id, w.title, w.startedAt, w.notes) "
+            + "from Workout w where w.id in :ids and w.user.id = :userId")
+    List<WorkoutNoteRow> findNoteRowsByIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    @Query("select new com.fitnote.server.domain.note.dto.ExerciseNoteRow(w.id, we.notes) "
+            + "from WorkoutExercise we join we.workout w "
+            + "where w.id in :ids and w.user.id = :userId and we.notes is not null "
+            + "order by w.id asc, we.orderIndex asc")
+    List<ExerciseNoteRow> findExerciseNoteRowsByIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * 활동 달력 재구성용. 기록마다 한 행이며 세트가 없는 기록도 포함합니다.
+     */
+    @Query("select new com.fitnote.server.domain.calendar.dto.CalendarSourceRow("
+            + "w.id, w.startedAt, sum(s.weight * s.reps)) "
+            + "from Workout w left join w.exercises we left join we.sets s on s.isWarmup = false "
+            + "where w.user.id = :userId group by w.id, w.startedAt")
+    List<CalendarSourceRow> findCalendarRows(@Param("userId") Long userId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from WorkoutExercise we where we.workout.id = :workoutId")
+    int deleteExercisesByWorkoutId(@Param("workoutId") Long workoutId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from WorkoutTag t where t.id.workoutId = :workoutId")
+    int deleteTagsByWorkoutId(@Param("workoutId") Long workoutId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from Workout w where w.id = :workoutId")
+    int deleteWorkoutById(@Param("workoutId") Long workoutId);
+}
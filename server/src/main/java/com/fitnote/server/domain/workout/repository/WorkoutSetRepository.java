@@ -0,0 +1,90 @@
+package com.fitnote.server.domain.workout.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import com.fitnote.server.domain.body.dto.TopSetRow;
+import com.fitnote.server.domain.record.dto.PersonalRecordSourceRow;
+import com.fitnote.server.domain.rollup.dto.MuscleSetRow;
+import com.fitnote.server.domain.workout.WorkoutSet;
+
+import jakarta.persistence.QueryHint;
+
+public interface WorkoutSetRepository extends JpaRepository<WorkoutSet, Long> {
+
+    /**
+     * 소유자 확인과 함께 세트, 종목, 운동 기록을 한 번에 읽습니다.
+     */
+    @Query("select s from WorkoutSet s join fetch s.workoutExercise we join fetch we.workout w "
+            + "join fetch we.exercise e "
+            + "where s.id = :setId and w.id = :workoutId and w.user.id = :userId")
+    Optional<WorkoutSet> findOwned(
+            @Param("userId") Long userId,
+            @Param("workoutId") Long workoutId,
+            @Param("setId") Long setId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("delete from WorkoutSet s where s.workoutExercise.id in :workoutExerciseIds")
+    int deleteByWorkoutExerciseIds(@Param("workoutExerciseIds") Collection<Long> workoutExerciseIds);
+
+    @Query("select new com.fitnote.server.domain.record.dto.PersonalRecordSourceRow("
+            + "s.id, e.metricType, s.weight, s.reps, s.durationSec, s.distanceM) "
+            + "from WorkoutSet s join s.workoutExercise we join we.workout w join we.exercise e "
+            + "where w.user.id = :userId and we.exercise.id = :exerciseId and s.isWarmup = false")
+    List<PersonalRecordSourceRow> findRecordSources(
+            @Param("userId") Long userId,
+            @Param("exerciseId") Long exerciseId);
+
+    @Query("select count(distinct w.id) from WorkoutSet s join s.workoutExercise we join we.workout w "
+            + "where w.user.id = :userId and we.exercise.id = :exerciseId and s.isWarmup = false "
+            + "and s.weight is not null and s.reps is not null "
+            + "and w.startedAt >= :from and w.startedAt < :to")
+    long countTopSets(
+            @Param("userId") Long userId,
+            @Param("exerciseId") Long exerciseId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    /**
+     * 운동 기록마다 한 종목의 최고 세트를 시간순으로 흘려 읽습니다. 호출자는 트랜잭션 안에서 스트림을 닫아야 합니다.
+     * 추정 1RM은 OneRepMax.epley와 같은 식입니다. (1회면 중량 그대로)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.fitnote.server.domain.body.dto.TopSetRow(w.startedAt, max(s.weight), "
+            + "max(case when s.reps = 1 then s.weight else s.weight * (30 + s.reps) / 30 end)) "
+            + "from WorkoutSet s join s.workoutExercise we join we.workout w "
+            + "where w.user.id = :userId and we.exercise.id = :exerciseId and s.isWarmup = false "
+            + "and s.weight is not null and s.reps is not null "
+            + "and w.startedAt >= :from and w.startedAt < :to "
+            + "group by w.id, w.startedAt order by w.startedAt asc, w.id asc")
+    Stream<TopSetRow> streamTopSets(
+            @Param("userId") Long userId,
+            @Param("exerciseId") Long exerciseId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    /**
+     * 기간 안의 워밍업이 아닌 세트 수를 기록의 종목마다 한 행으로 흘려 읽습니다. 호출자는 트랜잭션 안에서 스트림을 닫아야 합니다.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.fitnote.server.domain.rollup.dto.MuscleSetRow("
+            + "w.startedAt, e.id, e.primaryMuscle, count(s)) "
+            + "from WorkoutSet s join s.workoutExercise we join we.workout w join we.exercise e "
+            + "where w.user.id = :userId and s.isWarmup = false "
+            + "and w.startedAt >= :from and w.startedAt < :to "
+            + "group by we.id, w.startedAt, e.id, e.primaryMuscle")
+    Stream<MuscleSetRow> streamMuscleSets(
+            @Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+}
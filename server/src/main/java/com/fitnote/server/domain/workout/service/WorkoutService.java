@@ -0,0 +1,601 @@
+package com.fitnote.server.domain.workout.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fitnote.server.common.weight.Weight;
+import com.fitnote.server.domain.auth.repository.UserRepository;
+import com.fitnote.server.domain.exercise.MetricType;
+import com.fitnote.server.domain.exercise.MuscleGroup;
+import com.fitnote.server.domain.exercise.dto.ExerciseMetricType;
+import com.fitnote.server.domain.exercise.dto.ExerciseMuscleRow;
+import com.fitnote.server.domain.exercise.dto.ExerciseSummary;
+import com.fitnote.server.domain.exercise.repository.ExerciseRepository;
+import com.fitnote.server.domain.record.PersonalRecordType;
+import com.fitnote.server.domain.record.dto.PersonalRecordHit;
+import com.fitnote.server.domain.record.service.PersonalRecordService;
+import com.fitnote.server.domain.workout.Workout;
+import com.fitnote.server.domain.workout.WorkoutExercise;
+import com.fitnote.server.domain.workout.WorkoutSet;
+import com.fitnote.server.domain.workout.dto.WorkoutCreateRequest;
+import com.fitnote.server.domain.workout.dto.WorkoutCreateResponse;
+import com.fitnote.server.domain.workout.dto.WorkoutDetailResponse;
+import com.fitnote.server.domain.workout.dto.WorkoutExerciseDetail;
+import com.fitnote.server.domain.workout.dto.WorkoutExerciseRef;
+import com.fitnote.server.domain.workout.dto.WorkoutExerciseRequest;
+import com.fitnote.server.domain.workout.dto.WorkoutExerciseRow;
+import com.fitnote.server.domain.workout.dto.WorkoutSetChange;
+import com.fitnote.server.domain.workout.dto.WorkoutSetDetail;
+import com.fitnote.server.domain.workout.dto.WorkoutSetRequest;
+import com.fitnote.server.domain.workout.dto.WorkoutSetRow;
+import com.fitnote.server.domain.workout.dto.WorkoutUpdateRequest;
+import com.fitnote.server.domain.workout.event.SetFact;
+import com.fitnote.server.domain.workout.event.WorkoutChangedEvent;
+import com.fitnote.server.domain.workout.event.WorkoutSetsChangedEvent;
+import com.fitnote.server.domain.workout.repository.WorkoutExerciseRepository;
+import com.fitnote.server.domain.workout.repository.WorkoutRepository;
+import com.fitnote.server.domain.workout.repository.WorkoutSetRepository;
+
+@Service
+public class WorkoutService {
+
+    private final WorkoutRepository workoutRepository;
+    private final WorkoutSetRepository workoutSetRepository;
+    private final WorkoutExerciseRepository workoutExerciseRepository;
+    private final ExerciseRepository exerciseRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PersonalRecordService personalRecordService;
+    private final int maxDetailBatch;
+
+    public WorkoutService(
+            WorkoutRepository workoutRepository,
+            WorkoutSetRepository workoutSetRepository,
+            WorkoutExerciseRepository workoutExerciseRepository,
+            ExerciseRepository exerciseRepository,
+            UserRepository userRepository,
+            ApplicationEventPublisher eventPublisher,
+            PersonalRecordService personalRecordService,
+            @Value("${workout.max-detail-batch:50}") int maxDetailBatch) {
+        this.workoutRepository = workoutRepository;
+        this.workoutSetRepository = workoutSetRepository;
+        this.workoutExerciseRepository = workoutExerciseRepository;
+        this.exerciseRepository = exerciseRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.personalRecordService = personalRecordService;
+        this.maxDetailBatch = maxDetailBatch;
+    }
+
+    @Transactional(readOnly = true)
+    public WorkoutDetailResponse findDetail(Long userId, Long workoutId) {
+        List<WorkoutDetailResponse> details = findDetails(userId, List.of(workoutId));
+        if (details.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "운동 기록을 찾을 수 없습니다.");
+        }
+        return details.get(0);
+    }
+
+    /**
+     * 운동 기록 여러 개를 최신순으로 조립합니다. 기록 수와 크기에 관계없이 쿼리는 최대 3번입니다.
+     * (기록+종목+종목 사전) 평평한 행, 보조 근육군, 세트를 각각 한 번씩 읽고 메모리에서 트리로 엮습니다.
+     * 없거나 다른 사용자의 id는 결과에서 빠집니다.
+     */
+    @Transactional(readOnly = true)
+    public List<WorkoutDetailResponse> findDetails(Long userId, Collection<Long> workoutIds) {
+        if (workoutIds.isEmpty()) {
+            return List.of();
+        }
+        if (workoutIds.size() > maxDetailBatch) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "한 번에 조회할 수 있는 운동 기록은 " + maxDetailBatch + "개까지입니다.");
+        }
+
+        List<WorkoutExerciseRow> rows = workoutRepository.findExerciseRows(userId, workoutIds);
+        Set<Long> workoutExerciseIds = new HashSet<>();
+        Set<Long> exerciseIds = new HashSet<>();
+        for (WorkoutExerciseRow row : rows) {
+            if (row.workoutExerciseId() != null) {
+                workoutExerciseIds.add(row.workoutExerciseId());
+                exerciseIds.add(row.exerciseId());
+            }
+        }
+
+        Map<Long, List<MuscleGroup>> secondaryMuscles = new HashMap<>();
+        Map<Long, List<WorkoutSetDetail>> sets = new HashMap<>();
+        if (!workoutExerciseIds.isEmpty()) {
+            for (ExerciseMuscleRow muscle : exerciseRepository.findSecondaryMuscles(exerciseIds)) {
+                secondaryMuscles.computeIfAbsent(muscle.exerciseId(), id -> new ArrayList<>()).add(muscle.muscle());
+            }
+            for (WorkoutSetRow set : workoutRepository.findSetRows(workoutExerciseIds)) {
+                sets.computeIfAbsent(set.workoutExerciseId(), id -> new ArrayList<>()).add(WorkoutSetDetail.from(set));
+            }
+        }
+
+        Map<Long, ExerciseSummary> summaries = new HashMap<>();
+        Map<Long, List<WorkoutExerciseDetail>> exercisesByWorkout = new LinkedHashMap<>();
+        Map<Long, WorkoutExerciseRow> headers = new LinkedHashMap<>();
+        for (WorkoutExerciseRow row : rows) {
+            headers.putIfAbsent(row.workoutId(), row);
+            List<WorkoutExerciseDetail> exercises =
+                    exercisesByWorkout.computeIfAbsent(row.workoutId(), id -> new ArrayList<>());
+            if (row.workoutExerciseId() == null) {
+                continue;
+            }
+            ExerciseSummary summary = summaries.computeIfAbsent(row.exerciseId(), id -> new ExerciseSummary(
+                    id,
+                    row.exerciseName(),
+                    row.primaryMuscle(),
+                    List.copyOf(secondaryMuscles.getOrDefault(id, List.of())),
+                    row.equipment(),
+                    row.metricType()));
+            exercises.add(new WorkoutExerciseDetail(
+                    row.workoutExerciseId(),
+                    row.orderIndex(),
+                    row.exerciseNotes(),
+                    row.supersetGroup(),
+                    summary,
+                    sets.getOrDefault(row.workoutExerciseId(), List.of())));
+        }
+
+        List<WorkoutDetailResponse> details = new ArrayList<>(headers.size());
+        headers.forEach((workoutId, header) -> details.add(new WorkoutDetailResponse(
+                workoutId,
+                header.title(),
+                header.startedAt(),
+                header.endedAt(),
+                header.notes(),
+                header.location(),
+                exercisesByWorkout.get(workoutId))));
+        return details;
+    }
+
+    /**
+     * 운동 기록 전체(종목, 세트)를 한 트랜잭션으로 저장합니다.
+     *
+     * 종목 검증은 한 번의 조회로 끝내고, 사용자와 종목은 프록시 참조로만 연결합니다.
+     * id는 풀링 시퀀스에서 persist 시점에 할당되므로 커밋 시 테이블별 배치 insert 한 번으로 기록됩니다.
+     */
+    @Transactional
+    public WorkoutCreateResponse create(Long userId, WorkoutCreateRequest request) {
+        if (request.endedAt() != null && request.endedAt().isBefore(request.startedAt())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "종료 시각이 시작 시각보다 빠릅니다.");
+        }
+        Map<Long, MetricType> metricTypes = loadVisibleMetricTypes(userId, request.exercises());
+
+        Workout workout = Workout.builder()
+                .user(userRepository.getReferenceById(userId))
+                .title(request.title())
+                .startedAt(request.startedAt())
+                .endedAt(request.endedAt())
+                .notes(request.notes())
+                .location(request.location())
+                .build();
+
+        for (int e = 0; e < request.exercises().size(); e++) {
+            WorkoutExerciseRequest exerciseRequest = request.exercises().get(e);
+            MetricType metricType = metricTypes.get(exerciseRequest.exerciseId());
+
+            WorkoutExercise workoutExercise = WorkoutExercise.builder()
+                    .workout(workout)
+                    .exercise(exerciseRepository.getReferenceById(exerciseRequest.exerciseId()))
+                    .orderIndex(e)
+                    .notes(exerciseRequest.notes())
+                    .supersetGroup(exerciseRequest.supersetGroup())
+                    .build();
+
+            for (int s = 0; s < exerciseRequest.sets().size(); s++) {
+                WorkoutSetRequest setRequest = exerciseRequest.sets().get(s);
+                validateMetrics(metricType, setRequest);
+                WorkoutSet set = WorkoutSet.builder()
+                        .workoutExercise(workoutExercise)
+                        .setIndex(s)
+                        .build();
+                copySetValues(setRequest, set);
+                workoutExercise.getSets().add(set);
+            }
+            workout.getExercises().add(workoutExercise);
+        }
+
+        // 저장 전에 판정해야 기록표 로딩 쿼리가 이번 세트를 보지 않습니다.
+        int[] records = personalRecordService.detect(userId, toFacts(workout, metricTypes));
+
+        workoutRepository.save(workout);
+
+        List<SetFact> added = toFacts(workout, metricTypes);
+        eventPublisher.publishEvent(
+                WorkoutChangedEvent.created(userId, workout.getId(), workout.getStartedAt(), notesOf(workout)));
+        eventPublisher.publishEvent(WorkoutSetsChangedEvent.added(userId, added));
+        return toCreateResponse(workout, added, records);
+    }
+
+    /**
+     * 세트 하나의 값을 바꿉니다. 집계/기록 리스너에는 이전 값과 새 값이 함께 전달됩니다.
+     */
+    @Transactional
+    public WorkoutSetDetail updateSet(Long userId, Long workoutId, Long setId, WorkoutSetRequest request) {
+        WorkoutSet set = findOwnedSet(userId, workoutId, setId);
+        WorkoutExercise workoutExercise = set.getWorkoutExercise();
+        MetricType metricType = workoutExercise.getExercise().getMetricType();
+        validateMetrics(metricType, request);
+
+        SetFact before = toFact(set, workoutExercise.getWorkout(), workoutExercise.getExercise().getId(), metricType);
+        copySetValues(request, set);
+        SetFact after = toFact(set, workoutExercise.getWorkout(), workoutExercise.getExercise().getId(), metricType);
+
+        eventPublisher.publishEvent(new WorkoutSetsChangedEvent(userId, List.of(before), List.of(after)));
+        return toSetDetail(set);
+    }
+
+    @Transactional
+    public void deleteSet(Long userId, Long workoutId, Long setId) {
+        WorkoutSet set = findOwnedSet(userId, workoutId, setId);
+        WorkoutExercise workoutExercise = set.getWorkoutExercise();
+        SetFact removed = toFact(set, workoutExercise.getWorkout(),
+                workoutExercise.getExercise().getId(), workoutExercise.getExercise().getMetricType());
+
+        workoutSetRepository.delete(set);
+        eventPublisher.publishEvent(WorkoutSetsChangedEvent.removed(userId, List.of(removed)));
+    }
+
+    /**
+     * 운동 기록을 하위 종목/세트/태그와 함께 삭제합니다.
+     * cascade로 지우면 컬렉션을 모두 읽어 행마다 delete를 보내므로, 상세 조회와 같은 두 번의 조회로
+     * 삭제될 세트를 확인한 뒤 테이블별 bulk delete로 지웁니다.
+     */
+    @Transactional
+    public void deleteWorkout(Long userId, Long workoutId) {
+        List<WorkoutExerciseRow> rows = workoutRepository.findExerciseRows(userId, List.of(workoutId));
+        if (rows.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "운동 기록을 찾을 수 없습니다.");
+        }
+
+        Map<Long, WorkoutExerciseRow> byWorkoutExercise = byWorkoutExercise(rows);
+        List<SetFact> removed = loadFacts(workoutId, byWorkoutExercise, rows.get(0).startedAt());
+        if (!byWorkoutExercise.isEmpty()) {
+            workoutSetRepository.deleteByWorkoutExerciseIds(byWorkoutExercise.keySet());
+        }
+        workoutRepository.deleteExercisesByWorkoutId(workoutId);
+        workoutRepository.deleteTagsByWorkoutId(workoutId);
+        workoutRepository.deleteWorkoutById(workoutId);
+
+        eventPublisher.publishEvent(WorkoutChangedEvent.deleted(userId, workoutId, rows.get(0).startedAt()));
+        eventPublisher.publishEvent(WorkoutSetsChangedEvent.removed(userId, removed));
+    }
+
+    /**
+     * 기록의 제목/시각/메모/장소를 바꿉니다. 종목과 세트는 그대로 둡니다.
+     * 시작 시각이 바뀌면 세트는 이전 시각에서 빠지고 새 시각에 더해진 것으로 알리므로 집계도 함께 옮겨집니다.
+     */
+    @Transactional
+    public WorkoutDetailResponse update(Long userId, Long workoutId, WorkoutUpdateRequest request) {
+        if (request.endedAt() != null && request.endedAt().isBefore(request.startedAt())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "종료 시각이 시작 시각보다 빠릅니다.");
+        }
+        List<WorkoutExerciseRow> rows = workoutRepository.findExerciseRows(userId, List.of(workoutId));
+        if (rows.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "운동 기록을 찾을 수 없습니다.");
+        }
+
+        LocalDateTime previousStartedAt = rows.get(0).startedAt();
+        Workout workout = workoutRepository.getReferenceById(workoutId);
+        workout.setTitle(request.title());
+        workout.setStartedAt(request.startedAt());
+        workout.setEndedAt(request.endedAt());
+        workout.setNotes(request.notes());
+        workout.setLocation(request.location());
+
+        // 집계 리스너는 같은 트랜잭션에서 새 시각으로 다시 계산하므로 엔티티를 바꾼 뒤에 알립니다.
+        if (!previousStartedAt.equals(request.startedAt())) {
+            Map<Long, WorkoutExerciseRow> byWorkoutExercise = byWorkoutExercise(rows);
+            List<SetFact> removed = loadFacts(workoutId, byWorkoutExercise, previousStartedAt);
+            List<SetFact> added = new ArrayList<>(removed.size());
+            for (SetFact fact : removed) {
+                added.add(fact.withStartedAt(request.startedAt()));
+            }
+            eventPublisher.publishEvent(new WorkoutSetsChangedEvent(userId, removed, added));
+        }
+
+        List<String> notes = new ArrayList<>();
+        if (request.notes() != null) {
+            notes.add(request.notes());
+        }
+        for (WorkoutExerciseRow row : rows) {
+            if (row.exerciseNotes() != null) {
+                notes.add(row.exerciseNotes());
+            }
+        }
+        eventPublisher.publishEvent(WorkoutChangedEvent.updated(
+                userId, workoutId, previousStartedAt, request.startedAt(), notes));
+        return findDetail(userId, workoutId);
+    }
+
+    /**
+     * 기록 끝에 세트 없는 종목을 추가합니다. 세트는 applySetChanges로 채웁니다.
+     */
+    @Transactional
+    public WorkoutExerciseRef addExercise(Long userId, Long workoutId, Long exerciseId, String supersetGroup) {
+        List<WorkoutExerciseRow> rows = workoutRepository.findExerciseRows(userId, List.of(workoutId));
+        if (rows.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "운동 기록을 찾을 수 없습니다.");
+        }
+        WorkoutExerciseRequest request = new WorkoutExerciseRequest(exerciseId, null, supersetGroup, List.of());
+        MetricType metricType = loadVisibleMetricTypes(userId, List.of(request)).get(exerciseId);
+
+        WorkoutExercise workoutExercise = workoutExerciseRepository.save(WorkoutExercise.builder()
+                .workout(workoutRepository.getReferenceById(workoutId))
+                .exercise(exerciseRepository.getReferenceById(exerciseId))
+                .orderIndex(byWorkoutExercise(rows).size())
+                .supersetGroup(supersetGroup)
+                .build());
+        return new WorkoutExerciseRef(workoutExercise.getId(), exerciseId, metricType);
+    }
+
+    /**
+     * 모아 둔 세트 변경을 한 트랜잭션으로 반영하고, 집계/기록 리스너에는 이벤트 한 번으로 알립니다.
+     * 새 세트는 풀링 시퀀스로 id를 받아 커밋 시 배치 insert됩니다.
+     *
+     * @return changes와 같은 순서의 세트 id (삭제는 null)
+     */
+    @Transactional
+    public List<Long> applySetChanges(Long userId, Long workoutId, List<WorkoutSetChange> changes) {
+        List<WorkoutExerciseRow> rows = workoutRepository.findExerciseRows(userId, List.of(workoutId));
+        if (rows.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "운동 기록을 찾을 수 없습니다.");
+        }
+        Map<Long, WorkoutExerciseRow> byWorkoutExercise = byWorkoutExercise(rows);
+        Set<Long> setIds = new HashSet<>();
+        for (WorkoutSetChange change : changes) {
+            if (change.setId() != null) {
+                setIds.add(change.setId());
+            }
+        }
+        Map<Long, WorkoutSet> existing = new HashMap<>();
+        if (!setIds.isEmpty()) {
+            for (WorkoutSet set : workoutSetRepository.findAllById(setIds)) {
+                existing.put(set.getId(), set);
+            }
+        }
+
+        List<SetFact> removed = new ArrayList<>();
+        List<SetFact> added = new ArrayList<>();
+        List<Long> ids = new ArrayList<>(changes.size());
+        for (WorkoutSetChange change : changes) {
+            WorkoutExerciseRow row = byWorkoutExercise.get(change.workoutExerciseId());
+            if (row == null) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "종목을 찾을 수 없습니다.");
+            }
+            WorkoutSet set;
+            if (change.setId() != null) {
+                set = existing.get(change.setId());
+                if (set == null || !set.getWorkoutExercise().getId().equals(change.workoutExerciseId())) {
+                    throw new ResponseStatusException(HttpStatus.NOT_FOUND, "세트를 찾을 수 없습니다.");
+                }
+                removed.add(toFact(set, workoutId, row));
+                if (change.request() == null) {
+                    workoutSetRepository.delete(set);
+                    ids.add(null);
+                    continue;
+                }
+            } else if (change.request() == null) {
+                ids.add(null);
+                continue;
+            } else {
+                set = WorkoutSet.builder()
+                        .workoutExercise(workoutExerciseRepository.getReferenceById(change.workoutExerciseId()))
+                        .setIndex(change.setIndex())
+                        .build();
+            }
+            validateMetrics(row.metricType(), change.request());
+            copySetValues(change.request(), set);
+            if (set.getId() == null) {
+                workoutSetRepository.save(set);
+            }
+            added.add(toFact(set, workoutId, row));
+            ids.add(set.getId());
+        }
+
+        if (!removed.isEmpty() || !added.isEmpty()) {
+            eventPublisher.publishEvent(new WorkoutSetsChangedEvent(userId, removed, added));
+        }
+        return ids;
+    }
+
+    /**
+     * 종료 시각만 기록합니다. 집계와 색인은 종료 시각을 쓰지 않으므로 알리지 않습니다.
+     */
+    @Transactional
+    public void finish(Long userId, Long workoutId, LocalDateTime endedAt) {
+        List<WorkoutExerciseRow> rows = workoutRepository.findExerciseRows(userId, List.of(workoutId));
+        if (rows.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "운동 기록을 찾을 수 없습니다.");
+        }
+        workoutRepository.getReferenceById(workoutId).setEndedAt(endedAt);
+    }
+
+    private static Map<Long, WorkoutExerciseRow> byWorkoutExercise(List<WorkoutExerciseRow> rows) {
+        Map<Long, WorkoutExerciseRow> byWorkoutExercise = new HashMap<>();
+        for (WorkoutExerciseRow row : rows) {
+            if (row.workoutExerciseId() != null) {
+                byWorkoutExercise.put(row.workoutExerciseId(), row);
+            }
+        }
+        return byWorkoutExercise;
+    }
+
+    /**
+     * 기록의 세트를 startedAt 시각의 SetFact로 읽습니다. 종목이 없으면 쿼리하지 않습니다.
+     */
+    private List<SetFact> loadFacts(
+            Long workoutId, Map<Long, WorkoutExerciseRow> byWorkoutExercise, LocalDateTime startedAt) {
+        List<SetFact> facts = new ArrayList<>();
+        if (byWorkoutExercise.isEmpty()) {
+            return facts;
+        }
+        for (WorkoutSetRow set : workoutRepository.findSetRows(byWorkoutExercise.keySet())) {
+            WorkoutExerciseRow row = byWorkoutExercise.get(set.workoutExerciseId());
+            facts.add(new SetFact(
+                    set.id(), workoutId, row.exerciseId(), row.metricType(), startedAt,
+                    set.weight(), set.reps(), set.durationSec(), set.distanceM(),
+                    Boolean.TRUE.equals(set.isWarmup())));
+        }
+        return facts;
+    }
+
+    private WorkoutSet findOwnedSet(Long userId, Long workoutId, Long setId) {
+        return workoutSetRepository.findOwned(userId, workoutId, setId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "세트를 찾을 수 없습니다."));
+    }
+
+    private static void copySetValues(WorkoutSetRequest request, WorkoutSet set) {
+        set.setWeight(Weight.toBigDecimal(request.weight()));
+        set.setReps(request.reps());
+        set.setDurationSec(request.durationSec());
+        set.setDistanceM(request.distanceM());
+        set.setRpe(request.rpe());
+        set.setRir(request.rir());
+        set.setIsWarmup(Boolean.TRUE.equals(request.isWarmup()));
+        set.setRestSec(request.restSec());
+        set.setTempo(request.tempo());
+        set.setNote(request.note());
+    }
+
+    private static List<SetFact> toFacts(Workout workout, Map<Long, MetricType> metricTypes) {
+        List<SetFact> facts = new ArrayList<>();
+        for (WorkoutExercise workoutExercise : workout.getExercises()) {
+            Long exerciseId = workoutExercise.getExercise().getId();
+            for (WorkoutSet set : workoutExercise.getSets()) {
+                facts.add(toFact(set, workout, exerciseId, metricTypes.get(exerciseId)));
+            }
+        }
+        return facts;
+    }
+
+    private static SetFact toFact(WorkoutSet set, Long workoutId, WorkoutExerciseRow row) {
+        return new SetFact(
+                set.getId(),
+                workoutId,
+                row.exerciseId(),
+                row.metricType(),
+                row.startedAt(),
+                set.getWeight(),
+                set.getReps(),
+                set.getDurationSec(),
+                set.getDistanceM(),
+                Boolean.TRUE.equals(set.getIsWarmup()));
+    }
+
+    private static SetFact toFact(WorkoutSet set, Workout workout, Long exerciseId, MetricType metricType) {
+        return new SetFact(
+                set.getId(),
+                workout.getId(),
+                exerciseId,
+                metricType,
+                workout.getStartedAt(),
+                set.getWeight(),
+                set.getReps(),
+                set.getDurationSec(),
+                set.getDistanceM(),
+                Boolean.TRUE.equals(set.getIsWarmup()));
+    }
+
+    private static List<String> notesOf(Workout workout) {
+        List<String> notes = new ArrayList<>();
+        if (workout.getNotes() != null) {
+            notes.add(workout.getNotes());
+        }
+        for (WorkoutExercise workoutExercise : workout.getExercises()) {
+            if (workoutExercise.getNotes() != null) {
+                notes.add(workoutExercise.getNotes());
+            }
+        }
+        return notes;
+    }
+
+    private static WorkoutSetDetail toSetDetail(WorkoutSet set) {
+        return new WorkoutSetDetail(
+                set.getId(),
+                set.getSetIndex(),
+                Weight.of(set.getWeight()),
+                set.getReps(),
+                set.getDurationSec(),
+                set.getDistanceM(),
+                set.getRpe(),
+                set.getRir(),
+                set.getIsWarmup(),
+                set.getRestSec(),
+                set.getTempo(),
+                set.getNote());
+    }
+
+    private Map<Long, MetricType> loadVisibleMetricTypes(Long userId, List<WorkoutExerciseRequest> exercises) {
+        Set<Long> ids = new HashSet<>();
+        for (WorkoutExerciseRequest exercise : exercises) {
+            ids.add(exercise.exerciseId());
+        }
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, MetricType> metricTypes = new HashMap<>();
+        for (ExerciseMetricType visible : exerciseRepository.findVisibleMetricTypes(userId, ids)) {
+            metricTypes.put(visible.id(), visible.metricType());
+        }
+        if (metricTypes.size() != ids.size()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "사용할 수 없는 종목이 포함되어 있습니다.");
+        }
+        return metricTypes;
+    }
+
+    /**
+     * 종목의 기록 방식에 필요한 값이 있는지 확인합니다. 세트를 모아 두었다가 저장하는 경로도 받을 때 같은 검증을 합니다.
+     * 거리/시간 종목은 페이스와 기록 비교에 둘 다 필요하므로 거리와 시간을 모두 요구합니다.
+     */
+    public static void validateMetrics(MetricType metricType, WorkoutSetRequest set) {
+        boolean valid = switch (metricType) {
+            case WEIGHT_REPS, BODYWEIGHT_REPS -> set.reps() != null;
+            case TIME -> set.durationSec() != null;
+            case DISTANCE_TIME -> set.distanceM() != null && set.durationSec() != null;
+        };
+        if (!valid) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "종목의 기록 방식에 필요한 값이 없습니다.");
+        }
+    }
+
+    private WorkoutCreateResponse toCreateResponse(Workout workout, List<SetFact> facts, int[] records) {
+        List<WorkoutCreateResponse.CreatedExercise> exercises = new ArrayList<>(workout.getExercises().size());
+        for (WorkoutExercise workoutExercise : workout.getExercises()) {
+            List<Long> setIds = new ArrayList<>(workoutExercise.getSets().size());
+            for (WorkoutSet set : workoutExercise.getSets()) {
+                setIds.add(set.getId());
+            }
+            exercises.add(new WorkoutCreateResponse.CreatedExercise(
+                    workoutExercise.getId(),
+                    workoutExercise.getExercise().getId(),
+                    setIds));
+        }
+
+        List<PersonalRecordHit> hits = new ArrayList<>();
+        for (int i = 0; i < records.length; i++) {
+            if (records[i] != 0) {
+                SetFact fact = facts.get(i);
+                hits.add(new PersonalRecordHit(fact.setId(), fact.exerciseId(), PersonalRecordType.fromBits(records[i])));
+            }
+        }
+        return new WorkoutCreateResponse(workout.getId(), exercises, hits);
+    }
+}
@@ -0,0 +1,151 @@
+package com.fitnote.server.common.bitmap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class RoaringBitmapTest {
+
+    private static final int MAX_ARRAY_SIZE = 4096;
+
+    @Test
+    void arrayBecomesBitmapAfterMaxSizeAndBackAfterRemoval() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int i = 0; i < MAX_ARRAY_SIZE; i++) {
+            assertThat(bitmap.add(i * 3)).isTrue();
+        }
+        // 4096개까지는 배열이고, 이미 있는 값을 다시 넣어도 바뀌지 않는다.
+        assertThat(bitmap.isBitmapContainer(0)).isFalse();
+        assertThat(bitmap.add(0)).isFalse();
+        assertThat(bitmap.isBitmapContainer(0)).isFalse();
+
+        assertThat(bitmap.add(1)).isTrue();
+        assertThat(bitmap.isBitmapContainer(0)).isTrue();
+        assertThat(bitmap.cardinality()).isEqualTo(MAX_ARRAY_SIZE + 1);
+        assertThat(bitmap.contains(1)).isTrue();
+        assertThat(bitmap.contains(2)).isFalse();
+
+        // 없는 값을 지우면 표현이 그대로다.
+        assertThat(bitmap.remove(2)).isFalse();
+        assertThat(bitmap.isBitmapContainer(0)).isTrue();
+
+        assertThat(bitmap.remove(1)).isTrue();
+        assertThat(bitmap.isBitmapContainer(0)).isFalse();
+        assertThat(bitmap.toArray()).containsExactly(IntStream.range(0, MAX_ARRAY_SIZE).map(i -> i * 3).toArray());
+
+        // 배열로 돌아온 뒤에도 다시 비트맵으로 올라간다.
+        assertThat(bitmap.add(2)).isTrue();
+        assertThat(bitmap.isBitmapContainer(0)).isTrue();
+        assertThat(bitmap.contains(2)).isTrue();
+    }
+
+    @Test
+    void setOperationsMatchReferenceAcrossMixedContainers() {
+        // 상위 키별로 한쪽은 비트맵, 다른 쪽은 배열이 되도록 섞는다.
+        RoaringBitmap left = bitmap(value -> high(value) == 0 ? value % 2 == 0
+                : high(value) == 1 ? value % 100 == 0
+                : high(value) == 2 ? value % 8 == 0
+                : high(value) == 4 && value % 7 == 0);
+        RoaringBitmap right = bitmap(value -> high(value) == 0 ? value % 30 == 0
+                : high(value) == 1 ? value % 3 == 0
+                : high(value) == 2 ? value % 9 == 0
+                : high(value) == 3 && value % 5 == 0);
+        assertThat(left.isBitmapContainer(0)).isTrue();
+        assertThat(right.isBitmapContainer(0)).isFalse();
+        assertThat(left.isBitmapContainer(1 << 16)).isFalse();
+        assertThat(right.isBitmapContainer(1 << 16)).isTrue();
+        assertThat(left.isBitmapContainer(2 << 16)).isTrue();
+        assertThat(right.isBitmapContainer(2 << 16)).isTrue();
+
+        Set<Integer> leftValues = values(left);
+        Set<Integer> rightValues = values(right);
+
+        RoaringBitmap and = left.and(right);
+        assertThat(and.toArray()).containsExactly(toArray(leftValues, rightValues::contains));
+        // 비트맵끼리의 교집합도 4096개 이하면 배열로 줄어든다.
+        assertThat(and.isBitmapContainer(2 << 16)).isFalse();
+
+        RoaringBitmap or = left.or(right);
+        Set<Integer> union = new TreeSet<>(Integer::compareUnsigned);
+        union.addAll(leftValues);
+        union.addAll(rightValues);
+        assertThat(or.toArray()).containsExactly(toArray(union, value -> true));
+        assertThat(or.isBitmapContainer(1 << 16)).isTrue();
+
+        RoaringBitmap andNot = left.andNot(right);
+        assertThat(andNot.toArray()).containsExactly(toArray(leftValues, value -> !rightValues.contains(value)));
+        assertThat(right.andNot(left).toArray())
+                .containsExactly(toArray(rightValues, value -> !leftValues.contains(value)));
+
+        // 연산은 입력을 바꾸지 않는다.
+        assertThat(values(left)).isEqualTo(leftValues);
+        assertThat(values(right)).isEqualTo(rightValues);
+    }
+
+    @Test
+    void unionOfTwoArraysOverMaxSizeBecomesBitmap() {
+        RoaringBitmap evens = bitmap(value -> value < 6000 && value % 2 == 0);
+        RoaringBitmap odds = bitmap(value -> value < 6000 && value % 2 == 1);
+        assertThat(evens.isBitmapContainer(0)).isFalse();
+        assertThat(odds.isBitmapContainer(0)).isFalse();
+
+        RoaringBitmap union = evens.or(odds);
+        assertThat(union.isBitmapContainer(0)).isTrue();
+        assertThat(union.toArray()).containsExactly(IntStream.range(0, 6000).toArray());
+        assertThat(union.andNot(odds).isBitmapContainer(0)).isFalse();
+        assertThat(union.andNot(odds).toArray()).containsExactly(evens.toArray());
+    }
+
+    @Test
+    void iteratesSignBitValuesInUnsignedOrder() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int value : new int[] {-1, Integer.MIN_VALUE, 0, Integer.MAX_VALUE, -65536, 65535, 1 << 16}) {
+            bitmap.add(value);
+        }
+
+        assertThat(bitmap.toArray())
+                .containsExactly(0, 65535, 1 << 16, Integer.MAX_VALUE, Integer.MIN_VALUE, -65536, -1);
+        assertThat(bitmap.contains(Integer.MIN_VALUE)).isTrue();
+        assertThat(bitmap.contains(Integer.MIN_VALUE + 1)).isFalse();
+
+        RoaringBitmap negatives = new RoaringBitmap();
+        negatives.add(-1);
+        negatives.add(Integer.MIN_VALUE);
+        negatives.add(-2);
+        assertThat(bitmap.and(negatives).toArray()).containsExactly(Integer.MIN_VALUE, -1);
+        assertThat(bitmap.andNot(negatives).toArray()).containsExactly(0, 65535, 1 << 16, Integer.MAX_VALUE, -65536);
+        assertThat(bitmap.or(negatives).toArray())
+                .containsExactly(0, 65535, 1 << 16, Integer.MAX_VALUE, Integer.MIN_VALUE, -65536, -2, -1);
+
+        assertThat(bitmap.remove(Integer.MIN_VALUE)).isTrue();
+        assertThat(bitmap.toArray()).containsExactly(0, 65535, 1 << 16, Integer.MAX_VALUE, -65536, -1);
+    }
+
+    private static int high(int value) {
+        return value >>> 16;
+    }
+
+    /**
+     * 상위 키 0~4 범위에서 조건을 만족하는 값으로 채운 비트맵
+     */
+    private static RoaringBitmap bitmap(IntPredicate filter) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        IntStream.range(0, 5 << 16).filter(filter).forEach(bitmap::add);
+        return bitmap;
+    }
+
+    private static Set<Integer> values(RoaringBitmap bitmap) {
+        Set<Integer> values = new TreeSet<>(Integer::compareUnsigned);
+        bitmap.forEach(values::add);
+        return values;
+    }
+
+    private static int[] toArray(Set<Integer> values, IntPredicate filter) {
+        return values.stream().mapToInt(Integer::intValue).filter(filter).toArray();
+    }
+}
@@ -0,0 +1,179 @@
+package com.fitnote.server.common.journal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JournaledStateCrashTest {
+
+    private static final String NAME = "counter";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void acknowledgedWritesSurviveKillDuringWrite() throws Exception {
+        Process child = new ProcessBuilder(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                Writer.class.getName(),
+                directory.toString())
+                .redirectErrorStream(true)
+                .start();
+
+        long lastAcknowledged = 0;
+        try (BufferedReader out = new BufferedReader(
+                new InputStreamReader(child.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = out.readLine()) != null) {
+                lastAcknowledged = Math.max(lastAcknowledged, Long.parseLong(line.trim()));
+                if (lastAcknowledged >= 5_000) {
+                    break;
+                }
+            }
+            child.destroyForcibly();
+            child.waitFor(10, TimeUnit.SECONDS);
+        }
+        assertThat(lastAcknowledged).isGreaterThanOrEqualTo(5_000);
+
+        AtomicLong current = new AtomicLong();
+        List<Long> replayed = new ArrayList<>();
+        try (JournaledState state = Writer.open(directory, current, replayed)) {
+            List<Long> all = new ArrayList<>();
+            for (long value = 1; value <= state.recoveryStats().snapshotSeq(); value++) {
+                all.add(value);
+            }
+            all.addAll(replayed);
+
+            // 확인 응답을 받은 쓰기는 모두 남아 있고, 순서와 연속성이 유지되어야 합니다.
+            assertThat(all.size()).isGreaterThanOrEqualTo((int) lastAcknowledged);
+            for (int i = 0; i < all.size(); i++) {
+                assertThat(all.get(i)).isEqualTo(i + 1L);
+            }
+            assertThat(state.recoveryStats().lastSeq()).isEqualTo(all.size());
+        }
+    }
+
+    @Test
+    void tornTailIsTruncatedAndWritesContinue() throws Exception {
+        AtomicLong current = new AtomicLong();
+        List<Long> replayed = new ArrayList<>();
+        try (JournaledState state = Writer.open(directory, current, replayed)) {
+            for (int i = 0; i < 10; i++) {
+                state.write(0, () -> current.get() + 1, Writer::encode, current::set);
+            }
+        }
+        Path lastSegment;
+        try (Stream<Path> files = Files.list(directory)) {
+            lastSegment = files.filter(p -> p.toString().endsWith(".journal")).sorted()
+                    .reduce((first, second) -> second).orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(lastSegment, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0, 0, 0, 42, 1, 2, 3}));
+        }
+
+        current.set(0);
+        replayed.clear();
+        try (JournaledState state = Writer.open(directory, current, replayed)) {
+            assertThat(replayed).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+            state.write(0, () -> current.get() + 1, Writer::encode, current::set);
+            state.snapshot();
+        }
+
+        current.set(0);
+        replayed.clear();
+        try (JournaledState state = Writer.open(directory, current, replayed)) {
+            assertThat(current.get()).isEqualTo(11L);
+            assertThat(replayed).isEmpty();
+            assertThat(state.recoveryStats().snapshotSeq()).isEqualTo(11L);
+        }
+    }
+
+    @Test
+    void changeIsAppliedOnlyAfterItIsJournaled() throws Exception {
+        AtomicLong current = new AtomicLong();
+        List<Long> replayed = new ArrayList<>();
+        try (JournaledState state = Writer.open(directory, current, replayed)) {
+            state.write(0, () -> 1L, Writer::encode, value -> {
+                // 적용 시점에는 레코드가 이미 저널에 있다.
+                assertThat(state.pendingRecords()).isEqualTo(1L);
+                current.set(value);
+            });
+            assertThatThrownBy(() -> state.write(0, () -> {
+                throw new IllegalStateException("rejected");
+            }, Writer::encode, current::set)).isInstanceOf(IllegalStateException.class);
+            assertThat(state.pendingRecords()).isEqualTo(1L);
+        }
+
+        current.set(0);
+        replayed.clear();
+        try (JournaledState state = Writer.open(directory, current, replayed)) {
+            assertThat(replayed).containsExactly(1L);
+        }
+    }
+
+    /**
+     * 별도 JVM에서 여러 스레드로 연속된 값을 기록하고, fsync 확인을 받은 값을 stdout으로 알립니다.
+     * 상태는 "마지막으로 기록한 값"이며 스냅샷도 주기적으로 남깁니다.
+     */
+    public static class Writer {
+
+        public static void main(String[] args) throws Exception {
+            Path directory = Path.of(args[0]);
+            AtomicLong counter = new AtomicLong();
+            PrintStream out = new PrintStream(System.out, true, StandardCharsets.UTF_8);
+            JournaledState state = JournaledState.open(directory, NAME, 256,
+                    buffer -> counter.set(buffer.getLong(0)),
+                    payload -> counter.set(ByteBuffer.wrap(payload).getLong()),
+                    () -> encode(counter.get()));
+
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            for (int t = 0; t < 4; t++) {
+                executor.submit(() -> {
+                    while (true) {
+                        long value = state.write(0, () -> counter.get() + 1, Writer::encode, counter::set);
+                        out.println(value);
+                    }
+                });
+            }
+            while (true) {
+                Thread.sleep(20);
+                state.snapshot();
+            }
+        }
+
+        static JournaledState open(Path directory, AtomicLong current, List<Long> replayed) throws Exception {
+            return JournaledState.open(directory, NAME, 256,
+                    buffer -> current.set(buffer.getLong(0)),
+                    payload -> {
+                        long value = ByteBuffer.wrap(payload).getLong();
+                        replayed.add(value);
+                        current.set(value);
+                    },
+                    () -> encode(current.get()));
+        }
+
+        static byte[] encode(long value) {
+            return ByteBuffer.allocate(Long.BYTES).putLong(value).array();
+        }
+    }
+}
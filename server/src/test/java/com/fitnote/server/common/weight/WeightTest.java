@@ -0,0 +1,106 @@
+package com.fitnote.server.common.weight;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+class WeightTest {
+
+    private static final WeightFormat POUNDS = new WeightFormat(true, 250);
+
+    @Test
+    void parsesUpToTwoFractionDigits() {
+        assertThat(parse("60")).isEqualTo(6000);
+        assertThat(parse(".5")).isEqualTo(50);
+        assertThat(parse("1.")).isEqualTo(100);
+        assertThat(parse("0.05")).isEqualTo(5);
+        // 셋째 자리부터는 0만 허용한다.
+        assertThat(parse("60.120")).isEqualTo(6012);
+        assertThat(parse("60.125")).isEqualTo(-1);
+    }
+
+    @Test
+    void rejectsMalformedOrOversizedText() {
+        assertThat(parse("")).isEqualTo(-1);
+        assertThat(parse(".")).isEqualTo(-1);
+        assertThat(parse("-1")).isEqualTo(-1);
+        assertThat(parse("1e2")).isEqualTo(-1);
+        assertThat(parse("1.2.3")).isEqualTo(-1);
+        assertThat(parse("9999.99")).isEqualTo(Weight.MAX_HUNDREDTHS);
+        // 정수부가 MAX_HUNDREDTHS를 넘으면 곱하기 전에 멈춘다. (kg 범위 검사는 역직렬화에서)
+        assertThat(parse("999999")).isEqualTo(99_999_900L);
+        assertThat(parse("1000000")).isEqualTo(-1);
+        assertThat(parse("99999999999999999999")).isEqualTo(-1);
+    }
+
+    @Test
+    void parsesWithinOffsetAndLength() {
+        char[] buffer = "[60.5,".toCharArray();
+        assertThat(WeightDeserializer.parse(buffer, 1, 4)).isEqualTo(6050);
+    }
+
+    @Test
+    void writesFractionWithoutTrailingZero() {
+        assertThat(write(6012)).isEqualTo("60.12");
+        assertThat(write(6050)).isEqualTo("60.5");
+        assertThat(write(5)).isEqualTo("0.05");
+        assertThat(write(Weight.MAX_HUNDREDTHS)).isEqualTo("9999.99");
+        assertThat(write(Weight.kgToLb(Weight.MAX_HUNDREDTHS))).isEqualTo("22046.2");
+    }
+
+    @Test
+    void roundsToNearestStep() {
+        assertThat(Weight.roundToStep(6130, 250)).isEqualTo(6250);
+        assertThat(Weight.roundToStep(6120, 250)).isEqualTo(6000);
+        assertThat(Weight.roundToStep(6125, 250)).isEqualTo(6250);
+        assertThat(Weight.roundToStep(6123, 0)).isEqualTo(6123);
+        assertThat(Weight.roundToStep(6123, -1)).isEqualTo(6123);
+    }
+
+    @Test
+    void convertsBetweenKgAndLb() {
+        assertThat(Weight.kgToLb(10000)).isEqualTo(22046);
+        assertThat(Weight.lbToKg(22500)).isEqualTo(10206);
+        assertThat(Weight.kgToLb(new BigDecimal("1790"))).isEqualByComparingTo("3946.27");
+        assertThat(Weight.kgToLb(120.0)).isEqualTo(264.55);
+    }
+
+    @Test
+    void poundPlatesRoundTripWithoutRoundingStep() {
+        WeightFormat pounds = new WeightFormat(true, 0);
+        for (int lb : new int[] {45, 135, 225, 315, 405}) {
+            // 135lb → 61.23kg → 134.99lb로 어긋나지 않아야 한다.
+            assertThat(pounds.toDisplay(pounds.fromDisplay(lb * 100))).as("%d lb", lb).isEqualTo(lb * 100);
+        }
+        assertThat(pounds.toDisplay(pounds.fromDisplay(4550))).isEqualTo(4550);
+        assertThat(WeightFormat.KG.toDisplay(6123)).isEqualTo(6123);
+    }
+
+    @Test
+    void aggregateValuesFollowFormatWithoutRoundingStep() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Total total = new Total(new BigDecimal("1790.00"));
+
+        assertThat(objectMapper.writeValueAsString(total)).isEqualTo("{\"volume\":1790.00}");
+        assertThat(objectMapper.writer().withAttribute(WeightFormat.ATTRIBUTE, POUNDS).writeValueAsString(total))
+                .isEqualTo("{\"volume\":3946.27}");
+    }
+
+    private static long parse(String text) {
+        char[] chars = text.toCharArray();
+        return WeightDeserializer.parse(chars, 0, chars.length);
+    }
+
+    private static String write(int hundredths) {
+        char[] buffer = new char[16];
+        return new String(buffer, 0, WeightSerializer.write(hundredths, buffer));
+    }
+
+    record Total(@JsonSerialize(using = WeightValueSerializer.class) BigDecimal volume) {
+    }
+}
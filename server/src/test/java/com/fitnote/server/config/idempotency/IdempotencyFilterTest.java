@@ -0,0 +1,169 @@
+package com.fitnote.server.config.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.fitnote.server.domain.auth.User;
+import com.fitnote.server.domain.history.service.HistoryService;
+import com.fitnote.server.domain.idempotency.repository.IdempotencyRecordRepository;
+import com.fitnote.server.domain.routine.service.RoutineService;
+import com.fitnote.server.support.TestFixtures;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestFixtures.class)
+class IdempotencyFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RoutineService routineService;
+
+    @Autowired
+    private HistoryService historyService;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private IdempotencyProperties idempotencyProperties;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private Long userId;
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        User user = fixtures.user("idempotency");
+        userId = user.getId();
+        accessToken = fixtures.accessToken(user);
+    }
+
+    @Test
+    void replaysStoredResponseForRetriedKey() throws Exception {
+        String body = "{\"name\": \"Push Day\"}";
+        MockHttpServletResponse first = postRoutine("retry-1", body)
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER))
+                .andReturn().getResponse();
+        MockHttpServletResponse second = postRoutine("retry-1", body)
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andReturn().getResponse();
+
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(routineService.findAllByUser(userId)).hasSize(1);
+
+        postRoutine("retry-1", "{\"name\": \"Pull Day\"}").andExpect(status().isUnprocessableEntity());
+        postRoutine("retry-2", body).andExpect(status().isCreated());
+        postRoutine("no spaces", body).andExpect(status().isBadRequest());
+        assertThat(routineService.findAllByUser(userId)).hasSize(2);
+    }
+
+    @Test
+    void concurrentDuplicatesRunOnce() throws Exception {
+        String body = "{\"title\": \"Leg Day\", \"startedAt\": \"2024-05-01T10:00:00\"}";
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<MockHttpServletResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                Callable<MockHttpServletResponse> request = () -> mockMvc.perform(post("/api/history")
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                                .header(IdempotencyFilter.KEY_HEADER, "history-1")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body))
+                        .andReturn().getResponse();
+                futures.add(executor.submit(request));
+            }
+
+            // 처리 중인 키는 기다리지 않고 409로 돌려보내고, 끝난 뒤에 온 요청은 저장된 응답을 받는다.
+            List<String> created = new ArrayList<>();
+            for (Future<MockHttpServletResponse> future : futures) {
+                MockHttpServletResponse response = future.get();
+                if (response.getStatus() == 409) {
+                    assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+                } else {
+                    assertThat(response.getStatus()).isEqualTo(201);
+                    created.add(response.getContentAsString());
+                }
+            }
+            assertThat(created).isNotEmpty().containsOnly(created.get(0));
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(historyService.findByUser(userId, null, 100).items()).hasSize(1);
+
+        mockMvc.perform(post("/api/history")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .header(IdempotencyFilter.KEY_HEADER, "history-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"));
+        assertThat(historyService.findByUser(userId, null, 100).items()).hasSize(1);
+    }
+
+    @Test
+    void rejectsOversizedBodyBeforeRunning() throws Exception {
+        int limit = (int) idempotencyProperties.getMaxBodySize().toBytes();
+        String body = "{\"name\": \"" + "a".repeat(limit) + "\"}";
+
+        postRoutine("large-1", body).andExpect(status().is(HttpStatus.CONTENT_TOO_LARGE.value()));
+        assertThat(routineService.findAllByUser(userId)).isEmpty();
+    }
+
+    @Test
+    void storedResponseSurvivesRestart() throws Exception {
+        String body = "{\"name\": \"Full Body\"}";
+        String created = postRoutine("restart-1", body)
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+
+        // 메모리가 빈 새 저장소는 테이블에 남은 응답을 읽는다.
+        IdempotencyStore restarted = new IdempotencyStore(idempotencyRecordRepository, idempotencyProperties);
+        String fingerprint = IdempotencyFilter.fingerprint(
+                "POST", "/api/routines", body.getBytes(StandardCharsets.UTF_8));
+        IdempotencyStore.Claim claim = restarted.claim(userId, "restart-1", fingerprint);
+
+        assertThat(claim.owner()).isFalse();
+        assertThat(claim.entry().fingerprint()).isEqualTo(fingerprint);
+        assertThat(claim.entry().pending()).isFalse();
+        IdempotencyStore.StoredResponse stored = claim.entry().response();
+        assertThat(stored.status()).isEqualTo(201);
+        assertThat(new String(stored.body(), StandardCharsets.UTF_8)).isEqualTo(created);
+    }
+
+    private ResultActions postRoutine(String key, String body) throws Exception {
+        return mockMvc.perform(post("/api/routines")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .header(IdempotencyFilter.KEY_HEADER, key)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+    }
+}
@@ -0,0 +1,91 @@
+package com.fitnote.server.config.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(1_000 * SECOND);
+
+    @Test
+    void allowsBurstThenLimitsUntilRefill() {
+        // 3초에 3개: 1초마다 하나씩 채워지고 최대 3개까지 몰아 쓸 수 있다.
+        TokenBucketRateLimiter limiter = limiter(64, 1024);
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("a")).isZero();
+        }
+        assertThat(limiter.tryAcquire("a")).isEqualTo(SECOND);
+        // 다른 키는 따로 센다.
+        assertThat(limiter.tryAcquire("b")).isZero();
+
+        clock.addAndGet(SECOND / 2);
+        assertThat(limiter.tryAcquire("a")).isEqualTo(SECOND / 2);
+
+        clock.addAndGet(SECOND / 2);
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isEqualTo(SECOND);
+
+        // 오래 쉬어도 capacity 이상 쌓이지 않는다.
+        clock.addAndGet(60 * SECOND);
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("a")).isZero();
+        }
+        assertThat(limiter.tryAcquire("a")).isPositive();
+    }
+
+    @Test
+    void evictIdleRemovesOnlyRefilledBuckets() {
+        TokenBucketRateLimiter limiter = limiter(4, 1024);
+        limiter.tryAcquire("a");
+        clock.addAndGet(2 * SECOND);
+        limiter.tryAcquire("b");
+        limiter.tryAcquire("b");
+
+        // a는 가득 찼고 b는 아직 채우는 중이다.
+        limiter.evictIdle();
+        assertThat(limiter.size()).isEqualTo(1);
+        limiter.tryAcquire("b");
+        assertThat(limiter.tryAcquire("b")).isPositive();
+
+        clock.addAndGet(10 * SECOND);
+        limiter.evictIdle();
+        assertThat(limiter.size()).isZero();
+    }
+
+    @Test
+    void evictionAtCapacityKeepsDrainedBuckets() {
+        TokenBucketRateLimiter limiter = limiter(1, 10);
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("hot");
+        }
+        for (int i = 0; i < 9; i++) {
+            limiter.tryAcquire("key-" + i);
+        }
+        assertThat(limiter.size()).isEqualTo(10);
+
+        assertThat(limiter.tryAcquire("new")).isZero();
+        assertThat(limiter.size()).isLessThanOrEqualTo(10);
+        // 가장 많이 소진한 키는 버려지지 않아 계속 제한된다.
+        assertThat(limiter.tryAcquire("hot")).isPositive();
+    }
+
+    @Test
+    void roundsStripeCountUpToPowerOfTwo() {
+        assertThat(limiter(0, 1).stripeCount()).isEqualTo(1);
+        assertThat(limiter(1, 1).stripeCount()).isEqualTo(1);
+        assertThat(limiter(2, 1).stripeCount()).isEqualTo(2);
+        assertThat(limiter(3, 1).stripeCount()).isEqualTo(4);
+        assertThat(limiter(64, 1).stripeCount()).isEqualTo(64);
+        assertThat(limiter(65, 1).stripeCount()).isEqualTo(128);
+    }
+
+    private TokenBucketRateLimiter limiter(int stripes, int maxKeysPerStripe) {
+        return new TokenBucketRateLimiter(3, 3 * SECOND, stripes, maxKeysPerStripe, clock::get);
+    }
+}
@@ -0,0 +1,49 @@
+package com.fitnote.server.config.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fitnote.server.support.SqlStatementRecorder;
+import com.fitnote.server.support.TestFixtures;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestFixtures.class)
+class JwtAuthenticationFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void authenticatedRequestDoesNotQueryUsers() throws Exception {
+        String accessToken = fixtures.accessToken(fixtures.user("filter-test"));
+
+        SqlStatementRecorder.reset();
+        mockMvc.perform(get("/api/history")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/history")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        assertThat(SqlStatementRecorder.countTouching("users")).isZero();
+    }
+
+    @Test
+    void requestWithoutTokenIsRejected() throws Exception {
+        mockMvc.perform(get("/api/history"))
+                .andExpect(status().isUnauthorized());
+    }
+}
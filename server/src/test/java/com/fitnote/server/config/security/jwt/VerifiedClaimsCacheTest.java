@@ -0,0 +1,102 @@
+package com.fitnote.server.config.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+
+import com.fitnote.server.config.security.user.UserPrincipal;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+class VerifiedClaimsCacheTest {
+
+    private static final String SECRET = "test-secret-key-that-is-long-enough-for-hs256";
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Test
+    void returnsCopiesThatDoNotChangeTheCachedClaims() {
+        VerifiedClaimsCache cache = new VerifiedClaimsCache(10);
+        Claims original = claims("user@fitnote.com", NOW + 60_000);
+        String key = cache.keyOf("token");
+        cache.put(key, original, NOW);
+
+        // 저장 후 원본을 바꿔도 캐시에는 영향이 없다.
+        original.setSubject("changed@fitnote.com");
+        Claims hit = cache.get(key, NOW);
+        assertThat(hit.getSubject()).isEqualTo("user@fitnote.com");
+        assertThat(hit.get("uid", Number.class).longValue()).isEqualTo(7L);
+
+        // 받은 Claims를 바꿔도 다음 조회는 처음 값이다.
+        hit.setSubject("changed@fitnote.com");
+        hit.put("uid", 8L);
+        Claims again = cache.get(key, NOW);
+        assertThat(again).isNotSameAs(hit);
+        assertThat(again.getSubject()).isEqualTo("user@fitnote.com");
+        assertThat(again.get("uid", Number.class).longValue()).isEqualTo(7L);
+        assertThat(again.getExpiration()).isEqualTo(new Date((NOW + 60_000) / 1000 * 1000));
+    }
+
+    @Test
+    void neverReturnsEntryAtOrAfterExpiry() {
+        VerifiedClaimsCache cache = new VerifiedClaimsCache(10);
+        String key = cache.keyOf("token");
+        cache.put(key, claims("user@fitnote.com", NOW + 60_000), NOW);
+        assertThat(cache.get(key, NOW + 59_000)).isNotNull();
+
+        assertThat(cache.get(key, NOW + 60_000)).isNull();
+        assertThat(cache.size()).isZero();
+
+        // 이미 만료된 토큰과 exp가 없는 토큰은 저장하지 않는다.
+        cache.put(key, claims("user@fitnote.com", NOW - 1_000), NOW);
+        cache.put(key, Jwts.claims().setSubject("user@fitnote.com"), NOW);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void evictsExpiredEntriesFirstWhenFull() {
+        VerifiedClaimsCache cache = new VerifiedClaimsCache(2);
+        cache.put(cache.keyOf("short"), claims("a@fitnote.com", NOW + 1_000), NOW);
+        cache.put(cache.keyOf("long"), claims("b@fitnote.com", NOW + 60_000), NOW);
+
+        cache.put(cache.keyOf("new"), claims("c@fitnote.com", NOW + 60_000), NOW + 2_000);
+
+        assertThat(cache.get(cache.keyOf("long"), NOW + 2_000)).isNotNull();
+        assertThat(cache.get(cache.keyOf("new"), NOW + 2_000)).isNotNull();
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void providerServesHitsAsCopiesAndStillRejectsBadSignatures() {
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, 60_000, 120_000, 10);
+        String token = provider.generateAccessToken(UserPrincipal.of(7L, "user@fitnote.com"));
+
+        JwtValidationResult first = provider.parseAndValidate(token);
+        assertThat(first.isValid()).isTrue();
+        first.claims().setSubject("changed@fitnote.com");
+        JwtValidationResult hit = provider.parseAndValidate(token);
+        assertThat(hit.claims().getSubject()).isEqualTo("user@fitnote.com");
+        assertThat(provider.getUserId(hit.claims())).isEqualTo(7L);
+        assertThat(provider.getTokenType(hit.claims())).isEqualTo(JwtTokenType.ACCESS);
+
+        // 캐시된 토큰의 서명을 다른 페이로드에 붙이면 키가 달라 캐시를 거치지 않고 서명 검증에서 거절된다.
+        String other = provider.generateAccessToken(UserPrincipal.of(8L, "other@fitnote.com"));
+        String[] parts = token.split("\\.");
+        String forged = parts[0] + "." + other.split("\\.")[1] + "." + parts[2];
+        assertThat(provider.parseAndValidate(forged).failure()).isEqualTo(JwtValidationFailure.INVALID_SIGNATURE);
+
+        // 다른 키로 서명한 토큰도 거절한다.
+        JwtTokenProvider foreign = new JwtTokenProvider(SECRET + "-other", 60_000, 120_000, 10);
+        assertThat(provider.parseAndValidate(foreign.generateAccessToken(UserPrincipal.of(7L, "user@fitnote.com")))
+                .failure()).isEqualTo(JwtValidationFailure.INVALID_SIGNATURE);
+        assertThat(provider.parseAndValidate(token).isValid()).isTrue();
+    }
+
+    private static Claims claims(String subject, long expiresAtMillis) {
+        Claims claims = Jwts.claims().setSubject(subject).setExpiration(new Date(expiresAtMillis));
+        claims.put("uid", 7L);
+        return claims;
+    }
+}
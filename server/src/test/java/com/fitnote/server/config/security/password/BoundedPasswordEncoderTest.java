@@ -0,0 +1,109 @@
+package com.fitnote.server.config.security.password;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BoundedPasswordEncoderTest {
+
+    @Test
+    void encodesAndMatchesOnPool() {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(4, 1, 1, 1000, 2, new SimpleMeterRegistry());
+        try {
+            String hash = encoder.encode("password1");
+            assertThat(encoder.matches("password1", hash)).isTrue();
+            assertThat(encoder.matches("password2", hash)).isFalse();
+            // 설정(4)보다 낮은 work factor만 재해시 대상이다.
+            assertThat(encoder.upgradeEncoding(hash)).isFalse();
+            assertThat(new BoundedPasswordEncoder(5, 1, 1, 1000, 2, new SimpleMeterRegistry())
+                    .upgradeEncoding(hash)).isTrue();
+        } finally {
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    void rejectsWithoutWaitingWhenQueueIsFull() throws Exception {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(4, 1, 1, 60_000, 3, meterRegistry);
+        BlockingPassword blocked = new BlockingPassword();
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            // 작업 스레드 하나와 큐 한 칸을 채운다.
+            Future<String> running = callers.submit(() -> encoder.encode(blocked));
+            assertThat(blocked.started.await(10, TimeUnit.SECONDS)).isTrue();
+            Future<String> queued = callers.submit(() -> encoder.encode(blocked));
+            awaitQueued(meterRegistry, 1);
+
+            long started = System.nanoTime();
+            assertThatThrownBy(() -> encoder.matches("password1", "$2a$04$invalid"))
+                    .isInstanceOfSatisfying(PasswordHashingBusyException.class, e -> {
+                        assertThat(e.getStatusCode().value()).isEqualTo(503);
+                        assertThat(e.getHeaders().getFirst("Retry-After")).isEqualTo("3");
+                    });
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(1000);
+            assertThat(meterRegistry.get("auth.password.hash.rejected").counter().count()).isEqualTo(1.0);
+
+            blocked.release.countDown();
+            assertThat(running.get(10, TimeUnit.SECONDS)).startsWith("$2a$04$");
+            assertThat(queued.get(10, TimeUnit.SECONDS)).startsWith("$2a$04$");
+        } finally {
+            blocked.release.countDown();
+            callers.shutdownNow();
+            encoder.destroy();
+        }
+    }
+
+    static void awaitQueued(MeterRegistry meterRegistry, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (meterRegistry.get("auth.password.hash.queue").gauge().value() < expected) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * 해시 스레드가 비밀번호를 읽는 순간 멈추게 해 풀을 원하는 만큼 붙잡아 두는 비밀번호
+     */
+    static final class BlockingPassword implements CharSequence {
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public String toString() {
+            started.countDown();
+            try {
+                release.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "password1";
+        }
+
+        @Override
+        public int length() {
+            return toString().length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return toString().charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString().subSequence(start, end);
+        }
+    }
+}
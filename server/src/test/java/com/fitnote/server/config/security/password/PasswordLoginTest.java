@@ -0,0 +1,112 @@
+package com.fitnote.server.config.security.password;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.fitnote.server.domain.auth.User;
+import com.fitnote.server.domain.auth.repository.UserRepository;
+import com.fitnote.server.support.TestFixtures;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(properties = {
+        "security.password.bcrypt-strength=5",
+        "security.password.pool-size=1",
+        "security.password.queue-capacity=1",
+        "security.password.retry-after-seconds=4"})
+@AutoConfigureMockMvc
+@Import(TestFixtures.class)
+class PasswordLoginTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void loginRehashesWeakerHash() throws Exception {
+        User user = fixtures.user("rehash");
+        String weak = new BCryptPasswordEncoder(4).encode("password1");
+        user.setPasswordHash(weak);
+        userRepository.save(user);
+
+        login(user.getEmail(), "password1").andExpect(status().isOk());
+
+        String rehashed = userRepository.findById(user.getId()).orElseThrow().getPasswordHash();
+        assertThat(rehashed).isNotEqualTo(weak).startsWith("$2a$05$");
+        assertThat(passwordEncoder.matches("password1", rehashed)).isTrue();
+
+        // 이미 현재 work factor면 다시 해시하지 않는다.
+        login(user.getEmail(), "password1").andExpect(status().isOk());
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getPasswordHash()).isEqualTo(rehashed);
+        login(user.getEmail(), "wrong-password").andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void saturatedPoolAnswers503ForKnownAndUnknownUsers() throws Exception {
+        User user = fixtures.user("busy");
+        user.setPasswordHash(passwordEncoder.encode("password1"));
+        userRepository.save(user);
+
+        BoundedPasswordEncoderTest.BlockingPassword blocked = new BoundedPasswordEncoderTest.BlockingPassword();
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> running = callers.submit(() -> passwordEncoder.encode(blocked));
+            assertThat(blocked.started.await(10, TimeUnit.SECONDS)).isTrue();
+            Future<String> queued = callers.submit(() -> passwordEncoder.encode(blocked));
+            BoundedPasswordEncoderTest.awaitQueued(meterRegistry, 1);
+
+            login(user.getEmail(), "password1")
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "4"));
+            // 없는 사용자도 타이밍 공격 방지용 해시를 거치므로, 감싸진 예외를 풀어 같은 503을 돌려준다.
+            login("nobody-" + System.nanoTime() + "@fitnote.com", "password1")
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "4"));
+
+            blocked.release.countDown();
+            running.get(10, TimeUnit.SECONDS);
+            queued.get(10, TimeUnit.SECONDS);
+        } finally {
+            blocked.release.countDown();
+            callers.shutdownNow();
+        }
+
+        login(user.getEmail(), "password1").andExpect(status().isOk());
+    }
+
+    private ResultActions login(String email, String password) throws Exception {
+        return mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\": \"" + email + "\", \"password\": \"" + password + "\"}"));
+    }
+}
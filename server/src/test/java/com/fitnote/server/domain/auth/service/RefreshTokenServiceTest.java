@@ -0,0 +1,161 @@
+package com.fitnote.server.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fitnote.server.config.security.jwt.JwtTokenProvider;
+import com.fitnote.server.config.security.jwt.RevokedTokenRegistry;
+import com.fitnote.server.config.security.user.UserPrincipal;
+import com.fitnote.server.domain.auth.dto.JwtResponse;
+import com.fitnote.server.domain.auth.repository.RefreshTokenRepository;
+import com.fitnote.server.support.TestFixtures;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestFixtures.class)
+class RefreshTokenServiceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private RevokedTokenRegistry revokedTokenRegistry;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private UserPrincipal principal;
+
+    @BeforeEach
+    void setUp() {
+        principal = UserPrincipal.from(fixtures.user("refresh"));
+    }
+
+    @Test
+    void rotationReplacesTokenWithinFamily() {
+        long familyId = refreshTokenService.newFamilyId();
+        String first = issue(familyId);
+
+        JwtResponse rotated = authService.refreshAccessToken(first);
+
+        assertThat(rotated.refreshToken()).isNotEqualTo(first);
+        assertThat(familyOf(rotated.refreshToken())).isEqualTo(familyId);
+        assertThat(familyOf(rotated.accessToken())).isEqualTo(familyId);
+        assertThat(revokedTokenRegistry.isRevoked(familyId)).isFalse();
+        // 회전된 토큰도 한 번 더 회전할 수 있다.
+        assertThat(authService.refreshAccessToken(rotated.refreshToken()).refreshToken())
+                .isNotEqualTo(rotated.refreshToken());
+    }
+
+    @Test
+    void reusedTokenRevokesWholeFamily() throws Exception {
+        long familyId = refreshTokenService.newFamilyId();
+        String first = issue(familyId);
+        JwtResponse rotated = authService.refreshAccessToken(first);
+
+        // 이미 회전된 토큰이 다시 오면 탈취로 보고, 정상 사용자가 받은 최신 토큰까지 폐기한다.
+        assertUnauthorized(first);
+        assertThat(revokedTokenRegistry.isRevoked(familyId)).isTrue();
+        assertThat(refreshTokenRepository.findAll()).filteredOn(token -> token.getFamilyId() == familyId)
+                .hasSize(2)
+                .allSatisfy(token -> assertThat(token.getRevokedAt()).isNotNull());
+        assertUnauthorized(rotated.refreshToken());
+
+        mockMvc.perform(get("/api/history")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + rotated.accessToken()))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void logoutRevokesFamily() {
+        long familyId = refreshTokenService.newFamilyId();
+        String token = issue(familyId);
+
+        authService.logout(token);
+
+        assertThat(revokedTokenRegistry.isRevoked(familyId)).isTrue();
+        assertUnauthorized(token);
+    }
+
+    @Test
+    void registryIsUpdatedOnlyAfterCommit() {
+        long rolledBack = refreshTokenService.newFamilyId();
+        issue(rolledBack);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            refreshTokenService.revokeFamily(rolledBack);
+            assertThat(revokedTokenRegistry.isRevoked(rolledBack)).isFalse();
+            status.setRollbackOnly();
+        });
+        assertThat(revokedTokenRegistry.isRevoked(rolledBack)).isFalse();
+        assertThat(refreshTokenRepository.findAll()).filteredOn(token -> token.getFamilyId() == rolledBack)
+                .allSatisfy(token -> assertThat(token.getRevokedAt()).isNull());
+
+        long committed = refreshTokenService.newFamilyId();
+        issue(committed);
+        transactionTemplate.executeWithoutResult(status -> {
+            refreshTokenService.revokeFamily(committed);
+            assertThat(revokedTokenRegistry.isRevoked(committed)).isFalse();
+        });
+        assertThat(revokedTokenRegistry.isRevoked(committed)).isTrue();
+    }
+
+    @Test
+    void legacyTokenWithoutJtiIsAcceptedOnce() {
+        String legacy = jwtTokenProvider.generateRefreshToken(principal);
+
+        JwtResponse rotated = authService.refreshAccessToken(legacy);
+
+        assertThat(familyOf(rotated.refreshToken())).isNotNull();
+        assertUnauthorized(legacy);
+        authService.refreshAccessToken(rotated.refreshToken());
+    }
+
+    private String issue(long familyId) {
+        String jti = UUID.randomUUID().toString();
+        refreshTokenService.store(jti, familyId, principal.getId(), LocalDateTime.now().plusDays(1));
+        return jwtTokenProvider.generateRefreshToken(principal, familyId, jti);
+    }
+
+    private Long familyOf(String token) {
+        return jwtTokenProvider.getFamilyId(jwtTokenProvider.parseAndValidate(token).claims());
+    }
+
+    private void assertUnauthorized(String refreshToken) {
+        assertThatThrownBy(() -> authService.refreshAccessToken(refreshToken))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED));
+    }
+}
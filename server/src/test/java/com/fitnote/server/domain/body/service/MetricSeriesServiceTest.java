@@ -0,0 +1,156 @@
+package com.fitnote.server.domain.body.service;
+
+import static com.fitnote.server.support.TestFixtures.set;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import com.fitnote.server.common.weight.Weight;
+import com.fitnote.server.domain.auth.UnitSystem;
+import com.fitnote.server.domain.auth.User;
+import com.fitnote.server.domain.body.BodyMetric;
+import com.fitnote.server.domain.body.SeriesField;
+import com.fitnote.server.domain.body.dto.BodyMetricCreateRequest;
+import com.fitnote.server.domain.body.dto.BodyMetricResponse;
+import com.fitnote.server.domain.body.dto.BodyMetricRow;
+import com.fitnote.server.domain.body.dto.MetricSeriesResponse;
+import com.fitnote.server.domain.body.event.BodyMetricChangedEvent;
+import com.fitnote.server.domain.body.repository.BodyMetricRepository;
+import com.fitnote.server.domain.exercise.MuscleGroup;
+import com.fitnote.server.support.TestFixtures;
+
+@SpringBootTest
+@Import(TestFixtures.class)
+class MetricSeriesServiceTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2023, 1, 1);
+
+    @Autowired
+    private MetricSeriesService metricSeriesService;
+
+    @Autowired
+    private BodyMetricRepository bodyMetricRepository;
+
+    @Autowired
+    private BodyMetricService bodyMetricService;
+
+    @Autowired
+    private BodyMetricCache bodyMetricCache;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = fixtures.user("series");
+    }
+
+    @Test
+    void downsamplesBodyWeightKeepingEndpointsAndSpike() {
+        List<BodyMetric> metrics = new ArrayList<>();
+        for (int day = 0; day < 1000; day++) {
+            metrics.add(BodyMetric.builder()
+                    .user(user)
+                    .measuredAt(FIRST_DAY.plusDays(day).atTime(7, 0))
+                    .weight(BigDecimal.valueOf(day == 500 ? 90 : 80))
+                    .waist(day % 2 == 0 ? BigDecimal.valueOf(85) : null)
+                    .build());
+        }
+        bodyMetricRepository.saveAll(metrics);
+
+        MetricSeriesResponse series = metricSeriesService.findSeries(
+                user.getId(), SeriesField.WEIGHT, null, FIRST_DAY, FIRST_DAY.plusDays(999), 50, 0.5);
+        assertThat(series.totalPoints()).isEqualTo(1000);
+        assertThat(series.points()).hasSize(50);
+        assertThat(series.points().get(0).at()).isEqualTo(FIRST_DAY.atTime(7, 0));
+        assertThat(series.points().get(49).at()).isEqualTo(FIRST_DAY.plusDays(999).atTime(7, 0));
+        // 튀는 값은 넓이가 가장 큰 삼각형을 만들므로 반드시 남는다.
+        assertThat(series.points()).anySatisfy(point -> assertThat(point.value()).isEqualTo(90.0));
+        assertThat(series.points()).allSatisfy(point -> assertThat(point.smoothed()).isNotNull());
+
+        // 값이 없는 행은 세지 않으며, 목표 이하이면 원본을 그대로 반환한다.
+        MetricSeriesResponse waist = metricSeriesService.findSeries(
+                user.getId(), SeriesField.WAIST, null, FIRST_DAY, FIRST_DAY.plusDays(99), 50, null);
+        assertThat(waist.totalPoints()).isEqualTo(50);
+        assertThat(waist.points()).hasSize(50);
+        assertThat(waist.points().get(0).smoothed()).isNull();
+    }
+
+    @Test
+    void cachedSeriesFollowsCommittedWrites() {
+        LocalDate day = FIRST_DAY.plusDays(10);
+        bodyMetricService.create(user.getId(), weighIn(day.atTime(7, 0), "81.20"));
+        assertThat(weights(day)).containsExactly(81.2);
+
+        // 캐시가 채워진 뒤의 추가는 순서에 맞게 끼워 넣고, 삭제는 다음 조회에서 다시 읽는다.
+        BodyMetricResponse earlier = bodyMetricService.create(user.getId(), weighIn(day.atTime(6, 0), "80.55"));
+        BodyMetricResponse later = bodyMetricService.create(user.getId(), weighIn(day.atTime(21, 0), "82.00"));
+        assertThat(weights(day)).containsExactly(80.55, 81.2, 82.0);
+
+        bodyMetricService.delete(user.getId(), earlier.id());
+        assertThat(weights(day)).containsExactly(81.2, 82.0);
+
+        // 로딩이 이미 읽은 행의 커밋 이벤트가 늦게 도착해도 두 번 들어가지 않는다.
+        bodyMetricCache.onChanged(BodyMetricChangedEvent.added(user.getId(), new BodyMetricRow(
+                later.id(), later.measuredAt(), new BigDecimal("82.00"), null, null, null, null, null)));
+        assertThat(weights(day)).containsExactly(81.2, 82.0);
+    }
+
+    @Test
+    void topSetSeriesHasOnePointPerWorkout() {
+        Long squatId = fixtures.exercise("Squat", MuscleGroup.LEGS);
+        LocalDateTime startedAt = FIRST_DAY.atTime(18, 0);
+        for (int i = 0; i < 3; i++) {
+            fixtures.log(user.getId(), squatId, startedAt.plusDays(i),
+                    set(100 + i * 10, 1, false), set(90, 10, false), set(150, 5, true));
+        }
+
+        MetricSeriesResponse weights = metricSeriesService.findSeries(
+                user.getId(), SeriesField.TOP_SET_WEIGHT, squatId, FIRST_DAY, FIRST_DAY.plusDays(2), 300, null);
+        assertThat(weights.points()).extracting(point -> point.value()).containsExactly(100.0, 110.0, 120.0);
+
+        MetricSeriesResponse e1rm = metricSeriesService.findSeries(
+                user.getId(), SeriesField.TOP_SET_E1RM, squatId, FIRST_DAY, FIRST_DAY.plusDays(2), 300, null);
+        assertThat(e1rm.points().get(0).value()).isEqualTo(120.0);
+    }
+
+    @Test
+    void weightSeriesFollowsUserUnit() {
+        User lbUser = fixtures.user("series-lb", UnitSystem.LB, "Asia/Seoul");
+        Long squatId = fixtures.exercise("Squat", MuscleGroup.LEGS);
+        fixtures.log(lbUser.getId(), squatId, FIRST_DAY.atTime(18, 0), set(100, 1, false), set(90, 10, false));
+
+        // 저장은 kg, 점은 lb (100kg = 220.46lb, e1RM 120kg = 264.55lb)
+        MetricSeriesResponse weights = metricSeriesService.findSeries(
+                lbUser.getId(), SeriesField.TOP_SET_WEIGHT, squatId, FIRST_DAY, FIRST_DAY, 300, null);
+        assertThat(weights.points()).extracting(point -> point.value()).containsExactly(220.46);
+
+        MetricSeriesResponse e1rm = metricSeriesService.findSeries(
+                lbUser.getId(), SeriesField.TOP_SET_E1RM, squatId, FIRST_DAY, FIRST_DAY, 300, null);
+        assertThat(e1rm.points()).extracting(point -> point.value()).containsExactly(264.55);
+    }
+
+    private List<Double> weights(LocalDate day) {
+        return metricSeriesService.findSeries(user.getId(), SeriesField.WEIGHT, null, day, day, 300, null)
+                .points().stream()
+                .map(point -> point.value())
+                .toList();
+    }
+
+    private static BodyMetricCreateRequest weighIn(LocalDateTime measuredAt, String weight) {
+        return new BodyMetricCreateRequest(
+                measuredAt, Weight.of(new BigDecimal(weight)), null, null, null, null, null, null);
+    }
+}
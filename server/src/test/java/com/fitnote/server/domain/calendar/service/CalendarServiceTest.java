@@ -0,0 +1,132 @@
+package com.fitnote.server.domain.calendar.service;
+
+import static com.fitnote.server.support.TestFixtures.set;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import com.fitnote.server.domain.auth.UnitSystem;
+import com.fitnote.server.domain.calendar.dto.CalendarDay;
+import com.fitnote.server.domain.calendar.dto.CalendarResponse;
+import com.fitnote.server.domain.exercise.MuscleGroup;
+import com.fitnote.server.domain.settings.dto.SettingsUpdateRequest;
+import com.fitnote.server.domain.settings.service.SettingsService;
+import com.fitnote.server.domain.workout.dto.WorkoutUpdateRequest;
+import com.fitnote.server.domain.workout.service.WorkoutService;
+import com.fitnote.server.support.TestFixtures;
+
+@SpringBootTest
+@Import(TestFixtures.class)
+class CalendarServiceTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2024, 5, 6, 18, 0);
+
+    @Autowired
+    private CalendarService calendarService;
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private SettingsService settingsService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private Long userId;
+    private Long squatId;
+
+    @BeforeEach
+    void setUp() {
+        // 서버 시간대와 같게 두어 기록 날짜가 그대로 달력 날짜가 되도록 한다.
+        userId = fixtures.user("calendar", UnitSystem.KG, ZoneId.systemDefault().getId()).getId();
+        squatId = fixtures.exercise("Squat", MuscleGroup.LEGS);
+    }
+
+    @Test
+    void followsCreatedMovedAndDeletedWorkouts() {
+        fixtures.log(userId, squatId, MONDAY, set(100, 5, false), set(60, 10, true));
+        Long evening = fixtures.log(userId, squatId, MONDAY.plusHours(2), set(50, 10, false)).id();
+        Long tuesday = fixtures.log(userId, squatId, MONDAY.plusDays(1), set(100, 3, false)).id();
+
+        CalendarResponse loaded = calendarService.findYear(userId, 2024);
+        assertThat(loaded.trainedDays()).isEqualTo(2);
+        assertThat(loaded.sessions()).isEqualTo(3);
+        assertThat(loaded.longestStreak()).isEqualTo(2);
+        assertThat(loaded.days()).extracting(CalendarDay::date, CalendarDay::sessions)
+                .containsExactly(
+                        tuple(MONDAY.toLocalDate(), 2),
+                        tuple(MONDAY.toLocalDate().plusDays(1), 1));
+        assertThat(loaded.days().get(0).volume()).isEqualByComparingTo("1000");
+
+        // 달력이 올라온 뒤 기록을 수요일로 옮기면 세션과 볼륨이 함께 옮겨진다.
+        workoutService.update(userId, evening, new WorkoutUpdateRequest(
+                null, MONDAY.plusDays(2), null, null, null));
+        CalendarResponse moved = calendarService.findYear(userId, 2024);
+        assertThat(moved.days()).extracting(CalendarDay::date).containsExactly(
+                MONDAY.toLocalDate(), MONDAY.toLocalDate().plusDays(1), MONDAY.toLocalDate().plusDays(2));
+        assertThat(moved.days().get(0).volume()).isEqualByComparingTo("500");
+        assertThat(moved.days().get(2).volume()).isEqualByComparingTo("500");
+        assertThat(moved.longestStreak()).isEqualTo(3);
+
+        workoutService.deleteWorkout(userId, tuesday);
+        CalendarResponse deleted = calendarService.findYear(userId, 2024);
+        assertThat(deleted.trainedDays()).isEqualTo(2);
+        assertThat(deleted.longestStreak()).isEqualTo(1);
+        assertThat(deleted.currentStreak()).isZero();
+
+        // 증분 반영 결과가 DB에서 다시 만든 달력과 같아야 한다.
+        calendarService.invalidate(userId);
+        assertThat(calendarService.findYear(userId, 2024)).isEqualTo(deleted);
+        assertThat(calendarService.findYear(userId, 2023).days()).isEmpty();
+    }
+
+    @Test
+    void bucketsByUserZoneAndRebuildsWhenZoneChanges() {
+        // 서버 시간대와 오프셋이 다른 사용자 시간대를 고른다. (서버가 서울이면 로스앤젤레스)
+        ZoneId seoul = ZoneId.of("Asia/Seoul");
+        ZoneId userZone = seoul.getRules().getOffset(MONDAY.toInstant(ZoneOffset.UTC))
+                .equals(ZoneId.systemDefault().getRules().getOffset(MONDAY.toInstant(ZoneOffset.UTC)))
+                ? ZoneId.of("America/Los_Angeles") : seoul;
+        Long farUserId = fixtures.user("calendar-zone", UnitSystem.KG, userZone.getId()).getId();
+
+        // 사용자 시간대로 자정 30분 전과 30분 뒤. 기록은 서버 시간대 시각으로 저장된다.
+        ZonedDateTime beforeMidnight = MONDAY.toLocalDate().atTime(23, 30).atZone(userZone);
+        ZonedDateTime afterMidnight = beforeMidnight.plusHours(1);
+        fixtures.log(farUserId, squatId, serverTime(beforeMidnight), set(100, 5, false));
+        fixtures.log(farUserId, squatId, serverTime(afterMidnight), set(100, 3, false));
+
+        CalendarResponse local = calendarService.findYear(farUserId, 2024);
+        assertThat(local.timezone()).isEqualTo(userZone.getId());
+        assertThat(local.days()).extracting(CalendarDay::date, CalendarDay::sessions)
+                .containsExactly(
+                        tuple(MONDAY.toLocalDate(), 1),
+                        tuple(MONDAY.toLocalDate().plusDays(1), 1));
+        assertThat(local.days().get(0).volume()).isEqualByComparingTo("500");
+
+        // UTC로 바꾸면 두 기록이 같은 날이 되도록 달력을 다시 만든다.
+        settingsService.update(farUserId, new SettingsUpdateRequest(UnitSystem.KG, "UTC", null, null, null));
+        CalendarResponse utc = calendarService.findYear(farUserId, 2024);
+        LocalDate utcDay = beforeMidnight.withZoneSameInstant(ZoneOffset.UTC).toLocalDate();
+        assertThat(afterMidnight.withZoneSameInstant(ZoneOffset.UTC).toLocalDate()).isEqualTo(utcDay);
+        assertThat(utc.timezone()).isEqualTo("UTC");
+        assertThat(utc.days()).extracting(CalendarDay::date, CalendarDay::sessions)
+                .containsExactly(tuple(utcDay, 2));
+        assertThat(utc.days().get(0).volume()).isEqualByComparingTo("800");
+    }
+
+    private static LocalDateTime serverTime(ZonedDateTime userTime) {
+        return userTime.withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+}
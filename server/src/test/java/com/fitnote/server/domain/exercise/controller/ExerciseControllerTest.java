@@ -0,0 +1,125 @@
+package com.fitnote.server.domain.exercise.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fitnote.server.domain.auth.User;
+import com.fitnote.server.domain.exercise.Equipment;
+import com.fitnote.server.domain.exercise.Exercise;
+import com.fitnote.server.domain.exercise.MetricType;
+import com.fitnote.server.domain.exercise.MuscleGroup;
+import com.fitnote.server.domain.exercise.dto.ExerciseCreateRequest;
+import com.fitnote.server.domain.exercise.repository.ExerciseRepository;
+import com.fitnote.server.domain.exercise.service.ExerciseCatalogService;
+import com.fitnote.server.support.SqlStatementRecorder;
+import com.fitnote.server.support.TestFixtures;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestFixtures.class)
+class ExerciseControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private ExerciseCatalogService exerciseCatalogService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private Long userId;
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        User user = fixtures.user("exercise");
+        userId = user.getId();
+        accessToken = fixtures.accessToken(user);
+
+        for (int i = 0; i < 20; i++) {
+            exerciseRepository.save(Exercise.builder()
+                    .name("Catalog " + System.nanoTime())
+                    .primaryMuscle(MuscleGroup.BACK)
+                    .secondaryMuscles(EnumSet.of(MuscleGroup.ARMS, MuscleGroup.CORE))
+                    .equipment(Equipment.CABLE)
+                    .metricType(MetricType.WEIGHT_REPS)
+                    .isPublic(Boolean.TRUE)
+                    .build());
+        }
+        exerciseCatalogService.refreshIfChanged();
+        exerciseCatalogService.createCustom(userId, new ExerciseCreateRequest(
+                "My Row " + System.nanoTime(), MuscleGroup.BACK, List.of(MuscleGroup.SHOULDERS),
+                Equipment.MACHINE, MetricType.WEIGHT_REPS));
+    }
+
+    @Test
+    void catalogIsLoadedInConstantQueriesAndRevalidatedWithEtag() throws Exception {
+        SqlStatementRecorder.reset();
+        String etag = mockMvc.perform(get("/api/exercises")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$[?(@.custom == true)].secondaryMuscles[0]").value("SHOULDERS"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        // 커스텀 버전, 커스텀 종목, 커스텀 보조 근육군. 버전은 ETag 확인과 목록이 같이 쓰고, 글로벌 사전은 메모리에서 나온다.
+        assertThat(SqlStatementRecorder.statements()).hasSize(3);
+        assertThat(etag).startsWith("\"");
+
+        SqlStatementRecorder.reset();
+        mockMvc.perform(get("/api/exercises")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        assertThat(SqlStatementRecorder.statements()).hasSize(1);
+
+        // 커스텀 종목이 바뀌면 ETag도 바뀐다.
+        exerciseCatalogService.createCustom(userId, new ExerciseCreateRequest(
+                "My Curl " + System.nanoTime(), MuscleGroup.ARMS, null, Equipment.DUMBBELL, MetricType.WEIGHT_REPS));
+        mockMvc.perform(get("/api/exercises")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.custom == true)].id", hasSize(2)));
+    }
+
+    @Test
+    void editingCustomExerciseChangesEtag() throws Exception {
+        String etag = mockMvc.perform(get("/api/exercises")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // 개수와 최대 id는 그대로이고 updatedAt(JPA auditing)만 바뀐다.
+        Long customId = exerciseRepository.findCustomCatalogRows(userId).get(0).id();
+        Exercise custom = exerciseRepository.findById(customId).orElseThrow();
+        custom.setName("My Row renamed " + System.nanoTime());
+        exerciseRepository.saveAndFlush(custom);
+
+        mockMvc.perform(get("/api/exercises")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(etag)));
+    }
+}
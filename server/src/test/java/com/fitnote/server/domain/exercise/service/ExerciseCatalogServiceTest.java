@@ -0,0 +1,83 @@
+package com.fitnote.server.domain.exercise.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import com.fitnote.server.domain.exercise.Equipment;
+import com.fitnote.server.domain.exercise.Exercise;
+import com.fitnote.server.domain.exercise.MetricType;
+import com.fitnote.server.domain.exercise.MuscleGroup;
+import com.fitnote.server.domain.exercise.dto.ExerciseCreateRequest;
+import com.fitnote.server.domain.exercise.dto.ExerciseSearchResult;
+import com.fitnote.server.domain.exercise.repository.ExerciseRepository;
+import com.fitnote.server.support.TestFixtures;
+
+@SpringBootTest
+@Import(TestFixtures.class)
+class ExerciseCatalogServiceTest {
+
+    @Autowired
+    private ExerciseCatalogService exerciseCatalogService;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private Long userId;
+    private String suffix;
+
+    @BeforeEach
+    void setUp() {
+        userId = fixtures.user("catalog").getId();
+        suffix = Long.toString(System.nanoTime());
+    }
+
+    @Test
+    void searchesGlobalAndCustomByPrefixAndChoseong() {
+        Long bench = global("벤치프레스 " + suffix, MuscleGroup.CHEST, Equipment.BARBELL);
+        Long dumbbellBench = global("덤벨 벤치프레스 " + suffix, MuscleGroup.CHEST, Equipment.DUMBBELL);
+        global("스쿼트 " + suffix, MuscleGroup.LEGS, Equipment.BARBELL);
+        exerciseCatalogService.refreshIfChanged();
+
+        // 초성, 띄어쓰기가 다른 이름 모두 일치하며 앞에서 일치하는 이름이 먼저 온다.
+        assertThat(ids("ㅂㅊㅍㄹㅅ" + suffix, null, null)).containsExactly(bench, dumbbellBench);
+        assertThat(ids("벤치 프레스 " + suffix, null, null)).containsExactly(bench, dumbbellBench);
+        assertThat(ids("ㅂㅊㅍㄹㅅ" + suffix, null, Equipment.DUMBBELL)).containsExactly(dumbbellBench);
+        assertThat(ids("프레스" + suffix, MuscleGroup.LEGS, null)).isEmpty();
+
+        // 커스텀 종목은 만든 사용자에게만, 글로벌과 함께 보인다.
+        ExerciseSearchResult custom = exerciseCatalogService.createCustom(userId, new ExerciseCreateRequest(
+                "벤치프레스 " + suffix + " 변형", MuscleGroup.CHEST, List.of(MuscleGroup.ARMS),
+                Equipment.MACHINE, MetricType.WEIGHT_REPS));
+        assertThat(custom.custom()).isTrue();
+        assertThat(ids("ㅂㅊㅍㄹㅅ" + suffix, null, null)).containsExactly(bench, custom.id(), dumbbellBench);
+        assertThat(exerciseCatalogService.search(userId + 1000, "ㅂㅊㅍㄹㅅ" + suffix, null, null, 20))
+                .extracting(ExerciseSearchResult::id)
+                .doesNotContain(custom.id());
+    }
+
+    private List<Long> ids(String query, MuscleGroup muscle, Equipment equipment) {
+        return exerciseCatalogService.search(userId, query, muscle, equipment, 20).stream()
+                .map(ExerciseSearchResult::id)
+                .toList();
+    }
+
+    private Long global(String name, MuscleGroup muscle, Equipment equipment) {
+        return exerciseRepository.save(Exercise.builder()
+                .name(name)
+                .primaryMuscle(muscle)
+                .equipment(equipment)
+                .metricType(MetricType.WEIGHT_REPS)
+                .isPublic(Boolean.TRUE)
+                .build()).getId();
+    }
+}
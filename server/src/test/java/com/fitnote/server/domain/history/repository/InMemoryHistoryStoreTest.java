@@ -0,0 +1,119 @@
+package com.fitnote.server.domain.history.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import com.fitnote.server.domain.history.dto.HistoryCreateRequest;
+import com.fitnote.server.domain.history.dto.HistoryCursor;
+import com.fitnote.server.domain.history.dto.HistoryResponse;
+
+class InMemoryHistoryStoreTest {
+
+    private static final long USER_ID = 1L;
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Test
+    void concurrentAppendsAreAllReadableInOrder() throws Exception {
+        InMemoryHistoryStore store = new InMemoryHistoryStore();
+        int writers = 8;
+        int perWriter = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 2);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+
+        List<Future<?>> writes = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            writes.add(executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < perWriter; i++) {
+                    // 분 단위로 겹치게 만들어 같은 startedAt에서 id 타이브레이크도 검증한다.
+                    LocalDateTime startedAt = BASE.plusMinutes(random.nextInt(500));
+                    store.save(USER_ID, new HistoryCreateRequest("w", startedAt, null, null));
+                }
+                return null;
+            }));
+        }
+        List<Future<?>> reads = new ArrayList<>();
+        for (int r = 0; r < 2; r++) {
+            reads.add(executor.submit(() -> {
+                start.await();
+                while (writing.get()) {
+                    assertNewestFirst(store.findPage(USER_ID, null, 50));
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> write : writes) {
+            write.get(30, TimeUnit.SECONDS);
+        }
+        writing.set(false);
+        for (Future<?> read : reads) {
+            read.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        List<HistoryResponse> all = readAllPages(store, 137);
+        assertThat(all).hasSize(writers * perWriter);
+        assertNewestFirst(all);
+        Set<Long> ids = new HashSet<>();
+        all.forEach(history -> ids.add(history.id()));
+        assertThat(ids).hasSize(writers * perWriter);
+    }
+
+    @Test
+    void cursorSkipsEntriesAddedBeforeTheCursor() {
+        InMemoryHistoryStore store = new InMemoryHistoryStore();
+        for (int i = 0; i < 10; i++) {
+            store.save(USER_ID, new HistoryCreateRequest("w" + i, BASE.plusDays(i), null, null));
+        }
+
+        List<HistoryResponse> first = store.findPage(USER_ID, null, 4);
+        // 첫 페이지를 읽은 뒤 더 최신 기록이 추가되어도 다음 페이지는 커서 이후만 반환한다.
+        store.save(USER_ID, new HistoryCreateRequest("newest", BASE.plusDays(30), null, null));
+        List<HistoryResponse> second = store.findPage(USER_ID, HistoryCursor.of(first.get(3)), 4);
+
+        assertThat(first).extracting(HistoryResponse::title).containsExactly("w9", "w8", "w7", "w6");
+        assertThat(second).extracting(HistoryResponse::title).containsExactly("w5", "w4", "w3", "w2");
+    }
+
+    private List<HistoryResponse> readAllPages(InMemoryHistoryStore store, int limit) {
+        List<HistoryResponse> all = new ArrayList<>();
+        HistoryCursor cursor = null;
+        while (true) {
+            List<HistoryResponse> page = store.findPage(USER_ID, cursor, limit);
+            all.addAll(page);
+            if (page.size() < limit) {
+                return all;
+            }
+            cursor = HistoryCursor.of(page.get(page.size() - 1));
+        }
+    }
+
+    private void assertNewestFirst(List<HistoryResponse> items) {
+        for (int i = 1; i < items.size(); i++) {
+            HistoryResponse previous = items.get(i - 1);
+            HistoryResponse current = items.get(i);
+            int compare = previous.startedAt().compareTo(current.startedAt());
+            assertThat(compare > 0 || (compare == 0 && previous.id() > current.id()))
+                    .as("%s should come before %s", previous, current)
+                    .isTrue();
+        }
+    }
+}
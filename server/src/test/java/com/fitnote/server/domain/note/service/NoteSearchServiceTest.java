@@ -0,0 +1,165 @@
+package com.fitnote.server.domain.note.service;
+
+import static com.fitnote.server.support.TestFixtures.set;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fitnote.server.common.journal.MemoryStoreJournals;
+import com.fitnote.server.domain.exercise.MuscleGroup;
+import com.fitnote.server.domain.note.dto.NoteHighlight;
+import com.fitnote.server.domain.note.dto.NoteSearchHit;
+import com.fitnote.server.domain.workout.dto.WorkoutCreateRequest;
+import com.fitnote.server.domain.workout.dto.WorkoutExerciseRequest;
+import com.fitnote.server.domain.workout.event.WorkoutChangedEvent;
+import com.fitnote.server.domain.workout.repository.WorkoutExerciseRepository;
+import com.fitnote.server.domain.workout.repository.WorkoutRepository;
+import com.fitnote.server.domain.workout.service.WorkoutService;
+import com.fitnote.server.support.SqlStatementRecorder;
+import com.fitnote.server.support.TestFixtures;
+
+@SpringBootTest
+@Import(TestFixtures.class)
+class NoteSearchServiceTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2024, 5, 6, 18, 0);
+
+    @Autowired
+    private NoteSearchService noteSearchService;
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private WorkoutRepository workoutRepository;
+
+    @Autowired
+    private WorkoutExerciseRepository workoutExerciseRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private Long userId;
+    private Long pressId;
+
+    @BeforeEach
+    void setUp() {
+        userId = fixtures.user("note").getId();
+        pressId = fixtures.exercise("Press", MuscleGroup.SHOULDERS);
+    }
+
+    @Test
+    void ranksNotesAndFollowsCommittedWorkouts() {
+        Long light = log(DAY, "가볍게 회복 운동", "어깨 상태 괜찮음");
+        Long hurt = log(DAY.plusDays(1), "오른쪽 어깨가 아팠다. 어깨 통증 때문에 중단", null);
+        log(DAY.plusDays(2), "스쿼트 PR", null);
+
+        List<NoteSearchHit> hits = noteSearchService.search(userId, "어깨 통증", 10);
+        assertThat(hits).extracting(NoteSearchHit::workoutId).containsExactly(hurt, light);
+        NoteSearchHit top = hits.get(0);
+        assertThat(top.highlights()).extracting(highlight -> top.snippet().substring(highlight.start(), highlight.end()))
+                .contains("어깨", "통증");
+        // 종목 메모도 같은 기록의 문서에 들어간다.
+        assertThat(hits.get(1).snippet()).contains("어깨 상태");
+
+        // 색인이 올라온 뒤에 생성/삭제된 기록도 커밋 후 반영된다.
+        Long later = log(DAY.plusDays(3), "어깨 통증 재발", null);
+        workoutService.deleteWorkout(userId, hurt);
+        assertThat(noteSearchService.search(userId, "어깨 통증", 10))
+                .extracting(NoteSearchHit::workoutId)
+                .containsExactly(later, light);
+        assertThat(noteSearchService.search(userId, "ＰＲ", 10)).hasSize(1);
+        assertThat(noteSearchService.search(userId, "...", 10)).isEmpty();
+    }
+
+    @Test
+    void highlightsAreOffsetsIntoTheSnippet() {
+        log(DAY, "벤치 " + "컨디션 보통 ".repeat(30) + "마지막 세트에서 팔꿈치 통증", null);
+
+        NoteSearchHit hit = noteSearchService.search(userId, "팔꿈치", 10).get(0);
+        assertThat(hit.snippet().length()).isLessThanOrEqualTo(80);
+        NoteHighlight highlight = hit.highlights().get(0);
+        assertThat(hit.snippet().substring(highlight.start(), highlight.end())).isEqualTo("팔꿈치");
+    }
+
+    @Test
+    void restoredIndexIsRebuiltWhenWorkoutsChangedWhileDown(@TempDir Path directory) {
+        Long first = log(DAY, "데드리프트 허리 뻐근", null);
+        MemoryStoreJournals journals = new MemoryStoreJournals(true, directory.toString(), 16);
+        assertThat(journaled(journals).search(userId, "허리", 10)).extracting(NoteSearchHit::workoutId)
+                .containsExactly(first);
+        journals.destroy();
+
+        // 이 인스턴스가 내려가 있는 동안 커밋된 기록
+        Long second = log(DAY.plusDays(1), "허리 보호대 착용", null);
+        MemoryStoreJournals restarted = new MemoryStoreJournals(true, directory.toString(), 16);
+        assertThat(journaled(restarted).search(userId, "허리", 10)).extracting(NoteSearchHit::workoutId)
+                .containsExactlyInAnyOrder(first, second);
+        restarted.destroy();
+    }
+
+    @Test
+    void changesAfterLoadAreRestoredWithoutRebuilding(@TempDir Path directory) {
+        Long first = log(DAY, "데드리프트 허리 뻐근", null);
+        MemoryStoreJournals journals = new MemoryStoreJournals(true, directory.toString(), 16);
+        NoteSearchService service = journaled(journals);
+        assertThat(service.search(userId, "허리", 10)).extracting(NoteSearchHit::workoutId).containsExactly(first);
+
+        // 이 인스턴스는 빈이 아니므로 커밋 후 이벤트를 직접 넘긴다.
+        Long second = log(DAY.plusDays(1), "허리 보호대 착용", null);
+        service.onWorkoutChanged(WorkoutChangedEvent.created(userId, second, DAY.plusDays(1), List.of("허리 보호대 착용")));
+        journals.destroy();
+
+        MemoryStoreJournals restarted = new MemoryStoreJournals(true, directory.toString(), 16);
+        NoteSearchService restored = journaled(restarted);
+        SqlStatementRecorder.reset();
+        assertThat(restored.search(userId, "허리", 10)).extracting(NoteSearchHit::workoutId)
+                .containsExactlyInAnyOrder(first, second);
+        // 버전 확인 1번 + 미리보기 2번. 메모를 다시 읽어 색인을 만들지 않는다.
+        assertThat(SqlStatementRecorder.statements()).hasSize(3);
+        restarted.destroy();
+    }
+
+    @Test
+    void restoredIndexIsRebuiltWhenOnlyExerciseNotesChanged(@TempDir Path directory) {
+        Long workoutId = log(DAY, "하체", "무릎 시큰거림");
+        MemoryStoreJournals journals = new MemoryStoreJournals(true, directory.toString(), 16);
+        assertThat(journaled(journals).search(userId, "무릎", 10)).hasSize(1);
+        journals.destroy();
+
+        // workouts 행은 그대로 두고 종목 메모만 바꾼다.
+        Long workoutExerciseId = workoutRepository.findExerciseRows(userId, List.of(workoutId)).get(0)
+                .workoutExerciseId();
+        transactionTemplate.executeWithoutResult(status -> workoutExerciseRepository.findById(workoutExerciseId)
+                .orElseThrow().setNotes("발목 통증"));
+
+        MemoryStoreJournals restarted = new MemoryStoreJournals(true, directory.toString(), 16);
+        NoteSearchService restored = journaled(restarted);
+        assertThat(restored.search(userId, "무릎", 10)).isEmpty();
+        assertThat(restored.search(userId, "발목", 10)).extracting(NoteSearchHit::workoutId).containsExactly(workoutId);
+        restarted.destroy();
+    }
+
+    private NoteSearchService journaled(MemoryStoreJournals journals) {
+        return new NoteSearchService(workoutRepository, journals, 100, 50, 100, 80);
+    }
+
+    private Long log(LocalDateTime startedAt, String notes, String exerciseNotes) {
+        return workoutService.create(userId, new WorkoutCreateRequest(
+                null, startedAt, null, notes, null,
+                List.of(new WorkoutExerciseRequest(pressId, exerciseNotes, null, List.of(set(40, 5, false)))))).id();
+    }
+}
@@ -0,0 +1,111 @@
+package com.fitnote.server.domain.record.service;
+
+import static com.fitnote.server.support.TestFixtures.set;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import com.fitnote.server.domain.exercise.Equipment;
+import com.fitnote.server.domain.exercise.Exercise;
+import com.fitnote.server.domain.exercise.MetricType;
+import com.fitnote.server.domain.exercise.MuscleGroup;
+import com.fitnote.server.domain.exercise.repository.ExerciseRepository;
+import com.fitnote.server.domain.record.PersonalRecordType;
+import com.fitnote.server.domain.record.dto.PersonalRecordHit;
+import com.fitnote.server.domain.workout.dto.WorkoutCreateResponse;
+import com.fitnote.server.domain.workout.dto.WorkoutSetRequest;
+import com.fitnote.server.domain.workout.service.WorkoutService;
+import com.fitnote.server.support.TestFixtures;
+
+@SpringBootTest
+@Import(TestFixtures.class)
+class PersonalRecordServiceTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2024, 5, 6, 18, 0);
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private PersonalRecordService personalRecordService;
+
+    private Long userId;
+    private Long benchId;
+
+    @BeforeEach
+    void setUp() {
+        userId = fixtures.user("record").getId();
+        benchId = fixtures.exercise("Bench", MuscleGroup.CHEST);
+    }
+
+    @Test
+    void recordsFollowCommittedSetsAndRebuildWhenHolderIsDeleted() {
+        // 이전 기록이 없으면 첫 세트는 기록으로 치지 않는다.
+        assertThat(fixtures.log(userId, benchId, DAY, set(60, 10, true), set(100, 5, false)).records())
+                .isEmpty();
+
+        WorkoutCreateResponse second = fixtures.log(userId, benchId, DAY.plusDays(2),
+                set(100, 6, false), set(90, 5, false), set(100, 6, false));
+        assertThat(second.records()).hasSize(1);
+        PersonalRecordHit hit = second.records().get(0);
+        assertThat(hit.setId()).isEqualTo(second.exercises().get(0).setIds().get(0));
+        assertThat(hit.exerciseId()).isEqualTo(benchId);
+        assertThat(hit.types()).containsExactly(
+                PersonalRecordType.MAX_WEIGHT_AT_REPS,
+                PersonalRecordType.MAX_REPS_AT_WEIGHT,
+                PersonalRecordType.BEST_E1RM);
+
+        // 기록을 보유한 세트를 모두 지우면 기록표를 다시 만들어 100kg x 6회가 다시 기록이 된다.
+        workoutService.deleteWorkout(userId, second.id());
+        assertThat(fixtures.log(userId, benchId, DAY.plusDays(4), set(100, 6, false)).records())
+                .singleElement()
+                .extracting(PersonalRecordHit::types)
+                .isEqualTo(List.of(
+                        PersonalRecordType.MAX_WEIGHT_AT_REPS,
+                        PersonalRecordType.MAX_REPS_AT_WEIGHT,
+                        PersonalRecordType.BEST_E1RM));
+    }
+
+    @Test
+    void bodyweightSetsRecordMostRepsButNotDuration() {
+        Long pullUpId = exerciseRepository.save(Exercise.builder()
+                .name("Pull Up " + System.nanoTime())
+                .primaryMuscle(MuscleGroup.BACK)
+                .equipment(Equipment.BODYWEIGHT)
+                .metricType(MetricType.BODYWEIGHT_REPS)
+                .isPublic(Boolean.TRUE)
+                .build()).getId();
+        assertThat(fixtures.log(userId, pullUpId, DAY, reps(8, 30)).records()).isEmpty();
+
+        // 반복 수만 비교하며, 맨몸 세트에 남긴 durationSec는 기록이 아니다.
+        WorkoutCreateResponse more = fixtures.log(userId, pullUpId, DAY.plusDays(2), reps(10, 60), reps(9, 90));
+        assertThat(more.records())
+                .singleElement()
+                .satisfies(hit -> {
+                    assertThat(hit.setId()).isEqualTo(more.exercises().get(0).setIds().get(0));
+                    assertThat(hit.types()).containsExactly(PersonalRecordType.MAX_REPS_AT_WEIGHT);
+                });
+
+        // 기록표를 DB에서 다시 만들어도 같은 기준으로 판정한다.
+        personalRecordService.invalidate(userId, pullUpId);
+        assertThat(fixtures.log(userId, pullUpId, DAY.plusDays(4), reps(10, 120)).records()).isEmpty();
+        assertThat(fixtures.log(userId, pullUpId, DAY.plusDays(6), reps(11, null)).records()).hasSize(1);
+    }
+
+    private static WorkoutSetRequest reps(int reps, Integer durationSec) {
+        return new WorkoutSetRequest(null, reps, durationSec, null, null, null, false, null, null, null);
+    }
+}
@@ -0,0 +1,122 @@
+package com.fitnote.server.domain.rollup.service;
+
+import static com.fitnote.server.support.TestFixtures.set;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import com.fitnote.server.domain.auth.UnitSystem;
+import com.fitnote.server.domain.exercise.MuscleGroup;
+import com.fitnote.server.domain.rollup.RollupPeriod;
+import com.fitnote.server.domain.rollup.dto.MuscleSetCount;
+import com.fitnote.server.domain.rollup.dto.MuscleWeekResponse;
+import com.fitnote.server.domain.settings.dto.SettingsUpdateRequest;
+import com.fitnote.server.domain.settings.service.SettingsService;
+import com.fitnote.server.domain.workout.dto.WorkoutCreateResponse;
+import com.fitnote.server.domain.workout.service.WorkoutService;
+import com.fitnote.server.support.TestFixtures;
+
+@SpringBootTest
+@Import(TestFixtures.class)
+class MuscleVolumeServiceTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2024, 5, 6, 18, 0);
+
+    @Autowired
+    private MuscleVolumeService muscleVolumeService;
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private SettingsService settingsService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private Long userId;
+    private Long benchId;
+    private Long squatId;
+
+    @BeforeEach
+    void setUp() {
+        userId = fixtures.user("muscles").getId();
+        // 주 근육이 보조 근육에도 들어 있으면 한 번만 센다.
+        benchId = fixtures.exercise("Bench", MuscleGroup.CHEST,
+                EnumSet.of(MuscleGroup.CHEST, MuscleGroup.ARMS, MuscleGroup.SHOULDERS));
+        squatId = fixtures.exercise("Squat", MuscleGroup.LEGS, EnumSet.of(MuscleGroup.CORE));
+    }
+
+    @Test
+    void countsPrimaryAndSecondarySetsPerWeekAndFollowsSetChanges() {
+        WorkoutCreateResponse monday = fixtures.log(userId, benchId, MONDAY,
+                set(40, 5, true), set(80, 5, false), set(80, 5, false), set(80, 5, false));
+        fixtures.log(userId, squatId, MONDAY.plusDays(7), set(100, 5, false), set(100, 5, false));
+
+        LocalDate from = MONDAY.toLocalDate().plusDays(2);
+        List<MuscleWeekResponse> weeks = muscleVolumeService.findWeeks(userId, from, from.plusDays(14));
+        assertThat(weeks).extracting(MuscleWeekResponse::weekStart).containsExactly(
+                MONDAY.toLocalDate(), MONDAY.toLocalDate().plusWeeks(1), MONDAY.toLocalDate().plusWeeks(2));
+        assertThat(weeks.get(0).muscles())
+                .extracting(MuscleSetCount::muscle, MuscleSetCount::primarySets, MuscleSetCount::secondarySets)
+                .containsExactly(
+                        tuple(MuscleGroup.CHEST, 3, 0),
+                        tuple(MuscleGroup.SHOULDERS, 0, 3),
+                        tuple(MuscleGroup.ARMS, 0, 3));
+        assertThat(weeks.get(0).muscles().get(1).sets()).isEqualByComparingTo("1.5");
+        assertThat(weeks.get(1).muscles()).extracting(MuscleSetCount::muscle)
+                .containsExactly(MuscleGroup.LEGS, MuscleGroup.CORE);
+        assertThat(weeks.get(2).muscles()).isEmpty();
+
+        // 캐시된 주도 세트가 바뀌면 커밋 후 다시 계산된다.
+        workoutService.deleteSet(userId, monday.id(), monday.exercises().get(0).setIds().get(1));
+        assertThat(muscleVolumeService.findWeeks(userId, from, from).get(0).muscles().get(0).primarySets())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void splitsWeeksAtUserMidnightAndRebuildsWhenZoneChanges() {
+        // 서버 시간대와 오프셋이 다른 사용자 시간대를 고른다. (서버가 서울이면 로스앤젤레스)
+        ZoneId seoul = ZoneId.of("Asia/Seoul");
+        ZoneId userZone = seoul.getRules().getOffset(MONDAY.toInstant(ZoneOffset.UTC))
+                .equals(ZoneId.systemDefault().getRules().getOffset(MONDAY.toInstant(ZoneOffset.UTC)))
+                ? ZoneId.of("America/Los_Angeles") : seoul;
+        Long farUserId = fixtures.user("muscles-zone", UnitSystem.KG, userZone.getId()).getId();
+        LocalDate monday = MONDAY.toLocalDate();
+
+        // 사용자 시간대로 일요일 23:30과 월요일 00:30. 서로 다른 주에 들어가야 한다.
+        ZonedDateTime sundayNight = monday.minusDays(1).atTime(23, 30).atZone(userZone);
+        ZonedDateTime mondayMorning = sundayNight.plusHours(1);
+        fixtures.log(farUserId, benchId, serverTime(sundayNight), set(80, 5, false));
+        fixtures.log(farUserId, benchId, serverTime(mondayMorning), set(80, 5, false), set(80, 5, false));
+
+        List<MuscleWeekResponse> local = muscleVolumeService.findWeeks(farUserId, monday.minusDays(1), monday);
+        assertThat(local).extracting(MuscleWeekResponse::weekStart).containsExactly(monday.minusWeeks(1), monday);
+        assertThat(local).extracting(week -> week.muscles().get(0).primarySets()).containsExactly(1, 2);
+
+        // UTC로 바꾸면 두 기록이 같은 주가 되도록 캐시를 새로 만든다.
+        settingsService.update(farUserId, new SettingsUpdateRequest(UnitSystem.KG, "UTC", null, null, null));
+        LocalDate utcWeek = RollupPeriod.WEEK.startOf(sundayNight.withZoneSameInstant(ZoneOffset.UTC).toLocalDate());
+        assertThat(RollupPeriod.WEEK.startOf(mondayMorning.withZoneSameInstant(ZoneOffset.UTC).toLocalDate()))
+                .isEqualTo(utcWeek);
+        List<MuscleWeekResponse> utc = muscleVolumeService.findWeeks(farUserId, utcWeek, utcWeek);
+        assertThat(utc.get(0).muscles().get(0).primarySets()).isEqualTo(3);
+    }
+
+    private static LocalDateTime serverTime(ZonedDateTime userTime) {
+        return userTime.withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+}
@@ -0,0 +1,138 @@
+package com.fitnote.server.domain.rollup.service;
+
+import static com.fitnote.server.support.TestFixtures.set;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import com.fitnote.server.domain.auth.UnitSystem;
+import com.fitnote.server.domain.exercise.MuscleGroup;
+import com.fitnote.server.domain.rollup.RollupPeriod;
+import com.fitnote.server.domain.rollup.dto.ExerciseRollupResponse;
+import com.fitnote.server.domain.settings.dto.SettingsUpdateRequest;
+import com.fitnote.server.domain.settings.service.SettingsService;
+import com.fitnote.server.domain.workout.dto.WorkoutCreateResponse;
+import com.fitnote.server.domain.workout.service.WorkoutService;
+import com.fitnote.server.support.TestFixtures;
+
+@SpringBootTest
+@Import(TestFixtures.class)
+class RollupServiceTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2024, 5, 6, 18, 0);
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private RollupService rollupService;
+
+    @Autowired
+    private SettingsService settingsService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private Long userId;
+    private Long squatId;
+
+    @BeforeEach
+    void setUp() {
+        userId = fixtures.user("rollup").getId();
+        squatId = fixtures.exercise("Squat", MuscleGroup.LEGS);
+    }
+
+    @Test
+    void rollupsFollowInsertsEditsAndDeletes() {
+        WorkoutCreateResponse monday = fixtures.log(userId, squatId, MONDAY,
+                set(60, 10, true), set(100, 5, false), set(90, 8, false));
+        fixtures.log(userId, squatId, MONDAY.plusDays(2), set(95, 6, false));
+
+        ExerciseRollupResponse week = weekly();
+        assertThat(week.setCount()).isEqualTo(3);
+        assertThat(week.totalReps()).isEqualTo(19);
+        assertThat(week.totalVolume()).isEqualByComparingTo("1790");
+        assertThat(week.maxWeight()).isEqualByComparingTo("100");
+        assertThat(week.bestEpley()).isEqualByComparingTo("116.67");
+        assertThat(rollupService.verify(userId, false)).isZero();
+
+        // 최고 중량 세트를 낮추면 최댓값을 다시 계산해야 한다.
+        Long heaviestSetId = monday.exercises().get(0).setIds().get(1);
+        workoutService.updateSet(userId, monday.id(), heaviestSetId, set(80, 5, false));
+        assertThat(weekly().maxWeight()).isEqualByComparingTo("95");
+        assertThat(rollupService.verify(userId, false)).isZero();
+
+        workoutService.deleteSet(userId, monday.id(), monday.exercises().get(0).setIds().get(2));
+        assertThat(rollupService.verify(userId, false)).isZero();
+
+        workoutService.deleteWorkout(userId, monday.id());
+        assertThat(weekly().setCount()).isEqualTo(1);
+        assertThat(rollupService.findRollups(userId, RollupPeriod.DAY, MONDAY.toLocalDate(),
+                MONDAY.toLocalDate(), squatId)).isEmpty();
+        assertThat(rollupService.verify(userId, false)).isZero();
+    }
+
+    @Test
+    void bucketsByUserZoneAndRebucketsWhenZoneChanges() {
+        // 서버 시간대와 오프셋이 다른 사용자 시간대를 고른다. (서버가 서울이면 로스앤젤레스)
+        ZoneId seoul = ZoneId.of("Asia/Seoul");
+        ZoneId userZone = seoul.getRules().getOffset(MONDAY.toInstant(ZoneOffset.UTC))
+                .equals(ZoneId.systemDefault().getRules().getOffset(MONDAY.toInstant(ZoneOffset.UTC)))
+                ? ZoneId.of("America/Los_Angeles") : seoul;
+        Long farUserId = fixtures.user("rollup-zone", UnitSystem.KG, userZone.getId()).getId();
+        LocalDate monday = MONDAY.toLocalDate();
+
+        // 사용자 시간대로 자정 30분 전과 30분 뒤. 달력과 같은 날짜에 쌓여야 한다.
+        ZonedDateTime beforeMidnight = monday.atTime(23, 30).atZone(userZone);
+        ZonedDateTime afterMidnight = beforeMidnight.plusHours(1);
+        fixtures.log(farUserId, squatId, serverTime(beforeMidnight), set(100, 5, false));
+        WorkoutCreateResponse late = fixtures.log(farUserId, squatId, serverTime(afterMidnight), set(100, 3, false));
+        assertThat(daily(farUserId, monday.minusDays(1), monday.plusDays(2)))
+                .extracting(ExerciseRollupResponse::periodStart, ExerciseRollupResponse::setCount)
+                .containsExactly(tuple(monday, 1), tuple(monday.plusDays(1), 1));
+
+        // 수정 경로의 재계산도 사용자 날짜 경계로 원본 세트를 읽는다.
+        workoutService.updateSet(farUserId, late.id(), late.exercises().get(0).setIds().get(0), set(90, 3, false));
+        List<ExerciseRollupResponse> tuesday = daily(farUserId, monday.plusDays(1), monday.plusDays(1));
+        assertThat(tuesday).hasSize(1);
+        assertThat(tuesday.get(0).maxWeight()).isEqualByComparingTo("90");
+        assertThat(rollupService.verify(farUserId, false)).isZero();
+
+        // UTC로 바꾸면 두 기록이 같은 날이 되도록 설정 변경 트랜잭션에서 다시 나눈다.
+        settingsService.update(farUserId, new SettingsUpdateRequest(UnitSystem.KG, "UTC", null, null, null));
+        LocalDate utcDay = beforeMidnight.withZoneSameInstant(ZoneOffset.UTC).toLocalDate();
+        assertThat(afterMidnight.withZoneSameInstant(ZoneOffset.UTC).toLocalDate()).isEqualTo(utcDay);
+        assertThat(daily(farUserId, monday.minusDays(1), monday.plusDays(2)))
+                .extracting(ExerciseRollupResponse::periodStart, ExerciseRollupResponse::setCount)
+                .containsExactly(tuple(utcDay, 2));
+        assertThat(rollupService.verify(farUserId, false)).isZero();
+    }
+
+    private List<ExerciseRollupResponse> daily(Long userId, LocalDate from, LocalDate to) {
+        return rollupService.findRollups(userId, RollupPeriod.DAY, from, to, squatId);
+    }
+
+    private static LocalDateTime serverTime(ZonedDateTime userTime) {
+        return userTime.withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+
+    private ExerciseRollupResponse weekly() {
+        LocalDate day = MONDAY.toLocalDate();
+        List<ExerciseRollupResponse> rollups =
+                rollupService.findRollups(userId, RollupPeriod.WEEK, day, day.plusDays(6), squatId);
+        assertThat(rollups).hasSize(1);
+        return rollups.get(0);
+    }
+}
@@ -0,0 +1,75 @@
+package com.fitnote.server.domain.routine.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fitnote.server.common.journal.JournaledState;
+import com.fitnote.server.common.journal.JsonCodec;
+import com.fitnote.server.common.journal.MemoryStoreJournals;
+import com.fitnote.server.domain.routine.dto.RoutineRequest;
+import com.fitnote.server.domain.routine.dto.RoutineResponse;
+
+class RoutineServiceTest {
+
+    private static final long USER_ID = 1L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void journaledChangesSurviveRestart() {
+        MemoryStoreJournals journals = journals();
+        RoutineService service = new RoutineService(journals, objectMapper);
+        RoutineResponse push = service.create(USER_ID, new RoutineRequest("Push", null));
+        RoutineResponse pull = service.create(USER_ID, new RoutineRequest("Pull", null));
+        service.update(USER_ID, push.id(), new RoutineRequest("Push Day", "bench"));
+        service.delete(USER_ID, pull.id());
+        // 없는 루틴의 수정은 저널에 남지 않는다.
+        assertThatThrownBy(() -> service.update(USER_ID, pull.id(), new RoutineRequest("Pull Day", null)))
+                .isInstanceOf(ResponseStatusException.class);
+        journals.destroy();
+
+        MemoryStoreJournals restarted = journals();
+        RoutineService restored = new RoutineService(restarted, objectMapper);
+        assertThat(restored.findAllByUser(USER_ID))
+                .containsExactly(new RoutineResponse(push.id(), "Push Day", "bench"));
+        restarted.destroy();
+    }
+
+    @Test
+    void replaySkipsChangesToMissingRoutine() throws Exception {
+        JsonCodec<RoutineService.RoutineEvent> codec = new JsonCodec<>(objectMapper, RoutineService.RoutineEvent.class);
+        RoutineResponse kept = new RoutineResponse(5L, "Legs", null);
+        try (JournaledState state = JournaledState.open(directory, "routines", 16,
+                buffer -> { }, payload -> { }, () -> new byte[0])) {
+            for (RoutineService.RoutineEvent event : new RoutineService.RoutineEvent[] {
+                    new RoutineService.RoutineEvent(RoutineService.EventType.UPDATE, USER_ID,
+                            new RoutineResponse(3L, "Gone", null)),
+                    new RoutineService.RoutineEvent(RoutineService.EventType.CREATE, USER_ID, kept),
+                    new RoutineService.RoutineEvent(RoutineService.EventType.DELETE, USER_ID,
+                            new RoutineResponse(4L, "Gone", null))}) {
+                state.write(USER_ID, () -> event, codec::encode, ignored -> { });
+            }
+        }
+
+        // 스냅샷과 어긋난 저널이어도 기동을 막지 않고 대상 없는 수정/삭제만 건너뛴다.
+        MemoryStoreJournals journals = journals();
+        RoutineService restored = new RoutineService(journals, objectMapper);
+        assertThat(restored.findAllByUser(USER_ID)).containsExactly(kept);
+        assertThat(restored.create(USER_ID, new RoutineRequest("Arms", null)).id()).isEqualTo(6L);
+        journals.destroy();
+    }
+
+    private MemoryStoreJournals journals() {
+        return new MemoryStoreJournals(true, directory.toString(), 16);
+    }
+}
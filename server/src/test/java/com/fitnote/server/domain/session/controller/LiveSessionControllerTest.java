@@ -0,0 +1,70 @@
+package com.fitnote.server.domain.session.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fitnote.server.common.weight.Weight;
+import com.fitnote.server.domain.auth.User;
+import com.fitnote.server.domain.exercise.MuscleGroup;
+import com.fitnote.server.domain.session.dto.SessionExerciseRequest;
+import com.fitnote.server.domain.session.dto.SessionStartRequest;
+import com.fitnote.server.domain.session.service.LiveSessionService;
+import com.fitnote.server.domain.workout.dto.WorkoutSetRequest;
+import com.fitnote.server.support.TestFixtures;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestFixtures.class)
+class LiveSessionControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LiveSessionService liveSessionService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private Long userId;
+    private String accessToken;
+    private Long benchId;
+
+    @BeforeEach
+    void setUp() {
+        User user = fixtures.user("session-sse");
+        userId = user.getId();
+        accessToken = fixtures.accessToken(user);
+        benchId = fixtures.exercise("Bench", MuscleGroup.CHEST);
+    }
+
+    @Test
+    void streamsStateChangesUntilFinished() throws Exception {
+        Long sessionId = liveSessionService.start(userId, new SessionStartRequest("Push")).sessionId();
+        MvcResult stream = mockMvc.perform(get("/api/sessions/{sessionId}/events", sessionId)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        Long bench = liveSessionService.addExercise(userId, sessionId, new SessionExerciseRequest(benchId, null))
+                .exercises().get(0).workoutExerciseId();
+        liveSessionService.putSet(userId, sessionId, bench, 0, new WorkoutSetRequest(
+                new Weight(10000), 5, null, null, null, null, false, 0, null, null));
+        liveSessionService.finish(userId, sessionId);
+
+        String events = stream.getResponse().getContentAsString();
+        assertThat(events).contains("event:state", "\"reps\":5", "event:finished");
+        assertThat(events.indexOf("event:finished")).isGreaterThan(events.lastIndexOf("event:state"));
+    }
+}
@@ -0,0 +1,198 @@
+package com.fitnote.server.domain.session.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fitnote.server.common.weight.Weight;
+import com.fitnote.server.domain.exercise.MuscleGroup;
+import com.fitnote.server.domain.session.dto.LiveSessionResponse;
+import com.fitnote.server.domain.session.dto.SessionExerciseRequest;
+import com.fitnote.server.domain.session.dto.SessionStartRequest;
+import com.fitnote.server.domain.settings.UserContext;
+import com.fitnote.server.domain.workout.dto.WorkoutDetailResponse;
+import com.fitnote.server.domain.workout.dto.WorkoutSetDetail;
+import com.fitnote.server.domain.workout.dto.WorkoutSetRequest;
+import com.fitnote.server.domain.workout.service.WorkoutService;
+import com.fitnote.server.support.TestFixtures;
+
+@SpringBootTest
+@Import(TestFixtures.class)
+class LiveSessionServiceTest {
+
+    @Autowired
+    private LiveSessionService liveSessionService;
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private Long userId;
+    private Long benchId;
+
+    @BeforeEach
+    void setUp() {
+        userId = fixtures.user("session").getId();
+        benchId = fixtures.exercise("Bench", MuscleGroup.CHEST);
+    }
+
+    @Test
+    void coalescesSetEditsUntilFlush() {
+        Long sessionId = liveSessionService.start(userId, new SessionStartRequest("Push")).sessionId();
+        assertThatThrownBy(() -> liveSessionService.start(userId, new SessionStartRequest("Again")))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+        Long bench = liveSessionService.addExercise(userId, sessionId, new SessionExerciseRequest(benchId, null))
+                .exercises().get(0).workoutExerciseId();
+
+        liveSessionService.putSet(userId, sessionId, bench, 0, set(100, 5, null));
+        liveSessionService.putSet(userId, sessionId, bench, 0, set(100, 6, null));
+        liveSessionService.putSet(userId, sessionId, bench, 0, set(100, 7, null));
+        LiveSessionResponse state = liveSessionService.putSet(userId, sessionId, bench, 1, set(90, 8, 120));
+        assertThat(state.pendingChanges()).isEqualTo(2);
+        assertThat(state.restEndsAt()).isNotNull();
+        assertThat(workoutService.findDetail(userId, sessionId).exercises().get(0).sets()).isEmpty();
+
+        liveSessionService.flushAll();
+        assertThat(sets(sessionId)).extracting(WorkoutSetDetail::reps).containsExactly(7, 8);
+        LiveSessionResponse flushed = liveSessionService.current(userId);
+        assertThat(flushed.pendingChanges()).isZero();
+        assertThat(flushed.exercises().get(0).sets()).allSatisfy(set -> assertThat(set.id()).isNotNull());
+
+        // 저장된 세트의 수정/삭제와, 저장 전에 추가했다 지운 세트
+        liveSessionService.putSet(userId, sessionId, bench, 0, set(105, 5, null));
+        liveSessionService.deleteSet(userId, sessionId, bench, 1);
+        liveSessionService.putSet(userId, sessionId, bench, 2, set(80, 10, null));
+        liveSessionService.deleteSet(userId, sessionId, bench, 2);
+        assertThat(liveSessionService.current(userId).pendingChanges()).isEqualTo(2);
+        liveSessionService.flushAll();
+        assertThat(sets(sessionId)).extracting(set -> set.weight().hundredths()).containsExactly(10500);
+
+        // 종료는 남은 변경을 저장하고 세션을 닫는다.
+        liveSessionService.putSet(userId, sessionId, bench, 1, set(95, 5, null));
+        WorkoutDetailResponse finished = liveSessionService.finish(userId, sessionId);
+        assertThat(finished.endedAt()).isNotNull();
+        assertThat(finished.exercises().get(0).sets()).extracting(WorkoutSetDetail::reps).containsExactly(5, 5);
+        assertThatThrownBy(() -> liveSessionService.current(userId))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+    }
+
+    @Test
+    void restTimerUsesSettingsDefault() {
+        Long sessionId = liveSessionService.start(userId, new SessionStartRequest(null)).sessionId();
+        Long bench = liveSessionService.addExercise(userId, sessionId, new SessionExerciseRequest(benchId, null))
+                .exercises().get(0).workoutExerciseId();
+
+        long before = System.currentTimeMillis();
+        LiveSessionResponse state = liveSessionService.putSet(userId, sessionId, bench, 0, set(60, 10, null));
+        assertThat(state.restEndsAt().toEpochMilli() - before)
+                .isBetween(UserContext.DEFAULT_REST_SEC * 1000L - 1000, UserContext.DEFAULT_REST_SEC * 1000L + 1000);
+        assertThat(liveSessionService.putSet(userId, sessionId, bench, 1, set(60, 10, 0)).restEndsAt()).isNull();
+
+        liveSessionService.finish(userId, sessionId);
+    }
+
+    @Test
+    void finishRejectsWritesThatArriveAfterTheLastFlush() {
+        Long sessionId = liveSessionService.start(userId, new SessionStartRequest("Push")).sessionId();
+        Long bench = addBench(sessionId);
+        liveSessionService.putSet(userId, sessionId, bench, 0, set(100, 5, null));
+
+        WorkoutDetailResponse finished = liveSessionService.finish(userId, sessionId);
+        assertThat(finished.endedAt()).isNotNull();
+        assertThat(finished.exercises().get(0).sets()).extracting(WorkoutSetDetail::reps).containsExactly(5);
+        assertThatThrownBy(() -> liveSessionService.putSet(userId, sessionId, bench, 1, set(100, 5, null)))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+        assertThatThrownBy(() -> liveSessionService.finish(userId, sessionId))
+                .isInstanceOf(ResponseStatusException.class);
+
+        // 종료 직전에 세션을 집어 든 요청은 모니터 안에서 거절된다.
+        LiveSession session = new LiveSession(userId, sessionId, null, LocalDateTime.now());
+        assertThat(session.close()).isTrue();
+        assertThat(session.close()).isFalse();
+        assertThatThrownBy(() -> session.putSet(bench, 0, set(100, 5, null), null))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+        assertThatThrownBy(() -> session.removeSet(bench, 0))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+    }
+
+    @Test
+    void shutdownFlushesPendingSets() {
+        Long sessionId = liveSessionService.start(userId, new SessionStartRequest(null)).sessionId();
+        Long bench = addBench(sessionId);
+
+        liveSessionService.putSet(userId, sessionId, bench, 0, set(100, 5, null));
+        liveSessionService.onShutdown();
+        assertThat(sets(sessionId)).extracting(WorkoutSetDetail::reps).containsExactly(5);
+
+        // 종료 대기 중에 처리된 요청의 변경은 빈 소멸 시 저장된다.
+        liveSessionService.putSet(userId, sessionId, bench, 1, set(100, 4, null));
+        liveSessionService.destroy();
+        assertThat(sets(sessionId)).extracting(WorkoutSetDetail::reps).containsExactly(5, 4);
+        assertThat(liveSessionService.current(userId).pendingChanges()).isZero();
+
+        liveSessionService.finish(userId, sessionId);
+    }
+
+    @Test
+    void sessionIsDiscardedWhenItsWorkoutIsDeleted() {
+        Long sessionId = liveSessionService.start(userId, new SessionStartRequest(null)).sessionId();
+        Long bench = addBench(sessionId);
+        liveSessionService.putSet(userId, sessionId, bench, 0, set(100, 5, null));
+
+        workoutService.deleteWorkout(userId, sessionId);
+        assertThatThrownBy(() -> liveSessionService.current(userId))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+        liveSessionService.flushAll();
+
+        Long next = liveSessionService.start(userId, new SessionStartRequest(null)).sessionId();
+        assertThat(next).isNotEqualTo(sessionId);
+        liveSessionService.abandon(userId, next);
+    }
+
+    @Test
+    void abandonDropsUnsavedChanges() {
+        Long sessionId = liveSessionService.start(userId, new SessionStartRequest(null)).sessionId();
+        Long bench = addBench(sessionId);
+        liveSessionService.putSet(userId, sessionId, bench, 0, set(100, 5, null));
+        liveSessionService.flushAll();
+        liveSessionService.putSet(userId, sessionId, bench, 1, set(100, 4, null));
+
+        liveSessionService.abandon(userId, sessionId);
+        assertThat(sets(sessionId)).extracting(WorkoutSetDetail::reps).containsExactly(5);
+        assertThatThrownBy(() -> liveSessionService.abandon(userId, sessionId))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+    }
+
+    private Long addBench(Long sessionId) {
+        return liveSessionService.addExercise(userId, sessionId, new SessionExerciseRequest(benchId, null))
+                .exercises().get(0).workoutExerciseId();
+    }
+
+    private List<WorkoutSetDetail> sets(Long workoutId) {
+        return workoutService.findDetail(userId, workoutId).exercises().get(0).sets();
+    }
+
+    private static WorkoutSetRequest set(int weight, int reps, Integer restSec) {
+        return new WorkoutSetRequest(
+                new Weight(weight * 100), reps, null, null, null, null, false, restSec, null, null);
+    }
+}
@@ -0,0 +1,114 @@
+package com.fitnote.server.domain.settings.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fitnote.server.domain.auth.User;
+import com.fitnote.server.domain.auth.repository.UserRepository;
+import com.fitnote.server.domain.calendar.service.CalendarService;
+import com.fitnote.server.domain.settings.UserContext;
+import com.fitnote.server.support.TestFixtures;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestFixtures.class)
+class UserContextServiceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserContextService userContextService;
+
+    @Autowired
+    private CalendarService calendarService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private Long userId;
+    private String accessToken;
+
+    @BeforeEach
+    void setUp() {
+        User user = fixtures.user("settings");
+        userId = user.getId();
+        accessToken = fixtures.accessToken(user);
+    }
+
+    @Test
+    void updateReplacesCachedContext() throws Exception {
+        mockMvc.perform(get("/api/settings")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.unitSystem").value("KG"))
+                .andExpect(jsonPath("$.timezone").value("Asia/Seoul"))
+                .andExpect(jsonPath("$.defaultRestSec").value(UserContext.DEFAULT_REST_SEC))
+                .andExpect(jsonPath("$.showWarmup").value(true));
+        UserContext before = userContextService.get(userId);
+        assertThat(userContextService.get(userId)).isSameAs(before);
+
+        mockMvc.perform(put("/api/settings")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"unitSystem": "LB", "timezone": "America/New_York",
+                                 "defaultRestSec": 120, "roundingStep": 250, "showWarmup": false}
+                                """))
+                .andExpect(status().isOk());
+
+        UserContext after = userContextService.get(userId);
+        assertThat(after.version()).isGreaterThan(before.version());
+        assertThat(after.zone()).isEqualTo(ZoneId.of("America/New_York"));
+        assertThat(after.weightFormat().pounds()).isTrue();
+        assertThat(after.weightFormat().roundingStep()).isEqualTo(250);
+        assertThat(calendarService.findYear(userId, null).timezone()).isEqualTo("America/New_York");
+    }
+
+    @Test
+    void rejectsUnknownTimezone() throws Exception {
+        mockMvc.perform(put("/api/settings")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"unitSystem": "KG", "timezone": "Mars/Olympus"}
+                                """))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void pollPicksUpChangesFromOtherInstances() {
+        assertThat(calendarService.findYear(userId, null).timezone()).isEqualTo("Asia/Seoul");
+
+        // 다른 인스턴스의 변경: 이 인스턴스에는 이벤트가 오지 않는다.
+        User user = userRepository.findById(userId).orElseThrow();
+        user.setTimezone("Europe/London");
+        user.setSettingsVersion(5L);
+        user.setSettingsUpdatedAt(LocalDateTime.now());
+        userRepository.save(user);
+
+        userContextService.pollChanges();
+        assertThat(userContextService.get(userId).zone()).isEqualTo(ZoneId.of("Europe/London"));
+        assertThat(userContextService.get(userId).version()).isEqualTo(5L);
+        assertThat(calendarService.findYear(userId, null).timezone()).isEqualTo("Europe/London");
+    }
+}
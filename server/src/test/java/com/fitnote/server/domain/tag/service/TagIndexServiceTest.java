@@ -0,0 +1,103 @@
+package com.fitnote.server.domain.tag.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import com.fitnote.server.domain.tag.TagMatchMode;
+import com.fitnote.server.domain.tag.dto.TagCreateRequest;
+import com.fitnote.server.domain.workout.dto.WorkoutCreateRequest;
+import com.fitnote.server.domain.workout.dto.WorkoutDetailResponse;
+import com.fitnote.server.domain.workout.dto.WorkoutPageResponse;
+import com.fitnote.server.domain.workout.service.WorkoutService;
+import com.fitnote.server.support.TestFixtures;
+
+@SpringBootTest
+@Import(TestFixtures.class)
+class TagIndexServiceTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2024, 5, 6, 18, 0);
+
+    @Autowired
+    private TagIndexService tagIndexService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = fixtures.user("tag").getId();
+    }
+
+    @Test
+    void filtersByTagAlgebraAndFollowsCommittedChanges() {
+        Long push = tagService.create(userId, new TagCreateRequest("push")).id();
+        Long heavy = tagService.create(userId, new TagCreateRequest("heavy")).id();
+        Long first = log(DAY);
+        Long second = log(DAY.plusDays(1));
+        Long third = log(DAY.plusDays(2));
+        tagService.attach(userId, first, push);
+        tagService.attach(userId, first, heavy);
+        tagService.attach(userId, second, push);
+
+        assertThat(ids(find(TagMatchMode.ALL, null, "push", "heavy"))).containsExactly(first);
+        assertThat(ids(find(TagMatchMode.ANY, null, "push", "heavy"))).containsExactly(second, first);
+        assertThat(ids(find(TagMatchMode.NONE, null, "push"))).containsExactly(third);
+        assertThat(find(TagMatchMode.ALL, null, "push", "missing").items()).isEmpty();
+
+        // 인덱스가 올라온 뒤의 변경도 커밋 후 반영된다.
+        tagService.attach(userId, third, heavy);
+        tagService.detach(userId, first, heavy);
+        workoutService.deleteWorkout(userId, second);
+        assertThat(ids(find(TagMatchMode.ANY, null, "push", "heavy"))).containsExactly(third, first);
+        assertThat(ids(find(TagMatchMode.ALL, null, "push", "heavy"))).isEmpty();
+        assertThat(tagIndexService.verify(userId)).isZero();
+    }
+
+    @Test
+    void pagesNewestFirstWithCursor() {
+        Long push = tagService.create(userId, new TagCreateRequest("push")).id();
+        for (int i = 0; i < 5; i++) {
+            tagService.attach(userId, log(DAY.plusDays(i)), push);
+        }
+
+        WorkoutPageResponse firstPage = tagIndexService.findWorkouts(userId, List.of("push"), TagMatchMode.ALL, null, 3);
+        assertThat(firstPage.items()).extracting(WorkoutDetailResponse::startedAt)
+                .containsExactly(DAY.plusDays(4), DAY.plusDays(3), DAY.plusDays(2));
+        assertThat(firstPage.nextCursor()).isNotNull();
+
+        WorkoutPageResponse secondPage = tagIndexService.findWorkouts(
+                userId, List.of("push"), TagMatchMode.ALL, firstPage.nextCursor(), 3);
+        assertThat(secondPage.items()).extracting(WorkoutDetailResponse::startedAt)
+                .containsExactly(DAY.plusDays(1), DAY);
+        assertThat(secondPage.nextCursor()).isNull();
+    }
+
+    private WorkoutPageResponse find(TagMatchMode mode, String cursor, String... tags) {
+        return tagIndexService.findWorkouts(userId, List.of(tags), mode, cursor, 20);
+    }
+
+    private Long log(LocalDateTime startedAt) {
+        return workoutService.create(userId, new WorkoutCreateRequest(
+                null, startedAt, null, null, null, List.of())).id();
+    }
+
+    private static List<Long> ids(WorkoutPageResponse page) {
+        return page.items().stream().map(WorkoutDetailResponse::id).toList();
+    }
+}
@@ -0,0 +1,121 @@
+package com.fitnote.server.domain.workout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fitnote.server.domain.auth.User;
+import com.fitnote.server.domain.exercise.Equipment;
+import com.fitnote.server.domain.exercise.Exercise;
+import com.fitnote.server.domain.exercise.MetricType;
+import com.fitnote.server.domain.exercise.MuscleGroup;
+import com.fitnote.server.support.JdbcRoundTripCounter;
+import com.fitnote.server.support.TestFixtures;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 운동 6개, 세트 25개인 운동 기록 하나를 저장할 때의 insert 왕복 횟수
+ *
+ * 배치를 끈 세션(IDENTITY와 같은 행 단위 insert)과 기본 설정을 비교합니다.
+ */
+@SpringBootTest
+@Import({JdbcRoundTripCounter.class, TestFixtures.class})
+class WorkoutGraphBatchInsertTest {
+
+    private static final int EXERCISES = 6;
+    private static final int SETS = 25;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private Long userId;
+    private List<Long> exerciseIds;
+
+    @BeforeEach
+    void setUp() {
+        userId = fixtures.user("batch").getId();
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = entityManager.getReference(User.class, userId);
+            exerciseIds = new ArrayList<>();
+            for (int i = 0; i < EXERCISES; i++) {
+                Exercise exercise = Exercise.builder()
+                        .owner(user)
+                        .name("exercise-" + i)
+                        .primaryMuscle(MuscleGroup.CHEST)
+                        .equipment(Equipment.BARBELL)
+                        .metricType(MetricType.WEIGHT_REPS)
+                        .isPublic(Boolean.FALSE)
+                        .build();
+                entityManager.persist(exercise);
+                exerciseIds.add(exercise.getId());
+            }
+        });
+    }
+
+    @Test
+    void workoutGraphIsInsertedInOneBatchPerTable() {
+        long unbatched = insertRoundTrips(1);
+        long batched = insertRoundTrips(null);
+
+        assertThat(unbatched).isEqualTo(1 + EXERCISES + SETS);
+        assertThat(batched).isEqualTo(3);
+    }
+
+    private long insertRoundTrips(Integer jdbcBatchSize) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (jdbcBatchSize != null) {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+            }
+            Workout workout = newWorkoutGraph();
+            JdbcRoundTripCounter.reset();
+            entityManager.persist(workout);
+            entityManager.flush();
+        });
+        return JdbcRoundTripCounter.countInserts();
+    }
+
+    private Workout newWorkoutGraph() {
+        Workout workout = Workout.builder()
+                .user(entityManager.getReference(User.class, userId))
+                .startedAt(LocalDateTime.now())
+                .title("batch")
+                .build();
+        for (int e = 0; e < EXERCISES; e++) {
+            WorkoutExercise workoutExercise = WorkoutExercise.builder()
+                    .workout(workout)
+                    .exercise(entityManager.getReference(Exercise.class, exerciseIds.get(e)))
+                    .orderIndex(e)
+                    .build();
+            workout.getExercises().add(workoutExercise);
+        }
+        for (int s = 0; s < SETS; s++) {
+            WorkoutExercise workoutExercise = workout.getExercises().get(s % EXERCISES);
+            workoutExercise.getSets().add(WorkoutSet.builder()
+                    .workoutExercise(workoutExercise)
+                    .setIndex(workoutExercise.getSets().size())
+                    .weight(BigDecimal.valueOf(60))
+                    .reps(8)
+                    .isWarmup(Boolean.FALSE)
+                    .build());
+        }
+        return workout;
+    }
+}
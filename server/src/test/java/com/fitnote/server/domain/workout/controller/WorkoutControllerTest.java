@@ -0,0 +1,238 @@
+package com.fitnote.server.domain.workout.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fitnote.server.domain.auth.UnitSystem;
+import com.fitnote.server.domain.auth.User;
+import com.fitnote.server.domain.exercise.Equipment;
+import com.fitnote.server.domain.exercise.Exercise;
+import com.fitnote.server.domain.exercise.MetricType;
+import com.fitnote.server.domain.exercise.MuscleGroup;
+import com.fitnote.server.domain.exercise.repository.ExerciseRepository;
+import com.fitnote.server.domain.workout.dto.WorkoutCreateRequest;
+import com.fitnote.server.domain.workout.dto.WorkoutExerciseRequest;
+import com.fitnote.server.domain.workout.dto.WorkoutSetRequest;
+import com.fitnote.server.domain.workout.repository.WorkoutRepository;
+import com.fitnote.server.domain.workout.service.WorkoutService;
+import com.fitnote.server.support.SqlStatementRecorder;
+import com.fitnote.server.support.TestFixtures;
+import com.jayway.jsonpath.JsonPath;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(TestFixtures.class)
+class WorkoutControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private WorkoutRepository workoutRepository;
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private Long userId;
+    private String accessToken;
+    private Exercise bench;
+    private Exercise othersCustom;
+
+    @BeforeEach
+    void setUp() {
+        User user = fixtures.user("workout");
+        User other = fixtures.user("other");
+        userId = user.getId();
+        accessToken = fixtures.accessToken(user);
+        Exercise benchPress = exercise(null, "Bench Press " + System.nanoTime());
+        benchPress.setSecondaryMuscles(EnumSet.of(MuscleGroup.ARMS, MuscleGroup.SHOULDERS));
+        bench = exerciseRepository.save(benchPress);
+        othersCustom = exerciseRepository.save(exercise(other, "Secret Press"));
+    }
+
+    @Test
+    void createsWholeWorkoutGraphAndReturnsIds() throws Exception {
+        long before = workoutRepository.count();
+        String body = """
+                {"title": "Push", "startedAt": "2024-05-01T10:00:00", "exercises": [
+                  {"exerciseId": %d, "supersetGroup": "A", "sets": [
+                    {"weight": 60, "reps": 10, "isWarmup": true},
+                    {"weight": 80, "reps": 8, "rpe": 8.5, "rir": 2, "tempo": "3-1-1"},
+                    {"weight": 80, "reps": 7}
+                  ]}
+                ]}
+                """.formatted(bench.getId());
+
+        mockMvc.perform(post("/api/workouts")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").isNumber())
+                .andExpect(jsonPath("$.exercises[0].exerciseId").value(bench.getId()))
+                .andExpect(jsonPath("$.exercises[0].setIds.length()").value(3));
+
+        assertThat(workoutRepository.count()).isEqualTo(before + 1);
+    }
+
+    @Test
+    void rejectsExerciseOwnedByAnotherUser() throws Exception {
+        long before = workoutRepository.count();
+        String body = """
+                {"startedAt": "2024-05-01T10:00:00", "exercises": [
+                  {"exerciseId": %d, "sets": [{"weight": 60, "reps": 10}]}
+                ]}
+                """.formatted(othersCustom.getId());
+
+        mockMvc.perform(post("/api/workouts")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest());
+
+        assertThat(workoutRepository.count()).isEqualTo(before);
+    }
+
+    @Test
+    void requiresDurationForDistanceSets() throws Exception {
+        Exercise run = exercise(null, "Run " + System.nanoTime());
+        run.setEquipment(Equipment.OTHER);
+        run.setMetricType(MetricType.DISTANCE_TIME);
+        Long runId = exerciseRepository.save(run).getId();
+        String body = """
+                {"startedAt": "2024-05-01T07:00:00", "exercises": [
+                  {"exerciseId": %d, "sets": [{"distanceM": 5000%s}]}
+                ]}
+                """;
+
+        mockMvc.perform(post("/api/workouts")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body.formatted(runId, "")))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/workouts")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body.formatted(runId, ", \"durationSec\": 1500")))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    void readsAndWritesWeightsInUserUnit() throws Exception {
+        String lbToken = fixtures.accessToken(fixtures.user("lb", UnitSystem.LB, "Asia/Seoul"));
+        String body = """
+                {"startedAt": "2024-05-01T10:00:00", "exercises": [
+                  {"exerciseId": %d, "sets": [{"weight": 225, "reps": 5}, {"weight": "45.5", "reps": 10}]}
+                ]}
+                """.formatted(bench.getId());
+
+        String created = mockMvc.perform(post("/api/workouts")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + lbToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+
+        Long workoutId = ((Number) JsonPath.read(created, "$.id")).longValue();
+        // 저장은 kg(225 lb = 102.06 kg), 응답은 다시 lb
+        mockMvc.perform(get("/api/workouts/{id}", workoutId)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + lbToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.exercises[0].sets[0].weight").value(225))
+                .andExpect(jsonPath("$.exercises[0].sets[1].weight").value(45.5));
+    }
+
+    @Test
+    void rejectsMalformedWeight() throws Exception {
+        String body = """
+                {"startedAt": "2024-05-01T10:00:00", "exercises": [
+                  {"exerciseId": %d, "sets": [{"weight": 60.125, "reps": 5}]}
+                ]}
+                """.formatted(bench.getId());
+
+        mockMvc.perform(post("/api/workouts")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validationErrors[0].field").value("exercises[0].sets[0].weight"));
+    }
+
+    @Test
+    void workoutDetailIsLoadedInThreeQueries() throws Exception {
+        Long workoutId = createWorkout(6, 4);
+
+        SqlStatementRecorder.reset();
+        mockMvc.perform(get("/api/workouts/{id}", workoutId)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.exercises.length()").value(6))
+                .andExpect(jsonPath("$.exercises[5].sets.length()").value(4))
+                .andExpect(jsonPath("$.exercises[0].exercise.secondaryMuscles.length()").value(2));
+
+        assertThat(SqlStatementRecorder.statements()).hasSize(3);
+    }
+
+    @Test
+    void multipleWorkoutsAreLoadedInThreeQueries() throws Exception {
+        Long first = createWorkout(2, 3);
+        Long second = createWorkout(8, 5);
+
+        SqlStatementRecorder.reset();
+        mockMvc.perform(get("/api/workouts")
+                        .param("ids", first + "," + second)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+
+        assertThat(SqlStatementRecorder.statements()).hasSize(3);
+    }
+
+    private Long createWorkout(int exercises, int setsPerExercise) {
+        List<WorkoutExerciseRequest> exerciseRequests = new ArrayList<>();
+        for (int e = 0; e < exercises; e++) {
+            List<WorkoutSetRequest> sets = new ArrayList<>();
+            for (int s = 0; s < setsPerExercise; s++) {
+                sets.add(new WorkoutSetRequest(null, 10, null, null, null, null, false, null, null, null));
+            }
+            exerciseRequests.add(new WorkoutExerciseRequest(bench.getId(), null, null, sets));
+        }
+        return workoutService.create(userId, new WorkoutCreateRequest(
+                "detail", LocalDateTime.now(), null, null, null, exerciseRequests)).id();
+    }
+
+    private Exercise exercise(User owner, String name) {
+        return Exercise.builder()
+                .owner(owner)
+                .name(name)
+                .primaryMuscle(MuscleGroup.CHEST)
+                .equipment(Equipment.BARBELL)
+                .metricType(MetricType.WEIGHT_REPS)
+                .isPublic(owner == null)
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.fitnote.server.support;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * DataSource를 감싸 DB 왕복 횟수를 기록하는 테스트용 BeanPostProcessor
+ *
+ * StatementInspector는 SQL 준비 횟수만 보므로 배치 여부를 구분하지 못합니다.
+ * 여기서는 execute* 한 번, executeBatch 한 번을 각각 한 번의 왕복으로 셉니다.
+ * 사용하는 테스트에서 {@code @Import(JdbcRoundTripCounter.class)}로 등록합니다.
+ */
+public class JdbcRoundTripCounter implements BeanPostProcessor {
+
+    private static final List<String> ROUND_TRIPS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (target, method, args) -> {
+                Object result = method.invoke(target, args);
+                return result instanceof Connection connection ? wrap(connection) : result;
+            });
+        }
+        return bean;
+    }
+
+    public static void reset() {
+        ROUND_TRIPS.clear();
+    }
+
+    public static List<String> roundTrips() {
+        return List.copyOf(ROUND_TRIPS);
+    }
+
+    public static long countInserts() {
+        return ROUND_TRIPS.stream()
+                .filter(sql -> sql.toLowerCase(Locale.ROOT).stripLeading().startsWith("insert"))
+                .count();
+    }
+
+    private static Connection wrap(Connection connection) {
+        return proxy(Connection.class, connection, (target, method, args) -> {
+            Object result = method.invoke(target, args);
+            if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement
+                    && args[0] instanceof String sql) {
+                return proxy(PreparedStatement.class, statement, (t, m, a) -> {
+                    if (m.getName().startsWith("execute")) {
+                        ROUND_TRIPS.add(sql);
+                    }
+                    return m.invoke(t, a);
+                });
+            }
+            if (method.getName().equals("createStatement") && result instanceof Statement statement) {
+                return proxy(Statement.class, statement, (t, m, a) -> {
+                    if (m.getName().startsWith("execute")) {
+                        ROUND_TRIPS.add(a != null && a.length > 0 && a[0] instanceof String sql ? sql : "batch");
+                    }
+                    return m.invoke(t, a);
+                });
+            }
+            return result;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Invocation invocation) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            try {
+                return invocation.invoke(target, method, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+
+    @FunctionalInterface
+    private interface Invocation {
+        Object invoke(Object target, Method method, Object[] args) throws Throwable;
+    }
+}
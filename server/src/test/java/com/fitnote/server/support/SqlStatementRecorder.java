@@ -0,0 +1,37 @@
+package com.fitnote.server.support;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 모든 SQL을 기록하는 테스트용 StatementInspector
+ */
+public class SqlStatementRecorder implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    public static void reset() {
+        STATEMENTS.clear();
+    }
+
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS);
+    }
+
+    public static long countTouching(String table) {
+        Pattern pattern = Pattern.compile("\\b" + Pattern.quote(table.toLowerCase(Locale.ROOT)) + "\\b");
+        return STATEMENTS.stream()
+                .filter(sql -> pattern.matcher(sql.toLowerCase(Locale.ROOT)).find())
+                .count();
+    }
+}
@@ -0,0 +1,104 @@
+package com.fitnote.server.support;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import com.fitnote.server.common.weight.Weight;
+import com.fitnote.server.config.security.jwt.JwtTokenProvider;
+import com.fitnote.server.config.security.user.UserPrincipal;
+import com.fitnote.server.domain.auth.UnitSystem;
+import com.fitnote.server.domain.auth.User;
+import com.fitnote.server.domain.auth.repository.UserRepository;
+import com.fitnote.server.domain.exercise.Equipment;
+import com.fitnote.server.domain.exercise.Exercise;
+import com.fitnote.server.domain.exercise.MetricType;
+import com.fitnote.server.domain.exercise.MuscleGroup;
+import com.fitnote.server.domain.exercise.repository.ExerciseRepository;
+import com.fitnote.server.domain.workout.dto.WorkoutCreateRequest;
+import com.fitnote.server.domain.workout.dto.WorkoutCreateResponse;
+import com.fitnote.server.domain.workout.dto.WorkoutExerciseRequest;
+import com.fitnote.server.domain.workout.dto.WorkoutSetRequest;
+import com.fitnote.server.domain.workout.service.WorkoutService;
+
+/**
+ * 통합 테스트에서 반복되는 사용자/종목/기록 준비를 모은 테스트용 빈
+ *
+ * 이름에 nanoTime을 붙여 컨텍스트를 공유하는 테스트끼리 데이터가 겹치지 않게 합니다.
+ * 사용하는 테스트에서 {@code @Import(TestFixtures.class)}로 등록합니다.
+ */
+public class TestFixtures {
+
+    private final UserRepository userRepository;
+    private final ExerciseRepository exerciseRepository;
+    private final WorkoutService workoutService;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    public TestFixtures(
+            UserRepository userRepository,
+            ExerciseRepository exerciseRepository,
+            WorkoutService workoutService,
+            JwtTokenProvider jwtTokenProvider) {
+        this.userRepository = userRepository;
+        this.exerciseRepository = exerciseRepository;
+        this.workoutService = workoutService;
+        this.jwtTokenProvider = jwtTokenProvider;
+    }
+
+    /**
+     * kg 단위, Asia/Seoul 시간대 사용자
+     */
+    public User user(String prefix) {
+        return user(prefix, UnitSystem.KG, "Asia/Seoul");
+    }
+
+    public User user(String prefix, UnitSystem unitSystem, String timezone) {
+        return userRepository.save(User.builder()
+                .email(prefix + "-" + System.nanoTime() + "@fitnote.com")
+                .passwordHash("not-used")
+                .displayName("tester")
+                .unitSystem(unitSystem)
+                .timezone(timezone)
+                .build());
+    }
+
+    public String accessToken(User user) {
+        return jwtTokenProvider.generateAccessToken(UserPrincipal.from(user));
+    }
+
+    /**
+     * 공개 바벨 종목 (무게×횟수)
+     */
+    public Long exercise(String name, MuscleGroup primary) {
+        return exercise(name, primary, EnumSet.noneOf(MuscleGroup.class));
+    }
+
+    public Long exercise(String name, MuscleGroup primary, Set<MuscleGroup> secondary) {
+        return exerciseRepository.save(Exercise.builder()
+                .name(name + " " + System.nanoTime())
+                .primaryMuscle(primary)
+                .secondaryMuscles(secondary)
+                .equipment(Equipment.BARBELL)
+                .metricType(MetricType.WEIGHT_REPS)
+                .isPublic(Boolean.TRUE)
+                .build()).getId();
+    }
+
+    /**
+     * 종목 하나짜리 운동 기록을 저장합니다.
+     */
+    public WorkoutCreateResponse log(Long userId, Long exerciseId, LocalDateTime startedAt, WorkoutSetRequest... sets) {
+        return workoutService.create(userId, new WorkoutCreateRequest(
+                null, startedAt, null, null, null,
+                List.of(new WorkoutExerciseRequest(exerciseId, null, null, List.of(sets)))));
+    }
+
+    /**
+     * 무게는 kg 단위 정수입니다.
+     */
+    public static WorkoutSetRequest set(int weight, int reps, boolean warmup) {
+        return new WorkoutSetRequest(
+                new Weight(weight * 100), reps, null, null, null, null, warmup, null, null, null);
+    }
+}